@@ -5,13 +5,16 @@
 
 package io.opentelemetry.api.trace;
 
-import com.google.auto.value.AutoValue;
-import com.google.auto.value.extension.memoized.Memoized;
+import java.util.Objects;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
+/**
+ * The default {@link SpanContext} implementation. Identifiers are stored as primitive {@code long}
+ * values, the base16 (hex) representations are only materialized the first time they are asked for.
+ */
 @Immutable
-@AutoValue
-abstract class ImmutableSpanContext implements SpanContext {
+final class ImmutableSpanContext implements SpanContext {
 
   private static final SpanContext INVALID =
       create(
@@ -21,31 +24,221 @@ abstract class ImmutableSpanContext implements SpanContext {
           TraceState.getDefault(),
           /* remote= */ false);
 
+  private final long traceIdHigh;
+  private final long traceIdLow;
+  private final long spanId;
+  private final byte traceFlags;
+  private final TraceState traceState;
+  private final boolean remote;
+  private final boolean valid;
+
+  // Lazily materialized, racy single-check is fine here because String is immutable and computing
+  // it twice yields an equal value.
+  @Nullable private String traceIdHex;
+  @Nullable private String spanIdHex;
+
   static SpanContext getInvalid() {
     return INVALID;
   }
 
   static SpanContext create(
       String traceIdHex, String spanIdHex, byte traceFlags, TraceState traceState, boolean remote) {
-    return new AutoValue_ImmutableSpanContext(
-        traceIdHex, spanIdHex, traceFlags, traceState, remote);
+    Objects.requireNonNull(traceIdHex, "traceIdHex");
+    Objects.requireNonNull(spanIdHex, "spanIdHex");
+    boolean wellFormedTraceId = isWellFormed(traceIdHex, TraceId.getHexLength());
+    boolean wellFormedSpanId = isWellFormed(spanIdHex, SpanId.getHexLength());
+    long traceIdHigh = wellFormedTraceId ? TraceId.traceIdHighBytesAsLong(traceIdHex) : 0;
+    long traceIdLow = wellFormedTraceId ? TraceId.traceIdLowBytesAsLong(traceIdHex) : 0;
+    long spanId = wellFormedSpanId ? SpanId.asLong(spanIdHex) : 0;
+    boolean valid =
+        wellFormedTraceId && wellFormedSpanId && isValid(traceIdHigh, traceIdLow, spanId);
+    return new ImmutableSpanContext(
+        traceIdHigh,
+        traceIdLow,
+        spanId,
+        traceIdHex,
+        spanIdHex,
+        traceFlags,
+        traceState,
+        remote,
+        valid);
+  }
+
+  static SpanContext create(
+      long traceIdHigh,
+      long traceIdLow,
+      long spanId,
+      byte traceFlags,
+      TraceState traceState,
+      boolean remote) {
+    return new ImmutableSpanContext(
+        traceIdHigh,
+        traceIdLow,
+        spanId,
+        /* traceIdHex= */ null,
+        /* spanIdHex= */ null,
+        traceFlags,
+        traceState,
+        remote,
+        isValid(traceIdHigh, traceIdLow, spanId));
+  }
+
+  private ImmutableSpanContext(
+      long traceIdHigh,
+      long traceIdLow,
+      long spanId,
+      @Nullable String traceIdHex,
+      @Nullable String spanIdHex,
+      byte traceFlags,
+      TraceState traceState,
+      boolean remote,
+      boolean valid) {
+    this.traceIdHigh = traceIdHigh;
+    this.traceIdLow = traceIdLow;
+    this.spanId = spanId;
+    this.traceIdHex = traceIdHex;
+    this.spanIdHex = spanIdHex;
+    this.traceFlags = traceFlags;
+    this.traceState = Objects.requireNonNull(traceState, "traceState");
+    this.remote = remote;
+    this.valid = valid;
+  }
+
+  private static boolean isWellFormed(String hex, int hexLength) {
+    return hex.length() == hexLength && BigendianEncoding.isValidBase16String(hex);
+  }
+
+  private static boolean isValid(long traceIdHigh, long traceIdLow, long spanId) {
+    return (traceIdHigh != 0 || traceIdLow != 0) && spanId != 0;
+  }
+
+  @Override
+  public String getTraceIdAsHexString() {
+    String traceIdHex = this.traceIdHex;
+    if (traceIdHex == null) {
+      traceIdHex = TraceId.fromLongs(traceIdHigh, traceIdLow);
+      this.traceIdHex = traceIdHex;
+    }
+    return traceIdHex;
+  }
+
+  @Override
+  public long getTraceIdHighBytesAsLong() {
+    return traceIdHigh;
+  }
+
+  @Override
+  public long getTraceIdLowBytesAsLong() {
+    return traceIdLow;
   }
 
   @Override
-  @Memoized
   public byte[] getTraceIdBytes() {
-    return SpanContext.super.getTraceIdBytes();
+    return TraceId.bytesFromLongs(traceIdHigh, traceIdLow);
+  }
+
+  @Override
+  public void copyTraceIdHexTo(char[] dest, int destOffset) {
+    TraceId.copyHexInto(traceIdHigh, traceIdLow, dest, destOffset);
+  }
+
+  @Override
+  public String getSpanIdAsHexString() {
+    String spanIdHex = this.spanIdHex;
+    if (spanIdHex == null) {
+      spanIdHex = SpanId.fromLong(spanId);
+      this.spanIdHex = spanIdHex;
+    }
+    return spanIdHex;
+  }
+
+  @Override
+  public long getSpanIdAsLong() {
+    return spanId;
   }
 
   @Override
-  @Memoized
   public byte[] getSpanIdBytes() {
-    return SpanContext.super.getSpanIdBytes();
+    return SpanId.bytesFromLong(spanId);
+  }
+
+  @Override
+  public void copySpanIdHexTo(char[] dest, int destOffset) {
+    SpanId.copyHexInto(spanId, dest, destOffset);
+  }
+
+  @Override
+  public byte getTraceFlags() {
+    return traceFlags;
+  }
+
+  @Override
+  public TraceState getTraceState() {
+    return traceState;
   }
 
   @Override
-  @Memoized
   public boolean isValid() {
-    return SpanContext.super.isValid();
+    return valid;
+  }
+
+  @Override
+  public boolean isRemote() {
+    return remote;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof ImmutableSpanContext)) {
+      return false;
+    }
+    ImmutableSpanContext that = (ImmutableSpanContext) o;
+    return traceIdHigh == that.traceIdHigh
+        && traceIdLow == that.traceIdLow
+        && spanId == that.spanId
+        && traceFlags == that.traceFlags
+        && remote == that.remote
+        && traceState.equals(that.traceState)
+        // Malformed identifiers all map to 0, only then the original strings tell them apart.
+        && (valid
+            || (getTraceIdAsHexString().equals(that.getTraceIdAsHexString())
+                && getSpanIdAsHexString().equals(that.getSpanIdAsHexString())));
+  }
+
+  @Override
+  public int hashCode() {
+    int h = 1;
+    h *= 1000003;
+    h ^= Long.hashCode(traceIdHigh);
+    h *= 1000003;
+    h ^= Long.hashCode(traceIdLow);
+    h *= 1000003;
+    h ^= Long.hashCode(spanId);
+    h *= 1000003;
+    h ^= traceFlags;
+    h *= 1000003;
+    h ^= traceState.hashCode();
+    h *= 1000003;
+    h ^= remote ? 1231 : 1237;
+    return h;
+  }
+
+  @Override
+  public String toString() {
+    return "ImmutableSpanContext{"
+        + "traceIdAsHexString="
+        + getTraceIdAsHexString()
+        + ", spanIdAsHexString="
+        + getSpanIdAsHexString()
+        + ", traceFlags="
+        + traceFlags
+        + ", traceState="
+        + traceState
+        + ", remote="
+        + remote
+        + "}";
   }
 }
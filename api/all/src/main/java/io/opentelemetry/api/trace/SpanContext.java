@@ -20,6 +20,11 @@ import javax.annotation.concurrent.Immutable;
  * strongly suggested that you use the implementation that is provided here via {@link
  * #create(String, String, byte, TraceState)} or {@link #createFromRemoteParent(String, String,
  * byte, TraceState)}.
+ *
+ * <p>The provided implementation stores the identifiers as primitive {@code long} values and only
+ * materializes the hex representations on first use. Code that does not need the {@code String}
+ * form, like exporters and propagators, should prefer {@link #getTraceIdHighBytesAsLong()}, {@link
+ * #getTraceIdLowBytesAsLong()}, {@link #getSpanIdAsLong()} and the {@code copy*HexTo} methods.
  */
 @Immutable
 public interface SpanContext {
@@ -64,6 +69,39 @@ public interface SpanContext {
         traceIdHex, spanIdHex, traceFlags, traceState, /* remote=*/ true);
   }
 
+  /**
+   * Creates a new {@code SpanContext} with the given identifiers and options.
+   *
+   * @param traceIdHigh the higher 8 bytes of the trace identifier of the span context.
+   * @param traceIdLow the lower 8 bytes of the trace identifier of the span context.
+   * @param spanId the span identifier of the span context.
+   * @param traceFlags the byte representation of the {@link TraceFlags}
+   * @param traceState the trace state for the span context.
+   * @return a new {@code SpanContext} with the given identifiers and options.
+   */
+  static SpanContext create(
+      long traceIdHigh, long traceIdLow, long spanId, byte traceFlags, TraceState traceState) {
+    return ImmutableSpanContext.create(
+        traceIdHigh, traceIdLow, spanId, traceFlags, traceState, /* remote=*/ false);
+  }
+
+  /**
+   * Creates a new {@code SpanContext} that was propagated from a remote parent, with the given
+   * identifiers and options.
+   *
+   * @param traceIdHigh the higher 8 bytes of the trace identifier of the span context.
+   * @param traceIdLow the lower 8 bytes of the trace identifier of the span context.
+   * @param spanId the span identifier of the span context.
+   * @param traceFlags the byte representation of the {@link TraceFlags}
+   * @param traceState the trace state for the span context.
+   * @return a new {@code SpanContext} with the given identifiers and options.
+   */
+  static SpanContext createFromRemoteParent(
+      long traceIdHigh, long traceIdLow, long spanId, byte traceFlags, TraceState traceState) {
+    return ImmutableSpanContext.create(
+        traceIdHigh, traceIdLow, spanId, traceFlags, traceState, /* remote=*/ true);
+  }
+
   /**
    * Returns the trace identifier associated with this {@code SpanContext}.
    *
@@ -79,6 +117,25 @@ public interface SpanContext {
     return TraceId.bytesFromHex(getTraceIdAsHexString(), 0);
   }
 
+  /** Returns the higher 8 bytes of the trace identifier as a big-endian {@code long}. */
+  default long getTraceIdHighBytesAsLong() {
+    return TraceId.traceIdHighBytesAsLong(getTraceIdAsHexString());
+  }
+
+  /** Returns the lower 8 bytes of the trace identifier as a big-endian {@code long}. */
+  default long getTraceIdLowBytesAsLong() {
+    return TraceId.traceIdLowBytesAsLong(getTraceIdAsHexString());
+  }
+
+  /**
+   * Copies the lowercase base16 representation of the trace identifier into {@code dest}, beginning
+   * at {@code destOffset}.
+   */
+  default void copyTraceIdHexTo(char[] dest, int destOffset) {
+    String traceId = getTraceIdAsHexString();
+    traceId.getChars(0, traceId.length(), dest, destOffset);
+  }
+
   /**
    * Returns the span identifier associated with this {@code SpanContext}.
    *
@@ -94,6 +151,20 @@ public interface SpanContext {
     return SpanId.bytesFromHex(getSpanIdAsHexString(), 0);
   }
 
+  /** Returns the span identifier as a big-endian {@code long}. */
+  default long getSpanIdAsLong() {
+    return SpanId.asLong(getSpanIdAsHexString());
+  }
+
+  /**
+   * Copies the lowercase base16 representation of the span identifier into {@code dest}, beginning
+   * at {@code destOffset}.
+   */
+  default void copySpanIdHexTo(char[] dest, int destOffset) {
+    String spanId = getSpanIdAsHexString();
+    spanId.getChars(0, spanId.length(), dest, destOffset);
+  }
+
   /** Whether the span in this context is sampled. */
   default boolean isSampled() {
     return (getTraceFlags() & 1) == 1;
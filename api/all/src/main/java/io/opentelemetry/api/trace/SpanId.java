@@ -53,6 +53,32 @@ public final class SpanId {
     return new String(result);
   }
 
+  /**
+   * Copies the lowercase base16 representation of the {@code SpanId} given as a long value into the
+   * {@code dest} beginning at the {@code destOffset} offset.
+   *
+   * @param id the {@code SpanId} as a long value.
+   * @param dest the destination buffer.
+   * @param destOffset the starting offset in the destination buffer.
+   * @throws IndexOutOfBoundsException if {@code destOffset + 2 * SpanId.getSize()} is greater than
+   *     {@code dest.length}.
+   */
+  public static void copyHexInto(long id, char[] dest, int destOffset) {
+    BigendianEncoding.longToBase16String(id, dest, destOffset);
+  }
+
+  /**
+   * Returns the big-endian byte representation of the {@code SpanId} given as a long value.
+   *
+   * @param id the {@code SpanId} as a long value.
+   * @return the 8-byte representation of the {@code SpanId}.
+   */
+  public static byte[] bytesFromLong(long id) {
+    byte[] bytes = new byte[SIZE];
+    BigendianEncoding.longToByteArray(id, bytes, 0);
+    return bytes;
+  }
+
   private static char[] getTemporaryBuffer() {
     char[] chars = charBuffer.get();
     if (chars == null) {
@@ -62,8 +62,7 @@ public final class TraceId {
    */
   public static String fromLongs(long idHi, long idLo) {
     char[] chars = getTemporaryBuffer();
-    BigendianEncoding.longToBase16String(idHi, chars, 0);
-    BigendianEncoding.longToBase16String(idLo, chars, 16);
+    copyHexInto(idHi, idLo, chars, 0);
     return new String(chars);
   }
 
@@ -102,10 +101,41 @@ public final class TraceId {
    *     {@code dest.length}.
    */
   public static void copyHexInto(byte[] traceId, char[] dest, int destOffset) {
-    BigendianEncoding.longToBase16String(
-        BigendianEncoding.longFromByteArray(traceId, 0), dest, destOffset);
-    BigendianEncoding.longToBase16String(
-        BigendianEncoding.longFromByteArray(traceId, 8), dest, destOffset + 16);
+    copyHexInto(
+        BigendianEncoding.longFromByteArray(traceId, 0),
+        BigendianEncoding.longFromByteArray(traceId, 8),
+        dest,
+        destOffset);
+  }
+
+  /**
+   * Copies the lowercase base16 representations of the {@code TraceId} given as two long values
+   * into the {@code dest} beginning at the {@code destOffset} offset.
+   *
+   * @param idHi the higher part of the {@code TraceId}.
+   * @param idLo the lower part of the {@code TraceId}.
+   * @param dest the destination buffer.
+   * @param destOffset the starting offset in the destination buffer.
+   * @throws IndexOutOfBoundsException if {@code destOffset + 2 * TraceId.getSize()} is greater than
+   *     {@code dest.length}.
+   */
+  public static void copyHexInto(long idHi, long idLo, char[] dest, int destOffset) {
+    BigendianEncoding.longToBase16String(idHi, dest, destOffset);
+    BigendianEncoding.longToBase16String(idLo, dest, destOffset + BigendianEncoding.LONG_BASE16);
+  }
+
+  /**
+   * Returns the big-endian byte representation of the {@code TraceId} given as two long values.
+   *
+   * @param idHi the higher part of the {@code TraceId}.
+   * @param idLo the lower part of the {@code TraceId}.
+   * @return the 16-byte representation of the {@code TraceId}.
+   */
+  public static byte[] bytesFromLongs(long idHi, long idLo) {
+    byte[] bytes = new byte[SIZE_IN_BYTES];
+    BigendianEncoding.longToByteArray(idHi, bytes, 0);
+    BigendianEncoding.longToByteArray(idLo, bytes, BigendianEncoding.LONG_BYTES);
+    return bytes;
   }
 
   /**
@@ -88,17 +88,9 @@ public final class W3CTraceContextPropagator {
           chars[1] = VERSION.charAt(1);
           chars[2] = TRACEPARENT_DELIMITER;
 
-          String traceId = spanContext.getTraceIdAsHexString();
-          for (int i = 0; i < traceId.length(); i++) {
-            chars[TRACE_ID_OFFSET + i] = traceId.charAt(i);
-          }
-
+          spanContext.copyTraceIdHexTo(chars, TRACE_ID_OFFSET);
           chars[SPAN_ID_OFFSET - 1] = TRACEPARENT_DELIMITER;
-
-          String spanId = spanContext.getSpanIdAsHexString();
-          for (int i = 0; i < spanId.length(); i++) {
-            chars[SPAN_ID_OFFSET + i] = spanId.charAt(i);
-          }
+          spanContext.copySpanIdHexTo(chars, SPAN_ID_OFFSET);
 
           chars[TRACE_OPTION_OFFSET - 1] = TRACEPARENT_DELIMITER;
           spanContext.copyTraceFlagsHexTo(chars, TRACE_OPTION_OFFSET);
@@ -84,6 +84,68 @@ class SpanContextTest {
     assertThat(second.getTraceState()).isEqualTo(SECOND_TRACE_STATE);
   }
 
+  @Test
+  void createFromLongs() {
+    SpanContext fromLongs =
+        SpanContext.create(
+            TraceId.traceIdHighBytesAsLong(FIRST_TRACE_ID),
+            TraceId.traceIdLowBytesAsLong(FIRST_TRACE_ID),
+            SpanId.asLong(FIRST_SPAN_ID),
+            TraceFlags.getDefault(),
+            FIRST_TRACE_STATE);
+    assertThat(fromLongs.isValid()).isTrue();
+    assertThat(fromLongs.isRemote()).isFalse();
+    assertThat(fromLongs.getTraceIdAsHexString()).isEqualTo(FIRST_TRACE_ID);
+    assertThat(fromLongs.getSpanIdAsHexString()).isEqualTo(FIRST_SPAN_ID);
+    assertThat(fromLongs.getTraceIdBytes()).isEqualTo(firstTraceIdBytes);
+    assertThat(fromLongs.getSpanIdBytes()).isEqualTo(firstSpanIdBytes);
+    assertThat(fromLongs).isEqualTo(first);
+    assertThat(fromLongs.hashCode()).isEqualTo(first.hashCode());
+
+    assertThat(
+            SpanContext.createFromRemoteParent(
+                    0, 0, 1, TraceFlags.getDefault(), TraceState.getDefault())
+                .isValid())
+        .isFalse();
+    assertThat(
+            SpanContext.createFromRemoteParent(
+                    0, 1, 0, TraceFlags.getDefault(), TraceState.getDefault())
+                .isValid())
+        .isFalse();
+    assertThat(
+            SpanContext.createFromRemoteParent(
+                    1, 0, 1, TraceFlags.getDefault(), TraceState.getDefault())
+                .isRemote())
+        .isTrue();
+  }
+
+  @Test
+  void longAccessors() {
+    assertThat(second.getTraceIdHighBytesAsLong())
+        .isEqualTo(TraceId.traceIdHighBytesAsLong(SECOND_TRACE_ID));
+    assertThat(second.getTraceIdLowBytesAsLong())
+        .isEqualTo(TraceId.traceIdLowBytesAsLong(SECOND_TRACE_ID));
+    assertThat(second.getSpanIdAsLong()).isEqualTo(SpanId.asLong(SECOND_SPAN_ID));
+
+    char[] chars = new char[TraceId.getHexLength() + SpanId.getHexLength()];
+    second.copyTraceIdHexTo(chars, 0);
+    second.copySpanIdHexTo(chars, TraceId.getHexLength());
+    assertThat(new String(chars)).isEqualTo(SECOND_TRACE_ID + SECOND_SPAN_ID);
+  }
+
+  @Test
+  void malformedIds() {
+    SpanContext malformed =
+        SpanContext.create("abc", "def", TraceFlags.getDefault(), EMPTY_TRACE_STATE);
+    assertThat(malformed.isValid()).isFalse();
+    assertThat(malformed.getTraceIdAsHexString()).isEqualTo("abc");
+    assertThat(malformed.getSpanIdAsHexString()).isEqualTo("def");
+    assertThat(malformed)
+        .isNotEqualTo(SpanContext.create("abc", "xyz", TraceFlags.getDefault(), EMPTY_TRACE_STATE));
+    assertThat(malformed)
+        .isEqualTo(SpanContext.create("abc", "def", TraceFlags.getDefault(), EMPTY_TRACE_STATE));
+  }
+
   @Test
   void isRemote() {
     assertThat(first.isRemote()).isFalse();
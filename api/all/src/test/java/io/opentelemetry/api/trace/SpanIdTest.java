@@ -62,6 +62,15 @@ class SpanIdTest {
     }
   }
 
+  @Test
+  void bytesAndHexFromLong() {
+    long id = 0xff00000000000041L;
+    assertThat(SpanId.bytesFromLong(id)).isEqualTo(secondBytes);
+    char[] chars = new char[18];
+    SpanId.copyHexInto(id, chars, 1);
+    assertThat(new String(chars, 1, 16)).isEqualTo("ff00000000000041");
+  }
+
   @Test
   void size() {
     assertThat(SpanId.getSize()).isEqualTo(8);
@@ -16,9 +16,8 @@ import io.jaegertracing.thriftjava.Tag;
 import io.jaegertracing.thriftjava.TagType;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
-import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.StatusCode;
-import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.sdk.trace.data.EventData;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.data.SpanData;
@@ -66,9 +65,10 @@ final class Adapter {
   static Span toJaeger(SpanData span) {
     Span target = new Span();
 
-    long traceIdHigh = TraceId.traceIdHighBytesAsLong(span.getTraceId());
-    long traceIdLow = TraceId.traceIdLowBytesAsLong(span.getTraceId());
-    long spanIdAsLong = SpanId.asLong(span.getSpanId());
+    SpanContext spanContext = span.getSpanContext();
+    long traceIdHigh = spanContext.getTraceIdHighBytesAsLong();
+    long traceIdLow = spanContext.getTraceIdLowBytesAsLong();
+    long spanIdAsLong = spanContext.getSpanIdAsLong();
 
     target.setTraceIdHigh(traceIdHigh);
     target.setTraceIdLow(traceIdLow);
@@ -90,7 +90,7 @@ final class Adapter {
               SpanRefType.CHILD_OF,
               traceIdLow,
               traceIdHigh,
-              SpanId.asLong(span.getParentSpanId())));
+              span.getParentSpanContext().getSpanIdAsLong()));
     }
     target.setReferences(references);
 
@@ -229,8 +229,8 @@ final class Adapter {
     // https://github.com/open-telemetry/opentelemetry-java/pull/481/files#r312577862
     return new SpanRef(
         SpanRefType.FOLLOWS_FROM,
-        TraceId.traceIdLowBytesAsLong(link.getSpanContext().getTraceIdAsHexString()),
-        TraceId.traceIdHighBytesAsLong(link.getSpanContext().getTraceIdAsHexString()),
-        SpanId.asLong(link.getSpanContext().getSpanIdAsHexString()));
+        link.getSpanContext().getTraceIdLowBytesAsLong(),
+        link.getSpanContext().getTraceIdHighBytesAsLong(),
+        link.getSpanContext().getSpanIdAsLong());
   }
 }
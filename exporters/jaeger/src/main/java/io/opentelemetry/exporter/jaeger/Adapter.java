@@ -11,9 +11,11 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.gson.Gson;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Timestamp;
+import com.google.protobuf.UnsafeByteOperations;
 import com.google.protobuf.util.Timestamps;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.StatusCode;
 import io.opentelemetry.api.trace.TraceId;
@@ -65,8 +67,10 @@ final class Adapter {
   static Model.Span toJaeger(SpanData span) {
     Model.Span.Builder target = Model.Span.newBuilder();
 
-    target.setTraceId(ByteString.copyFrom(TraceId.bytesFromHex(span.getTraceId(), 0)));
-    target.setSpanId(ByteString.copyFrom(SpanId.bytesFromHex(span.getSpanId(), 0)));
+    SpanContext spanContext = span.getSpanContext();
+    ByteString traceId = toTraceId(spanContext);
+    target.setTraceId(traceId);
+    target.setSpanId(toSpanId(spanContext));
     target.setOperationName(span.getName());
     Timestamp startTimestamp = Timestamps.fromNanos(span.getStartEpochNanos());
     target.setStartTime(startTimestamp);
@@ -81,8 +85,8 @@ final class Adapter {
     if (span.getParentSpanContext().isValid()) {
       target.addReferences(
           Model.SpanRef.newBuilder()
-              .setTraceId(ByteString.copyFrom(TraceId.bytesFromHex(span.getTraceId(), 0)))
-              .setSpanId(ByteString.copyFrom(SpanId.bytesFromHex(span.getParentSpanId(), 0)))
+              .setTraceId(traceId)
+              .setSpanId(toSpanId(span.getParentSpanContext()))
               .setRefType(Model.SpanRefType.CHILD_OF));
     }
 
@@ -253,8 +257,8 @@ final class Adapter {
   @VisibleForTesting
   static Model.SpanRef toSpanRef(LinkData link) {
     Model.SpanRef.Builder builder = Model.SpanRef.newBuilder();
-    builder.setTraceId(ByteString.copyFrom(link.getSpanContext().getTraceIdBytes()));
-    builder.setSpanId(ByteString.copyFrom(link.getSpanContext().getSpanIdBytes()));
+    builder.setTraceId(toTraceId(link.getSpanContext()));
+    builder.setSpanId(toSpanId(link.getSpanContext()));
 
     // we can assume that all links are *follows from*
     // https://github.com/open-telemetry/opentelemetry-java/issues/475
@@ -263,4 +267,17 @@ final class Adapter {
 
     return builder.build();
   }
+
+  // SpanContext implementations may return shared arrays from getTraceIdBytes() and
+  // getSpanIdBytes(), so the ids are written into arrays of our own, which are then safe to wrap
+  // without a copy.
+  private static ByteString toTraceId(SpanContext spanContext) {
+    return UnsafeByteOperations.unsafeWrap(
+        TraceId.bytesFromLongs(
+            spanContext.getTraceIdHighBytesAsLong(), spanContext.getTraceIdLowBytesAsLong()));
+  }
+
+  private static ByteString toSpanId(SpanContext spanContext) {
+    return UnsafeByteOperations.unsafeWrap(SpanId.bytesFromLong(spanContext.getSpanIdAsLong()));
+  }
 }
@@ -7,7 +7,6 @@ package io.opentelemetry.exporter.jaeger;
 
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
-import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import io.grpc.ConnectivityState;
 import io.grpc.ManagedChannel;
@@ -18,6 +17,9 @@ import io.opentelemetry.exporter.jaeger.proto.api_v2.CollectorServiceGrpc;
 import io.opentelemetry.exporter.jaeger.proto.api_v2.Model;
 import io.opentelemetry.exporter.jaeger.proto.api_v2.Model.Process;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.RetryPolicy;
+import io.opentelemetry.sdk.extension.otproto.internal.GrpcRetries;
+import io.opentelemetry.sdk.internal.Retrier;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
@@ -28,8 +30,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -51,6 +51,7 @@ public final class JaegerGrpcSpanExporter implements SpanExporter {
   private final Model.Process.Builder processBuilder;
   private final ManagedChannel managedChannel;
   private final long timeoutNanos;
+  private final Retrier retrier;
 
   /**
    * Creates a new Jaeger gRPC Span Reporter with the given name, using the given channel.
@@ -59,8 +60,10 @@ public final class JaegerGrpcSpanExporter implements SpanExporter {
    * @param channel the channel to use when communicating with the Jaeger Collector.
    * @param timeoutNanos max waiting time for the collector to process each span batch. When set to
    *     0 or to a negative value, the exporter will wait indefinitely.
+   * @param retryPolicy the policy retrying spans that failed with a transient error.
    */
-  JaegerGrpcSpanExporter(String serviceName, ManagedChannel channel, long timeoutNanos) {
+  JaegerGrpcSpanExporter(
+      String serviceName, ManagedChannel channel, long timeoutNanos, RetryPolicy retryPolicy) {
     String hostname;
     String ipv4;
 
@@ -97,6 +100,7 @@ public final class JaegerGrpcSpanExporter implements SpanExporter {
     this.managedChannel = channel;
     this.stub = CollectorServiceGrpc.newFutureStub(channel);
     this.timeoutNanos = timeoutNanos;
+    this.retrier = new Retrier(retryPolicy);
   }
 
   /**
@@ -107,54 +111,38 @@ public final class JaegerGrpcSpanExporter implements SpanExporter {
    */
   @Override
   public CompletableResultCode export(Collection<SpanData> spans) {
+    List<CompletableResultCode> results = new ArrayList<>();
+    spans.stream()
+        .collect(Collectors.groupingBy(SpanData::getResource))
+        .forEach(
+            (resource, spanData) -> {
+              PostSpansRequest request = buildRequest(resource, spanData);
+              results.add(retrier.execute(spanData.size(), outcome -> send(request, outcome)));
+            });
+    return CompletableResultCode.ofAll(results);
+  }
+
+  private void send(PostSpansRequest request, Retrier.Outcome outcome) {
     CollectorServiceGrpc.CollectorServiceFutureStub stub = this.stub;
     if (timeoutNanos > 0) {
       stub = stub.withDeadlineAfter(timeoutNanos, TimeUnit.NANOSECONDS);
     }
 
-    List<Collector.PostSpansRequest> requests = new ArrayList<>();
-    spans.stream()
-        .collect(Collectors.groupingBy(SpanData::getResource))
-        .forEach((resource, spanData) -> requests.add(buildRequest(resource, spanData)));
-
-    List<ListenableFuture<PostSpansResponse>> listenableFutures = new ArrayList<>(requests.size());
-    for (PostSpansRequest request : requests) {
-      listenableFutures.add(stub.postSpans(request));
-    }
+    Futures.addCallback(
+        stub.postSpans(request),
+        new FutureCallback<PostSpansResponse>() {
+          @Override
+          public void onSuccess(Collector.PostSpansResponse result) {
+            outcome.succeed();
+          }
 
-    final CompletableResultCode result = new CompletableResultCode();
-    AtomicInteger pending = new AtomicInteger(listenableFutures.size());
-    AtomicReference<Throwable> error = new AtomicReference<>();
-    for (ListenableFuture<Collector.PostSpansResponse> future : listenableFutures) {
-      Futures.addCallback(
-          future,
-          new FutureCallback<PostSpansResponse>() {
-            @Override
-            public void onSuccess(Collector.PostSpansResponse result) {
-              fulfill();
-            }
-
-            @Override
-            public void onFailure(Throwable t) {
-              error.set(t);
-              fulfill();
-            }
-
-            private void fulfill() {
-              if (pending.decrementAndGet() == 0) {
-                Throwable t = error.get();
-                if (t != null) {
-                  logger.log(Level.WARNING, "Failed to export spans", t);
-                  result.fail();
-                } else {
-                  result.succeed();
-                }
-              }
-            }
-          },
-          MoreExecutors.directExecutor());
-    }
-    return result;
+          @Override
+          public void onFailure(Throwable t) {
+            logger.log(Level.WARNING, "Failed to export spans", t);
+            GrpcRetries.onFailure(outcome, t);
+          }
+        },
+        MoreExecutors.directExecutor());
   }
 
   private Collector.PostSpansRequest buildRequest(Resource resource, List<SpanData> spans) {
@@ -211,6 +199,7 @@ public final class JaegerGrpcSpanExporter implements SpanExporter {
           }
         });
     managedChannel.shutdown();
+    retrier.shutdown();
     return result;
   }
 
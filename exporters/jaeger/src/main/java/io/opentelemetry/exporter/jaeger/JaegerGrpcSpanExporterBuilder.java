@@ -10,6 +10,7 @@ import static java.util.Objects.requireNonNull;
 
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.opentelemetry.sdk.common.export.RetryPolicy;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
@@ -23,6 +24,7 @@ public final class JaegerGrpcSpanExporterBuilder {
   private String endpoint = DEFAULT_ENDPOINT;
   private ManagedChannel channel;
   private long timeoutNanos = TimeUnit.SECONDS.toNanos(DEFAULT_TIMEOUT_SECS);
+  private RetryPolicy retryPolicy = RetryPolicy.noRetries();
 
   /**
    * Sets the service name to be used by this exporter, if none is found in the Resource associated
@@ -82,6 +84,15 @@ public final class JaegerGrpcSpanExporterBuilder {
     return setTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
   }
 
+  /**
+   * Sets the policy retrying exports that failed with a transient error, such as an unavailable
+   * collector. Optional, by default failed exports are not retried.
+   */
+  public JaegerGrpcSpanExporterBuilder setRetryPolicy(RetryPolicy retryPolicy) {
+    this.retryPolicy = requireNonNull(retryPolicy, "retryPolicy");
+    return this;
+  }
+
   /**
    * Constructs a new instance of the exporter based on the builder's values.
    *
@@ -91,7 +102,7 @@ public final class JaegerGrpcSpanExporterBuilder {
     if (channel == null) {
       channel = ManagedChannelBuilder.forTarget(endpoint).usePlaintext().build();
     }
-    return new JaegerGrpcSpanExporter(serviceName, channel, timeoutNanos);
+    return new JaegerGrpcSpanExporter(serviceName, channel, timeoutNanos, retryPolicy);
   }
 
   JaegerGrpcSpanExporterBuilder() {}
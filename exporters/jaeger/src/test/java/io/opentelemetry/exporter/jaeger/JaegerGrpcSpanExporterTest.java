@@ -17,6 +17,7 @@ import com.google.common.collect.Lists;
 import com.google.common.io.Closer;
 import io.grpc.ManagedChannel;
 import io.grpc.Server;
+import io.grpc.Status;
 import io.grpc.inprocess.InProcessChannelBuilder;
 import io.grpc.inprocess.InProcessServerBuilder;
 import io.grpc.stub.StreamObserver;
@@ -30,16 +31,19 @@ import io.opentelemetry.exporter.jaeger.proto.api_v2.CollectorServiceGrpc;
 import io.opentelemetry.exporter.jaeger.proto.api_v2.Model;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.opentelemetry.sdk.common.export.RetryPolicy;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.trace.TestSpanData;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.data.StatusData;
 import io.opentelemetry.semconv.resource.attributes.ResourceAttributes;
 import java.net.InetAddress;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -269,6 +273,60 @@ class JaegerGrpcSpanExporterTest {
     return tags.stream().filter(kv -> kv.getKey().equals(tagKey)).findFirst();
   }
 
+  @Test
+  void testExport_Retried() throws Exception {
+    AtomicInteger requests = new AtomicInteger();
+    String serverName = InProcessServerBuilder.generateName();
+    Server server =
+        InProcessServerBuilder.forName(serverName)
+            .directExecutor()
+            .addService(
+                new CollectorServiceGrpc.CollectorServiceImplBase() {
+                  @Override
+                  public void postSpans(
+                      Collector.PostSpansRequest request,
+                      StreamObserver<Collector.PostSpansResponse> responseObserver) {
+                    if (requests.incrementAndGet() == 1) {
+                      responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+                      return;
+                    }
+                    responseObserver.onNext(Collector.PostSpansResponse.newBuilder().build());
+                    responseObserver.onCompleted();
+                  }
+                })
+            .build()
+            .start();
+    closer.register(server::shutdownNow);
+    JaegerGrpcSpanExporter retryingExporter =
+        JaegerGrpcSpanExporter.builder()
+            .setChannel(InProcessChannelBuilder.forName(serverName).directExecutor().build())
+            .setRetryPolicy(
+                RetryPolicy.builder()
+                    .setInitialBackoff(Duration.ofMillis(1))
+                    .setMaxBackoff(Duration.ofMillis(10))
+                    .build())
+            .build();
+    closer.register(retryingExporter::shutdown);
+
+    SpanData span =
+        TestSpanData.builder()
+            .setHasEnded(true)
+            .setTraceId(TRACE_ID)
+            .setSpanId(SPAN_ID)
+            .setName("GET /api/endpoint")
+            .setStartEpochNanos(0)
+            .setEndEpochNanos(TimeUnit.MILLISECONDS.toNanos(900))
+            .setStatus(StatusData.ok())
+            .setKind(Kind.CONSUMER)
+            .setTotalRecordedLinks(0)
+            .setTotalRecordedEvents(0)
+            .build();
+
+    CompletableResultCode result = retryingExporter.export(Collections.singletonList(span));
+    assertThat(result.join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(requests.get()).isEqualTo(2);
+  }
+
   @Test
   @SuppressWarnings("PreferJavaTimeOverload")
   void invalidConfig() {
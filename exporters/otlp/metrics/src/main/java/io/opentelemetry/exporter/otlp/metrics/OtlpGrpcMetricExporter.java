@@ -14,7 +14,10 @@ import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceResponse;
 import io.opentelemetry.proto.collector.metrics.v1.MetricsServiceGrpc;
 import io.opentelemetry.proto.collector.metrics.v1.MetricsServiceGrpc.MetricsServiceFutureStub;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.RetryPolicy;
 import io.opentelemetry.sdk.extension.otproto.MetricAdapter;
+import io.opentelemetry.sdk.extension.otproto.internal.GrpcRetries;
+import io.opentelemetry.sdk.internal.Retrier;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.export.MetricExporter;
 import java.util.Collection;
@@ -33,6 +36,7 @@ public final class OtlpGrpcMetricExporter implements MetricExporter {
   private final MetricsServiceFutureStub metricsService;
   private final ManagedChannel managedChannel;
   private final long timeoutNanos;
+  private final Retrier retrier;
 
   /**
    * Creates a new OTLP gRPC Metric Reporter with the given name, using the given channel.
@@ -40,10 +44,12 @@ public final class OtlpGrpcMetricExporter implements MetricExporter {
    * @param channel the channel to use when communicating with the OpenTelemetry Collector.
    * @param timeoutNanos max waiting time for the collector to process each metric batch. When set
    *     to 0 or to a negative value, the exporter will wait indefinitely.
+   * @param retryPolicy the policy retrying metrics that failed with a transient error.
    */
-  OtlpGrpcMetricExporter(ManagedChannel channel, long timeoutNanos) {
+  OtlpGrpcMetricExporter(ManagedChannel channel, long timeoutNanos, RetryPolicy retryPolicy) {
     this.managedChannel = channel;
     this.timeoutNanos = timeoutNanos;
+    this.retrier = new Retrier(retryPolicy);
     metricsService = MetricsServiceGrpc.newFutureStub(channel);
   }
 
@@ -60,7 +66,10 @@ public final class OtlpGrpcMetricExporter implements MetricExporter {
             .addAllResourceMetrics(MetricAdapter.toProtoResourceMetrics(metrics))
             .build();
 
-    final CompletableResultCode result = new CompletableResultCode();
+    return retrier.execute(metrics.size(), outcome -> send(exportMetricsServiceRequest, outcome));
+  }
+
+  private void send(ExportMetricsServiceRequest request, Retrier.Outcome outcome) {
     MetricsServiceFutureStub exporter;
     if (timeoutNanos > 0) {
       exporter = metricsService.withDeadlineAfter(timeoutNanos, TimeUnit.NANOSECONDS);
@@ -69,21 +78,20 @@ public final class OtlpGrpcMetricExporter implements MetricExporter {
     }
 
     Futures.addCallback(
-        exporter.export(exportMetricsServiceRequest),
+        exporter.export(request),
         new FutureCallback<ExportMetricsServiceResponse>() {
           @Override
           public void onSuccess(@Nullable ExportMetricsServiceResponse response) {
-            result.succeed();
+            outcome.succeed();
           }
 
           @Override
           public void onFailure(Throwable t) {
             logger.log(Level.WARNING, "Failed to export metrics", t);
-            result.fail();
+            GrpcRetries.onFailure(outcome, t);
           }
         },
         MoreExecutors.directExecutor());
-    return result;
   }
 
   /**
@@ -122,6 +130,7 @@ public final class OtlpGrpcMetricExporter implements MetricExporter {
    */
   @Override
   public CompletableResultCode shutdown() {
+    retrier.shutdown();
     try {
       managedChannel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
     } catch (InterruptedException e) {
@@ -13,6 +13,7 @@ import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.Metadata;
 import io.grpc.stub.MetadataUtils;
+import io.opentelemetry.sdk.common.export.RetryPolicy;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
@@ -33,6 +34,7 @@ public final class OtlpGrpcMetricExporterBuilder {
 
   private ManagedChannel channel;
   private long timeoutNanos = TimeUnit.SECONDS.toNanos(DEFAULT_TIMEOUT_SECS);
+  private RetryPolicy retryPolicy = RetryPolicy.noRetries();
   private URI endpoint = DEFAULT_ENDPOINT;
   private boolean useTls = false;
 
@@ -128,6 +130,18 @@ public final class OtlpGrpcMetricExporterBuilder {
     return this;
   }
 
+  /**
+   * Sets the policy retrying exports that failed with a transient error, such as an unavailable
+   * collector. Optional, by default failed exports are not retried.
+   *
+   * @param retryPolicy the policy retrying failed exports.
+   * @return this builder's instance
+   */
+  public OtlpGrpcMetricExporterBuilder setRetryPolicy(RetryPolicy retryPolicy) {
+    this.retryPolicy = requireNonNull(retryPolicy, "retryPolicy");
+    return this;
+  }
+
   /**
    * Constructs a new instance of the exporter based on the builder's values.
    *
@@ -150,7 +164,7 @@ public final class OtlpGrpcMetricExporterBuilder {
 
       channel = managedChannelBuilder.build();
     }
-    return new OtlpGrpcMetricExporter(channel, timeoutNanos);
+    return new OtlpGrpcMetricExporter(channel, timeoutNanos, retryPolicy);
   }
 
   OtlpGrpcMetricExporterBuilder() {}
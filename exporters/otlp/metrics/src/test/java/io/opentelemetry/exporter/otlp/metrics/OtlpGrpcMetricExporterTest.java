@@ -23,6 +23,7 @@ import io.opentelemetry.proto.collector.metrics.v1.MetricsServiceGrpc;
 import io.opentelemetry.proto.metrics.v1.ResourceMetrics;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.opentelemetry.sdk.common.export.RetryPolicy;
 import io.opentelemetry.sdk.extension.otproto.MetricAdapter;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.data.LongPointData;
@@ -215,6 +216,31 @@ class OtlpGrpcMetricExporterTest {
     }
   }
 
+  @Test
+  void testExport_Retried() {
+    fakeCollector.setReturnedStatus(Status.UNAVAILABLE, 1);
+    OtlpGrpcMetricExporter exporter =
+        OtlpGrpcMetricExporter.builder()
+            .setChannel(inProcessChannel)
+            .setRetryPolicy(
+                RetryPolicy.builder()
+                    .setInitialBackoff(Duration.ofMillis(1))
+                    .setMaxBackoff(Duration.ofMillis(10))
+                    .build())
+            .build();
+    try {
+      assertThat(
+              exporter
+                  .export(Collections.singletonList(generateFakeMetric()))
+                  .join(10, TimeUnit.SECONDS)
+                  .isSuccess())
+          .isTrue();
+      assertThat(fakeCollector.getReceivedMetrics()).hasSize(2);
+    } finally {
+      exporter.shutdown();
+    }
+  }
+
   @Test
   void testExport_DataLoss() {
     fakeCollector.setReturnedStatus(Status.DATA_LOSS);
@@ -271,6 +297,7 @@ class OtlpGrpcMetricExporterTest {
   private static final class FakeCollector extends MetricsServiceGrpc.MetricsServiceImplBase {
     private final List<ResourceMetrics> receivedMetrics = new ArrayList<>();
     private Status returnedStatus = Status.OK;
+    private int failures = Integer.MAX_VALUE;
 
     @Override
     public void export(
@@ -279,7 +306,7 @@ class OtlpGrpcMetricExporterTest {
 
       receivedMetrics.addAll(request.getResourceMetricsList());
       responseObserver.onNext(ExportMetricsServiceResponse.newBuilder().build());
-      if (!returnedStatus.isOk()) {
+      if (!returnedStatus.isOk() && failures-- > 0) {
         if (returnedStatus.getCode() == Code.DEADLINE_EXCEEDED) {
           // Do not call onCompleted to simulate a deadline exceeded.
           return;
@@ -297,5 +324,10 @@ class OtlpGrpcMetricExporterTest {
     void setReturnedStatus(Status returnedStatus) {
       this.returnedStatus = returnedStatus;
     }
+
+    void setReturnedStatus(Status returnedStatus, int failures) {
+      this.returnedStatus = returnedStatus;
+      this.failures = failures;
+    }
   }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.otlp.trace;
+
+import com.google.protobuf.CodedOutputStream;
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import javax.annotation.Nullable;
+
+/**
+ * The serialized form of a {@link Marshaler}, as an {@link InputStream} handed to gRPC. gRPC drains
+ * it into its transport buffers, which makes the {@link Marshaler} write directly to them. Reading
+ * the stream instead first serializes the message into a byte array.
+ */
+final class MarshalerInputStream extends InputStream implements Drainable, KnownLength {
+
+  @Nullable private Marshaler message;
+  @Nullable private ByteArrayInputStream partial;
+
+  MarshalerInputStream(Marshaler message) {
+    this.message = message;
+  }
+
+  @Override
+  public int drainTo(OutputStream target) throws IOException {
+    int written;
+    if (message != null) {
+      written = message.getSerializedSize();
+      CodedOutputStream output =
+          CodedOutputStream.newInstance(
+              target, Math.min(written, CodedOutputStream.DEFAULT_BUFFER_SIZE));
+      message.writeTo(output);
+      output.flush();
+      message = null;
+    } else if (partial != null) {
+      written = partial.available();
+      byte[] bytes = new byte[written];
+      partial.read(bytes, 0, written);
+      target.write(bytes);
+      partial = null;
+    } else {
+      written = 0;
+    }
+    return written;
+  }
+
+  @Override
+  public int read() {
+    ByteArrayInputStream partial = getPartial();
+    return partial == null ? -1 : partial.read();
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) {
+    ByteArrayInputStream partial = getPartial();
+    if (partial == null) {
+      return -1;
+    }
+    return partial.read(b, off, len);
+  }
+
+  @Override
+  public int available() {
+    if (message != null) {
+      return message.getSerializedSize();
+    }
+    return partial == null ? 0 : partial.available();
+  }
+
+  @Nullable
+  private ByteArrayInputStream getPartial() {
+    if (message != null) {
+      byte[] bytes = new byte[message.getSerializedSize()];
+      try {
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        message.writeTo(output);
+        output.checkNoSpaceLeft();
+      } catch (IOException e) {
+        // Writing to a byte array doesn't throw IOException.
+        throw new IllegalStateException(e);
+      }
+      partial = new ByteArrayInputStream(bytes);
+      message = null;
+    }
+    return partial;
+  }
+}
@@ -7,27 +7,40 @@ package io.opentelemetry.exporter.otlp.trace;
 
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.CodedOutputStream;
+import io.grpc.CallOptions;
 import io.grpc.ConnectivityState;
 import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.stub.ClientCalls;
 import io.opentelemetry.api.common.Labels;
 import io.opentelemetry.api.metrics.BoundLongCounter;
 import io.opentelemetry.api.metrics.GlobalMetricsProvider;
 import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.Meter;
-import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceResponse;
 import io.opentelemetry.proto.collector.trace.v1.TraceServiceGrpc;
-import io.opentelemetry.proto.collector.trace.v1.TraceServiceGrpc.TraceServiceFutureStub;
 import io.opentelemetry.sdk.common.CompletableResultCode;
-import io.opentelemetry.sdk.extension.otproto.SpanAdapter;
+import io.opentelemetry.sdk.common.export.RetryPolicy;
+import io.opentelemetry.sdk.extension.otproto.internal.GrpcRetries;
+import io.opentelemetry.sdk.internal.Retrier;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 /** Exports spans using OTLP via gRPC, using OpenTelemetry's protobuf model. */
@@ -43,7 +56,23 @@ public final class OtlpGrpcSpanExporter implements SpanExporter {
   private static final Labels EXPORT_FAILURE_LABELS =
       Labels.of("exporter", EXPORTER_NAME, "success", "false");
 
-  private final TraceServiceFutureStub traceService;
+  // The TraceService export method, taking requests serialized by a Marshaler instead of a protobuf
+  // message.
+  private static final MethodDescriptor<Marshaler, ExportTraceServiceResponse> EXPORT_METHOD =
+      TraceServiceGrpc.getExportMethod().toBuilder(
+              new MethodDescriptor.Marshaller<Marshaler>() {
+                @Override
+                public InputStream stream(Marshaler value) {
+                  return new MarshalerInputStream(value);
+                }
+
+                @Override
+                public Marshaler parse(InputStream stream) {
+                  throw new UnsupportedOperationException("Only for serializing requests");
+                }
+              },
+              TraceServiceGrpc.getExportMethod().getResponseMarshaller())
+          .build();
 
   private final ManagedChannel managedChannel;
   private final long timeoutNanos;
@@ -51,14 +80,29 @@ public final class OtlpGrpcSpanExporter implements SpanExporter {
   private final BoundLongCounter spansExportedSuccess;
   private final BoundLongCounter spansExportedFailure;
 
+  private final Retrier retrier;
+  @Nullable private final SpillQueue spillQueue;
+  // Whether a request read from the spill queue is being sent.
+  private final AtomicBoolean sendingSpilled = new AtomicBoolean();
+
+  @GuardedBy("pendingFlushes")
+  private final List<CompletableResultCode> pendingFlushes = new ArrayList<>();
+
   /**
    * Creates a new OTLP gRPC Span Reporter with the given name, using the given channel.
    *
    * @param channel the channel to use when communicating with the OpenTelemetry Collector.
    * @param timeoutNanos max waiting time for the collector to process each span batch. When set to
    *     0 or to a negative value, the exporter will wait indefinitely.
+   * @param spillQueue the queue spans are written to before they are sent, or {@code null} to send
+   *     them directly.
+   * @param retryPolicy the policy retrying spans sent directly that failed with a transient error.
    */
-  OtlpGrpcSpanExporter(ManagedChannel channel, long timeoutNanos) {
+  OtlpGrpcSpanExporter(
+      ManagedChannel channel,
+      long timeoutNanos,
+      @Nullable SpillQueue spillQueue,
+      RetryPolicy retryPolicy) {
     Meter meter = GlobalMetricsProvider.getMeter("io.opentelemetry.exporters.otlp");
     this.spansSeen =
         meter.longCounterBuilder("spansSeenByExporter").build().bind(EXPORTER_NAME_LABELS);
@@ -67,8 +111,8 @@ public final class OtlpGrpcSpanExporter implements SpanExporter {
     this.spansExportedFailure = spansExportedCounter.bind(EXPORT_FAILURE_LABELS);
     this.managedChannel = channel;
     this.timeoutNanos = timeoutNanos;
-
-    this.traceService = TraceServiceGrpc.newFutureStub(channel);
+    this.spillQueue = spillQueue;
+    this.retrier = new Retrier(retryPolicy);
   }
 
   /**
@@ -80,49 +124,187 @@ public final class OtlpGrpcSpanExporter implements SpanExporter {
   @Override
   public CompletableResultCode export(Collection<SpanData> spans) {
     spansSeen.add(spans.size());
-    ExportTraceServiceRequest exportTraceServiceRequest =
-        ExportTraceServiceRequest.newBuilder()
-            .addAllResourceSpans(SpanAdapter.toProtoResourceSpans(spans))
-            .build();
+    if (spillQueue != null) {
+      return spill(spillQueue, spans);
+    }
+    Marshaler request = TraceMarshaler.RequestMarshaler.create(spans);
+    CompletableResultCode result = retrier.execute(spans.size(), outcome -> send(request, outcome));
+    result.whenComplete(
+        () -> {
+          if (result.isSuccess()) {
+            spansExportedSuccess.add(spans.size());
+          } else {
+            spansExportedFailure.add(spans.size());
+          }
+        });
+    return result;
+  }
 
-    final CompletableResultCode result = new CompletableResultCode();
+  private void send(Marshaler request, Retrier.Outcome outcome) {
+    Futures.addCallback(
+        export(request),
+        new FutureCallback<ExportTraceServiceResponse>() {
+          @Override
+          public void onSuccess(@Nullable ExportTraceServiceResponse response) {
+            outcome.succeed();
+          }
 
-    TraceServiceFutureStub exporter;
+          @Override
+          public void onFailure(Throwable t) {
+            logger.log(Level.WARNING, "Failed to export spans. Error message: " + t.getMessage());
+            logger.log(Level.FINEST, "Failed to export spans. Details follow: " + t);
+            GrpcRetries.onFailure(outcome, t);
+          }
+        },
+        MoreExecutors.directExecutor());
+  }
+
+  // Spans are marshaled straight from SpanData into the gRPC transport buffers, without building
+  // the equivalent protobuf messages.
+  private ListenableFuture<ExportTraceServiceResponse> export(Marshaler request) {
+    CallOptions callOptions = CallOptions.DEFAULT;
     if (timeoutNanos > 0) {
-      exporter = traceService.withDeadlineAfter(timeoutNanos, TimeUnit.NANOSECONDS);
-    } else {
-      exporter = traceService;
+      callOptions = callOptions.withDeadlineAfter(timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+    return ClientCalls.futureUnaryCall(managedChannel.newCall(EXPORT_METHOD, callOptions), request);
+  }
+
+  // Writes the spans to the spill queue, the export succeeds once they are on disk.
+  private CompletableResultCode spill(SpillQueue spillQueue, Collection<SpanData> spans) {
+    boolean spilled;
+    try {
+      spilled = spillQueue.append(TraceMarshaler.RequestMarshaler.create(spans), spans.size());
+    } catch (IOException | RuntimeException e) {
+      logger.log(Level.WARNING, "Failed to write spans to the spill directory.", e);
+      spilled = false;
+    }
+    if (!spilled) {
+      spansExportedFailure.add(spans.size());
+      logger.log(Level.WARNING, "Spill directory is full, dropping " + spans.size() + " spans.");
+      return CompletableResultCode.ofFailure();
+    }
+    sendSpilled(spillQueue);
+    return CompletableResultCode.ofSuccess();
+  }
+
+  // Sends the oldest request in the spill queue unless one is already being sent. Each successful
+  // send acknowledges its request and sends the next one, until the queue is empty or a send fails.
+  // Sending is attempted again on the next export or flush.
+  private void sendSpilled(SpillQueue spillQueue) {
+    while (sendingSpilled.compareAndSet(false, true)) {
+      SpillQueue.Record record;
+      try {
+        record = spillQueue.peek();
+      } catch (IOException e) {
+        logger.log(Level.WARNING, "Failed to read spans from the spill directory.", e);
+        sendingSpilled.set(false);
+        completePendingFlushes(false);
+        return;
+      }
+      if (record != null) {
+        send(spillQueue, record);
+        return;
+      }
+      sendingSpilled.set(false);
+      if (spillQueue.isClosed()) {
+        // Requests left in the spill directory are only sent once it is opened again.
+        completePendingFlushes(spillQueue.isEmpty());
+        return;
+      }
+      completePendingFlushes(true);
+      // A request may have been appended after peeking but before sending was reset.
+      if (spillQueue.isEmpty()) {
+        return;
+      }
     }
+  }
 
+  private void send(SpillQueue spillQueue, SpillQueue.Record record) {
     Futures.addCallback(
-        exporter.export(exportTraceServiceRequest),
+        export(new SerializedRequest(record.getRequest())),
         new FutureCallback<ExportTraceServiceResponse>() {
           @Override
           public void onSuccess(@Nullable ExportTraceServiceResponse response) {
-            spansExportedSuccess.add(spans.size());
-            result.succeed();
+            spansExportedSuccess.add(record.getSpanCount());
+            acknowledgeAndSendNext(spillQueue);
           }
 
           @Override
           public void onFailure(Throwable t) {
-            spansExportedFailure.add(spans.size());
-            logger.log(Level.WARNING, "Failed to export spans. Error message: " + t.getMessage());
+            if (Status.fromThrowable(t).getCode() == Status.Code.INVALID_ARGUMENT) {
+              // Sending the request again wouldn't help, it was probably corrupted on disk.
+              logger.log(
+                  Level.WARNING,
+                  "Dropping spans rejected by the collector from the spill directory. "
+                      + "Error message: "
+                      + t.getMessage());
+              spansExportedFailure.add(record.getSpanCount());
+              acknowledgeAndSendNext(spillQueue);
+              return;
+            }
+            logger.log(
+                Level.WARNING,
+                "Failed to export spans, keeping them in the spill directory. Error message: "
+                    + t.getMessage());
             logger.log(Level.FINEST, "Failed to export spans. Details follow: " + t);
-            result.fail();
+            sendingSpilled.set(false);
+            completePendingFlushes(false);
           }
         },
         MoreExecutors.directExecutor());
-    return result;
+  }
+
+  private void acknowledgeAndSendNext(SpillQueue spillQueue) {
+    try {
+      spillQueue.acknowledge();
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Failed to acknowledge spans in the spill directory.", e);
+      sendingSpilled.set(false);
+      completePendingFlushes(false);
+      return;
+    }
+    sendingSpilled.set(false);
+    sendSpilled(spillQueue);
+  }
+
+  private void completePendingFlushes(boolean success) {
+    List<CompletableResultCode> flushes;
+    synchronized (pendingFlushes) {
+      if (pendingFlushes.isEmpty()) {
+        return;
+      }
+      flushes = new ArrayList<>(pendingFlushes);
+      pendingFlushes.clear();
+    }
+    for (CompletableResultCode flush : flushes) {
+      if (success) {
+        flush.succeed();
+      } else {
+        flush.fail();
+      }
+    }
   }
 
   /**
-   * The OTLP exporter does not batch spans, so this method will immediately return with success.
+   * Sends the spans written to the spill directory, if one is configured. Otherwise, the OTLP
+   * exporter does not batch spans, so this method will immediately return with success.
    *
-   * @return always Success
+   * <p>Once the exporter is shut down, spans left in the spill directory are only sent when it is
+   * used again, and the flush fails if there are any.
+   *
+   * @return the result of sending the spans in the spill directory.
    */
   @Override
   public CompletableResultCode flush() {
-    return CompletableResultCode.ofSuccess();
+    if (spillQueue == null) {
+      return CompletableResultCode.ofSuccess();
+    }
+    CompletableResultCode result = new CompletableResultCode();
+    synchronized (pendingFlushes) {
+      pendingFlushes.add(result);
+    }
+    sendSpilled(spillQueue);
+    return result;
   }
 
   /**
@@ -154,6 +336,10 @@ public final class OtlpGrpcSpanExporter implements SpanExporter {
     final CompletableResultCode result = new CompletableResultCode();
     managedChannel.notifyWhenStateChanged(ConnectivityState.SHUTDOWN, result::succeed);
     managedChannel.shutdown();
+    retrier.shutdown();
+    if (spillQueue != null) {
+      spillQueue.close();
+    }
     this.spansSeen.unbind();
     this.spansExportedSuccess.unbind();
     this.spansExportedFailure.unbind();
@@ -164,4 +350,28 @@ public final class OtlpGrpcSpanExporter implements SpanExporter {
   long getTimeoutNanos() {
     return timeoutNanos;
   }
+
+  // Visible for testing
+  Retrier getRetrier() {
+    return retrier;
+  }
+
+  // A request that is already serialized, read from the spill queue.
+  private static final class SerializedRequest implements Marshaler {
+    private final ByteBuffer request;
+
+    private SerializedRequest(ByteBuffer request) {
+      this.request = request;
+    }
+
+    @Override
+    public void writeTo(CodedOutputStream output) throws IOException {
+      output.writeRawBytes(request.duplicate());
+    }
+
+    @Override
+    public int getSerializedSize() {
+      return request.remaining();
+    }
+  }
 }
@@ -15,7 +15,10 @@ import io.grpc.Metadata;
 import io.grpc.netty.GrpcSslContexts;
 import io.grpc.netty.NettyChannelBuilder;
 import io.grpc.stub.MetadataUtils;
+import io.opentelemetry.sdk.common.export.RetryPolicy;
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
@@ -34,6 +37,7 @@ public final class OtlpGrpcSpanExporterBuilder {
   private static final String DEFAULT_ENDPOINT_URL = "http://localhost:4317";
   private static final URI DEFAULT_ENDPOINT = URI.create(DEFAULT_ENDPOINT_URL);
   private static final long DEFAULT_TIMEOUT_SECS = 10;
+  private static final long DEFAULT_MAX_SPILL_SIZE_MIB = 64;
 
   private ManagedChannel channel;
   private long timeoutNanos = TimeUnit.SECONDS.toNanos(DEFAULT_TIMEOUT_SECS);
@@ -41,6 +45,9 @@ public final class OtlpGrpcSpanExporterBuilder {
   private boolean useTls = false;
   @Nullable private Metadata metadata;
   @Nullable private byte[] trustedCertificatesPem;
+  @Nullable private File spillDirectory;
+  private long maxSpillSizeBytes = DEFAULT_MAX_SPILL_SIZE_MIB * 1024 * 1024;
+  private RetryPolicy retryPolicy = RetryPolicy.noRetries();
 
   /**
    * Sets the managed chanel to use when communicating with the backend. Takes precedence over
@@ -146,12 +153,73 @@ public final class OtlpGrpcSpanExporterBuilder {
     return this;
   }
 
+  /**
+   * Sets the directory where exported spans are written before they are sent to the collector.
+   * Optional, by default spans are sent directly and dropped if the collector is unavailable.
+   *
+   * <p>With a spill directory, an export succeeds once its spans are written to segment files in
+   * the directory. They are sent in order and deleted once the collector accepts them. While the
+   * collector is unavailable they stay in the directory, and are sent again on the next export or
+   * {@link OtlpGrpcSpanExporter#flush()}, including by a new exporter using the same directory
+   * after a restart. The directory is locked until the exporter is shut down, and can't be used by
+   * several exporters at the same time.
+   *
+   * @param spillDirectory the directory where exported spans are written.
+   * @return this builder's instance
+   */
+  public OtlpGrpcSpanExporterBuilder setSpillDirectory(File spillDirectory) {
+    this.spillDirectory = requireNonNull(spillDirectory, "spillDirectory");
+    return this;
+  }
+
+  /**
+   * Sets the max size of the segment files in the spill directory. Exports that don't fit fail and
+   * their spans are dropped. If unset, defaults to {@value DEFAULT_MAX_SPILL_SIZE_MIB}MiB.
+   *
+   * @param maxSpillSizeBytes the max size of the spill directory, in bytes.
+   * @return this builder's instance
+   * @see #setSpillDirectory(File)
+   */
+  public OtlpGrpcSpanExporterBuilder setMaxSpillSize(long maxSpillSizeBytes) {
+    checkArgument(maxSpillSizeBytes > 0, "maxSpillSize must be positive");
+    this.maxSpillSizeBytes = maxSpillSizeBytes;
+    return this;
+  }
+
+  /**
+   * Sets the policy retrying exports that failed with a transient error, such as an unavailable
+   * collector. Optional, by default failed exports are not retried. Spans written to a spill
+   * directory are sent again on the next export instead.
+   *
+   * @param retryPolicy the policy retrying failed exports.
+   * @return this builder's instance
+   */
+  public OtlpGrpcSpanExporterBuilder setRetryPolicy(RetryPolicy retryPolicy) {
+    this.retryPolicy = requireNonNull(retryPolicy, "retryPolicy");
+    return this;
+  }
+
   /**
    * Constructs a new instance of the exporter based on the builder's values.
    *
    * @return a new exporter's instance
+   * @throws IllegalStateException if the spill directory cannot be opened, or is used by another
+   *     exporter.
    */
   public OtlpGrpcSpanExporter build() {
+    SpillQueue spillQueue = null;
+    if (spillDirectory != null) {
+      try {
+        spillQueue =
+            SpillQueue.open(
+                spillDirectory,
+                maxSpillSizeBytes,
+                (int) Math.min(SpillQueue.DEFAULT_SEGMENT_SIZE, maxSpillSizeBytes));
+      } catch (IOException e) {
+        throw new IllegalStateException("Could not open spill directory " + spillDirectory, e);
+      }
+    }
+
     if (channel == null) {
       final ManagedChannelBuilder<?> managedChannelBuilder =
           ManagedChannelBuilder.forTarget(endpoint.getAuthority());
@@ -213,7 +281,7 @@ public final class OtlpGrpcSpanExporterBuilder {
 
       channel = managedChannelBuilder.build();
     }
-    return new OtlpGrpcSpanExporter(channel, timeoutNanos);
+    return new OtlpGrpcSpanExporter(channel, timeoutNanos, spillQueue, retryPolicy);
   }
 
   OtlpGrpcSpanExporterBuilder() {}
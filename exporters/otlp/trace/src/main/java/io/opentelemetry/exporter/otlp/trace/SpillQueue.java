@@ -0,0 +1,472 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.otlp.trace;
+
+import com.google.protobuf.CodedOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A persistent FIFO queue of serialized export requests, stored in append-only segment files in a
+ * directory.
+ *
+ * <p>Each segment starts with a header holding a magic number and the offset of its first
+ * unacknowledged record, followed by records made of their length, their span count and the
+ * serialized request. A zero length marks the end of the written records. A segment file is deleted
+ * once all its records are acknowledged and a newer segment is being written, and the records left
+ * in the directory are recovered when it is opened again.
+ *
+ * <p>The directory is locked with a {@link FileLock} on a lock file while the queue is open, so it
+ * can't be opened by another queue, in this process or another one, until the queue is closed.
+ *
+ * <p>The total size of the segment files is capped, requests that would exceed it are rejected.
+ * Segments are written and read with positional {@link FileChannel} operations rather than memory
+ * mapped, since a mapping can't be released deterministically: the disk space of a deleted segment
+ * would only be reclaimed once the mapping is garbage collected, and the file couldn't be deleted
+ * at all on Windows.
+ */
+@ThreadSafe
+final class SpillQueue {
+
+  private static final Logger logger = Logger.getLogger(SpillQueue.class.getName());
+
+  static final int DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+  private static final String SEGMENT_SUFFIX = ".segment";
+  private static final String LOCK_FILE = "spill.lock";
+  private static final int MAGIC = 0x4f544c50;
+  // Magic number and the offset of the first unacknowledged record.
+  private static final int HEADER_SIZE = 8;
+  private static final int ACK_OFFSET_POSITION = 4;
+  // Length and span count.
+  private static final int RECORD_HEADER_SIZE = 8;
+
+  private final File directory;
+  // Holds the lock on the directory, which is released when the channel is closed.
+  private final FileChannel lockChannel;
+  private final long maxSizeBytes;
+  private final int segmentSize;
+
+  // Oldest first, the last one is being written.
+  @GuardedBy("this")
+  private final ArrayDeque<Segment> segments;
+
+  @GuardedBy("this")
+  private long sizeBytes;
+
+  @GuardedBy("this")
+  private long nextSequence;
+
+  @GuardedBy("this")
+  private boolean closed;
+
+  /**
+   * Opens the queue stored in {@code directory}, creating the directory if needed and recovering
+   * the records that were not acknowledged before it was last closed.
+   *
+   * @throws IOException if the directory can't be read, or if it is locked by another queue that is
+   *     still open.
+   */
+  static SpillQueue open(File directory, long maxSizeBytes, int segmentSize) throws IOException {
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Could not create directory " + directory);
+    }
+    FileChannel lockChannel = lock(directory);
+    try {
+      return open(directory, lockChannel, maxSizeBytes, segmentSize);
+    } catch (IOException | RuntimeException e) {
+      closeQuietly(lockChannel);
+      throw e;
+    }
+  }
+
+  private static FileChannel lock(File directory) throws IOException {
+    FileChannel channel = new RandomAccessFile(new File(directory, LOCK_FILE), "rw").getChannel();
+    FileLock lock;
+    try {
+      lock = channel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      // Locked by another channel of this process.
+      lock = null;
+    } catch (IOException e) {
+      closeQuietly(channel);
+      throw e;
+    }
+    if (lock == null) {
+      closeQuietly(channel);
+      throw new IOException("Directory " + directory + " is already used by another spill queue");
+    }
+    return channel;
+  }
+
+  private static SpillQueue open(
+      File directory, FileChannel lockChannel, long maxSizeBytes, int segmentSize)
+      throws IOException {
+    File[] files = directory.listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+    if (files == null) {
+      throw new IOException("Could not list directory " + directory);
+    }
+    long[] sequences = new long[files.length];
+    int numSegments = 0;
+    for (File file : files) {
+      String name = file.getName();
+      try {
+        sequences[numSegments] =
+            Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        numSegments++;
+      } catch (NumberFormatException e) {
+        logger.log(Level.WARNING, "Ignoring unexpected file " + file);
+      }
+    }
+    Arrays.sort(sequences, 0, numSegments);
+
+    ArrayDeque<Segment> segments = new ArrayDeque<>();
+    long sizeBytes = 0;
+    for (int i = 0; i < numSegments; i++) {
+      Segment segment = Segment.recover(segmentFile(directory, sequences[i]));
+      if (segment == null) {
+        continue;
+      }
+      if (segment.isFullyAcknowledged() && i != numSegments - 1) {
+        segment.delete();
+        continue;
+      }
+      segments.add(segment);
+      sizeBytes += segment.capacity;
+    }
+    long nextSequence = numSegments == 0 ? 0 : sequences[numSegments - 1] + 1;
+    return new SpillQueue(
+        directory, lockChannel, maxSizeBytes, segmentSize, segments, sizeBytes, nextSequence);
+  }
+
+  private SpillQueue(
+      File directory,
+      FileChannel lockChannel,
+      long maxSizeBytes,
+      int segmentSize,
+      ArrayDeque<Segment> segments,
+      long sizeBytes,
+      long nextSequence) {
+    this.directory = directory;
+    this.lockChannel = lockChannel;
+    this.maxSizeBytes = maxSizeBytes;
+    this.segmentSize = segmentSize;
+    this.segments = segments;
+    this.sizeBytes = sizeBytes;
+    this.nextSequence = nextSequence;
+  }
+
+  /**
+   * Appends the serialized {@code request} holding {@code spanCount} spans. Returns {@code false}
+   * if the queue is closed or the request doesn't fit within the max size.
+   */
+  synchronized boolean append(Marshaler request, int spanCount) throws IOException {
+    if (closed) {
+      return false;
+    }
+    int recordSize = RECORD_HEADER_SIZE + request.getSerializedSize();
+    Segment segment = segments.peekLast();
+    if (segment == null || !segment.hasRoomFor(recordSize)) {
+      // Room for the record and the zero length that ends the segment.
+      long newSegmentSize = Math.max(segmentSize, HEADER_SIZE + recordSize + 4L);
+      if (newSegmentSize > Integer.MAX_VALUE) {
+        return false;
+      }
+      // Make room by deleting the segment being written if it has already been fully consumed.
+      if (segment != null && segment.isFullyAcknowledged()) {
+        segments.removeLast();
+        sizeBytes -= segment.capacity;
+        segment.delete();
+      }
+      if (sizeBytes + newSegmentSize > maxSizeBytes) {
+        return false;
+      }
+      segment = Segment.create(segmentFile(directory, nextSequence), (int) newSegmentSize);
+      nextSequence++;
+      segments.add(segment);
+      sizeBytes += newSegmentSize;
+    }
+    segment.append(request, spanCount);
+    return true;
+  }
+
+  /**
+   * Returns the oldest unacknowledged record, or {@code null} if there is none or the queue is
+   * closed.
+   */
+  @Nullable
+  synchronized Record peek() throws IOException {
+    if (closed) {
+      return null;
+    }
+    Segment segment = segments.peekFirst();
+    return segment == null || segment.isFullyAcknowledged() ? null : segment.peek();
+  }
+
+  /** Acknowledges the record last returned by {@link #peek()}, removing it from the queue. */
+  synchronized void acknowledge() throws IOException {
+    Segment segment = segments.peekFirst();
+    if (closed || segment == null || segment.isFullyAcknowledged()) {
+      return;
+    }
+    segment.acknowledge();
+    if (segment.isFullyAcknowledged() && segments.size() > 1) {
+      segments.removeFirst();
+      sizeBytes -= segment.capacity;
+      segment.delete();
+    }
+  }
+
+  /** Returns whether all the records were acknowledged, even if the queue is closed. */
+  synchronized boolean isEmpty() {
+    Segment segment = segments.peekFirst();
+    return segment == null || segment.isFullyAcknowledged();
+  }
+
+  synchronized boolean isClosed() {
+    return closed;
+  }
+
+  /** Returns the total size of the segment files. */
+  synchronized long getSizeBytes() {
+    return sizeBytes;
+  }
+
+  /**
+   * Writes the segments to disk, closes them and unlocks the directory. The queue rejects any
+   * operation after this.
+   */
+  synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    for (Segment segment : segments) {
+      segment.close();
+    }
+    closeQuietly(lockChannel);
+  }
+
+  private static File segmentFile(File directory, long sequence) {
+    return new File(directory, String.format("%020d", sequence) + SEGMENT_SUFFIX);
+  }
+
+  /** A serialized request read from the queue. */
+  static final class Record {
+    private final ByteBuffer request;
+    private final int spanCount;
+    private final int recordSize;
+
+    private Record(ByteBuffer request, int spanCount, int recordSize) {
+      this.request = request;
+      this.spanCount = spanCount;
+      this.recordSize = recordSize;
+    }
+
+    /** Returns a read-only buffer holding the serialized request. */
+    ByteBuffer getRequest() {
+      return request.duplicate();
+    }
+
+    int getSpanCount() {
+      return spanCount;
+    }
+  }
+
+  private static final class Segment {
+    private final File file;
+    private final FileChannel channel;
+    private final int capacity;
+    // Offset of the first unacknowledged record.
+    private int readPosition;
+    // Offset where the next record is written.
+    private int writePosition;
+    // The record at the read position, kept until it is acknowledged as it may be sent again.
+    @Nullable private Record peeked;
+
+    private Segment(
+        File file, FileChannel channel, int capacity, int readPosition, int writePosition) {
+      this.file = file;
+      this.channel = channel;
+      this.capacity = capacity;
+      this.readPosition = readPosition;
+      this.writePosition = writePosition;
+    }
+
+    static Segment create(File file, int size) throws IOException {
+      FileChannel channel = open(file);
+      try {
+        // The file is extended with zeros, which mark the end of the written records.
+        channel.write(ByteBuffer.allocate(1), size - 1);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(HEADER_SIZE).flip();
+        writeFully(channel, header, 0);
+      } catch (IOException e) {
+        closeQuietly(channel);
+        throw e;
+      }
+      return new Segment(file, channel, size, HEADER_SIZE, HEADER_SIZE);
+    }
+
+    @Nullable
+    static Segment recover(File file) throws IOException {
+      long length = file.length();
+      if (length < HEADER_SIZE || length > Integer.MAX_VALUE) {
+        logger.log(Level.WARNING, "Ignoring invalid segment " + file);
+        return null;
+      }
+      FileChannel channel = open(file);
+      try {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        readFully(channel, header, 0);
+        int readPosition = header.getInt(ACK_OFFSET_POSITION);
+        if (header.getInt(0) != MAGIC || readPosition < HEADER_SIZE || readPosition > length) {
+          logger.log(Level.WARNING, "Ignoring invalid segment " + file);
+          closeQuietly(channel);
+          return null;
+        }
+        int writePosition = HEADER_SIZE;
+        while (writePosition + RECORD_HEADER_SIZE <= length) {
+          header.clear();
+          readFully(channel, header, writePosition);
+          int recordLength = header.getInt(0);
+          if (recordLength < RECORD_HEADER_SIZE || writePosition + recordLength > length) {
+            break;
+          }
+          writePosition += recordLength;
+        }
+        return new Segment(
+            file, channel, (int) length, Math.min(readPosition, writePosition), writePosition);
+      } catch (IOException e) {
+        closeQuietly(channel);
+        throw e;
+      }
+    }
+
+    private static FileChannel open(File file) throws IOException {
+      // Closing the channel closes the file as well.
+      return new RandomAccessFile(file, "rw").getChannel();
+    }
+
+    boolean hasRoomFor(int recordSize) {
+      // Keep room for the zero length that ends the segment, unless the record fills it up.
+      long end = (long) writePosition + recordSize;
+      return end == capacity || end + 4 <= capacity;
+    }
+
+    boolean isFullyAcknowledged() {
+      return readPosition == writePosition;
+    }
+
+    void append(Marshaler request, int spanCount) throws IOException {
+      int recordSize = RECORD_HEADER_SIZE + request.getSerializedSize();
+      byte[] record = new byte[recordSize];
+      CodedOutputStream output =
+          CodedOutputStream.newInstance(
+              record, RECORD_HEADER_SIZE, recordSize - RECORD_HEADER_SIZE);
+      request.writeTo(output);
+      output.checkNoSpaceLeft();
+      ByteBuffer buffer = ByteBuffer.wrap(record);
+      buffer.putInt(0, recordSize).putInt(4, spanCount);
+      // The length is written last so that a partially written record is never recovered.
+      buffer.position(4);
+      writeFully(channel, buffer, writePosition + 4);
+      buffer.position(0).limit(4);
+      writeFully(channel, buffer, writePosition);
+      writePosition += recordSize;
+    }
+
+    Record peek() throws IOException {
+      Record peeked = this.peeked;
+      if (peeked != null) {
+        return peeked;
+      }
+      ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+      readFully(channel, header, readPosition);
+      int recordSize = header.getInt(0);
+      ByteBuffer request = ByteBuffer.allocate(recordSize - RECORD_HEADER_SIZE);
+      readFully(channel, request, readPosition + RECORD_HEADER_SIZE);
+      request.flip();
+      peeked = new Record(request.asReadOnlyBuffer(), header.getInt(4), recordSize);
+      this.peeked = peeked;
+      return peeked;
+    }
+
+    void acknowledge() throws IOException {
+      Record peeked = this.peeked;
+      this.peeked = null;
+      ByteBuffer buffer = ByteBuffer.allocate(4);
+      if (peeked != null) {
+        readPosition += peeked.recordSize;
+      } else {
+        readFully(channel, buffer, readPosition);
+        readPosition += buffer.getInt(0);
+      }
+      buffer.putInt(0, readPosition).clear();
+      try {
+        writeFully(channel, buffer, ACK_OFFSET_POSITION);
+      } catch (IOException e) {
+        // The record may be sent again if the queue is recovered from this segment.
+        logger.log(Level.WARNING, "Could not acknowledge record in segment " + file, e);
+      }
+    }
+
+    void close() {
+      try {
+        channel.force(/* metaData= */ false);
+      } catch (IOException e) {
+        logger.log(Level.WARNING, "Could not write segment " + file, e);
+      }
+      closeQuietly(channel);
+    }
+
+    void delete() {
+      closeQuietly(channel);
+      if (!file.delete()) {
+        logger.log(Level.WARNING, "Could not delete segment " + file);
+      }
+    }
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position);
+      if (read < 0) {
+        throw new EOFException("Unexpected end of segment");
+      }
+      position += read;
+    }
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+
+  private static void closeQuietly(FileChannel channel) {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      logger.log(Level.FINE, "Could not close file", e);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.otlp.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.io.ByteStreams;
+import com.google.protobuf.CodedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class MarshalerInputStreamTest {
+
+  private static final byte[] BYTES = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  void drainTo() throws IOException {
+    MarshalerInputStream stream = new MarshalerInputStream(new BytesMarshaler());
+    assertThat(stream.available()).isEqualTo(BYTES.length);
+
+    ByteArrayOutputStream target = new ByteArrayOutputStream();
+    assertThat(stream.drainTo(target)).isEqualTo(BYTES.length);
+    assertThat(target.toByteArray()).isEqualTo(BYTES);
+    assertThat(stream.available()).isEqualTo(0);
+    assertThat(stream.read()).isEqualTo(-1);
+  }
+
+  @Test
+  void read() throws IOException {
+    MarshalerInputStream stream = new MarshalerInputStream(new BytesMarshaler());
+    assertThat(stream.read()).isEqualTo('0');
+    assertThat(stream.available()).isEqualTo(BYTES.length - 1);
+
+    byte[] bytes = new byte[3];
+    assertThat(stream.read(bytes, 0, 3)).isEqualTo(3);
+    assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("123");
+
+    // Draining after a partial read writes the rest.
+    ByteArrayOutputStream target = new ByteArrayOutputStream();
+    assertThat(stream.drainTo(target)).isEqualTo(6);
+    assertThat(new String(target.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("456789");
+    assertThat(ByteStreams.toByteArray(stream)).isEmpty();
+  }
+
+  private static final class BytesMarshaler implements Marshaler {
+    @Override
+    public void writeTo(CodedOutputStream output) throws IOException {
+      output.writeRawBytes(BYTES);
+    }
+
+    @Override
+    public int getSerializedSize() {
+      return BYTES.length;
+    }
+  }
+}
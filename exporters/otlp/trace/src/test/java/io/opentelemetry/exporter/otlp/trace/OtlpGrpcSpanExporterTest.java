@@ -23,10 +23,12 @@ import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceResponse;
 import io.opentelemetry.proto.collector.trace.v1.TraceServiceGrpc;
 import io.opentelemetry.proto.trace.v1.ResourceSpans;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.RetryPolicy;
 import io.opentelemetry.sdk.extension.otproto.SpanAdapter;
 import io.opentelemetry.sdk.testing.trace.TestSpanData;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.data.StatusData;
+import java.io.File;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -36,6 +38,7 @@ import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class OtlpGrpcSpanExporterTest {
 
@@ -84,6 +87,13 @@ class OtlpGrpcSpanExporterTest {
         .isInstanceOf(NullPointerException.class)
         .hasMessage("timeout");
 
+    assertThatThrownBy(() -> OtlpGrpcSpanExporter.builder().setSpillDirectory(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("spillDirectory");
+    assertThatThrownBy(() -> OtlpGrpcSpanExporter.builder().setMaxSpillSize(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxSpillSize must be positive");
+
     assertThatThrownBy(() -> OtlpGrpcSpanExporter.builder().setEndpoint(null))
         .isInstanceOf(NullPointerException.class)
         .hasMessage("endpoint");
@@ -218,6 +228,50 @@ class OtlpGrpcSpanExporterTest {
     }
   }
 
+  @Test
+  void testExport_Retried() {
+    fakeCollector.setReturnedStatus(Status.UNAVAILABLE, 2);
+    OtlpGrpcSpanExporter exporter =
+        OtlpGrpcSpanExporter.builder()
+            .setChannel(inProcessChannel)
+            .setRetryPolicy(
+                RetryPolicy.builder()
+                    .setInitialBackoff(Duration.ofMillis(1))
+                    .setMaxBackoff(Duration.ofMillis(10))
+                    .build())
+            .build();
+    try {
+      SpanData span = generateFakeSpan();
+      assertThat(
+              exporter
+                  .export(Collections.singletonList(span))
+                  .join(10, TimeUnit.SECONDS)
+                  .isSuccess())
+          .isTrue();
+      assertThat(fakeCollector.getReceivedSpans()).hasSize(3);
+      assertThat(exporter.getRetrier().getPendingItems()).isZero();
+    } finally {
+      exporter.shutdown();
+    }
+  }
+
+  @Test
+  void testExport_NotRetried() {
+    fakeCollector.setReturnedStatus(Status.PERMISSION_DENIED);
+    OtlpGrpcSpanExporter exporter =
+        OtlpGrpcSpanExporter.builder()
+            .setChannel(inProcessChannel)
+            .setRetryPolicy(RetryPolicy.getDefault())
+            .build();
+    try {
+      assertThat(exporter.export(Collections.singletonList(generateFakeSpan())).isSuccess())
+          .isFalse();
+      assertThat(fakeCollector.getReceivedSpans()).hasSize(1);
+    } finally {
+      exporter.shutdown();
+    }
+  }
+
   @Test
   void testExport_DataLoss() {
     fakeCollector.setReturnedStatus(Status.DATA_LOSS);
@@ -244,6 +298,109 @@ class OtlpGrpcSpanExporterTest {
     }
   }
 
+  @Test
+  void testExport_Spill(@TempDir File spillDirectory) {
+    fakeCollector.setReturnedStatus(Status.UNAVAILABLE);
+    SpanData span = generateFakeSpan();
+    OtlpGrpcSpanExporter exporter =
+        OtlpGrpcSpanExporter.builder()
+            .setChannel(inProcessChannel)
+            .setSpillDirectory(spillDirectory)
+            .build();
+    try {
+      // The export succeeds once the spans are on disk, even though the collector is unavailable.
+      assertThat(exporter.export(Collections.singletonList(span)).isSuccess()).isTrue();
+      assertThat(exporter.flush().isSuccess()).isFalse();
+
+      fakeCollector.setReturnedStatus(Status.OK);
+      fakeCollector.getReceivedSpans().clear();
+      assertThat(exporter.flush().isSuccess()).isTrue();
+      assertThat(fakeCollector.getReceivedSpans())
+          .isEqualTo(SpanAdapter.toProtoResourceSpans(Collections.singletonList(span)));
+
+      fakeCollector.getReceivedSpans().clear();
+      assertThat(exporter.flush().isSuccess()).isTrue();
+      assertThat(fakeCollector.getReceivedSpans()).isEmpty();
+    } finally {
+      exporter.shutdown();
+    }
+  }
+
+  @Test
+  void testExport_SpillRecoveredByNewExporter(@TempDir File spillDirectory) {
+    fakeCollector.setReturnedStatus(Status.UNAVAILABLE);
+    SpanData span = generateFakeSpan();
+    OtlpGrpcSpanExporter exporter =
+        OtlpGrpcSpanExporter.builder()
+            .setChannel(inProcessChannel)
+            .setSpillDirectory(spillDirectory)
+            .build();
+    assertThat(exporter.export(Collections.singletonList(span)).isSuccess()).isTrue();
+    exporter.shutdown();
+    // The spilled spans weren't sent.
+    assertThat(exporter.flush().isSuccess()).isFalse();
+
+    fakeCollector.setReturnedStatus(Status.OK);
+    fakeCollector.getReceivedSpans().clear();
+    ManagedChannel channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+    closer.register(channel::shutdownNow);
+    exporter =
+        OtlpGrpcSpanExporter.builder()
+            .setChannel(channel)
+            .setSpillDirectory(spillDirectory)
+            .build();
+    try {
+      assertThat(exporter.flush().isSuccess()).isTrue();
+      assertThat(fakeCollector.getReceivedSpans())
+          .isEqualTo(SpanAdapter.toProtoResourceSpans(Collections.singletonList(span)));
+    } finally {
+      exporter.shutdown();
+    }
+  }
+
+  @Test
+  void testBuild_SpillDirectoryInUse(@TempDir File spillDirectory) {
+    OtlpGrpcSpanExporter exporter =
+        OtlpGrpcSpanExporter.builder()
+            .setChannel(inProcessChannel)
+            .setSpillDirectory(spillDirectory)
+            .build();
+    try {
+      assertThatThrownBy(
+              () ->
+                  OtlpGrpcSpanExporter.builder()
+                      .setChannel(inProcessChannel)
+                      .setSpillDirectory(spillDirectory)
+                      .build())
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("Could not open spill directory");
+    } finally {
+      exporter.shutdown();
+    }
+  }
+
+  @Test
+  void testExport_SpillFull(@TempDir File spillDirectory) {
+    fakeCollector.setReturnedStatus(Status.UNAVAILABLE);
+    OtlpGrpcSpanExporter exporter =
+        OtlpGrpcSpanExporter.builder()
+            .setChannel(inProcessChannel)
+            .setSpillDirectory(spillDirectory)
+            .setMaxSpillSize(1024)
+            .build();
+    try {
+      List<SpanData> spans = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        spans.add(generateFakeSpan());
+      }
+      assertThat(exporter.export(spans).isSuccess()).isTrue();
+      spans.addAll(spans);
+      assertThat(exporter.export(spans).isSuccess()).isFalse();
+    } finally {
+      exporter.shutdown();
+    }
+  }
+
   private static SpanData generateFakeSpan() {
     long duration = TimeUnit.MILLISECONDS.toNanos(900);
     long startNs = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
@@ -266,6 +423,7 @@ class OtlpGrpcSpanExporterTest {
   private static final class FakeCollector extends TraceServiceGrpc.TraceServiceImplBase {
     private final List<ResourceSpans> receivedSpans = new ArrayList<>();
     private Status returnedStatus = Status.OK;
+    private int failures = Integer.MAX_VALUE;
 
     @Override
     public void export(
@@ -273,7 +431,7 @@ class OtlpGrpcSpanExporterTest {
         StreamObserver<ExportTraceServiceResponse> responseObserver) {
       receivedSpans.addAll(request.getResourceSpansList());
       responseObserver.onNext(ExportTraceServiceResponse.newBuilder().build());
-      if (!returnedStatus.isOk()) {
+      if (!returnedStatus.isOk() && failures-- > 0) {
         if (returnedStatus.getCode() == Code.DEADLINE_EXCEEDED) {
           // Do not call onCompleted to simulate a deadline exceeded.
           return;
@@ -291,5 +449,10 @@ class OtlpGrpcSpanExporterTest {
     void setReturnedStatus(Status returnedStatus) {
       this.returnedStatus = returnedStatus;
     }
+
+    void setReturnedStatus(Status returnedStatus, int failures) {
+      this.returnedStatus = returnedStatus;
+      this.failures = failures;
+    }
   }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.otlp.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.CodedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpillQueueTest {
+
+  // Room for the header and two records of one byte.
+  private static final int SEGMENT_SIZE = 8 + 2 * 9 + 4;
+
+  @TempDir File directory;
+
+  @Test
+  void appendPeekAcknowledge() throws IOException {
+    SpillQueue queue = SpillQueue.open(directory, 1024, SEGMENT_SIZE);
+    assertThat(queue.isEmpty()).isTrue();
+    assertThat(queue.peek()).isNull();
+
+    assertThat(queue.append(new BytesMarshaler("a"), 1)).isTrue();
+    assertThat(queue.append(new BytesMarshaler("b"), 2)).isTrue();
+    assertThat(queue.isEmpty()).isFalse();
+
+    SpillQueue.Record record = queue.peek();
+    assertThat(record).isNotNull();
+    assertThat(toString(record)).isEqualTo("a");
+    assertThat(record.getSpanCount()).isEqualTo(1);
+    // Peeking again returns the same record until it is acknowledged.
+    assertThat(toString(queue.peek())).isEqualTo("a");
+    queue.acknowledge();
+    assertThat(toString(queue.peek())).isEqualTo("b");
+    assertThat(queue.peek().getSpanCount()).isEqualTo(2);
+    queue.acknowledge();
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  void deletesAcknowledgedSegments() throws IOException {
+    SpillQueue queue = SpillQueue.open(directory, 1024, SEGMENT_SIZE);
+    for (int i = 0; i < 5; i++) {
+      assertThat(queue.append(new BytesMarshaler(String.valueOf(i)), 1)).isTrue();
+    }
+    assertThat(directory.list((dir, name) -> name.endsWith(".segment"))).hasSize(3);
+    assertThat(queue.getSizeBytes()).isEqualTo(3 * SEGMENT_SIZE);
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(toString(queue.peek())).isEqualTo(String.valueOf(i));
+      queue.acknowledge();
+    }
+    // The segment being written is kept.
+    assertThat(directory.list((dir, name) -> name.endsWith(".segment"))).hasSize(1);
+    assertThat(queue.getSizeBytes()).isEqualTo(SEGMENT_SIZE);
+  }
+
+  @Test
+  void rejectsWhenFull() throws IOException {
+    SpillQueue queue = SpillQueue.open(directory, 2 * SEGMENT_SIZE, SEGMENT_SIZE);
+    for (int i = 0; i < 4; i++) {
+      assertThat(queue.append(new BytesMarshaler(String.valueOf(i)), 1)).isTrue();
+    }
+    assertThat(queue.append(new BytesMarshaler("dropped"), 1)).isFalse();
+
+    queue.acknowledge();
+    queue.acknowledge();
+    assertThat(queue.append(new BytesMarshaler("4"), 1)).isTrue();
+    assertThat(toString(queue.peek())).isEqualTo("2");
+  }
+
+  @Test
+  void largeRecord() throws IOException {
+    SpillQueue queue = SpillQueue.open(directory, 1024, SEGMENT_SIZE);
+    String large = "0123456789012345678901234567890123456789";
+    assertThat(queue.append(new BytesMarshaler("a"), 1)).isTrue();
+    assertThat(queue.append(new BytesMarshaler(large), 1)).isTrue();
+
+    queue.acknowledge();
+    assertThat(toString(queue.peek())).isEqualTo(large);
+  }
+
+  @Test
+  void recoversUnacknowledgedRecords() throws IOException {
+    SpillQueue queue = SpillQueue.open(directory, 1024, SEGMENT_SIZE);
+    for (int i = 0; i < 5; i++) {
+      queue.append(new BytesMarshaler(String.valueOf(i)), 1);
+    }
+    queue.acknowledge();
+    queue.acknowledge();
+    queue.acknowledge();
+    queue.close();
+    assertThat(queue.peek()).isNull();
+    assertThat(queue.append(new BytesMarshaler("closed"), 1)).isFalse();
+
+    queue = SpillQueue.open(directory, 1024, SEGMENT_SIZE);
+    assertThat(toString(queue.peek())).isEqualTo("3");
+    queue.acknowledge();
+    assertThat(queue.append(new BytesMarshaler("5"), 1)).isTrue();
+    assertThat(toString(queue.peek())).isEqualTo("4");
+    queue.acknowledge();
+    assertThat(toString(queue.peek())).isEqualTo("5");
+    queue.acknowledge();
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  void emptyAfterClose() throws IOException {
+    SpillQueue queue = SpillQueue.open(directory, 1024, SEGMENT_SIZE);
+    queue.append(new BytesMarshaler("a"), 1);
+    queue.close();
+    assertThat(queue.isClosed()).isTrue();
+    assertThat(queue.peek()).isNull();
+    // The record is still there, to be sent once the queue is opened again.
+    assertThat(queue.isEmpty()).isFalse();
+  }
+
+  @Test
+  void directoryLockedWhileOpen() throws IOException {
+    SpillQueue queue = SpillQueue.open(directory, 1024, SEGMENT_SIZE);
+    queue.append(new BytesMarshaler("a"), 1);
+    assertThatThrownBy(() -> SpillQueue.open(directory, 1024, SEGMENT_SIZE))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("already used");
+    // The queue is not affected by the failed attempt.
+    assertThat(toString(queue.peek())).isEqualTo("a");
+
+    queue.close();
+    queue = SpillQueue.open(directory, 1024, SEGMENT_SIZE);
+    assertThat(toString(queue.peek())).isEqualTo("a");
+    queue.close();
+  }
+
+  private static String toString(SpillQueue.Record record) {
+    ByteBuffer buffer = record.getRequest();
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static final class BytesMarshaler implements Marshaler {
+    private final byte[] bytes;
+
+    private BytesMarshaler(String value) {
+      bytes = value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void writeTo(CodedOutputStream output) throws IOException {
+      output.writeRawBytes(bytes);
+    }
+
+    @Override
+    public int getSerializedSize() {
+      return bytes.length;
+    }
+  }
+}
@@ -36,12 +36,10 @@ final class B3PropagatorInjectorSingleHeader implements B3PropagatorInjector {
     }
 
     char[] chars = new char[COMBINED_HEADER_SIZE];
-    String traceId = spanContext.getTraceIdAsHexString();
-    traceId.getChars(0, traceId.length(), chars, 0);
+    spanContext.copyTraceIdHexTo(chars, 0);
     chars[SPAN_ID_OFFSET - 1] = B3Propagator.COMBINED_HEADER_DELIMITER_CHAR;
 
-    String spanId = spanContext.getSpanIdAsHexString();
-    System.arraycopy(spanId.toCharArray(), 0, chars, SPAN_ID_OFFSET, SpanId.getHexLength());
+    spanContext.copySpanIdHexTo(chars, SPAN_ID_OFFSET);
 
     chars[SAMPLED_FLAG_OFFSET - 1] = B3Propagator.COMBINED_HEADER_DELIMITER_CHAR;
     if (Boolean.TRUE.equals(context.get(B3Propagator.DEBUG_CONTEXT_KEY))) {
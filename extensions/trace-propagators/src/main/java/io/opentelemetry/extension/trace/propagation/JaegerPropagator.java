@@ -99,16 +99,10 @@ public final class JaegerPropagator implements TextMapPropagator {
 
     char[] chars = new char[PROPAGATION_HEADER_SIZE];
 
-    String traceId = spanContext.getTraceIdAsHexString();
-    for (int i = 0; i < traceId.length(); i++) {
-      chars[i] = traceId.charAt(i);
-    }
+    spanContext.copyTraceIdHexTo(chars, 0);
 
     chars[SPAN_ID_OFFSET - 1] = PROPAGATION_HEADER_DELIMITER;
-    String spanId = spanContext.getSpanIdAsHexString();
-    for (int i = 0; i < spanId.length(); i++) {
-      chars[SPAN_ID_OFFSET + i] = spanId.charAt(i);
-    }
+    spanContext.copySpanIdHexTo(chars, SPAN_ID_OFFSET);
 
     chars[PARENT_SPAN_ID_OFFSET - 1] = PROPAGATION_HEADER_DELIMITER;
     chars[PARENT_SPAN_ID_OFFSET] = DEPRECATED_PARENT_SPAN;
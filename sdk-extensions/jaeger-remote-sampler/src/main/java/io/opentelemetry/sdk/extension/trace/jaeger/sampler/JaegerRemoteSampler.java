@@ -9,6 +9,7 @@ import io.grpc.ManagedChannel;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span.Kind;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.export.TelemetryScheduler;
 import io.opentelemetry.sdk.extension.trace.jaeger.proto.api_v2.Sampling.PerOperationSamplingStrategies;
 import io.opentelemetry.sdk.extension.trace.jaeger.proto.api_v2.Sampling.SamplingStrategyParameters;
 import io.opentelemetry.sdk.extension.trace.jaeger.proto.api_v2.Sampling.SamplingStrategyResponse;
@@ -18,15 +19,21 @@ import io.opentelemetry.sdk.internal.DaemonThreadFactory;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.io.Closeable;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
-/** Remote sampler that gets sampling configuration from remote Jaeger server. */
-public final class JaegerRemoteSampler implements Sampler {
+/**
+ * Remote sampler that gets sampling configuration from remote Jaeger server. Polling stops when the
+ * sampler is {@linkplain #close() closed}.
+ */
+public final class JaegerRemoteSampler implements Sampler, Closeable {
   private static final Logger logger = Logger.getLogger(JaegerRemoteSampler.class.getName());
 
   private static final String WORKER_THREAD_NAME =
@@ -34,19 +41,37 @@ public final class JaegerRemoteSampler implements Sampler {
 
   private final String serviceName;
   private final SamplingManagerBlockingStub stub;
+  // Null when running on a TelemetryScheduler.
+  @Nullable private final ScheduledExecutorService executor;
+  private final ScheduledFuture<?> pollFuture;
 
   private volatile Sampler sampler;
 
-  @SuppressWarnings("FutureReturnValueIgnored")
   JaegerRemoteSampler(
-      String serviceName, ManagedChannel channel, int pollingIntervalMs, Sampler initialSampler) {
+      String serviceName,
+      ManagedChannel channel,
+      int pollingIntervalMs,
+      Sampler initialSampler,
+      @Nullable TelemetryScheduler scheduler) {
     this.serviceName = serviceName;
     this.stub = SamplingManagerGrpc.newBlockingStub(channel);
     this.sampler = initialSampler;
-    ScheduledExecutorService scheduledExecutorService =
+    if (scheduler != null) {
+      this.executor = null;
+      this.pollFuture =
+          scheduler.scheduleAtFixedRate(
+              JaegerRemoteSampler.class.getSimpleName(),
+              this::getAndUpdateSampler,
+              0,
+              pollingIntervalMs,
+              TimeUnit.MILLISECONDS);
+      return;
+    }
+    this.executor =
         Executors.newScheduledThreadPool(1, new DaemonThreadFactory(WORKER_THREAD_NAME));
-    scheduledExecutorService.scheduleAtFixedRate(
-        this::getAndUpdateSampler, 0, pollingIntervalMs, TimeUnit.MILLISECONDS);
+    this.pollFuture =
+        executor.scheduleAtFixedRate(
+            this::getAndUpdateSampler, 0, pollingIntervalMs, TimeUnit.MILLISECONDS);
   }
 
   @Override
@@ -60,6 +85,19 @@ public final class JaegerRemoteSampler implements Sampler {
     return sampler.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
   }
 
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      long traceIdHigh,
+      long traceIdLow,
+      String name,
+      Kind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    return sampler.shouldSample(
+        parentContext, traceIdHigh, traceIdLow, name, spanKind, attributes, parentLinks);
+  }
+
   private void getAndUpdateSampler() {
     try {
       SamplingStrategyParameters params =
@@ -103,6 +141,18 @@ public final class JaegerRemoteSampler implements Sampler {
     return getDescription();
   }
 
+  /**
+   * Stops polling for configuration updates, and stops the polling thread unless the sampler runs
+   * on a {@link TelemetryScheduler}. The sampler keeps using the last configuration it received.
+   */
+  @Override
+  public void close() {
+    pollFuture.cancel(false);
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
   // Visible for testing
   Sampler getSampler() {
     return this.sampler;
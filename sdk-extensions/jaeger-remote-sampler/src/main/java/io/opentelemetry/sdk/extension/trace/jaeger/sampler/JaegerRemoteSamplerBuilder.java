@@ -10,9 +10,11 @@ import static java.util.Objects.requireNonNull;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.opentelemetry.api.internal.Utils;
+import io.opentelemetry.sdk.common.export.TelemetryScheduler;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 /** A builder for {@link JaegerRemoteSampler}. */
 public class JaegerRemoteSamplerBuilder {
@@ -26,6 +28,7 @@ public class JaegerRemoteSamplerBuilder {
   private String serviceName;
   private Sampler initialSampler = INITIAL_SAMPLER;
   private int pollingIntervalMillis = DEFAULT_POLLING_INTERVAL_MILLIS;
+  @Nullable private TelemetryScheduler scheduler;
 
   /**
    * Sets the service name to be used by this exporter. Required.
@@ -86,6 +89,20 @@ public class JaegerRemoteSamplerBuilder {
     return this;
   }
 
+  /**
+   * Sets the {@link TelemetryScheduler} that polls for configuration updates, instead of a thread
+   * started by the sampler. Closing the sampler cancels the polling task but doesn't shut down the
+   * scheduler.
+   *
+   * @param scheduler the scheduler that polls for configuration updates.
+   * @return this.
+   */
+  public JaegerRemoteSamplerBuilder setScheduler(TelemetryScheduler scheduler) {
+    requireNonNull(scheduler, "scheduler");
+    this.scheduler = scheduler;
+    return this;
+  }
+
   /**
    * Builds the {@link JaegerRemoteSampler}.
    *
@@ -95,7 +112,8 @@ public class JaegerRemoteSamplerBuilder {
     if (channel == null) {
       channel = ManagedChannelBuilder.forTarget(endpoint).usePlaintext().build();
     }
-    return new JaegerRemoteSampler(serviceName, channel, pollingIntervalMillis, initialSampler);
+    return new JaegerRemoteSampler(
+        serviceName, channel, pollingIntervalMillis, initialSampler, scheduler);
   }
 
   JaegerRemoteSamplerBuilder() {}
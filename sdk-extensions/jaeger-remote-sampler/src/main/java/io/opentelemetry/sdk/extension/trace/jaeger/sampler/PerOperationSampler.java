@@ -42,11 +42,30 @@ class PerOperationSampler implements Sampler {
       Kind spanKind,
       Attributes attributes,
       List<LinkData> parentLinks) {
+    return getSampler(name)
+        .shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+  }
+
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      long traceIdHigh,
+      long traceIdLow,
+      String name,
+      Kind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    return getSampler(name)
+        .shouldSample(
+            parentContext, traceIdHigh, traceIdLow, name, spanKind, attributes, parentLinks);
+  }
+
+  private Sampler getSampler(String name) {
     Sampler sampler = this.perOperationSampler.get(name);
     if (sampler == null) {
       sampler = this.defaultSampler;
     }
-    return sampler.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+    return sampler;
   }
 
   @Override
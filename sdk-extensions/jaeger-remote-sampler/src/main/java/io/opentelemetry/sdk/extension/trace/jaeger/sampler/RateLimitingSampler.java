@@ -29,6 +29,9 @@ class RateLimitingSampler implements Sampler {
   static final AttributeKey<String> SAMPLER_TYPE = stringKey("sampler.type");
   static final AttributeKey<Double> SAMPLER_PARAM = doubleKey("sampler.param");
 
+  private static final SamplingResult SAMPLED_BY_PARENT =
+      SamplingResult.create(SamplingDecision.RECORD_AND_SAMPLE);
+
   private final double maxTracesPerSecond;
   private final RateLimiter rateLimiter;
   private final SamplingResult onSamplingResult;
@@ -57,15 +60,28 @@ class RateLimitingSampler implements Sampler {
       Kind spanKind,
       Attributes attributes,
       List<LinkData> parentLinks) {
+    return getSamplingResult(parentContext, parentLinks);
+  }
+
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      long traceIdHigh,
+      long traceIdLow,
+      String name,
+      Kind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    return getSamplingResult(parentContext, parentLinks);
+  }
 
+  private SamplingResult getSamplingResult(Context parentContext, List<LinkData> parentLinks) {
     if (Span.fromContext(parentContext).getSpanContext().isSampled()) {
-      return Sampler.alwaysOn()
-          .shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+      return SAMPLED_BY_PARENT;
     }
     for (LinkData parentLink : parentLinks) {
       if (parentLink.getSpanContext().isSampled()) {
-        return Sampler.alwaysOn()
-            .shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+        return SAMPLED_BY_PARENT;
       }
     }
     return this.rateLimiter.checkCredit(1.0) ? onSamplingResult : offSamplingResult;
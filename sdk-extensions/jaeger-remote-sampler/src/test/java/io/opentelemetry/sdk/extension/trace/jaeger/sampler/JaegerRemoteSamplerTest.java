@@ -18,6 +18,7 @@ import io.grpc.Server;
 import io.grpc.inprocess.InProcessChannelBuilder;
 import io.grpc.inprocess.InProcessServerBuilder;
 import io.grpc.stub.StreamObserver;
+import io.opentelemetry.sdk.common.export.TelemetryScheduler;
 import io.opentelemetry.sdk.extension.trace.jaeger.proto.api_v2.Sampling;
 import io.opentelemetry.sdk.extension.trace.jaeger.proto.api_v2.Sampling.RateLimitingSamplingStrategy;
 import io.opentelemetry.sdk.extension.trace.jaeger.proto.api_v2.Sampling.SamplingStrategyParameters;
@@ -183,6 +184,51 @@ class JaegerRemoteSamplerTest {
     assertThat(numPolls).hasValueGreaterThanOrEqualTo(2);
   }
 
+  @Test
+  void close_stopsPolling() throws Exception {
+    JaegerRemoteSampler sampler =
+        JaegerRemoteSampler.builder()
+            .setChannel(inProcessChannel)
+            .setServiceName(SERVICE_NAME)
+            .setPollingInterval(1, TimeUnit.MILLISECONDS)
+            .build();
+    await()
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(samplerIsType(sampler, RateLimitingSampler.class));
+
+    sampler.close();
+    assertPollingStopped();
+    assertThat(sampler.getSampler()).isNotNull();
+  }
+
+  @Test
+  void close_cancelsScheduledPolling() throws Exception {
+    TelemetryScheduler scheduler = TelemetryScheduler.builder().build();
+    closer.register(scheduler::shutdown);
+    JaegerRemoteSampler sampler =
+        JaegerRemoteSampler.builder()
+            .setChannel(inProcessChannel)
+            .setServiceName(SERVICE_NAME)
+            .setPollingInterval(1, TimeUnit.MILLISECONDS)
+            .setScheduler(scheduler)
+            .build();
+    await()
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(samplerIsType(sampler, RateLimitingSampler.class));
+
+    sampler.close();
+    assertPollingStopped();
+    assertThat(scheduler.isShutdown()).isFalse();
+  }
+
+  private static void assertPollingStopped() throws InterruptedException {
+    // A poll that was already running when the sampler was closed may still complete.
+    Thread.sleep(50);
+    int polls = numPolls.get();
+    Thread.sleep(200);
+    assertThat(numPolls).hasValue(polls);
+  }
+
   @Test
   void invalidArguments() {
     assertThatThrownBy(() -> JaegerRemoteSampler.builder().setServiceName(null))
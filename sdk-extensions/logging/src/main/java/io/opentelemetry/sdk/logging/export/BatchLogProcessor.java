@@ -12,6 +12,7 @@ import io.opentelemetry.api.metrics.GlobalMetricsProvider;
 import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.TelemetryScheduler;
 import io.opentelemetry.sdk.internal.DaemonThreadFactory;
 import io.opentelemetry.sdk.logging.LogProcessor;
 import io.opentelemetry.sdk.logging.data.LogRecord;
@@ -19,22 +20,27 @@ import java.util.ArrayList;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
 
 public final class BatchLogProcessor implements LogProcessor {
-  private static final String WORKER_THREAD_NAME =
-      BatchLogProcessor.class.getSimpleName() + "_WorkerThread";
+  private static final String PIPELINE_NAME = BatchLogProcessor.class.getSimpleName();
+  private static final String WORKER_THREAD_NAME = PIPELINE_NAME + "_WorkerThread";
 
   private final Worker worker;
-  private final Thread workerThread;
+  // Null when running on a TelemetryScheduler.
+  @Nullable private final Thread workerThread;
 
   private BatchLogProcessor(
       int maxQueueSize,
       long scheduleDelayMillis,
       int maxExportBatchSize,
       long exporterTimeoutMillis,
-      LogExporter logExporter) {
+      LogExporter logExporter,
+      @Nullable TelemetryScheduler scheduler) {
     this.worker =
         new Worker(
             logExporter,
@@ -42,6 +48,11 @@ public final class BatchLogProcessor implements LogProcessor {
             maxExportBatchSize,
             exporterTimeoutMillis,
             new ArrayBlockingQueue<LogRecord>(maxQueueSize));
+    if (scheduler != null) {
+      this.workerThread = null;
+      this.worker.startOn(scheduler);
+      return;
+    }
     this.workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(worker);
     this.workerThread.start();
   }
@@ -57,7 +68,9 @@ public final class BatchLogProcessor implements LogProcessor {
 
   @Override
   public CompletableResultCode shutdown() {
-    workerThread.interrupt();
+    if (workerThread != null) {
+      workerThread.interrupt();
+    }
     return worker.shutdown();
   }
 
@@ -98,6 +111,11 @@ public final class BatchLogProcessor implements LogProcessor {
     private volatile boolean continueWork = true;
     private long nextExportTime;
 
+    // Only used when running on a TelemetryScheduler.
+    @Nullable private volatile TelemetryScheduler scheduler;
+    @Nullable private volatile ScheduledFuture<?> exportTimer;
+    private final AtomicBoolean runRequested = new AtomicBoolean();
+
     private Worker(
         LogExporter logExporter,
         long scheduleDelayMillis,
@@ -138,6 +156,50 @@ public final class BatchLogProcessor implements LogProcessor {
       }
     }
 
+    private void startOn(TelemetryScheduler scheduler) {
+      this.scheduler = scheduler;
+      exportTimer =
+          scheduler.scheduleWithFixedDelay(
+              PIPELINE_NAME,
+              () -> runScheduled(/* exportPartialBatch= */ true),
+              scheduleDelayNanos,
+              scheduleDelayNanos,
+              TimeUnit.NANOSECONDS);
+    }
+
+    // Submits a run that exports the full batches in the queue, unless one is already pending.
+    private void requestRun() {
+      TelemetryScheduler scheduler = this.scheduler;
+      if (scheduler != null && runRequested.compareAndSet(false, true)) {
+        scheduler.execute(
+            PIPELINE_NAME,
+            () -> {
+              runRequested.set(false);
+              runScheduled(/* exportPartialBatch= */ false);
+            });
+      }
+    }
+
+    // Runs on the scheduler instead of the loop in run(), synchronized as the timer and the
+    // requested runs may be executed concurrently by different threads.
+    private synchronized void runScheduled(boolean exportPartialBatch) {
+      if (!continueWork) {
+        return;
+      }
+      if (flushRequested.get() != null) {
+        flush();
+        return;
+      }
+      while (queue.size() >= maxExportBatchSize) {
+        queue.drainTo(batch, maxExportBatchSize);
+        exportCurrentBatch();
+      }
+      if (exportPartialBatch) {
+        queue.drainTo(batch, maxExportBatchSize);
+        exportCurrentBatch();
+      }
+    }
+
     private void flush() {
       int recordsToFlush = queue.size();
       while (recordsToFlush > 0) {
@@ -153,6 +215,7 @@ public final class BatchLogProcessor implements LogProcessor {
       CompletableResultCode result = flushRequested.get();
       assert result != null;
       flushRequested.set(null);
+      result.succeed();
     }
 
     private void updateNextExportTime() {
@@ -187,6 +250,10 @@ public final class BatchLogProcessor implements LogProcessor {
             @Override
             public void run() {
               continueWork = false;
+              ScheduledFuture<?> exportTimer = Worker.this.exportTimer;
+              if (exportTimer != null) {
+                exportTimer.cancel(false);
+              }
               final CompletableResultCode shutdownResult = logExporter.shutdown();
               shutdownResult.whenComplete(
                   new Runnable() {
@@ -207,12 +274,16 @@ public final class BatchLogProcessor implements LogProcessor {
     private CompletableResultCode forceFlush() {
       CompletableResultCode flushResult = new CompletableResultCode();
       this.flushRequested.compareAndSet(null, flushResult);
-      return this.flushRequested.get();
+      CompletableResultCode result = this.flushRequested.get();
+      requestRun();
+      return result;
     }
 
     public void addLogRecord(LogRecord record) {
       if (!queue.offer(record)) {
         queueFullRecordCounter.add(1);
+      } else if (scheduler != null && queue.size() >= maxExportBatchSize) {
+        requestRun();
       }
     }
   }
@@ -228,6 +299,7 @@ public final class BatchLogProcessor implements LogProcessor {
     private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
     private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
     private long exporterTimeoutMillis = DEFAULT_EXPORT_TIMEOUT_MILLIS;
+    @Nullable private TelemetryScheduler scheduler;
 
     private Builder(LogExporter logExporter) {
       this.logExporter = Objects.requireNonNull(logExporter, "Exporter argument can not be null");
@@ -244,7 +316,8 @@ public final class BatchLogProcessor implements LogProcessor {
           scheduleDelayMillis,
           maxExportBatchSize,
           exporterTimeoutMillis,
-          logExporter);
+          logExporter,
+          scheduler);
     }
 
     /**
@@ -325,5 +398,22 @@ public final class BatchLogProcessor implements LogProcessor {
     public int getMaxExportBatchSize() {
       return maxExportBatchSize;
     }
+
+    /**
+     * Sets the {@link TelemetryScheduler} that runs the exports, instead of a thread started by the
+     * processor. The scheduler must be shut down after the processor.
+     *
+     * @param scheduler the {@link TelemetryScheduler} running the exports.
+     * @return this.
+     */
+    public Builder setScheduler(TelemetryScheduler scheduler) {
+      this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+      return this;
+    }
+
+    @Nullable
+    public TelemetryScheduler getScheduler() {
+      return scheduler;
+    }
   }
 }
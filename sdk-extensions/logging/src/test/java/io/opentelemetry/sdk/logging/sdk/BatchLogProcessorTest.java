@@ -8,6 +8,7 @@ package io.opentelemetry.sdk.logging.sdk;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.awaitility.Awaitility.await;
 
+import io.opentelemetry.sdk.common.export.TelemetryScheduler;
 import io.opentelemetry.sdk.logging.data.LogRecord;
 import io.opentelemetry.sdk.logging.export.BatchLogProcessor;
 import io.opentelemetry.sdk.logging.util.TestLogExporter;
@@ -37,4 +38,30 @@ class BatchLogProcessorTest {
     assertThat(exporter.getRecords().size()).isEqualTo(testRecordsToSend);
     processor.shutdown().join(1, TimeUnit.SECONDS);
   }
+
+  @Test
+  void testScheduler() {
+    TelemetryScheduler scheduler = TelemetryScheduler.builder().build();
+    TestLogExporter exporter = new TestLogExporter();
+    BatchLogProcessor processor =
+        BatchLogProcessor.builder(exporter)
+            .setMaxExportBatchSize(10)
+            .setMaxQueueSize(20)
+            .setScheduleDelayMillis(2000) // longer than test
+            .setScheduler(scheduler)
+            .build();
+    try {
+      for (int i = 0; i < 17; i++) {
+        LogRecord record = LogRecord.builder().setBody(Integer.toString(i)).build();
+        processor.addLogRecord(record);
+      }
+      await().until(() -> exporter.getCallCount() > 0);
+      assertThat(exporter.getRecords().size()).isEqualTo(10);
+      processor.forceFlush().join(1, TimeUnit.SECONDS);
+      assertThat(exporter.getRecords().size()).isEqualTo(17);
+      assertThat(processor.shutdown().join(1, TimeUnit.SECONDS).isSuccess()).isTrue();
+    } finally {
+      scheduler.shutdown().join(1, TimeUnit.SECONDS);
+    }
+  }
 }
@@ -15,6 +15,7 @@ import static io.opentelemetry.proto.trace.v1.Status.DeprecatedStatusCode.DEPREC
 
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span.Kind;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.StatusCode;
 import io.opentelemetry.proto.trace.v1.InstrumentationLibrarySpans;
 import io.opentelemetry.proto.trace.v1.ResourceSpans;
@@ -86,11 +87,12 @@ public final class SpanAdapter {
 
   static Span toProtoSpan(SpanData spanData) {
     final Span.Builder builder = Span.newBuilder();
-    builder.setTraceId(TraceProtoUtils.toProtoTraceId(spanData.getTraceId()));
-    builder.setSpanId(TraceProtoUtils.toProtoSpanId(spanData.getSpanId()));
+    SpanContext spanContext = spanData.getSpanContext();
+    builder.setTraceId(TraceProtoUtils.toProtoTraceId(spanContext));
+    builder.setSpanId(TraceProtoUtils.toProtoSpanId(spanContext));
     // TODO: Set TraceState;
     if (spanData.getParentSpanContext().isValid()) {
-      builder.setParentSpanId(TraceProtoUtils.toProtoSpanId(spanData.getParentSpanId()));
+      builder.setParentSpanId(TraceProtoUtils.toProtoSpanId(spanData.getParentSpanContext()));
     }
     builder.setName(spanData.getName());
     builder.setKind(toProtoSpanKind(spanData.getKind()));
@@ -143,9 +145,8 @@ public final class SpanAdapter {
 
   static Span.Link toProtoSpanLink(LinkData link) {
     final Span.Link.Builder builder = Span.Link.newBuilder();
-    builder.setTraceId(
-        TraceProtoUtils.toProtoTraceId(link.getSpanContext().getTraceIdAsHexString()));
-    builder.setSpanId(TraceProtoUtils.toProtoSpanId(link.getSpanContext().getSpanIdAsHexString()));
+    builder.setTraceId(TraceProtoUtils.toProtoTraceId(link.getSpanContext()));
+    builder.setSpanId(TraceProtoUtils.toProtoSpanId(link.getSpanContext()));
     // TODO: Set TraceState;
     Attributes attributes = link.getAttributes();
     attributes.forEach(
@@ -6,6 +6,8 @@
 package io.opentelemetry.sdk.extension.otproto;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.proto.trace.v1.ConstantSampler;
@@ -36,6 +38,32 @@ final class TraceProtoUtils {
     return ByteString.copyFrom(TraceId.bytesFromHex(traceId, 0));
   }
 
+  /**
+   * Converts the SpanId of the given {@link SpanContext} into a protobuf ByteString, without going
+   * through the hex representation.
+   *
+   * @param spanContext the spanContext whose spanId to convert.
+   * @return a ByteString representation.
+   */
+  public static ByteString toProtoSpanId(SpanContext spanContext) {
+    // SpanContext implementations may return a shared array from getSpanIdBytes(), so the bytes are
+    // written into an array of our own, which is then safe to wrap without a copy.
+    return UnsafeByteOperations.unsafeWrap(SpanId.bytesFromLong(spanContext.getSpanIdAsLong()));
+  }
+
+  /**
+   * Converts the TraceId of the given {@link SpanContext} into a protobuf ByteString, without going
+   * through the hex representation.
+   *
+   * @param spanContext the spanContext whose traceId to convert.
+   * @return a ByteString representation.
+   */
+  public static ByteString toProtoTraceId(SpanContext spanContext) {
+    return UnsafeByteOperations.unsafeWrap(
+        TraceId.bytesFromLongs(
+            spanContext.getTraceIdHighBytesAsLong(), spanContext.getTraceIdLowBytesAsLong()));
+  }
+
   /**
    * Returns a {@code TraceConfig} from the given proto.
    *
@@ -0,0 +1,94 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.otproto.internal;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.rpc.RetryInfo;
+import io.grpc.Status;
+import io.grpc.protobuf.StatusProto;
+import io.opentelemetry.sdk.internal.Retrier;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * Classifies the failures of gRPC exports for a {@link Retrier}, following the OTLP specification.
+ * Requires gRPC on the classpath, which the gRPC exporters using it already depend on.
+ */
+public final class GrpcRetries {
+
+  /** Returned by {@link #getRetryDelayNanos(Throwable)} for failures that must not be retried. */
+  public static final long NOT_RETRYABLE = -1;
+
+  /**
+   * Returns the delay the server asked to wait before retrying the call that failed with {@code t},
+   * {@code 0} if the failure is transient and the server didn't ask for a delay, or {@link
+   * #NOT_RETRYABLE}.
+   *
+   * <p>{@code RESOURCE_EXHAUSTED} is only transient if the server asked for a delay, as the OTLP
+   * specification requires.
+   */
+  public static long getRetryDelayNanos(Throwable t) {
+    Status status = Status.fromThrowable(t);
+    long delayNanos = getServerDelayNanos(t);
+    switch (status.getCode()) {
+      case CANCELLED:
+      case DEADLINE_EXCEEDED:
+      case ABORTED:
+      case OUT_OF_RANGE:
+      case UNAVAILABLE:
+      case DATA_LOSS:
+        return Math.max(0, delayNanos);
+      case RESOURCE_EXHAUSTED:
+        return delayNanos;
+      default:
+        return NOT_RETRYABLE;
+    }
+  }
+
+  /**
+   * Reports the outcome of a failed attempt to {@code outcome}, retrying it if {@code t} is a
+   * transient failure.
+   */
+  public static void onFailure(Retrier.Outcome outcome, Throwable t) {
+    long delayNanos = getRetryDelayNanos(t);
+    if (delayNanos == NOT_RETRYABLE) {
+      outcome.fail();
+    } else {
+      outcome.retry(delayNanos);
+    }
+  }
+
+  // Returns the delay of the RetryInfo in the status details, or NOT_RETRYABLE if there's none.
+  private static long getServerDelayNanos(Throwable t) {
+    com.google.rpc.Status status = StatusProto.fromThrowable(t);
+    if (status == null) {
+      return NOT_RETRYABLE;
+    }
+    for (Any detail : status.getDetailsList()) {
+      RetryInfo retryInfo = unpackRetryInfo(detail);
+      if (retryInfo != null && retryInfo.hasRetryDelay()) {
+        com.google.protobuf.Duration delay = retryInfo.getRetryDelay();
+        return Math.max(0, TimeUnit.SECONDS.toNanos(delay.getSeconds()) + delay.getNanos());
+      }
+    }
+    return NOT_RETRYABLE;
+  }
+
+  @Nullable
+  private static RetryInfo unpackRetryInfo(Any detail) {
+    if (!detail.is(RetryInfo.class)) {
+      return null;
+    }
+    try {
+      return detail.unpack(RetryInfo.class);
+    } catch (InvalidProtocolBufferException e) {
+      return null;
+    }
+  }
+
+  private GrpcRetries() {}
+}
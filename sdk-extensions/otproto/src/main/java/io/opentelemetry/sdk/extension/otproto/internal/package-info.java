@@ -0,0 +1,10 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/** Classes for internal use. Anything in this package can be changed or removed at any time. */
+@ParametersAreNonnullByDefault
+package io.opentelemetry.sdk.extension.otproto.internal;
+
+import javax.annotation.ParametersAreNonnullByDefault;
@@ -8,8 +8,11 @@ package io.opentelemetry.sdk.extension.otproto;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.google.protobuf.ByteString;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceId;
+import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.proto.trace.v1.ConstantSampler;
 import io.opentelemetry.proto.trace.v1.ConstantSampler.ConstantDecision;
 import io.opentelemetry.proto.trace.v1.TraceIdRatioBased;
@@ -46,6 +49,20 @@ class TraceProtoUtilsTest {
     assertThat(TraceProtoUtils.toProtoSpanId(SpanId.bytesToHex(SPAN_ID_BYTES))).isEqualTo(expected);
   }
 
+  @Test
+  void toProtoIds_fromSpanContext() {
+    SpanContext spanContext =
+        SpanContext.create(
+            TraceId.bytesToHex(TRACE_ID_BYTES),
+            SpanId.bytesToHex(SPAN_ID_BYTES),
+            TraceFlags.getDefault(),
+            TraceState.getDefault());
+    assertThat(TraceProtoUtils.toProtoTraceId(spanContext))
+        .isEqualTo(ByteString.copyFrom(TRACE_ID_BYTES));
+    assertThat(TraceProtoUtils.toProtoSpanId(spanContext))
+        .isEqualTo(ByteString.copyFrom(SPAN_ID_BYTES));
+  }
+
   @Test
   void traceConfigFromProto() {
     TraceConfig traceConfig = TraceProtoUtils.traceConfigFromProto(TRACE_CONFIG_PROTO);
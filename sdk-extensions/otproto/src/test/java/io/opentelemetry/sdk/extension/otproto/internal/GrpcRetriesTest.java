@@ -0,0 +1,67 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.otproto.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.Duration;
+import com.google.rpc.Code;
+import com.google.rpc.RetryInfo;
+import io.grpc.Status;
+import io.grpc.protobuf.StatusProto;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class GrpcRetriesTest {
+
+  @Test
+  void retryableCodes() {
+    assertThat(GrpcRetries.getRetryDelayNanos(Status.CANCELLED.asRuntimeException())).isZero();
+    assertThat(GrpcRetries.getRetryDelayNanos(Status.DEADLINE_EXCEEDED.asRuntimeException()))
+        .isZero();
+    assertThat(GrpcRetries.getRetryDelayNanos(Status.ABORTED.asRuntimeException())).isZero();
+    assertThat(GrpcRetries.getRetryDelayNanos(Status.OUT_OF_RANGE.asRuntimeException())).isZero();
+    assertThat(GrpcRetries.getRetryDelayNanos(Status.UNAVAILABLE.asRuntimeException())).isZero();
+    assertThat(GrpcRetries.getRetryDelayNanos(Status.DATA_LOSS.asException())).isZero();
+  }
+
+  @Test
+  void nonRetryableCodes() {
+    assertThat(GrpcRetries.getRetryDelayNanos(Status.PERMISSION_DENIED.asRuntimeException()))
+        .isEqualTo(GrpcRetries.NOT_RETRYABLE);
+    assertThat(GrpcRetries.getRetryDelayNanos(Status.INVALID_ARGUMENT.asRuntimeException()))
+        .isEqualTo(GrpcRetries.NOT_RETRYABLE);
+    assertThat(GrpcRetries.getRetryDelayNanos(new IllegalStateException("fail")))
+        .isEqualTo(GrpcRetries.NOT_RETRYABLE);
+    // Only retryable when the server says when to retry.
+    assertThat(GrpcRetries.getRetryDelayNanos(Status.RESOURCE_EXHAUSTED.asRuntimeException()))
+        .isEqualTo(GrpcRetries.NOT_RETRYABLE);
+  }
+
+  @Test
+  void retryInfo() {
+    assertThat(GrpcRetries.getRetryDelayNanos(withRetryDelay(Code.UNAVAILABLE, 2, 500)))
+        .isEqualTo(TimeUnit.SECONDS.toNanos(2) + 500);
+    assertThat(GrpcRetries.getRetryDelayNanos(withRetryDelay(Code.RESOURCE_EXHAUSTED, 1, 0)))
+        .isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    assertThat(GrpcRetries.getRetryDelayNanos(withRetryDelay(Code.PERMISSION_DENIED, 1, 0)))
+        .isEqualTo(GrpcRetries.NOT_RETRYABLE);
+  }
+
+  private static Throwable withRetryDelay(Code code, long seconds, int nanos) {
+    return StatusProto.toStatusRuntimeException(
+        com.google.rpc.Status.newBuilder()
+            .setCode(code.getNumber())
+            .addDetails(
+                Any.pack(
+                    RetryInfo.newBuilder()
+                        .setRetryDelay(
+                            Duration.newBuilder().setSeconds(seconds).setNanos(nanos).build())
+                        .build()))
+            .build());
+  }
+}
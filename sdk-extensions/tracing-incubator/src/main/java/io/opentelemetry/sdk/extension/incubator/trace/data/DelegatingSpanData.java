@@ -55,6 +55,11 @@ public abstract class DelegatingSpanData implements SpanData {
     this.delegate = requireNonNull(delegate, "delegate");
   }
 
+  @Override
+  public SpanContext getSpanContext() {
+    return delegate.getSpanContext();
+  }
+
   @Override
   public String getTraceId() {
     return delegate.getTraceId();
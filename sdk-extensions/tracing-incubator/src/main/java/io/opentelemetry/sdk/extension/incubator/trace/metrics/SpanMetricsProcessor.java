@@ -0,0 +1,265 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.BoundDoubleValueRecorder;
+import io.opentelemetry.api.metrics.BoundLongCounter;
+import io.opentelemetry.api.metrics.DoubleValueRecorder;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link SpanProcessor} which records the rate, errors and duration of the spans that end, in the
+ * {@code spans} counter and the {@code spanDuration} value recorder (in milliseconds). Both are
+ * labeled with the name, kind and status code of the span.
+ *
+ * <p>The number of distinct span names is bounded, spans with names beyond the bound are recorded
+ * under {@value #OTHER_SPAN_NAME}. The instruments are bound once per span name, kind and status
+ * code, so recording a span only takes a lookup of its name.
+ *
+ * <p>Only recorded spans reach span processors. To derive metrics from every span while exporting
+ * only sampled ones, wrap the sampler with {@link #recordAll(Sampler)}: spans it would drop are
+ * recorded without being sampled, and as such are not exported by the {@link
+ * io.opentelemetry.sdk.trace.export.BatchSpanProcessor}.
+ */
+public final class SpanMetricsProcessor implements SpanProcessor {
+
+  /** The span name label value of the spans with names beyond the configured maximum. */
+  public static final String OTHER_SPAN_NAME = "_other";
+
+  private static final String SPAN_NAME_LABEL = "spanName";
+  private static final String SPAN_KIND_LABEL = "spanKind";
+  private static final String STATUS_CODE_LABEL = "statusCode";
+  private static final Span.Kind[] KINDS = Span.Kind.values();
+  private static final StatusCode[] STATUS_CODES = StatusCode.values();
+  private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final LongCounter spans;
+  private final DoubleValueRecorder spanDuration;
+  private final int maxSpanNames;
+  private final ConcurrentMap<String, SpanNameInstruments> instruments = new ConcurrentHashMap<>();
+  private final SpanNameInstruments otherInstruments;
+
+  /**
+   * Returns a new {@link SpanMetricsProcessorBuilder} to construct a {@link SpanMetricsProcessor}.
+   *
+   * @return a new {@link SpanMetricsProcessorBuilder}.
+   */
+  public static SpanMetricsProcessorBuilder builder() {
+    return new SpanMetricsProcessorBuilder();
+  }
+
+  /**
+   * Returns a {@link Sampler} which samples the same spans as the given {@code sampler}, and
+   * records the spans it would drop, so that they reach the {@link SpanMetricsProcessor}.
+   *
+   * @param sampler the {@link Sampler} choosing the spans to sample.
+   * @return a {@link Sampler} recording all spans.
+   */
+  public static Sampler recordAll(Sampler sampler) {
+    return new RecordAllSampler(requireNonNull(sampler, "sampler"));
+  }
+
+  SpanMetricsProcessor(MeterProvider meterProvider, int maxSpanNames) {
+    Meter meter = meterProvider.get("io.opentelemetry.sdk.trace");
+    spans =
+        meter
+            .longCounterBuilder("spans")
+            .setDescription("The number of ended spans")
+            .setUnit("1")
+            .build();
+    spanDuration =
+        meter
+            .doubleValueRecorderBuilder("spanDuration")
+            .setDescription("The duration of ended spans")
+            .setUnit("ms")
+            .build();
+    this.maxSpanNames = maxSpanNames;
+    otherInstruments = new SpanNameInstruments(OTHER_SPAN_NAME);
+  }
+
+  @Override
+  public void onStart(Context parentContext, ReadWriteSpan span) {
+    // Do nothing.
+  }
+
+  @Override
+  public boolean isStartRequired() {
+    return false;
+  }
+
+  @Override
+  public void onEnd(ReadableSpan span) {
+    int index = span.getKind().ordinal() * STATUS_CODES.length;
+    index += span.getStatus().getStatusCode().ordinal();
+    SpanNameInstruments nameInstruments = getInstruments(span.getName());
+    nameInstruments.getCounter(index).add(1);
+    nameInstruments.getRecorder(index).record(span.getLatencyNanos() / NANOS_PER_MILLI);
+  }
+
+  @Override
+  public boolean isEndRequired() {
+    return true;
+  }
+
+  private SpanNameInstruments getInstruments(String spanName) {
+    SpanNameInstruments nameInstruments = instruments.get(spanName);
+    if (nameInstruments != null) {
+      return nameInstruments;
+    }
+    // Concurrent spans with new names may exceed the maximum by a few names.
+    if (instruments.size() >= maxSpanNames) {
+      return otherInstruments;
+    }
+    return instruments.computeIfAbsent(spanName, SpanNameInstruments::new);
+  }
+
+  // The instruments bound for one span name, indexed by span kind and status code, bound when first
+  // used.
+  private final class SpanNameInstruments {
+    private final String spanName;
+    private final AtomicReferenceArray<BoundLongCounter> counters =
+        new AtomicReferenceArray<>(KINDS.length * STATUS_CODES.length);
+    private final AtomicReferenceArray<BoundDoubleValueRecorder> recorders =
+        new AtomicReferenceArray<>(KINDS.length * STATUS_CODES.length);
+
+    private SpanNameInstruments(String spanName) {
+      this.spanName = spanName;
+    }
+
+    private BoundLongCounter getCounter(int index) {
+      BoundLongCounter counter = counters.get(index);
+      if (counter != null) {
+        return counter;
+      }
+      BoundLongCounter bound = spans.bind(labels(index));
+      if (counters.compareAndSet(index, null, bound)) {
+        return bound;
+      }
+      bound.unbind();
+      return counters.get(index);
+    }
+
+    private BoundDoubleValueRecorder getRecorder(int index) {
+      BoundDoubleValueRecorder recorder = recorders.get(index);
+      if (recorder != null) {
+        return recorder;
+      }
+      BoundDoubleValueRecorder bound = spanDuration.bind(labels(index));
+      if (recorders.compareAndSet(index, null, bound)) {
+        return bound;
+      }
+      bound.unbind();
+      return recorders.get(index);
+    }
+
+    private Labels labels(int index) {
+      return Labels.of(
+          SPAN_NAME_LABEL,
+          spanName,
+          SPAN_KIND_LABEL,
+          KINDS[index / STATUS_CODES.length].name(),
+          STATUS_CODE_LABEL,
+          STATUS_CODES[index % STATUS_CODES.length].name());
+    }
+  }
+
+  private static final class RecordAllSampler implements Sampler {
+    private final Sampler delegate;
+
+    private RecordAllSampler(Sampler delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public SamplingResult shouldSample(
+        Context parentContext,
+        String traceId,
+        String name,
+        Span.Kind spanKind,
+        Attributes attributes,
+        List<LinkData> parentLinks) {
+      return record(
+          delegate.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks));
+    }
+
+    @Override
+    public SamplingResult shouldSample(
+        Context parentContext,
+        long traceIdHigh,
+        long traceIdLow,
+        String name,
+        Span.Kind spanKind,
+        Attributes attributes,
+        List<LinkData> parentLinks) {
+      return record(
+          delegate.shouldSample(
+              parentContext, traceIdHigh, traceIdLow, name, spanKind, attributes, parentLinks));
+    }
+
+    private static SamplingResult record(SamplingResult result) {
+      if (result.getDecision() != SamplingDecision.DROP) {
+        return result;
+      }
+      return new RecordOnlyResult(result);
+    }
+
+    @Override
+    public String getDescription() {
+      return "RecordAll{" + delegate.getDescription() + "}";
+    }
+
+    @Override
+    public String toString() {
+      return getDescription();
+    }
+  }
+
+  // Keeps the attributes and trace state of a result dropping the span.
+  private static final class RecordOnlyResult implements SamplingResult {
+    private final SamplingResult delegate;
+
+    private RecordOnlyResult(SamplingResult delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public SamplingDecision getDecision() {
+      return SamplingDecision.RECORD_ONLY;
+    }
+
+    @Override
+    public Attributes getAttributes() {
+      return delegate.getAttributes();
+    }
+
+    @Override
+    public TraceState getUpdatedTraceState(TraceState parentTraceState) {
+      return delegate.getUpdatedTraceState(parentTraceState);
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.metrics;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.metrics.GlobalMetricsProvider;
+import io.opentelemetry.api.metrics.MeterProvider;
+
+/** Builder class for {@link SpanMetricsProcessor}. */
+public final class SpanMetricsProcessorBuilder {
+
+  // Visible for testing
+  static final int DEFAULT_MAX_SPAN_NAMES = 1000;
+
+  private MeterProvider meterProvider = GlobalMetricsProvider.get();
+  private int maxSpanNames = DEFAULT_MAX_SPAN_NAMES;
+
+  SpanMetricsProcessorBuilder() {}
+
+  /**
+   * Sets the {@link MeterProvider} of the instruments the metrics are recorded into. If unset,
+   * defaults to the {@link GlobalMetricsProvider}.
+   *
+   * @param meterProvider the {@link MeterProvider} to use.
+   * @return this.
+   */
+  public SpanMetricsProcessorBuilder setMeterProvider(MeterProvider meterProvider) {
+    this.meterProvider = requireNonNull(meterProvider, "meterProvider");
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of distinct span names used as label values. Spans with other names are
+   * recorded under {@value SpanMetricsProcessor#OTHER_SPAN_NAME}. The default value is {@value
+   * DEFAULT_MAX_SPAN_NAMES}.
+   *
+   * @param maxSpanNames the maximum number of distinct span names.
+   * @return this.
+   */
+  public SpanMetricsProcessorBuilder setMaxSpanNames(int maxSpanNames) {
+    checkArgument(maxSpanNames > 0, "maxSpanNames must be positive.");
+    this.maxSpanNames = maxSpanNames;
+    return this;
+  }
+
+  /**
+   * Returns a new {@link SpanMetricsProcessor} with the values of this builder.
+   *
+   * @return a new {@link SpanMetricsProcessor}.
+   */
+  public SpanMetricsProcessor build() {
+    return new SpanMetricsProcessor(meterProvider, maxSpanNames);
+  }
+}
@@ -0,0 +1,10 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/** Experimental metrics derived from the spans recorded by the SDK. */
+@ParametersAreNonnullByDefault
+package io.opentelemetry.sdk.extension.incubator.trace.metrics;
+
+import javax.annotation.ParametersAreNonnullByDefault;
@@ -0,0 +1,261 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.samplers;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceId;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * A {@link Sampler} which adapts the sampling probability of each operation, i.e. root span name,
+ * to the rate at which its root spans start, without a remote sampling strategy.
+ *
+ * <p>Root spans are counted per operation, and every adaptation interval the probabilities are
+ * recomputed from the smoothed rates so that the budget of traces per second is shared fairly:
+ * operations starting fewer traces than their share are sampled entirely, and the others are
+ * sampled down to an equal rate. On top of that, every operation is guaranteed a minimum number of
+ * sampled traces per second by a rate limiter of its own, so low-volume operations are sampled even
+ * when the hot ones take most of the budget. When the budget doesn't allow for the guaranteed rate
+ * of every operation, the guarantee takes precedence.
+ *
+ * <p>Operations seen for the first time are only sampled at the guaranteed rate until the next
+ * adaptation. Spans with a parent follow the sampling decision of the parent.
+ */
+public final class AdaptiveSampler implements Sampler {
+
+  // Weight of the latest interval in the smoothed rates.
+  private static final double SMOOTHING = 0.5;
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private static final SamplingResult SAMPLED =
+      SamplingResult.create(SamplingDecision.RECORD_AND_SAMPLE);
+  private static final SamplingResult NOT_SAMPLED = SamplingResult.create(SamplingDecision.DROP);
+
+  private final double maxTracesPerSecond;
+  private final double guaranteedTracesPerSecond;
+  private final long adaptationIntervalNanos;
+  private final int maxOperations;
+  private final Clock clock;
+  private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+  // Shared by the root spans with names beyond the maximum number of operations.
+  private final Operation otherOperation;
+  private final AtomicLong nextAdaptationNanos;
+
+  @GuardedBy("this")
+  private long lastAdaptationNanos;
+
+  /**
+   * Returns a new {@link AdaptiveSamplerBuilder} to construct an {@link AdaptiveSampler}.
+   *
+   * @return a new {@link AdaptiveSamplerBuilder}.
+   */
+  public static AdaptiveSamplerBuilder builder() {
+    return new AdaptiveSamplerBuilder();
+  }
+
+  AdaptiveSampler(
+      double maxTracesPerSecond,
+      double guaranteedTracesPerSecond,
+      long adaptationIntervalNanos,
+      int maxOperations,
+      Clock clock) {
+    this.maxTracesPerSecond = maxTracesPerSecond;
+    this.guaranteedTracesPerSecond = guaranteedTracesPerSecond;
+    this.adaptationIntervalNanos = adaptationIntervalNanos;
+    this.maxOperations = maxOperations;
+    this.clock = clock;
+    this.otherOperation = new Operation(guaranteedTracesPerSecond, clock);
+    long now = clock.nanoTime();
+    this.lastAdaptationNanos = now;
+    this.nextAdaptationNanos = new AtomicLong(now + adaptationIntervalNanos);
+  }
+
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      String traceId,
+      String name,
+      Span.Kind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    return shouldSample(parentContext, TraceId.getTraceIdRandomPart(traceId), name);
+  }
+
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      long traceIdHigh,
+      long traceIdLow,
+      String name,
+      Span.Kind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    // The low bytes are the random part of the trace id.
+    return shouldSample(parentContext, traceIdLow, name);
+  }
+
+  private SamplingResult shouldSample(Context parentContext, long traceIdRandomPart, String name) {
+    maybeAdapt();
+    SpanContext parentSpanContext = Span.fromContext(parentContext).getSpanContext();
+    if (parentSpanContext.isValid()) {
+      return parentSpanContext.isSampled() ? SAMPLED : NOT_SAMPLED;
+    }
+    Operation operation = getOperation(name);
+    operation.arrivals.increment();
+    return operation.shouldSample(traceIdRandomPart) ? SAMPLED : NOT_SAMPLED;
+  }
+
+  private Operation getOperation(String name) {
+    Operation operation = operations.get(name);
+    if (operation != null) {
+      return operation;
+    }
+    // Concurrent root spans with new names may exceed the maximum by a few operations.
+    if (operations.size() >= maxOperations) {
+      return otherOperation;
+    }
+    return operations.computeIfAbsent(
+        name, unused -> new Operation(guaranteedTracesPerSecond, clock));
+  }
+
+  private void maybeAdapt() {
+    long now = clock.nanoTime();
+    long next = nextAdaptationNanos.get();
+    if (now - next >= 0 && nextAdaptationNanos.compareAndSet(next, now + adaptationIntervalNanos)) {
+      adapt(now);
+    }
+  }
+
+  private synchronized void adapt(long now) {
+    double elapsedSeconds = Math.max(1, now - lastAdaptationNanos) / NANOS_PER_SECOND;
+    lastAdaptationNanos = now;
+
+    List<Operation> active = new ArrayList<>(operations.size() + 1);
+    Iterator<Operation> it = operations.values().iterator();
+    while (it.hasNext()) {
+      Operation operation = it.next();
+      long arrivals = operation.arrivals.sumThenReset();
+      operation.updateRate(arrivals / elapsedSeconds);
+      // Forget operations which went quiet, so that their slots can be reused.
+      if (arrivals == 0 && operation.rate * elapsedSeconds < 1) {
+        it.remove();
+      } else {
+        active.add(operation);
+      }
+    }
+    otherOperation.updateRate(otherOperation.arrivals.sumThenReset() / elapsedSeconds);
+    active.add(otherOperation);
+
+    double maxRatePerOperation = getMaxRatePerOperation(active);
+    for (Operation operation : active) {
+      if (maxRatePerOperation < guaranteedTracesPerSecond) {
+        // Not enough budget for the guaranteed rate of every operation, which takes precedence.
+        operation.setProbability(0);
+      } else if (operation.rate <= maxRatePerOperation) {
+        operation.setProbability(1);
+      } else {
+        operation.setProbability(maxRatePerOperation / operation.rate);
+      }
+    }
+  }
+
+  // Returns the rate to which operations are sampled down, so that the rates of the other
+  // operations plus that rate for each of the sampled down ones add up to the budget, or infinity
+  // if all of them fit in the budget.
+  @GuardedBy("this")
+  private double getMaxRatePerOperation(List<Operation> active) {
+    double[] rates = new double[active.size()];
+    for (int i = 0; i < rates.length; i++) {
+      rates[i] = active.get(i).rate;
+    }
+    Arrays.sort(rates);
+    double remaining = maxTracesPerSecond;
+    for (int i = 0; i < rates.length; i++) {
+      double share = remaining / (rates.length - i);
+      if (rates[i] > share) {
+        return share;
+      }
+      remaining -= rates[i];
+    }
+    return Double.POSITIVE_INFINITY;
+  }
+
+  // Visible for testing
+  @Nullable
+  Double getProbability(String name) {
+    Operation operation = operations.get(name);
+    return operation == null ? null : operation.probability;
+  }
+
+  // Visible for testing
+  double getOtherProbability() {
+    return otherOperation.probability;
+  }
+
+  @Override
+  public String getDescription() {
+    return String.format(
+        "AdaptiveSampler{maxTracesPerSecond=%.2f, guaranteedTracesPerSecond=%.4f}",
+        maxTracesPerSecond, guaranteedTracesPerSecond);
+  }
+
+  @Override
+  public String toString() {
+    return getDescription();
+  }
+
+  private static final class Operation {
+    // Striped, so that concurrent root spans of the same operation don't contend.
+    private final LongAdder arrivals = new LongAdder();
+    private final RateLimiter guaranteed;
+    // Traces per second, only accessed by the adapting thread.
+    private double rate = -1;
+    private volatile double probability = 0;
+    private volatile long idUpperBound = Long.MIN_VALUE;
+
+    private Operation(double guaranteedTracesPerSecond, Clock clock) {
+      this.guaranteed =
+          new RateLimiter(
+              guaranteedTracesPerSecond, Math.max(1.0, guaranteedTracesPerSecond), clock);
+    }
+
+    private void updateRate(double latestRate) {
+      rate = rate < 0 ? latestRate : rate + SMOOTHING * (latestRate - rate);
+    }
+
+    private void setProbability(double probability) {
+      this.probability = probability;
+      idUpperBound = TraceIdRatio.getIdUpperBound(probability);
+    }
+
+    private boolean shouldSample(long traceIdRandomPart) {
+      if (TraceIdRatio.isKept(traceIdRandomPart, idUpperBound)) {
+        // Take the credit anyway, so that the rate limiter only makes up for a lower rate.
+        guaranteed.checkCredit(1.0);
+        return true;
+      }
+      return guaranteed.checkCredit(1.0);
+    }
+  }
+}
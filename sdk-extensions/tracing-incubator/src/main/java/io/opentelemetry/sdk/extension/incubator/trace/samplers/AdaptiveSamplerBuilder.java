@@ -0,0 +1,122 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.samplers;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.SystemClock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/** Builder class for {@link AdaptiveSampler}. */
+public final class AdaptiveSamplerBuilder {
+
+  // Visible for testing
+  static final double DEFAULT_MAX_TRACES_PER_SECOND = 100;
+  // Visible for testing
+  static final double DEFAULT_GUARANTEED_TRACES_PER_SECOND = 1.0 / 60;
+  // Visible for testing
+  static final long DEFAULT_ADAPTATION_INTERVAL_MILLIS = 10_000;
+  // Visible for testing
+  static final int DEFAULT_MAX_OPERATIONS = 2000;
+
+  private double maxTracesPerSecond = DEFAULT_MAX_TRACES_PER_SECOND;
+  private double guaranteedTracesPerSecond = DEFAULT_GUARANTEED_TRACES_PER_SECOND;
+  private long adaptationIntervalNanos =
+      TimeUnit.MILLISECONDS.toNanos(DEFAULT_ADAPTATION_INTERVAL_MILLIS);
+  private int maxOperations = DEFAULT_MAX_OPERATIONS;
+  private Clock clock = SystemClock.getInstance();
+
+  AdaptiveSamplerBuilder() {}
+
+  /**
+   * Sets the number of traces per second the sampler aims to sample across all operations. The
+   * default value is {@value DEFAULT_MAX_TRACES_PER_SECOND}.
+   *
+   * @param maxTracesPerSecond the number of sampled traces per second.
+   * @return this.
+   */
+  public AdaptiveSamplerBuilder setMaxTracesPerSecond(double maxTracesPerSecond) {
+    checkArgument(maxTracesPerSecond > 0, "maxTracesPerSecond must be positive.");
+    this.maxTracesPerSecond = maxTracesPerSecond;
+    return this;
+  }
+
+  /**
+   * Sets the number of traces per second sampled for every operation, however low its share of the
+   * budget. The default value is one trace per minute.
+   *
+   * @param guaranteedTracesPerSecond the number of traces per second sampled for every operation.
+   * @return this.
+   */
+  public AdaptiveSamplerBuilder setGuaranteedTracesPerSecond(double guaranteedTracesPerSecond) {
+    checkArgument(guaranteedTracesPerSecond > 0, "guaranteedTracesPerSecond must be positive.");
+    this.guaranteedTracesPerSecond = guaranteedTracesPerSecond;
+    return this;
+  }
+
+  /**
+   * Sets how often the sampling probabilities are recomputed from the observed rates. The default
+   * value is {@value DEFAULT_ADAPTATION_INTERVAL_MILLIS}ms.
+   *
+   * @param interval the interval between two adaptations.
+   * @param unit the unit of {@code interval}.
+   * @return this.
+   */
+  public AdaptiveSamplerBuilder setAdaptationInterval(long interval, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(interval > 0, "interval must be positive");
+    this.adaptationIntervalNanos = unit.toNanos(interval);
+    return this;
+  }
+
+  /**
+   * Sets how often the sampling probabilities are recomputed from the observed rates. The default
+   * value is {@value DEFAULT_ADAPTATION_INTERVAL_MILLIS}ms.
+   *
+   * @param interval the interval between two adaptations.
+   * @return this.
+   */
+  public AdaptiveSamplerBuilder setAdaptationInterval(Duration interval) {
+    requireNonNull(interval, "interval");
+    return setAdaptationInterval(interval.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Sets the maximum number of operations, i.e. span names, tracked separately. Root spans with
+   * other names share a single entry. The default value is {@value DEFAULT_MAX_OPERATIONS}.
+   *
+   * @param maxOperations the maximum number of operations.
+   * @return this.
+   */
+  public AdaptiveSamplerBuilder setMaxOperations(int maxOperations) {
+    checkArgument(maxOperations > 0, "maxOperations must be positive.");
+    this.maxOperations = maxOperations;
+    return this;
+  }
+
+  // Visible for testing
+  AdaptiveSamplerBuilder setClock(Clock clock) {
+    this.clock = requireNonNull(clock, "clock");
+    return this;
+  }
+
+  /**
+   * Returns a new {@link AdaptiveSampler} with the values of this builder.
+   *
+   * @return a new {@link AdaptiveSampler}.
+   */
+  public AdaptiveSampler build() {
+    return new AdaptiveSampler(
+        maxTracesPerSecond,
+        guaranteedTracesPerSecond,
+        adaptationIntervalNanos,
+        maxOperations,
+        clock);
+  }
+}
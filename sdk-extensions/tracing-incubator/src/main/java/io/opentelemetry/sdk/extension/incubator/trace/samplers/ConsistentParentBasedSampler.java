@@ -0,0 +1,34 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.samplers;
+
+import java.util.function.LongSupplier;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A {@link ConsistentSampler} following the p-value of the parent span, or the sampled flag of the
+ * parent if it has no p-value. Root spans are sampled by the root sampler.
+ */
+@Immutable
+final class ConsistentParentBasedSampler extends ConsistentSampler {
+
+  private final ConsistentSampler rootSampler;
+
+  ConsistentParentBasedSampler(ConsistentSampler rootSampler, LongSupplier randomSource) {
+    super(randomSource);
+    this.rootSampler = rootSampler;
+  }
+
+  @Override
+  int getP(int parentP, boolean isRoot) {
+    return isRoot ? rootSampler.getP(parentP, true) : parentP;
+  }
+
+  @Override
+  public String getDescription() {
+    return "ConsistentParentBasedSampler{" + rootSampler.getDescription() + "}";
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.samplers;
+
+import java.util.function.LongSupplier;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A {@link ConsistentSampler} sampling spans with a fixed probability, regardless of their parent.
+ */
+@Immutable
+final class ConsistentProbabilityBasedSampler extends ConsistentSampler {
+
+  private final double probability;
+  // The p-values between which the sampler chooses, and the probability of choosing the lower one.
+  private final int lowerP;
+  private final int upperP;
+  private final double lowerPProbability;
+
+  ConsistentProbabilityBasedSampler(double probability, LongSupplier randomSource) {
+    super(randomSource);
+    if (probability < 0.0 || probability > 1.0) {
+      throw new IllegalArgumentException("probability must be in range [0.0, 1.0]");
+    }
+    this.probability = probability;
+    if (probability <= Math.scalb(1.0, -OtelTraceState.MAX_R)) {
+      // Below the smallest probability that can be recorded, choose between it and zero.
+      lowerP = OtelTraceState.MAX_R;
+      upperP = OtelTraceState.MAX_P;
+      lowerPProbability = probability * Math.scalb(1.0, OtelTraceState.MAX_R);
+    } else {
+      // 2^-lowerP >= probability > 2^-upperP
+      lowerP = -Math.getExponent(probability) - (isPowerOfTwo(probability) ? 0 : 1);
+      upperP = lowerP + 1;
+      lowerPProbability = probability * Math.scalb(1.0, upperP) - 1;
+    }
+  }
+
+  private static boolean isPowerOfTwo(double value) {
+    return Math.scalb(1.0, Math.getExponent(value)) == value;
+  }
+
+  @Override
+  int getP(int parentP, boolean isRoot) {
+    if (lowerPProbability >= 1) {
+      return lowerP;
+    }
+    if (lowerPProbability <= 0) {
+      return upperP;
+    }
+    // The upper 53 bits as a double between 0 (inclusive) and 1 (exclusive).
+    double random = (getRandomSource().getAsLong() >>> 11) * 0x1.0p-53;
+    return random < lowerPProbability ? lowerP : upperP;
+  }
+
+  @Override
+  public String getDescription() {
+    return String.format("ConsistentProbabilityBasedSampler{%.6f}", probability);
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.samplers;
+
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link Sampler} making consistent probability sampling decisions, which it records in the
+ * {@code ot} entry of the trace state so that the probability of every sampled span is known
+ * downstream.
+ *
+ * <p>Sampling probabilities are powers of two, {@code 2^-p} for a p-value between 0 and 62, or zero
+ * for a p-value of 63. Each trace carries a random r-value in its trace state, drawn once at its
+ * root such that {@code r >= k} with probability {@code 2^-k}. A span is sampled if its p-value is
+ * not larger than the r-value of its trace, so spans sampled with a probability are always sampled
+ * with a higher probability too, whichever service samples them. The p-value of sampled spans is
+ * kept in the trace state, from which {@link #getAdjustedCount(SpanContext)} returns the number of
+ * spans each sampled span stands for.
+ *
+ * <p>{@link #parentBased(ConsistentSampler)} follows the decision and keeps the p-value of the
+ * parent, as does {@link Sampler#parentBased(Sampler)} with a {@link ConsistentSampler} root, since
+ * its delegates keep the trace state of the parent. A p-value which contradicts the sampled flag of
+ * the parent is removed, the adjusted count of such spans is then unknown.
+ */
+public abstract class ConsistentSampler implements Sampler {
+
+  private final LongSupplier randomSource;
+
+  /**
+   * Returns a {@link ConsistentSampler} which samples all spans, with a p-value of 0.
+   *
+   * @return a {@link ConsistentSampler} which samples all spans.
+   */
+  public static ConsistentSampler alwaysOn() {
+    return probabilityBased(1.0);
+  }
+
+  /**
+   * Returns a {@link ConsistentSampler} which samples no span, with a p-value of 63.
+   *
+   * @return a {@link ConsistentSampler} which samples no span.
+   */
+  public static ConsistentSampler alwaysOff() {
+    return probabilityBased(0.0);
+  }
+
+  /**
+   * Returns a {@link ConsistentSampler} which samples spans with the given probability. Other
+   * probabilities than powers of two are achieved by choosing between the two nearest p-values at
+   * random, so that on average spans are sampled with the given probability.
+   *
+   * @param probability the sampling probability, between 0 and 1.
+   * @return a {@link ConsistentSampler} which samples spans with the given probability.
+   * @throws IllegalArgumentException if the probability is not between 0 and 1.
+   */
+  public static ConsistentSampler probabilityBased(double probability) {
+    return new ConsistentProbabilityBasedSampler(probability, DefaultRandom.INSTANCE);
+  }
+
+  /**
+   * Returns a {@link ConsistentSampler} which follows the decision and p-value of the parent span,
+   * if any, and otherwise uses the given {@code rootSampler}.
+   *
+   * @param rootSampler the {@link ConsistentSampler} used for root spans.
+   * @return a parent based {@link ConsistentSampler}.
+   */
+  public static ConsistentSampler parentBased(ConsistentSampler rootSampler) {
+    return new ConsistentParentBasedSampler(
+        requireNonNull(rootSampler, "rootSampler"), DefaultRandom.INSTANCE);
+  }
+
+  /**
+   * Returns the number of spans a span stands for, given the p-value in its trace state: {@code
+   * 2^p} if the span is sampled, or zero if it isn't. Returns {@link Double#NaN} for sampled spans
+   * without a valid p-value, whose sampling probability is unknown.
+   *
+   * @param spanContext the {@link SpanContext} of the span.
+   * @return the adjusted count of the span.
+   */
+  public static double getAdjustedCount(SpanContext spanContext) {
+    if (!spanContext.isSampled()) {
+      return 0;
+    }
+    OtelTraceState state =
+        OtelTraceState.parse(spanContext.getTraceState().get(OtelTraceState.TRACE_STATE_KEY));
+    int p = state.getP();
+    if (!OtelTraceState.isValidP(p)) {
+      return Double.NaN;
+    }
+    return p == OtelTraceState.MAX_P ? 0 : Math.scalb(1.0, p);
+  }
+
+  ConsistentSampler(LongSupplier randomSource) {
+    this.randomSource = randomSource;
+  }
+
+  /**
+   * Returns the p-value of a span, or {@link OtelTraceState#INVALID} to follow the sampled flag of
+   * the parent without recording a p-value.
+   *
+   * @param parentP the p-value of the parent, or {@link OtelTraceState#INVALID} if none.
+   * @param isRoot whether the span is a root span.
+   */
+  abstract int getP(int parentP, boolean isRoot);
+
+  final LongSupplier getRandomSource() {
+    return randomSource;
+  }
+
+  @Override
+  public final SamplingResult shouldSample(
+      Context parentContext,
+      String traceId,
+      String name,
+      Span.Kind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    return shouldSample(parentContext);
+  }
+
+  @Override
+  public final SamplingResult shouldSample(
+      Context parentContext,
+      long traceIdHigh,
+      long traceIdLow,
+      String name,
+      Span.Kind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    return shouldSample(parentContext);
+  }
+
+  private SamplingResult shouldSample(Context parentContext) {
+    SpanContext parentSpanContext = Span.fromContext(parentContext).getSpanContext();
+    boolean isRoot = !parentSpanContext.isValid();
+    boolean isParentSampled = parentSpanContext.isSampled();
+
+    OtelTraceState state =
+        OtelTraceState.parse(parentSpanContext.getTraceState().get(OtelTraceState.TRACE_STATE_KEY));
+    if (isRoot || !OtelTraceState.isValidR(state.getR())) {
+      // A p-value is meaningless without the r-value it was compared to.
+      state.invalidateP();
+      state.setR(generateR());
+    } else if (OtelTraceState.isValidP(state.getP())
+        && (state.getP() <= state.getR()) != isParentSampled) {
+      state.invalidateP();
+    }
+
+    int p = getP(state.getP(), isRoot);
+    boolean isSampled;
+    if (OtelTraceState.isValidP(p)) {
+      isSampled = p <= state.getR();
+      if (isSampled) {
+        state.setP(p);
+      } else {
+        state.invalidateP();
+      }
+    } else {
+      isSampled = isParentSampled;
+      state.invalidateP();
+    }
+    return new ConsistentSamplingResult(
+        isSampled ? SamplingDecision.RECORD_AND_SAMPLE : SamplingDecision.DROP, state.serialize());
+  }
+
+  // Geometrically distributed: r >= k with probability 2^-k, capped to the maximum r-value.
+  private int generateR() {
+    return Math.min(OtelTraceState.MAX_R, Long.numberOfLeadingZeros(randomSource.getAsLong()));
+  }
+
+  @Override
+  public final String toString() {
+    return getDescription();
+  }
+
+  private static final class ConsistentSamplingResult implements SamplingResult {
+    private final SamplingDecision decision;
+    private final String otelTraceState;
+
+    private ConsistentSamplingResult(SamplingDecision decision, String otelTraceState) {
+      this.decision = decision;
+      this.otelTraceState = otelTraceState;
+    }
+
+    @Override
+    public SamplingDecision getDecision() {
+      return decision;
+    }
+
+    @Override
+    public Attributes getAttributes() {
+      return Attributes.empty();
+    }
+
+    @Override
+    public TraceState getUpdatedTraceState(TraceState parentTraceState) {
+      return parentTraceState.toBuilder()
+          .set(OtelTraceState.TRACE_STATE_KEY, otelTraceState)
+          .build();
+    }
+  }
+
+  private enum DefaultRandom implements LongSupplier {
+    INSTANCE;
+
+    @Override
+    public long getAsLong() {
+      return ThreadLocalRandom.current().nextLong();
+    }
+  }
+}
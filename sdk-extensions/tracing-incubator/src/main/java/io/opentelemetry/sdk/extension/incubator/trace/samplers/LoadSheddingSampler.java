@@ -0,0 +1,299 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.samplers;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.GlobalMetricsProvider;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceId;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.TraceStateBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.export.ExportPressure;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * A {@link Sampler} which sheds traces sampled by a delegate while the export pipeline they end up
+ * in, e.g. a {@link io.opentelemetry.sdk.trace.export.BatchSpanProcessor}, is overloaded, so that
+ * spans are dropped at the start of traces instead of at random when the export queue is full.
+ *
+ * <p>Every adjustment interval, the sampler checks the {@link ExportPressure} of the pipeline. The
+ * ratio of kept traces is halved, down to the minimum ratio, as long as the export queue is filled
+ * above the high ratio, exports take longer than the maximum latency or spans were dropped since
+ * the last check. It is doubled again, up to 1, once the queue is filled below the low ratio,
+ * exports take less than half of the maximum latency and no span was dropped. In between, the ratio
+ * is left as it is.
+ *
+ * <p>Traces are kept based on their trace id, so that services shedding load with the same ratio
+ * keep the same traces. The ratio only applies to spans without a local parent: spans with a local
+ * parent follow the delegate, which usually follows the parent, so that kept traces are complete.
+ * The current ratio is reported by the {@code loadSheddingSamplingRatio} metric, which holds the
+ * lowest ratio if there are several load shedding samplers.
+ *
+ * <p>Shed spans keep the attributes and the trace state of the delegate. Shedding isn't a
+ * consistent probability, so while traces are shed, the p-value of a {@link ConsistentSampler}
+ * delegate is removed from the trace state of new traces, whose adjusted count is then unknown.
+ */
+public final class LoadSheddingSampler implements Sampler {
+
+  private static final Logger logger = Logger.getLogger(LoadSheddingSampler.class.getName());
+
+  // A meter keeps only the first observer registered with a name, so a single observer reports the
+  // ratio of all the samplers. Samplers have no lifecycle, they are dropped once garbage collected.
+  @GuardedBy("liveSamplers")
+  private static final Set<LoadSheddingSampler> liveSamplers =
+      Collections.newSetFromMap(new WeakHashMap<>());
+
+  private static final AtomicBoolean ratioObserverRegistered = new AtomicBoolean();
+
+  private final Sampler delegate;
+  private final ExportPressure exportPressure;
+  private final double highQueueFillRatio;
+  private final double lowQueueFillRatio;
+  private final long maxExportLatencyNanos;
+  private final double minRatio;
+  private final long adjustmentIntervalNanos;
+  private final Clock clock;
+  private final AtomicLong nextAdjustmentNanos;
+
+  @GuardedBy("this")
+  private long lastDroppedSpans;
+
+  // Written under the lock, read without it when sampling and for metrics.
+  private volatile double ratio = 1.0;
+  private volatile long idUpperBound = Long.MAX_VALUE;
+
+  /**
+   * Returns a new {@link LoadSheddingSamplerBuilder} to construct a {@link LoadSheddingSampler}
+   * shedding the traces sampled by {@code delegate} based on {@code exportPressure}.
+   *
+   * @param delegate the {@link Sampler} deciding which traces are sampled without overload.
+   * @param exportPressure the {@link ExportPressure} of the pipeline the sampled spans are exported
+   *     with.
+   * @return a new {@link LoadSheddingSamplerBuilder}.
+   */
+  public static LoadSheddingSamplerBuilder builder(
+      Sampler delegate, ExportPressure exportPressure) {
+    return new LoadSheddingSamplerBuilder(delegate, exportPressure);
+  }
+
+  LoadSheddingSampler(
+      Sampler delegate,
+      ExportPressure exportPressure,
+      double highQueueFillRatio,
+      double lowQueueFillRatio,
+      long maxExportLatencyNanos,
+      double minRatio,
+      long adjustmentIntervalNanos,
+      Clock clock) {
+    this.delegate = delegate;
+    this.exportPressure = exportPressure;
+    this.highQueueFillRatio = highQueueFillRatio;
+    this.lowQueueFillRatio = lowQueueFillRatio;
+    this.maxExportLatencyNanos = maxExportLatencyNanos;
+    this.minRatio = minRatio;
+    this.adjustmentIntervalNanos = adjustmentIntervalNanos;
+    this.clock = clock;
+    this.lastDroppedSpans = exportPressure.getDroppedSpans();
+    this.nextAdjustmentNanos = new AtomicLong(clock.nanoTime() + adjustmentIntervalNanos);
+
+    if (ratioObserverRegistered.compareAndSet(false, true)) {
+      GlobalMetricsProvider.getMeter("io.opentelemetry.sdk.trace")
+          .doubleValueObserverBuilder("loadSheddingSamplingRatio")
+          .setDescription("The lowest ratio of sampled traces kept by the load shedding samplers")
+          .setUnit("1")
+          .setUpdater(
+              result -> {
+                double lowestRatio = Double.NaN;
+                synchronized (liveSamplers) {
+                  for (LoadSheddingSampler sampler : liveSamplers) {
+                    if (Double.isNaN(lowestRatio) || sampler.ratio < lowestRatio) {
+                      lowestRatio = sampler.ratio;
+                    }
+                  }
+                }
+                if (!Double.isNaN(lowestRatio)) {
+                  result.observe(lowestRatio, Labels.empty());
+                }
+              })
+          .build();
+    }
+    synchronized (liveSamplers) {
+      liveSamplers.add(this);
+    }
+  }
+
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      String traceId,
+      String name,
+      Span.Kind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    SamplingResult result =
+        delegate.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+    return shed(parentContext, TraceId.getTraceIdRandomPart(traceId), result);
+  }
+
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      long traceIdHigh,
+      long traceIdLow,
+      String name,
+      Span.Kind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    SamplingResult result =
+        delegate.shouldSample(
+            parentContext, traceIdHigh, traceIdLow, name, spanKind, attributes, parentLinks);
+    // The low bytes are the random part of the trace id.
+    return shed(parentContext, traceIdLow, result);
+  }
+
+  private SamplingResult shed(
+      Context parentContext, long traceIdRandomPart, SamplingResult result) {
+    maybeAdjust();
+    if (result.getDecision() != SamplingDecision.RECORD_AND_SAMPLE) {
+      return result;
+    }
+    SpanContext parentSpanContext = Span.fromContext(parentContext).getSpanContext();
+    if (parentSpanContext.isValid() && !parentSpanContext.isRemote()) {
+      return result;
+    }
+    long idUpperBound = this.idUpperBound;
+    if (idUpperBound == Long.MAX_VALUE) {
+      return result;
+    }
+    return new SheddingSamplingResult(
+        TraceIdRatio.isKept(traceIdRandomPart, idUpperBound)
+            ? SamplingDecision.RECORD_AND_SAMPLE
+            : SamplingDecision.DROP,
+        result);
+  }
+
+  private void maybeAdjust() {
+    long now = clock.nanoTime();
+    long next = nextAdjustmentNanos.get();
+    if (now - next >= 0 && nextAdjustmentNanos.compareAndSet(next, now + adjustmentIntervalNanos)) {
+      adjust();
+    }
+  }
+
+  private synchronized void adjust() {
+    double queueFillRatio = exportPressure.getQueueFillRatio();
+    long exportLatencyNanos = exportPressure.getExportLatencyNanos();
+    long droppedSpans = exportPressure.getDroppedSpans();
+    boolean dropped = droppedSpans != lastDroppedSpans;
+    lastDroppedSpans = droppedSpans;
+
+    double newRatio = ratio;
+    if (queueFillRatio >= highQueueFillRatio
+        || exportLatencyNanos >= maxExportLatencyNanos
+        || dropped) {
+      newRatio = Math.max(minRatio, ratio / 2);
+    } else if (queueFillRatio <= lowQueueFillRatio
+        && exportLatencyNanos <= maxExportLatencyNanos / 2) {
+      newRatio = Math.min(1.0, ratio * 2);
+    }
+    if (newRatio == ratio) {
+      return;
+    }
+    if (logger.isLoggable(Level.FINE)) {
+      logger.log(
+          Level.FINE,
+          String.format(
+              "Load shedding sampling ratio changed from %s to %s (queue fill ratio %.2f, export"
+                  + " latency %dms, dropped spans %d)",
+              ratio, newRatio, queueFillRatio, exportLatencyNanos / 1_000_000, droppedSpans));
+    }
+    setRatio(newRatio);
+  }
+
+  @GuardedBy("this")
+  private void setRatio(double ratio) {
+    this.ratio = ratio;
+    idUpperBound = TraceIdRatio.getIdUpperBound(ratio);
+  }
+
+  // Visible for testing
+  double getRatio() {
+    return ratio;
+  }
+
+  @Override
+  public String getDescription() {
+    return String.format(
+        "LoadSheddingSampler{delegate=%s, highQueueFillRatio=%.2f, lowQueueFillRatio=%.2f,"
+            + " maxExportLatencyMillis=%d, minRatio=%.4f}",
+        delegate.getDescription(),
+        highQueueFillRatio,
+        lowQueueFillRatio,
+        maxExportLatencyNanos / 1_000_000,
+        minRatio);
+  }
+
+  @Override
+  public String toString() {
+    return getDescription();
+  }
+
+  // The result of the delegate with the decision of shedding, and without the p-value, which no
+  // longer is the sampling probability.
+  private static final class SheddingSamplingResult implements SamplingResult {
+    private final SamplingDecision decision;
+    private final SamplingResult delegateResult;
+
+    private SheddingSamplingResult(SamplingDecision decision, SamplingResult delegateResult) {
+      this.decision = decision;
+      this.delegateResult = delegateResult;
+    }
+
+    @Override
+    public SamplingDecision getDecision() {
+      return decision;
+    }
+
+    @Override
+    public Attributes getAttributes() {
+      return delegateResult.getAttributes();
+    }
+
+    @Override
+    public TraceState getUpdatedTraceState(TraceState parentTraceState) {
+      TraceState traceState = delegateResult.getUpdatedTraceState(parentTraceState);
+      OtelTraceState state = OtelTraceState.parse(traceState.get(OtelTraceState.TRACE_STATE_KEY));
+      if (!OtelTraceState.isValidP(state.getP())) {
+        return traceState;
+      }
+      state.invalidateP();
+      String otelTraceState = state.serialize();
+      TraceStateBuilder builder = traceState.toBuilder();
+      if (otelTraceState.isEmpty()) {
+        builder.remove(OtelTraceState.TRACE_STATE_KEY);
+      } else {
+        builder.set(OtelTraceState.TRACE_STATE_KEY, otelTraceState);
+      }
+      return builder.build();
+    }
+  }
+}
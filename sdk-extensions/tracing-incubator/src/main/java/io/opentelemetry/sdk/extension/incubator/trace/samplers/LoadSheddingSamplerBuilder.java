@@ -0,0 +1,174 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.samplers;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.SystemClock;
+import io.opentelemetry.sdk.trace.export.ExportPressure;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/** Builder class for {@link LoadSheddingSampler}. */
+public final class LoadSheddingSamplerBuilder {
+
+  // Visible for testing
+  static final double DEFAULT_HIGH_QUEUE_FILL_RATIO = 0.8;
+  // Visible for testing
+  static final double DEFAULT_LOW_QUEUE_FILL_RATIO = 0.5;
+  // Visible for testing
+  static final long DEFAULT_MAX_EXPORT_LATENCY_MILLIS = 5_000;
+  // Visible for testing
+  static final double DEFAULT_MIN_RATIO = 0.01;
+  // Visible for testing
+  static final long DEFAULT_ADJUSTMENT_INTERVAL_MILLIS = 1_000;
+
+  private final Sampler delegate;
+  private final ExportPressure exportPressure;
+  private double highQueueFillRatio = DEFAULT_HIGH_QUEUE_FILL_RATIO;
+  private double lowQueueFillRatio = DEFAULT_LOW_QUEUE_FILL_RATIO;
+  private long maxExportLatencyNanos =
+      TimeUnit.MILLISECONDS.toNanos(DEFAULT_MAX_EXPORT_LATENCY_MILLIS);
+  private double minRatio = DEFAULT_MIN_RATIO;
+  private long adjustmentIntervalNanos =
+      TimeUnit.MILLISECONDS.toNanos(DEFAULT_ADJUSTMENT_INTERVAL_MILLIS);
+  private Clock clock = SystemClock.getInstance();
+
+  LoadSheddingSamplerBuilder(Sampler delegate, ExportPressure exportPressure) {
+    this.delegate = requireNonNull(delegate, "delegate");
+    this.exportPressure = requireNonNull(exportPressure, "exportPressure");
+  }
+
+  /**
+   * Sets the fill ratio of the export queue at or above which the sampler sheds more traces. The
+   * default value is {@value DEFAULT_HIGH_QUEUE_FILL_RATIO}.
+   *
+   * @param highQueueFillRatio the fill ratio, between 0 and 1, considered as overload.
+   * @return this.
+   */
+  public LoadSheddingSamplerBuilder setHighQueueFillRatio(double highQueueFillRatio) {
+    checkArgument(
+        highQueueFillRatio > 0 && highQueueFillRatio <= 1,
+        "highQueueFillRatio must be in range (0.0, 1.0]");
+    this.highQueueFillRatio = highQueueFillRatio;
+    return this;
+  }
+
+  /**
+   * Sets the fill ratio of the export queue at or below which the sampler sheds fewer traces,
+   * provided exports are fast and no span was dropped. The default value is {@value
+   * DEFAULT_LOW_QUEUE_FILL_RATIO}.
+   *
+   * @param lowQueueFillRatio the fill ratio, between 0 and 1, considered as recovered.
+   * @return this.
+   */
+  public LoadSheddingSamplerBuilder setLowQueueFillRatio(double lowQueueFillRatio) {
+    checkArgument(
+        lowQueueFillRatio >= 0 && lowQueueFillRatio < 1,
+        "lowQueueFillRatio must be in range [0.0, 1.0)");
+    this.lowQueueFillRatio = lowQueueFillRatio;
+    return this;
+  }
+
+  /**
+   * Sets the average export latency at or above which the sampler sheds more traces. The sampler
+   * sheds fewer traces again once exports take less than half of it. The default value is {@value
+   * DEFAULT_MAX_EXPORT_LATENCY_MILLIS}ms.
+   *
+   * @param latency the export latency considered as overload.
+   * @param unit the unit of {@code latency}.
+   * @return this.
+   */
+  public LoadSheddingSamplerBuilder setMaxExportLatency(long latency, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(latency > 0, "latency must be positive");
+    this.maxExportLatencyNanos = unit.toNanos(latency);
+    return this;
+  }
+
+  /**
+   * Sets the average export latency at or above which the sampler sheds more traces. The sampler
+   * sheds fewer traces again once exports take less than half of it. The default value is {@value
+   * DEFAULT_MAX_EXPORT_LATENCY_MILLIS}ms.
+   *
+   * @param latency the export latency considered as overload.
+   * @return this.
+   */
+  public LoadSheddingSamplerBuilder setMaxExportLatency(Duration latency) {
+    requireNonNull(latency, "latency");
+    return setMaxExportLatency(latency.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Sets the lowest ratio of the traces sampled by the delegate which are kept under overload. The
+   * default value is {@value DEFAULT_MIN_RATIO}.
+   *
+   * @param minRatio the lowest ratio of traces kept, between 0 and 1.
+   * @return this.
+   */
+  public LoadSheddingSamplerBuilder setMinRatio(double minRatio) {
+    checkArgument(minRatio >= 0 && minRatio <= 1, "minRatio must be in range [0.0, 1.0]");
+    this.minRatio = minRatio;
+    return this;
+  }
+
+  /**
+   * Sets how often the export pressure is checked and the ratio of kept traces adjusted. The
+   * default value is {@value DEFAULT_ADJUSTMENT_INTERVAL_MILLIS}ms.
+   *
+   * @param interval the interval between two adjustments.
+   * @param unit the unit of {@code interval}.
+   * @return this.
+   */
+  public LoadSheddingSamplerBuilder setAdjustmentInterval(long interval, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(interval > 0, "interval must be positive");
+    this.adjustmentIntervalNanos = unit.toNanos(interval);
+    return this;
+  }
+
+  /**
+   * Sets how often the export pressure is checked and the ratio of kept traces adjusted. The
+   * default value is {@value DEFAULT_ADJUSTMENT_INTERVAL_MILLIS}ms.
+   *
+   * @param interval the interval between two adjustments.
+   * @return this.
+   */
+  public LoadSheddingSamplerBuilder setAdjustmentInterval(Duration interval) {
+    requireNonNull(interval, "interval");
+    return setAdjustmentInterval(interval.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  // Visible for testing
+  LoadSheddingSamplerBuilder setClock(Clock clock) {
+    this.clock = requireNonNull(clock, "clock");
+    return this;
+  }
+
+  /**
+   * Returns a new {@link LoadSheddingSampler} with the values of this builder.
+   *
+   * @return a new {@link LoadSheddingSampler}.
+   * @throws IllegalArgumentException if the low queue fill ratio isn't below the high one.
+   */
+  public LoadSheddingSampler build() {
+    checkArgument(
+        lowQueueFillRatio < highQueueFillRatio,
+        "lowQueueFillRatio must be less than highQueueFillRatio.");
+    return new LoadSheddingSampler(
+        delegate,
+        exportPressure,
+        highQueueFillRatio,
+        lowQueueFillRatio,
+        maxExportLatencyNanos,
+        minRatio,
+        adjustmentIntervalNanos,
+        clock);
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.samplers;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * The value of the {@code ot} entry of the trace state, a list of {@code key:value} fields
+ * separated by {@code ;}. The {@code p} and {@code r} fields hold the p-value and r-value of
+ * consistent probability sampling, other fields are kept as they are.
+ */
+final class OtelTraceState {
+
+  static final String TRACE_STATE_KEY = "ot";
+
+  static final int INVALID = -1;
+  // A p-value of 63 stands for a probability of zero.
+  static final int MAX_P = 63;
+  static final int MAX_R = 62;
+
+  private int p;
+  private int r;
+  private final List<String> otherFields;
+
+  private OtelTraceState(int p, int r, List<String> otherFields) {
+    this.p = p;
+    this.r = r;
+    this.otherFields = otherFields;
+  }
+
+  /** Parses the value of the {@code ot} trace state entry, ignoring invalid p and r values. */
+  static OtelTraceState parse(@Nullable String value) {
+    int p = INVALID;
+    int r = INVALID;
+    List<String> otherFields = new ArrayList<>();
+    if (value != null) {
+      for (String field : value.split(";", -1)) {
+        if (field.startsWith("p:")) {
+          p = parseValue(field, MAX_P);
+        } else if (field.startsWith("r:")) {
+          r = parseValue(field, MAX_R);
+        } else if (!field.isEmpty()) {
+          otherFields.add(field);
+        }
+      }
+    }
+    return new OtelTraceState(p, r, otherFields);
+  }
+
+  private static int parseValue(String field, int max) {
+    // At most two decimal digits, as in the specification.
+    int length = field.length();
+    if (length < 3 || length > 4) {
+      return INVALID;
+    }
+    int value = 0;
+    for (int i = 2; i < length; i++) {
+      char c = field.charAt(i);
+      if (c < '0' || c > '9') {
+        return INVALID;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value <= max ? value : INVALID;
+  }
+
+  static boolean isValidP(int p) {
+    return p >= 0 && p <= MAX_P;
+  }
+
+  static boolean isValidR(int r) {
+    return r >= 0 && r <= MAX_R;
+  }
+
+  int getP() {
+    return p;
+  }
+
+  int getR() {
+    return r;
+  }
+
+  void setP(int p) {
+    this.p = p;
+  }
+
+  void setR(int r) {
+    this.r = r;
+  }
+
+  void invalidateP() {
+    this.p = INVALID;
+  }
+
+  /** Returns the value of the {@code ot} trace state entry, empty if there are no fields. */
+  String serialize() {
+    StringBuilder sb = new StringBuilder();
+    if (isValidP(p)) {
+      sb.append("p:").append(p);
+    }
+    if (isValidR(r)) {
+      if (sb.length() > 0) {
+        sb.append(';');
+      }
+      sb.append("r:").append(r);
+    }
+    for (String field : otherFields) {
+      if (sb.length() > 0) {
+        sb.append(';');
+      }
+      sb.append(field);
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.samplers;
+
+/**
+ * Keeps traces with a ratio based on the random part of their trace id, the same way as {@link
+ * io.opentelemetry.sdk.trace.samplers.Sampler#traceIdRatioBased(double)}, so that samplers keeping
+ * the same ratio keep the same traces.
+ */
+final class TraceIdRatio {
+
+  /** Returns the bound below which the random part of a trace id is kept with {@code ratio}. */
+  static long getIdUpperBound(double ratio) {
+    // The limits are special cased, to avoid any loss of precision across the double/long
+    // boundaries. Long.MIN_VALUE never keeps a trace, even with a random part of Long.MIN_VALUE,
+    // since Math.abs(Long.MIN_VALUE) == Long.MIN_VALUE.
+    if (ratio <= 0.0) {
+      return Long.MIN_VALUE;
+    }
+    if (ratio >= 1.0) {
+      return Long.MAX_VALUE;
+    }
+    return (long) (ratio * Long.MAX_VALUE);
+  }
+
+  /** Returns whether the trace with {@code traceIdRandomPart} is below {@code idUpperBound}. */
+  static boolean isKept(long traceIdRandomPart, long idUpperBound) {
+    return Math.abs(traceIdRandomPart) < idUpperBound;
+  }
+
+  private TraceIdRatio() {}
+}
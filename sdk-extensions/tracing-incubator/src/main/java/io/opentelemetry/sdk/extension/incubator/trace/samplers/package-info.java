@@ -0,0 +1,10 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/** Experimental {@link io.opentelemetry.sdk.trace.samplers.Sampler} implementations. */
+@ParametersAreNonnullByDefault
+package io.opentelemetry.sdk.extension.incubator.trace.samplers;
+
+import javax.annotation.ParametersAreNonnullByDefault;
@@ -0,0 +1,125 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.sampling;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.GuardedBy;
+
+/** The {@link TailSamplingPolicy} implementations. */
+final class TailSamplingPolicies {
+
+  enum Errors implements TailSamplingPolicy {
+    INSTANCE;
+
+    @Override
+    public boolean shouldKeep(List<SpanData> spans) {
+      for (SpanData span : spans) {
+        if (span.getStatus().getStatusCode() == StatusCode.ERROR) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Errors";
+    }
+  }
+
+  static final class LatencyAbove implements TailSamplingPolicy {
+    private final long latencyNanos;
+
+    LatencyAbove(long latencyNanos) {
+      this.latencyNanos = latencyNanos;
+    }
+
+    @Override
+    public boolean shouldKeep(List<SpanData> spans) {
+      long start = Long.MAX_VALUE;
+      long end = Long.MIN_VALUE;
+      for (SpanData span : spans) {
+        start = Math.min(start, span.getStartEpochNanos());
+        end = Math.max(end, span.getEndEpochNanos());
+      }
+      return !spans.isEmpty() && end - start > latencyNanos;
+    }
+
+    @Override
+    public String getDescription() {
+      return "LatencyAbove{" + TimeUnit.NANOSECONDS.toMillis(latencyNanos) + "ms}";
+    }
+  }
+
+  static final class AttributeEquals<T> implements TailSamplingPolicy {
+    private final AttributeKey<T> key;
+    private final T value;
+
+    AttributeEquals(AttributeKey<T> key, T value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    public boolean shouldKeep(List<SpanData> spans) {
+      for (SpanData span : spans) {
+        if (value.equals(span.getAttributes().get(key))) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public String getDescription() {
+      return "AttributeEquals{" + key.getKey() + "=" + value + "}";
+    }
+  }
+
+  // A token bucket holding up to a second worth of traces.
+  static final class RateLimiting implements TailSamplingPolicy {
+    private final double tracesPerSecond;
+    private final double tracesPerNano;
+    private final double maxBalance;
+
+    @GuardedBy("this")
+    private double balance;
+
+    @GuardedBy("this")
+    private long lastNanos;
+
+    RateLimiting(double tracesPerSecond) {
+      this.tracesPerSecond = tracesPerSecond;
+      this.tracesPerNano = tracesPerSecond / TimeUnit.SECONDS.toNanos(1);
+      this.maxBalance = Math.max(1, tracesPerSecond);
+      this.balance = maxBalance;
+      this.lastNanos = System.nanoTime();
+    }
+
+    @Override
+    public synchronized boolean shouldKeep(List<SpanData> spans) {
+      long now = System.nanoTime();
+      balance = Math.min(maxBalance, balance + (now - lastNanos) * tracesPerNano);
+      lastNanos = now;
+      if (balance < 1) {
+        return false;
+      }
+      balance -= 1;
+      return true;
+    }
+
+    @Override
+    public String getDescription() {
+      return "RateLimiting{" + tracesPerSecond + "}";
+    }
+  }
+
+  private TailSamplingPolicies() {}
+}
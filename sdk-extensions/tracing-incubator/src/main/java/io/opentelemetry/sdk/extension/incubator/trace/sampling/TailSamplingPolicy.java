@@ -0,0 +1,83 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.sampling;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Decides whether a {@link TailSamplingSpanProcessor} keeps a trace, once the spans of the trace
+ * ended. A trace is kept if any of the policies of the processor keeps it.
+ */
+@ThreadSafe
+public interface TailSamplingPolicy {
+
+  /** Returns a {@link TailSamplingPolicy} keeping the traces with a span whose status is error. */
+  static TailSamplingPolicy errors() {
+    return TailSamplingPolicies.Errors.INSTANCE;
+  }
+
+  /**
+   * Returns a {@link TailSamplingPolicy} keeping the traces that took longer than {@code latency},
+   * from the start of their first span to the end of their last span.
+   */
+  static TailSamplingPolicy latencyAbove(long latency, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(latency >= 0, "latency must be non-negative");
+    return new TailSamplingPolicies.LatencyAbove(unit.toNanos(latency));
+  }
+
+  /**
+   * Returns a {@link TailSamplingPolicy} keeping the traces that took longer than {@code latency},
+   * from the start of their first span to the end of their last span.
+   */
+  static TailSamplingPolicy latencyAbove(Duration latency) {
+    requireNonNull(latency, "latency");
+    return latencyAbove(latency.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Returns a {@link TailSamplingPolicy} keeping the traces with a span whose attribute {@code key}
+   * is {@code value}.
+   */
+  static <T> TailSamplingPolicy attributeEquals(AttributeKey<T> key, T value) {
+    return new TailSamplingPolicies.AttributeEquals<>(
+        requireNonNull(key, "key"), requireNonNull(value, "value"));
+  }
+
+  /**
+   * Returns a {@link TailSamplingPolicy} keeping up to {@code tracesPerSecond} traces per second,
+   * whatever their spans. As policies are evaluated in order until one keeps the trace, it should
+   * be added last, so that it only spends its rate on traces no other policy keeps.
+   */
+  static TailSamplingPolicy rateLimiting(double tracesPerSecond) {
+    checkArgument(tracesPerSecond > 0, "tracesPerSecond must be positive.");
+    return new TailSamplingPolicies.RateLimiting(tracesPerSecond);
+  }
+
+  /**
+   * Returns whether to keep the trace made of {@code spans}, the ended spans of a trace recorded by
+   * this process, in the order they ended.
+   *
+   * @param spans the ended spans of the trace.
+   * @return whether to keep the trace.
+   */
+  boolean shouldKeep(List<SpanData> spans);
+
+  /**
+   * Returns the description of this policy, which labels the traces it keeps in metrics.
+   *
+   * @return the description of this policy.
+   */
+  String getDescription();
+}
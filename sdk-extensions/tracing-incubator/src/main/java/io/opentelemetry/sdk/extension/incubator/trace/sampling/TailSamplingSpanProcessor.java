@@ -0,0 +1,431 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.sampling;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.BoundLongCounter;
+import io.opentelemetry.api.metrics.GlobalMetricsProvider;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * A {@link SpanProcessor} which buffers the ended spans of each trace and decides whether to export
+ * the trace as a whole, using the {@link TailSamplingPolicy policies} it was built with. A trace is
+ * kept if any of the policies keeps it.
+ *
+ * <p>A trace is decided when its local root span, the span whose parent is invalid or remote, ends,
+ * or when the decision wait elapsed since its first span ended, whichever comes first. Spans of a
+ * trace ending after it was decided follow the decision, as long as it is remembered. The spans
+ * buffered across all traces are bounded: when the bound is exceeded, the oldest traces are evicted
+ * and decided with the spans they have.
+ *
+ * <p>The decision is only as good as the spans recorded, so the {@link
+ * io.opentelemetry.sdk.trace.SdkTracerProvider} should use a sampler recording every span, such as
+ * {@link io.opentelemetry.sdk.trace.samplers.Sampler#alwaysOn()}, in its {@link
+ * io.opentelemetry.sdk.trace.config.TraceConfig}. Kept traces are handed to the exporter right
+ * away, which should batch on its own or be fast enough to be called for every trace.
+ *
+ * <p>Only the spans ended in this process take part in the decision, so traces spanning several
+ * services may be kept by some of them and dropped by others.
+ */
+public final class TailSamplingSpanProcessor implements SpanProcessor {
+
+  private static final Logger logger = Logger.getLogger(TailSamplingSpanProcessor.class.getName());
+
+  private static final String SWEEPER_THREAD_NAME = "TailSamplingSpanProcessor_Sweeper";
+  private static final String DECISION_LABEL = "decision";
+  private static final long MAX_SWEEP_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(1);
+  // Visible for testing
+  static final int MAX_REMEMBERED_DECISIONS = 8192;
+
+  // A meter keeps only the first observer registered with a name, so a single observer reports the
+  // spans buffered by all the processors that are not shut down.
+  private static final Set<TailSamplingSpanProcessor> liveProcessors =
+      Collections.newSetFromMap(new ConcurrentHashMap<>());
+  private static final AtomicBoolean bufferedSpansObserverRegistered = new AtomicBoolean();
+
+  private final SpanExporter spanExporter;
+  private final List<TailSamplingPolicy> policies;
+  private final long decisionWaitNanos;
+  private final int maxBufferedSpans;
+  private final int maxSpansPerTrace;
+  private final Map<TraceKey, TraceBuffer> traces = new ConcurrentHashMap<>();
+  // Buffers in the order they were created, some of which may already be decided.
+  private final Queue<TraceBuffer> order = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger bufferedSpans = new AtomicInteger();
+  private final DecisionCache decisions = new DecisionCache();
+  private final BoundLongCounter keptTraces;
+  private final BoundLongCounter droppedTraces;
+  private final LongCounter evictedTraces;
+  private final ScheduledExecutorService sweeper;
+  private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+
+  /**
+   * Returns a new {@link TailSamplingSpanProcessorBuilder} to construct a {@link
+   * TailSamplingSpanProcessor} exporting kept traces to the given {@link SpanExporter}.
+   *
+   * @param spanExporter the {@link SpanExporter} to which kept traces are exported.
+   * @return a new {@link TailSamplingSpanProcessorBuilder}.
+   * @throws NullPointerException if the {@code spanExporter} is {@code null}.
+   */
+  public static TailSamplingSpanProcessorBuilder builder(SpanExporter spanExporter) {
+    return new TailSamplingSpanProcessorBuilder(spanExporter);
+  }
+
+  TailSamplingSpanProcessor(
+      SpanExporter spanExporter,
+      List<TailSamplingPolicy> policies,
+      long decisionWaitNanos,
+      int maxBufferedSpans,
+      int maxSpansPerTrace) {
+    this.spanExporter = spanExporter;
+    this.policies = policies;
+    this.decisionWaitNanos = decisionWaitNanos;
+    this.maxBufferedSpans = maxBufferedSpans;
+    this.maxSpansPerTrace = maxSpansPerTrace;
+
+    Meter meter = GlobalMetricsProvider.getMeter("io.opentelemetry.sdk.trace");
+    if (bufferedSpansObserverRegistered.compareAndSet(false, true)) {
+      meter
+          .longValueObserverBuilder("tailSamplingBufferedSpans")
+          .setDescription("The number of spans buffered until their trace is decided")
+          .setUnit("1")
+          .setUpdater(
+              result -> {
+                long total = 0;
+                for (TailSamplingSpanProcessor processor : liveProcessors) {
+                  total += processor.bufferedSpans.get();
+                }
+                result.observe(total, Labels.empty());
+              })
+          .build();
+    }
+    LongCounter decided =
+        meter
+            .longCounterBuilder("tailSamplingTraces")
+            .setDescription("The number of traces decided by the tail sampling processor")
+            .setUnit("1")
+            .build();
+    keptTraces = decided.bind(Labels.of(DECISION_LABEL, "kept"));
+    droppedTraces = decided.bind(Labels.of(DECISION_LABEL, "dropped"));
+    evictedTraces =
+        meter
+            .longCounterBuilder("tailSamplingEvictedTraces")
+            .setDescription(
+                "The number of traces decided early because too many spans were buffered")
+            .setUnit("1")
+            .build();
+
+    ScheduledThreadPoolExecutor executor =
+        new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory(SWEEPER_THREAD_NAME));
+    executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    long period = Math.min(MAX_SWEEP_PERIOD_NANOS, decisionWaitNanos);
+    executor.scheduleWithFixedDelay(this::sweep, period, period, TimeUnit.NANOSECONDS);
+    this.sweeper = executor;
+    liveProcessors.add(this);
+  }
+
+  @Override
+  public void onStart(Context parentContext, ReadWriteSpan span) {
+    // Do nothing.
+  }
+
+  @Override
+  public boolean isStartRequired() {
+    return false;
+  }
+
+  @Override
+  public void onEnd(ReadableSpan span) {
+    if (isShutdown.get()) {
+      return;
+    }
+    SpanData spanData = span.toSpanData();
+    SpanContext spanContext = spanData.getSpanContext();
+    TraceKey key =
+        new TraceKey(
+            spanContext.getTraceIdHighBytesAsLong(), spanContext.getTraceIdLowBytesAsLong());
+    Boolean decision = decisions.get(key);
+    if (decision != null) {
+      if (decision) {
+        export(Collections.singletonList(spanData));
+      }
+      return;
+    }
+
+    boolean isLocalRoot =
+        !spanData.getParentSpanContext().isValid() || spanData.getParentSpanContext().isRemote();
+    while (true) {
+      TraceBuffer buffer = traces.get(key);
+      if (buffer == null) {
+        TraceBuffer created = new TraceBuffer(key, System.nanoTime());
+        buffer = traces.putIfAbsent(key, created);
+        if (buffer == null) {
+          buffer = created;
+          order.add(created);
+        }
+      }
+      int size = buffer.add(spanData);
+      if (size < 0) {
+        // Decided concurrently, follow that decision if it is still remembered.
+        Boolean concurrentDecision = decisions.get(key);
+        if (concurrentDecision == null) {
+          traces.remove(key, buffer);
+          continue;
+        }
+        if (concurrentDecision) {
+          export(Collections.singletonList(spanData));
+        }
+        return;
+      }
+      bufferedSpans.incrementAndGet();
+      if (isLocalRoot || size >= maxSpansPerTrace) {
+        decide(buffer);
+      }
+      break;
+    }
+    evictIfNeeded();
+  }
+
+  @Override
+  public boolean isEndRequired() {
+    return true;
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    if (isShutdown.getAndSet(true)) {
+      return CompletableResultCode.ofSuccess();
+    }
+    liveProcessors.remove(this);
+    sweeper.shutdown();
+    final CompletableResultCode result = new CompletableResultCode();
+    final CompletableResultCode flushResult = forceFlush();
+    flushResult.whenComplete(
+        () -> {
+          final CompletableResultCode shutdownResult = spanExporter.shutdown();
+          shutdownResult.whenComplete(
+              () -> {
+                if (flushResult.isSuccess() && shutdownResult.isSuccess()) {
+                  result.succeed();
+                } else {
+                  result.fail();
+                }
+              });
+        });
+    return result;
+  }
+
+  /**
+   * Decides all the traces buffered so far, exports the kept ones and flushes the exporter.
+   *
+   * @return a {@link CompletableResultCode} which completes when the exporter is flushed.
+   */
+  @Override
+  public CompletableResultCode forceFlush() {
+    TraceBuffer buffer;
+    while ((buffer = order.poll()) != null) {
+      decide(buffer);
+    }
+    return spanExporter.flush();
+  }
+
+  // Visible for testing
+  int getBufferedSpans() {
+    return bufferedSpans.get();
+  }
+
+  // Visible for testing
+  int getBufferedTraces() {
+    return traces.size();
+  }
+
+  private void sweep() {
+    try {
+      long now = System.nanoTime();
+      TraceBuffer buffer;
+      while ((buffer = order.peek()) != null) {
+        if (!buffer.isDecided() && now - buffer.createdNanos < decisionWaitNanos) {
+          return;
+        }
+        order.remove(buffer);
+        decide(buffer);
+      }
+    } catch (RuntimeException e) {
+      logger.log(Level.WARNING, "Failed to decide expired traces", e);
+    }
+  }
+
+  private void evictIfNeeded() {
+    while (bufferedSpans.get() > maxBufferedSpans) {
+      TraceBuffer buffer = order.poll();
+      if (buffer == null) {
+        return;
+      }
+      if (decide(buffer)) {
+        evictedTraces.add(1);
+      }
+    }
+  }
+
+  // Returns false if the trace was already decided.
+  private boolean decide(TraceBuffer buffer) {
+    List<SpanData> spans = buffer.close();
+    if (spans == null) {
+      return false;
+    }
+    boolean keep = shouldKeep(spans);
+    // Remembered before the buffer is removed, so that late spans find either of them.
+    decisions.put(buffer.key, keep);
+    traces.remove(buffer.key, buffer);
+    bufferedSpans.addAndGet(-spans.size());
+    if (keep) {
+      keptTraces.add(1);
+      export(spans);
+    } else {
+      droppedTraces.add(1);
+    }
+    return true;
+  }
+
+  private boolean shouldKeep(List<SpanData> spans) {
+    for (TailSamplingPolicy policy : policies) {
+      try {
+        if (policy.shouldKeep(spans)) {
+          return true;
+        }
+      } catch (RuntimeException e) {
+        logger.log(Level.WARNING, "Policy " + policy.getDescription() + " threw an Exception", e);
+      }
+    }
+    return false;
+  }
+
+  private void export(List<SpanData> spans) {
+    try {
+      final CompletableResultCode result = spanExporter.export(spans);
+      result.whenComplete(
+          () -> {
+            if (!result.isSuccess()) {
+              logger.log(Level.FINE, "Exporter failed");
+            }
+          });
+    } catch (RuntimeException e) {
+      logger.log(Level.WARNING, "Exporter threw an Exception", e);
+    }
+  }
+
+  private static final class TraceKey {
+    private final long high;
+    private final long low;
+
+    private TraceKey(long high, long low) {
+      this.high = high;
+      this.low = low;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof TraceKey)) {
+        return false;
+      }
+      TraceKey that = (TraceKey) o;
+      return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(high) * 31 + Long.hashCode(low);
+    }
+  }
+
+  private static final class TraceBuffer {
+    private final TraceKey key;
+    private final long createdNanos;
+
+    @GuardedBy("this")
+    private List<SpanData> spans = new ArrayList<>();
+
+    private TraceBuffer(TraceKey key, long createdNanos) {
+      this.key = key;
+      this.createdNanos = createdNanos;
+    }
+
+    // Returns the number of buffered spans, or -1 if the trace was already decided.
+    synchronized int add(SpanData span) {
+      if (spans == null) {
+        return -1;
+      }
+      spans.add(span);
+      return spans.size();
+    }
+
+    synchronized boolean isDecided() {
+      return spans == null;
+    }
+
+    // Returns the buffered spans, or null if the trace was already decided.
+    @Nullable
+    synchronized List<SpanData> close() {
+      List<SpanData> result = spans;
+      spans = null;
+      return result;
+    }
+  }
+
+  // Remembers the most recent decisions, for spans ending after their trace was decided.
+  private static final class DecisionCache {
+    @GuardedBy("this")
+    private final Map<TraceKey, Boolean> decisions =
+        new LinkedHashMap<TraceKey, Boolean>() {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<TraceKey, Boolean> eldest) {
+            return size() > MAX_REMEMBERED_DECISIONS;
+          }
+        };
+
+    @Nullable
+    synchronized Boolean get(TraceKey key) {
+      return decisions.get(key);
+    }
+
+    synchronized void put(TraceKey key, boolean keep) {
+      decisions.put(key, keep);
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.sampling;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Builder class for {@link TailSamplingSpanProcessor}. */
+public final class TailSamplingSpanProcessorBuilder {
+
+  // Visible for testing
+  static final long DEFAULT_DECISION_WAIT_MILLIS = 30_000;
+  // Visible for testing
+  static final int DEFAULT_MAX_BUFFERED_SPANS = 10_000;
+  // Visible for testing
+  static final int DEFAULT_MAX_SPANS_PER_TRACE = 1_000;
+
+  private final SpanExporter spanExporter;
+  private final List<TailSamplingPolicy> policies = new ArrayList<>();
+  private long decisionWaitNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_DECISION_WAIT_MILLIS);
+  private int maxBufferedSpans = DEFAULT_MAX_BUFFERED_SPANS;
+  private int maxSpansPerTrace = DEFAULT_MAX_SPANS_PER_TRACE;
+
+  TailSamplingSpanProcessorBuilder(SpanExporter spanExporter) {
+    this.spanExporter = requireNonNull(spanExporter, "spanExporter");
+  }
+
+  /**
+   * Adds a policy keeping traces. Policies are evaluated in the order they were added, until one of
+   * them keeps the trace.
+   *
+   * @param policy the policy to add.
+   * @return this.
+   */
+  public TailSamplingSpanProcessorBuilder addPolicy(TailSamplingPolicy policy) {
+    policies.add(requireNonNull(policy, "policy"));
+    return this;
+  }
+
+  /**
+   * Sets how long after its first span ended a trace is decided, if its local root span didn't end
+   * by then. The default value is {@value DEFAULT_DECISION_WAIT_MILLIS}ms.
+   *
+   * @param decisionWait the maximum time to wait for the local root span of a trace.
+   * @param unit the unit of {@code decisionWait}.
+   * @return this.
+   */
+  public TailSamplingSpanProcessorBuilder setDecisionWait(long decisionWait, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(decisionWait > 0, "decisionWait must be positive");
+    this.decisionWaitNanos = unit.toNanos(decisionWait);
+    return this;
+  }
+
+  /**
+   * Sets how long after its first span ended a trace is decided, if its local root span didn't end
+   * by then. The default value is {@value DEFAULT_DECISION_WAIT_MILLIS}ms.
+   *
+   * @param decisionWait the maximum time to wait for the local root span of a trace.
+   * @return this.
+   */
+  public TailSamplingSpanProcessorBuilder setDecisionWait(Duration decisionWait) {
+    requireNonNull(decisionWait, "decisionWait");
+    return setDecisionWait(decisionWait.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Sets the maximum number of spans buffered across all the traces waiting for a decision. When it
+   * is exceeded, the oldest traces are decided early with the spans they have. The default value is
+   * {@value DEFAULT_MAX_BUFFERED_SPANS}.
+   *
+   * @param maxBufferedSpans the maximum number of buffered spans.
+   * @return this.
+   */
+  public TailSamplingSpanProcessorBuilder setMaxBufferedSpans(int maxBufferedSpans) {
+    checkArgument(maxBufferedSpans > 0, "maxBufferedSpans must be positive.");
+    this.maxBufferedSpans = maxBufferedSpans;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of spans buffered for a single trace. A trace reaching it is decided
+   * early with the spans it has. The default value is {@value DEFAULT_MAX_SPANS_PER_TRACE}.
+   *
+   * @param maxSpansPerTrace the maximum number of buffered spans of a trace.
+   * @return this.
+   */
+  public TailSamplingSpanProcessorBuilder setMaxSpansPerTrace(int maxSpansPerTrace) {
+    checkArgument(maxSpansPerTrace > 0, "maxSpansPerTrace must be positive.");
+    this.maxSpansPerTrace = maxSpansPerTrace;
+    return this;
+  }
+
+  /**
+   * Returns a new {@link TailSamplingSpanProcessor} with the values of this builder.
+   *
+   * @return a new {@link TailSamplingSpanProcessor}.
+   * @throws IllegalStateException if no policy was added.
+   */
+  public TailSamplingSpanProcessor build() {
+    if (policies.isEmpty()) {
+      throw new IllegalStateException("At least one policy must be added.");
+    }
+    return new TailSamplingSpanProcessor(
+        spanExporter,
+        new ArrayList<>(policies),
+        decisionWaitNanos,
+        maxBufferedSpans,
+        maxSpansPerTrace);
+  }
+}
@@ -0,0 +1,10 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/** Experimental sampling of whole traces after their spans ended. */
+@ParametersAreNonnullByDefault
+package io.opentelemetry.sdk.extension.incubator.trace.sampling;
+
+import javax.annotation.ParametersAreNonnullByDefault;
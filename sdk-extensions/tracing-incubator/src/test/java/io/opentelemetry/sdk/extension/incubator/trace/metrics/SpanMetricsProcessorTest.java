@@ -0,0 +1,179 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.DoubleSummaryPointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.config.TraceConfig;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class SpanMetricsProcessorTest {
+
+  private static final long START_MILLIS = 1_000_000;
+
+  private final SdkMeterProvider meterProvider = SdkMeterProvider.builder().build();
+  private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+
+  private Tracer tracer(SpanMetricsProcessorBuilder builder, Sampler sampler) {
+    return SdkTracerProvider.builder()
+        .setTraceConfig(TraceConfig.getDefault().toBuilder().setSampler(sampler).build())
+        .addSpanProcessor(builder.setMeterProvider(meterProvider).build())
+        .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+        .build()
+        .get("test");
+  }
+
+  private static void endSpan(Tracer tracer, String name, Span.Kind kind, long millis) {
+    tracer
+        .spanBuilder(name)
+        .setSpanKind(kind)
+        .setStartTimestamp(START_MILLIS, TimeUnit.MILLISECONDS)
+        .startSpan()
+        .end(START_MILLIS + millis, TimeUnit.MILLISECONDS);
+  }
+
+  // The value recorder is reset on every collection, so both metrics are collected at once.
+  private Map<String, MetricData> collect() {
+    return meterProvider.collectAllMetrics().stream()
+        .collect(Collectors.toMap(MetricData::getName, metric -> metric));
+  }
+
+  private static Labels labels(String name, Span.Kind kind, StatusCode statusCode) {
+    return Labels.of("spanName", name, "spanKind", kind.name(), "statusCode", statusCode.name());
+  }
+
+  @Test
+  void invalidConfig() {
+    assertThatThrownBy(() -> SpanMetricsProcessor.builder().setMeterProvider(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("meterProvider");
+    assertThatThrownBy(() -> SpanMetricsProcessor.builder().setMaxSpanNames(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxSpanNames must be positive.");
+    assertThatThrownBy(() -> SpanMetricsProcessor.recordAll(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("sampler");
+  }
+
+  @Test
+  void recordsRateErrorsAndDuration() {
+    Tracer tracer = tracer(SpanMetricsProcessor.builder(), Sampler.alwaysOn());
+    endSpan(tracer, "GET /users", Span.Kind.SERVER, 10);
+    endSpan(tracer, "GET /users", Span.Kind.SERVER, 30);
+    tracer
+        .spanBuilder("GET /users")
+        .setSpanKind(Span.Kind.SERVER)
+        .setStartTimestamp(START_MILLIS, TimeUnit.MILLISECONDS)
+        .startSpan()
+        .setStatus(StatusCode.ERROR)
+        .end(START_MILLIS + 5, TimeUnit.MILLISECONDS);
+    endSpan(tracer, "SELECT", Span.Kind.CLIENT, 2);
+
+    Map<String, MetricData> metrics = collect();
+    assertThat(metrics.get("spans").getLongSumData().getPoints())
+        .extracting(LongPointData::getLabels, LongPointData::getValue)
+        .containsExactlyInAnyOrder(
+            tuple(labels("GET /users", Span.Kind.SERVER, StatusCode.UNSET), 2L),
+            tuple(labels("GET /users", Span.Kind.SERVER, StatusCode.ERROR), 1L),
+            tuple(labels("SELECT", Span.Kind.CLIENT, StatusCode.UNSET), 1L));
+    assertThat(metrics.get("spanDuration").getDoubleSummaryData().getPoints())
+        .extracting(
+            DoubleSummaryPointData::getLabels,
+            DoubleSummaryPointData::getCount,
+            DoubleSummaryPointData::getSum)
+        .containsExactlyInAnyOrder(
+            tuple(labels("GET /users", Span.Kind.SERVER, StatusCode.UNSET), 2L, 40.0),
+            tuple(labels("GET /users", Span.Kind.SERVER, StatusCode.ERROR), 1L, 5.0),
+            tuple(labels("SELECT", Span.Kind.CLIENT, StatusCode.UNSET), 1L, 2.0));
+  }
+
+  @Test
+  void boundedSpanNames() {
+    Tracer tracer = tracer(SpanMetricsProcessor.builder().setMaxSpanNames(2), Sampler.alwaysOn());
+    endSpan(tracer, "first", Span.Kind.INTERNAL, 1);
+    endSpan(tracer, "second", Span.Kind.INTERNAL, 1);
+    endSpan(tracer, "third", Span.Kind.INTERNAL, 1);
+    endSpan(tracer, "fourth", Span.Kind.INTERNAL, 1);
+    endSpan(tracer, "first", Span.Kind.INTERNAL, 1);
+
+    assertThat(
+            collect().get("spans").getLongSumData().getPoints().stream()
+                .collect(
+                    Collectors.toMap(
+                        point -> point.getLabels().get("spanName"), LongPointData::getValue)))
+        .containsOnly(
+            entry("first", 2L),
+            entry("second", 1L),
+            entry(SpanMetricsProcessor.OTHER_SPAN_NAME, 2L));
+  }
+
+  @Test
+  void recordAll() {
+    Tracer tracer =
+        tracer(SpanMetricsProcessor.builder(), SpanMetricsProcessor.recordAll(Sampler.alwaysOff()));
+    Span span = tracer.spanBuilder("unsampled").startSpan();
+    assertThat(span.isRecording()).isTrue();
+    assertThat(span.getSpanContext().isSampled()).isFalse();
+    span.end();
+
+    // Counted, but not exported.
+    assertThat(collect().get("spans").getLongSumData().getPoints())
+        .extracting(LongPointData::getValue)
+        .containsExactly(1L);
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+  }
+
+  @Test
+  void recordAll_keepsSampledDecisions() {
+    Sampler sampler = SpanMetricsProcessor.recordAll(Sampler.alwaysOn());
+    assertThat(sampler.getDescription()).isEqualTo("RecordAll{AlwaysOnSampler}");
+    assertThat(
+            sampler
+                .shouldSample(
+                    Context.root(),
+                    1,
+                    2,
+                    "span",
+                    Span.Kind.INTERNAL,
+                    Attributes.empty(),
+                    Collections.emptyList())
+                .getDecision())
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(
+            SpanMetricsProcessor.recordAll(Sampler.alwaysOff())
+                .shouldSample(
+                    Context.root(),
+                    "00000000000000010000000000000002",
+                    "span",
+                    Span.Kind.INTERNAL,
+                    Attributes.empty(),
+                    Collections.emptyList())
+                .getDecision())
+        .isEqualTo(SamplingDecision.RECORD_ONLY);
+  }
+}
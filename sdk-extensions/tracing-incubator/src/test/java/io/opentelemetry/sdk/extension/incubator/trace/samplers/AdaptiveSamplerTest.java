@@ -0,0 +1,227 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.samplers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.internal.TestClock;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveSamplerTest {
+
+  private static final long SAMPLED_ID = 0;
+  private static final long NOT_SAMPLED_ID = Long.MAX_VALUE;
+
+  private final TestClock clock = TestClock.create();
+
+  private AdaptiveSampler sampler(double maxTracesPerSecond, double guaranteedTracesPerSecond) {
+    return AdaptiveSampler.builder()
+        .setMaxTracesPerSecond(maxTracesPerSecond)
+        .setGuaranteedTracesPerSecond(guaranteedTracesPerSecond)
+        .setAdaptationInterval(1, TimeUnit.SECONDS)
+        .setClock(clock)
+        .build();
+  }
+
+  private static SamplingDecision sample(
+      AdaptiveSampler sampler, Context parentContext, String name, long traceIdLow) {
+    return sampler
+        .shouldSample(
+            parentContext,
+            1,
+            traceIdLow,
+            name,
+            Span.Kind.SERVER,
+            Attributes.empty(),
+            Collections.emptyList())
+        .getDecision();
+  }
+
+  private static SamplingDecision sample(AdaptiveSampler sampler, String name, long traceIdLow) {
+    return sample(sampler, Context.root(), name, traceIdLow);
+  }
+
+  // Starts the given number of root spans of an operation, spread over a second.
+  private void startRootSpans(AdaptiveSampler sampler, String name, int count) {
+    for (int i = 0; i < count; i++) {
+      sample(sampler, name, NOT_SAMPLED_ID);
+    }
+  }
+
+  // The first span after the interval adapts the probabilities, child spans aren't counted.
+  private void adaptAfterOneSecond(AdaptiveSampler sampler) {
+    clock.advanceMillis(1000);
+    Context parent =
+        Context.root()
+            .with(
+                Span.wrap(
+                    SpanContext.create(
+                        IdGenerator.random().generateTraceId(),
+                        IdGenerator.random().generateSpanId(),
+                        TraceFlags.getSampled(),
+                        TraceState.getDefault())));
+    sample(sampler, parent, "child", NOT_SAMPLED_ID);
+  }
+
+  @Test
+  void invalidConfig() {
+    assertThatThrownBy(() -> AdaptiveSampler.builder().setMaxTracesPerSecond(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxTracesPerSecond must be positive.");
+    assertThatThrownBy(() -> AdaptiveSampler.builder().setGuaranteedTracesPerSecond(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("guaranteedTracesPerSecond must be positive.");
+    assertThatThrownBy(() -> AdaptiveSampler.builder().setAdaptationInterval(0, TimeUnit.SECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("interval must be positive");
+    assertThatThrownBy(() -> AdaptiveSampler.builder().setAdaptationInterval(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("interval");
+    assertThatThrownBy(() -> AdaptiveSampler.builder().setMaxOperations(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxOperations must be positive.");
+  }
+
+  @Test
+  void description() {
+    assertThat(sampler(10, 0.5).getDescription())
+        .isEqualTo("AdaptiveSampler{maxTracesPerSecond=10.00, guaranteedTracesPerSecond=0.5000}");
+  }
+
+  @Test
+  void followsParent() {
+    AdaptiveSampler sampler = sampler(10, 1);
+    String traceId = IdGenerator.random().generateTraceId();
+    String spanId = IdGenerator.random().generateSpanId();
+    Context sampled =
+        Context.root()
+            .with(
+                Span.wrap(
+                    SpanContext.create(
+                        traceId, spanId, TraceFlags.getSampled(), TraceState.getDefault())));
+    Context notSampled =
+        Context.root()
+            .with(
+                Span.wrap(
+                    SpanContext.create(
+                        traceId, spanId, TraceFlags.getDefault(), TraceState.getDefault())));
+    assertThat(sample(sampler, sampled, "child", NOT_SAMPLED_ID))
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(sample(sampler, notSampled, "child", SAMPLED_ID)).isEqualTo(SamplingDecision.DROP);
+    // Only root spans are counted.
+    assertThat(sampler.getProbability("child")).isNull();
+  }
+
+  @Test
+  void newOperationSampledAtGuaranteedRate() {
+    AdaptiveSampler sampler = sampler(10, 1);
+    assertThat(sample(sampler, "GET /", SAMPLED_ID)).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(sample(sampler, "GET /", SAMPLED_ID)).isEqualTo(SamplingDecision.DROP);
+    assertThat(sampler.getProbability("GET /")).isEqualTo(0.0);
+
+    clock.advanceMillis(500);
+    assertThat(sample(sampler, "GET /", SAMPLED_ID)).isEqualTo(SamplingDecision.DROP);
+    clock.advanceMillis(500);
+    assertThat(sample(sampler, "GET /", SAMPLED_ID)).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+  }
+
+  @Test
+  void sharesBudgetFairly() {
+    AdaptiveSampler sampler = sampler(10, 0.1);
+    startRootSpans(sampler, "hot", 100);
+    startRootSpans(sampler, "cold", 2);
+    adaptAfterOneSecond(sampler);
+
+    // The cold operation fits in its share, the hot one gets what remains of the budget.
+    assertThat(sampler.getProbability("cold")).isEqualTo(1.0);
+    assertThat(sampler.getProbability("hot")).isEqualTo(0.08);
+    assertThat(sample(sampler, "cold", SAMPLED_ID)).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(sample(sampler, "hot", Long.MAX_VALUE / 20))
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    // The guaranteed rate was used up by the first root span.
+    assertThat(sample(sampler, "hot", Long.MAX_VALUE / 5)).isEqualTo(SamplingDecision.DROP);
+  }
+
+  @Test
+  void allOperationsFitInBudget() {
+    AdaptiveSampler sampler = sampler(100, 0.1);
+    startRootSpans(sampler, "a", 10);
+    startRootSpans(sampler, "b", 20);
+    adaptAfterOneSecond(sampler);
+    assertThat(sampler.getProbability("a")).isEqualTo(1.0);
+    assertThat(sampler.getProbability("b")).isEqualTo(1.0);
+  }
+
+  @Test
+  void guaranteedRateTakesPrecedence() {
+    AdaptiveSampler sampler = sampler(1, 1);
+    startRootSpans(sampler, "a", 10);
+    startRootSpans(sampler, "b", 10);
+    startRootSpans(sampler, "c", 10);
+    adaptAfterOneSecond(sampler);
+    assertThat(sampler.getProbability("a")).isEqualTo(0.0);
+
+    // Each operation is still sampled once per second.
+    assertThat(sample(sampler, "a", SAMPLED_ID)).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(sample(sampler, "b", SAMPLED_ID)).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(sample(sampler, "a", SAMPLED_ID)).isEqualTo(SamplingDecision.DROP);
+  }
+
+  @Test
+  void smoothsRates() {
+    AdaptiveSampler sampler = sampler(10, 0.1);
+    startRootSpans(sampler, "a", 40);
+    adaptAfterOneSecond(sampler);
+    assertThat(sampler.getProbability("a")).isEqualTo(0.25);
+
+    startRootSpans(sampler, "a", 120);
+    adaptAfterOneSecond(sampler);
+    // Halfway between 40 and 120 per second.
+    assertThat(sampler.getProbability("a")).isEqualTo(0.125);
+  }
+
+  @Test
+  void forgetsQuietOperations() {
+    AdaptiveSampler sampler = sampler(10, 0.1);
+    startRootSpans(sampler, "a", 1);
+    adaptAfterOneSecond(sampler);
+    assertThat(sampler.getProbability("a")).isEqualTo(1.0);
+
+    adaptAfterOneSecond(sampler);
+    assertThat(sampler.getProbability("a")).isNull();
+  }
+
+  @Test
+  void boundedOperations() {
+    AdaptiveSampler sampler =
+        AdaptiveSampler.builder()
+            .setMaxTracesPerSecond(10)
+            .setMaxOperations(1)
+            .setAdaptationInterval(1, TimeUnit.SECONDS)
+            .setClock(clock)
+            .build();
+    startRootSpans(sampler, "a", 5);
+    startRootSpans(sampler, "b", 20);
+    startRootSpans(sampler, "c", 20);
+    assertThat(sampler.getProbability("b")).isNull();
+    assertThat(sampler.getProbability("c")).isNull();
+
+    adaptAfterOneSecond(sampler);
+    assertThat(sampler.getProbability("a")).isEqualTo(1.0);
+    assertThat(sampler.getOtherProbability()).isEqualTo(0.125);
+  }
+}
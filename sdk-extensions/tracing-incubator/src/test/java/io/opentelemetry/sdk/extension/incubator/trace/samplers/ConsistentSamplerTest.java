@@ -0,0 +1,206 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.samplers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.Collections;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.Test;
+
+class ConsistentSamplerTest {
+
+  private static final String TRACE_ID = IdGenerator.random().generateTraceId();
+  private static final String SPAN_ID = IdGenerator.random().generateSpanId();
+
+  // Random values with the given number of leading zeros, i.e. r-values.
+  private static LongSupplier r(int r) {
+    return () -> Long.MIN_VALUE >>> r;
+  }
+
+  private static SamplingResult sample(Sampler sampler, Context parentContext) {
+    return sampler.shouldSample(
+        parentContext,
+        TRACE_ID,
+        "span",
+        Span.Kind.INTERNAL,
+        Attributes.empty(),
+        Collections.emptyList());
+  }
+
+  private static Context parent(boolean sampled, String otelTraceState) {
+    TraceState traceState =
+        otelTraceState == null
+            ? TraceState.getDefault()
+            : TraceState.builder().set("ot", otelTraceState).set("other", "value").build();
+    return Context.root()
+        .with(
+            Span.wrap(
+                SpanContext.createFromRemoteParent(
+                    TRACE_ID,
+                    SPAN_ID,
+                    sampled ? TraceFlags.getSampled() : TraceFlags.getDefault(),
+                    traceState)));
+  }
+
+  private static String otelTraceState(SamplingResult result, Context parentContext) {
+    return result
+        .getUpdatedTraceState(Span.fromContext(parentContext).getSpanContext().getTraceState())
+        .get("ot");
+  }
+
+  @Test
+  void probabilityBased_invalid() {
+    assertThatThrownBy(() -> ConsistentSampler.probabilityBased(1.5))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("probability must be in range [0.0, 1.0]");
+    assertThatThrownBy(() -> ConsistentSampler.probabilityBased(-0.5))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("probability must be in range [0.0, 1.0]");
+    assertThatThrownBy(() -> ConsistentSampler.parentBased(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("rootSampler");
+  }
+
+  @Test
+  void probabilityBased_pValues() {
+    assertThat(new ConsistentProbabilityBasedSampler(1.0, r(0)).getP(-1, true)).isEqualTo(0);
+    assertThat(new ConsistentProbabilityBasedSampler(0.5, r(0)).getP(-1, true)).isEqualTo(1);
+    assertThat(new ConsistentProbabilityBasedSampler(0.125, r(0)).getP(-1, true)).isEqualTo(3);
+    assertThat(new ConsistentProbabilityBasedSampler(0.0, r(0)).getP(-1, true)).isEqualTo(63);
+
+    // 0.375 is halfway between 0.5 and 0.25, the random double is 0 or 1 - 2^-53.
+    assertThat(new ConsistentProbabilityBasedSampler(0.375, () -> 0).getP(-1, true)).isEqualTo(1);
+    assertThat(new ConsistentProbabilityBasedSampler(0.375, () -> -1).getP(-1, true)).isEqualTo(2);
+    assertThat(new ConsistentProbabilityBasedSampler(0x1.0p-70, () -> -1).getP(-1, true))
+        .isEqualTo(63);
+  }
+
+  @Test
+  void probabilityBased_averageProbability() {
+    ConsistentSampler sampler = ConsistentSampler.probabilityBased(0.3);
+    int sampled = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (sample(sampler, Context.root()).getDecision() == SamplingDecision.RECORD_AND_SAMPLE) {
+        sampled++;
+      }
+    }
+    assertThat(sampled).isBetween(28_000, 32_000);
+  }
+
+  @Test
+  void root_sampled() {
+    ConsistentSampler sampler = new ConsistentProbabilityBasedSampler(0.25, r(3));
+    SamplingResult result = sample(sampler, Context.root());
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(otelTraceState(result, Context.root())).isEqualTo("p:2;r:3");
+  }
+
+  @Test
+  void root_notSampled() {
+    ConsistentSampler sampler = new ConsistentProbabilityBasedSampler(0.25, r(1));
+    SamplingResult result = sample(sampler, Context.root());
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.DROP);
+    assertThat(otelTraceState(result, Context.root())).isEqualTo("r:1");
+  }
+
+  @Test
+  void child_keepsParentR() {
+    // Sampled with a lower probability than the parent, using its r-value.
+    Context parent = parent(true, "p:1;r:2;x:y");
+    SamplingResult result = sample(new ConsistentProbabilityBasedSampler(0.25, r(0)), parent);
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(otelTraceState(result, parent)).isEqualTo("p:2;r:2;x:y");
+    assertThat(
+            result
+                .getUpdatedTraceState(Span.fromContext(parent).getSpanContext().getTraceState())
+                .get("other"))
+        .isEqualTo("value");
+
+    result = sample(new ConsistentProbabilityBasedSampler(0.125, r(0)), parent);
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.DROP);
+    assertThat(otelTraceState(result, parent)).isEqualTo("r:2;x:y");
+  }
+
+  @Test
+  void parentBased_followsParent() {
+    ConsistentSampler sampler =
+        new ConsistentParentBasedSampler(ConsistentSampler.alwaysOff(), r(0));
+
+    Context sampledParent = parent(true, "p:2;r:5");
+    SamplingResult result = sample(sampler, sampledParent);
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(otelTraceState(result, sampledParent)).isEqualTo("p:2;r:5");
+
+    Context notSampledParent = parent(false, "r:1");
+    result = sample(sampler, notSampledParent);
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.DROP);
+    assertThat(otelTraceState(result, notSampledParent)).isEqualTo("r:1");
+  }
+
+  @Test
+  void parentBased_withoutPValue() {
+    ConsistentSampler sampler =
+        new ConsistentParentBasedSampler(ConsistentSampler.alwaysOff(), r(4));
+
+    // Sampled by a parent without p-value, the adjusted count is unknown.
+    Context parent = parent(true, null);
+    SamplingResult result = sample(sampler, parent);
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(otelTraceState(result, parent)).isEqualTo("r:4");
+
+    // An inconsistent p-value is removed.
+    parent = parent(true, "p:3;r:1");
+    result = sample(sampler, parent);
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(otelTraceState(result, parent)).isEqualTo("r:1");
+  }
+
+  @Test
+  void parentBased_root() {
+    ConsistentSampler sampler =
+        new ConsistentParentBasedSampler(ConsistentSampler.probabilityBased(0.5), r(1));
+    assertThat(sampler.getDescription())
+        .isEqualTo("ConsistentParentBasedSampler{ConsistentProbabilityBasedSampler{0.500000}}");
+    SamplingResult result = sample(sampler, Context.root());
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(otelTraceState(result, Context.root())).isEqualTo("p:1;r:1");
+  }
+
+  @Test
+  void sdkParentBased_keepsParentValues() {
+    Sampler sampler = Sampler.parentBased(ConsistentSampler.probabilityBased(0.5));
+    Context parent = parent(true, "p:2;r:5");
+    SamplingResult result = sample(sampler, parent);
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(otelTraceState(result, parent)).isEqualTo("p:2;r:5");
+  }
+
+  @Test
+  void getAdjustedCount() {
+    assertThat(ConsistentSampler.getAdjustedCount(spanContext(true, "p:3;r:5"))).isEqualTo(8.0);
+    assertThat(ConsistentSampler.getAdjustedCount(spanContext(true, "p:0;r:0"))).isEqualTo(1.0);
+    assertThat(ConsistentSampler.getAdjustedCount(spanContext(true, "p:63"))).isEqualTo(0.0);
+    assertThat(ConsistentSampler.getAdjustedCount(spanContext(false, "r:5"))).isEqualTo(0.0);
+    assertThat(ConsistentSampler.getAdjustedCount(spanContext(true, "r:5"))).isNaN();
+    assertThat(ConsistentSampler.getAdjustedCount(spanContext(true, null))).isNaN();
+  }
+
+  private static SpanContext spanContext(boolean sampled, String otelTraceState) {
+    return Span.fromContext(parent(sampled, otelTraceState)).getSpanContext();
+  }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.samplers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.internal.TestClock;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.export.ExportPressure;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LoadSheddingSamplerTest {
+
+  private static final long LOW_ID = 0;
+  private static final long HIGH_ID = Long.MAX_VALUE - 1;
+
+  private final TestClock clock = TestClock.create();
+  private final FakeExportPressure pressure = new FakeExportPressure();
+
+  private LoadSheddingSampler sampler(Sampler delegate) {
+    return LoadSheddingSampler.builder(delegate, pressure)
+        .setMaxExportLatency(1, TimeUnit.SECONDS)
+        .setMinRatio(0.25)
+        .setAdjustmentInterval(1, TimeUnit.SECONDS)
+        .setClock(clock)
+        .build();
+  }
+
+  private static SamplingDecision sample(
+      LoadSheddingSampler sampler, Context parentContext, long traceIdLow) {
+    return sampleResult(sampler, parentContext, traceIdLow).getDecision();
+  }
+
+  private static SamplingResult sampleResult(
+      LoadSheddingSampler sampler, Context parentContext, long traceIdLow) {
+    return sampler.shouldSample(
+        parentContext,
+        1,
+        traceIdLow,
+        "span",
+        Span.Kind.SERVER,
+        Attributes.empty(),
+        Collections.emptyList());
+  }
+
+  // The first span after the interval adjusts the ratio.
+  private void adjustAfterOneSecond(LoadSheddingSampler sampler) {
+    clock.advanceMillis(1000);
+    sample(sampler, Context.root(), LOW_ID);
+  }
+
+  private static Context parent(boolean remote) {
+    String traceId = IdGenerator.random().generateTraceId();
+    String spanId = IdGenerator.random().generateSpanId();
+    SpanContext spanContext =
+        remote
+            ? SpanContext.createFromRemoteParent(
+                traceId, spanId, TraceFlags.getSampled(), TraceState.getDefault())
+            : SpanContext.create(traceId, spanId, TraceFlags.getSampled(), TraceState.getDefault());
+    return Context.root().with(Span.wrap(spanContext));
+  }
+
+  @Test
+  void invalidConfig() {
+    assertThatThrownBy(() -> LoadSheddingSampler.builder(null, pressure))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("delegate");
+    assertThatThrownBy(() -> LoadSheddingSampler.builder(Sampler.alwaysOn(), null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("exportPressure");
+    assertThatThrownBy(
+            () ->
+                LoadSheddingSampler.builder(Sampler.alwaysOn(), pressure).setHighQueueFillRatio(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("highQueueFillRatio must be in range (0.0, 1.0]");
+    assertThatThrownBy(
+            () -> LoadSheddingSampler.builder(Sampler.alwaysOn(), pressure).setLowQueueFillRatio(1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("lowQueueFillRatio must be in range [0.0, 1.0)");
+    assertThatThrownBy(
+            () -> LoadSheddingSampler.builder(Sampler.alwaysOn(), pressure).setMinRatio(1.5))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("minRatio must be in range [0.0, 1.0]");
+    assertThatThrownBy(
+            () ->
+                LoadSheddingSampler.builder(Sampler.alwaysOn(), pressure)
+                    .setMaxExportLatency(0, TimeUnit.SECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("latency must be positive");
+    assertThatThrownBy(
+            () ->
+                LoadSheddingSampler.builder(Sampler.alwaysOn(), pressure)
+                    .setLowQueueFillRatio(0.6)
+                    .setHighQueueFillRatio(0.6)
+                    .build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("lowQueueFillRatio must be less than highQueueFillRatio.");
+  }
+
+  @Test
+  void noPressure() {
+    LoadSheddingSampler sampler = sampler(Sampler.alwaysOn());
+    adjustAfterOneSecond(sampler);
+    assertThat(sampler.getRatio()).isEqualTo(1.0);
+    assertThat(sample(sampler, Context.root(), HIGH_ID))
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+  }
+
+  @Test
+  void fullQueue_shedsUntilMinRatio() {
+    LoadSheddingSampler sampler = sampler(Sampler.alwaysOn());
+    pressure.queueFillRatio = 0.9;
+
+    // Adjusted once per interval only.
+    sample(sampler, Context.root(), LOW_ID);
+    assertThat(sampler.getRatio()).isEqualTo(1.0);
+    adjustAfterOneSecond(sampler);
+    assertThat(sampler.getRatio()).isEqualTo(0.5);
+    sample(sampler, Context.root(), LOW_ID);
+    assertThat(sampler.getRatio()).isEqualTo(0.5);
+
+    assertThat(sample(sampler, Context.root(), LOW_ID))
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(sample(sampler, Context.root(), HIGH_ID)).isEqualTo(SamplingDecision.DROP);
+
+    adjustAfterOneSecond(sampler);
+    assertThat(sampler.getRatio()).isEqualTo(0.25);
+    adjustAfterOneSecond(sampler);
+    assertThat(sampler.getRatio()).isEqualTo(0.25);
+  }
+
+  @Test
+  void slowExports() {
+    LoadSheddingSampler sampler = sampler(Sampler.alwaysOn());
+    pressure.exportLatencyNanos = TimeUnit.SECONDS.toNanos(2);
+    adjustAfterOneSecond(sampler);
+    assertThat(sampler.getRatio()).isEqualTo(0.5);
+  }
+
+  @Test
+  void droppedSpans() {
+    pressure.droppedSpans = 10;
+    LoadSheddingSampler sampler = sampler(Sampler.alwaysOn());
+    // Spans dropped before the sampler was created don't count.
+    adjustAfterOneSecond(sampler);
+    assertThat(sampler.getRatio()).isEqualTo(1.0);
+
+    pressure.droppedSpans = 11;
+    adjustAfterOneSecond(sampler);
+    assertThat(sampler.getRatio()).isEqualTo(0.5);
+    // No new drop, the queue is empty and exports are fast.
+    adjustAfterOneSecond(sampler);
+    assertThat(sampler.getRatio()).isEqualTo(1.0);
+  }
+
+  @Test
+  void recovers() {
+    LoadSheddingSampler sampler = sampler(Sampler.alwaysOn());
+    pressure.queueFillRatio = 1.0;
+    adjustAfterOneSecond(sampler);
+    adjustAfterOneSecond(sampler);
+    assertThat(sampler.getRatio()).isEqualTo(0.25);
+
+    // Between the thresholds, the ratio holds.
+    pressure.queueFillRatio = 0.6;
+    adjustAfterOneSecond(sampler);
+    assertThat(sampler.getRatio()).isEqualTo(0.25);
+    pressure.queueFillRatio = 0.1;
+    pressure.exportLatencyNanos = TimeUnit.MILLISECONDS.toNanos(800);
+    adjustAfterOneSecond(sampler);
+    assertThat(sampler.getRatio()).isEqualTo(0.25);
+
+    pressure.exportLatencyNanos = TimeUnit.MILLISECONDS.toNanos(100);
+    adjustAfterOneSecond(sampler);
+    assertThat(sampler.getRatio()).isEqualTo(0.5);
+    adjustAfterOneSecond(sampler);
+    assertThat(sampler.getRatio()).isEqualTo(1.0);
+    adjustAfterOneSecond(sampler);
+    assertThat(sampler.getRatio()).isEqualTo(1.0);
+  }
+
+  @Test
+  void onlyShedsWithoutLocalParent() {
+    LoadSheddingSampler sampler = sampler(Sampler.parentBased(Sampler.alwaysOn()));
+    pressure.queueFillRatio = 1.0;
+    adjustAfterOneSecond(sampler);
+
+    assertThat(sample(sampler, parent(/* remote= */ false), HIGH_ID))
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(sample(sampler, parent(/* remote= */ true), HIGH_ID))
+        .isEqualTo(SamplingDecision.DROP);
+    assertThat(sample(sampler, Context.root(), HIGH_ID)).isEqualTo(SamplingDecision.DROP);
+  }
+
+  @Test
+  void keepsDelegateDecisions() {
+    LoadSheddingSampler sampler = sampler(Sampler.alwaysOff());
+    assertThat(sample(sampler, Context.root(), LOW_ID)).isEqualTo(SamplingDecision.DROP);
+  }
+
+  @Test
+  void keepsDelegateAttributesAndTraceState() {
+    Attributes attributes = Attributes.of(AttributeKey.stringKey("key"), "value");
+    SamplingResult delegateResult =
+        new SamplingResult() {
+          @Override
+          public SamplingDecision getDecision() {
+            return SamplingDecision.RECORD_AND_SAMPLE;
+          }
+
+          @Override
+          public Attributes getAttributes() {
+            return attributes;
+          }
+
+          @Override
+          public TraceState getUpdatedTraceState(TraceState parentTraceState) {
+            return parentTraceState.toBuilder().set("ot", "p:1;r:5").set("vendor", "v").build();
+          }
+        };
+    LoadSheddingSampler sampler =
+        sampler(
+            new Sampler() {
+              @Override
+              public SamplingResult shouldSample(
+                  Context parentContext,
+                  String traceId,
+                  String name,
+                  Span.Kind spanKind,
+                  Attributes attributes,
+                  List<LinkData> parentLinks) {
+                return delegateResult;
+              }
+
+              @Override
+              public String getDescription() {
+                return "delegate";
+              }
+            });
+    assertThat(sampleResult(sampler, Context.root(), HIGH_ID)).isSameAs(delegateResult);
+
+    pressure.queueFillRatio = 1.0;
+    adjustAfterOneSecond(sampler);
+
+    // The p-value of the delegate is removed, as it doesn't account for shedding.
+    SamplingResult kept = sampleResult(sampler, Context.root(), LOW_ID);
+    assertThat(kept.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(kept.getAttributes()).isEqualTo(attributes);
+    TraceState keptTraceState = kept.getUpdatedTraceState(TraceState.getDefault());
+    assertThat(keptTraceState.get("ot")).isEqualTo("r:5");
+    assertThat(keptTraceState.get("vendor")).isEqualTo("v");
+
+    SamplingResult shed = sampleResult(sampler, Context.root(), HIGH_ID);
+    assertThat(shed.getDecision()).isEqualTo(SamplingDecision.DROP);
+    assertThat(shed.getAttributes()).isEqualTo(attributes);
+    TraceState shedTraceState = shed.getUpdatedTraceState(TraceState.getDefault());
+    assertThat(shedTraceState.get("ot")).isEqualTo("r:5");
+    assertThat(shedTraceState.get("vendor")).isEqualTo("v");
+  }
+
+  @Test
+  void consistentDelegate() {
+    LoadSheddingSampler sampler = sampler(ConsistentSampler.alwaysOn());
+    pressure.queueFillRatio = 1.0;
+    adjustAfterOneSecond(sampler);
+
+    // Without the p-value, the adjusted count of the kept spans is unknown.
+    TraceState traceState =
+        sampleResult(sampler, Context.root(), LOW_ID).getUpdatedTraceState(TraceState.getDefault());
+    SpanContext spanContext =
+        SpanContext.create(
+            IdGenerator.random().generateTraceId(),
+            IdGenerator.random().generateSpanId(),
+            TraceFlags.getSampled(),
+            traceState);
+    assertThat(ConsistentSampler.getAdjustedCount(spanContext)).isNaN();
+  }
+
+  @Test
+  void stringTraceId() {
+    LoadSheddingSampler sampler = sampler(Sampler.alwaysOn());
+    pressure.queueFillRatio = 1.0;
+    adjustAfterOneSecond(sampler);
+    assertThat(
+            sampler
+                .shouldSample(
+                    Context.root(),
+                    "00000000000000017ffffffffffffffe",
+                    "span",
+                    Span.Kind.SERVER,
+                    Attributes.empty(),
+                    Collections.emptyList())
+                .getDecision())
+        .isEqualTo(SamplingDecision.DROP);
+  }
+
+  @Test
+  void description() {
+    assertThat(sampler(Sampler.alwaysOn()).getDescription())
+        .isEqualTo(
+            "LoadSheddingSampler{delegate=AlwaysOnSampler, highQueueFillRatio=0.80,"
+                + " lowQueueFillRatio=0.50, maxExportLatencyMillis=1000, minRatio=0.2500}");
+  }
+
+  private static final class FakeExportPressure implements ExportPressure {
+    private volatile double queueFillRatio;
+    private volatile long exportLatencyNanos;
+    private volatile long droppedSpans;
+
+    @Override
+    public double getQueueFillRatio() {
+      return queueFillRatio;
+    }
+
+    @Override
+    public long getExportLatencyNanos() {
+      return exportLatencyNanos;
+    }
+
+    @Override
+    public long getDroppedSpans() {
+      return droppedSpans;
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.samplers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class OtelTraceStateTest {
+
+  @Test
+  void parse() {
+    OtelTraceState state = OtelTraceState.parse("p:3;r:10");
+    assertThat(state.getP()).isEqualTo(3);
+    assertThat(state.getR()).isEqualTo(10);
+    assertThat(state.serialize()).isEqualTo("p:3;r:10");
+  }
+
+  @Test
+  void parse_empty() {
+    OtelTraceState state = OtelTraceState.parse(null);
+    assertThat(state.getP()).isEqualTo(OtelTraceState.INVALID);
+    assertThat(state.getR()).isEqualTo(OtelTraceState.INVALID);
+    assertThat(state.serialize()).isEmpty();
+    assertThat(OtelTraceState.parse("").serialize()).isEmpty();
+  }
+
+  @Test
+  void parse_keepsOtherFields() {
+    OtelTraceState state = OtelTraceState.parse("x:1;r:5;y:abc");
+    assertThat(state.getP()).isEqualTo(OtelTraceState.INVALID);
+    assertThat(state.getR()).isEqualTo(5);
+    state.setP(2);
+    assertThat(state.serialize()).isEqualTo("p:2;r:5;x:1;y:abc");
+  }
+
+  @Test
+  void parse_invalidValues() {
+    assertThat(OtelTraceState.parse("p:64").getP()).isEqualTo(OtelTraceState.INVALID);
+    assertThat(OtelTraceState.parse("p:63").getP()).isEqualTo(63);
+    assertThat(OtelTraceState.parse("r:63").getR()).isEqualTo(OtelTraceState.INVALID);
+    assertThat(OtelTraceState.parse("r:62").getR()).isEqualTo(62);
+    assertThat(OtelTraceState.parse("p:").getP()).isEqualTo(OtelTraceState.INVALID);
+    assertThat(OtelTraceState.parse("p:-1").getP()).isEqualTo(OtelTraceState.INVALID);
+    assertThat(OtelTraceState.parse("p:001").getP()).isEqualTo(OtelTraceState.INVALID);
+    assertThat(OtelTraceState.parse("r:1a").getR()).isEqualTo(OtelTraceState.INVALID);
+    assertThat(OtelTraceState.parse("p:99;r:4").serialize()).isEqualTo("r:4");
+  }
+}
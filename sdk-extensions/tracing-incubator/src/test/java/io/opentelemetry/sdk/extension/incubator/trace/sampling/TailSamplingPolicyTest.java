@@ -0,0 +1,158 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.sampling;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TailSamplingPolicyTest {
+
+  private static final String TRACE_ID = "00000000000000000000000000abc123";
+
+  private static SpanData span(String spanId, long start, long end, StatusData status) {
+    return span(spanId, start, end, status, Attributes.empty());
+  }
+
+  private static SpanData span(
+      String spanId, long start, long end, StatusData status, Attributes attributes) {
+    return TestSpanData.builder()
+        .setHasEnded(true)
+        .setTraceId(TRACE_ID)
+        .setSpanId(spanId)
+        .setName("span")
+        .setKind(Span.Kind.INTERNAL)
+        .setStartEpochNanos(start)
+        .setEndEpochNanos(end)
+        .setStatus(status)
+        .setAttributes(attributes)
+        .build();
+  }
+
+  @Test
+  void errors() {
+    TailSamplingPolicy policy = TailSamplingPolicy.errors();
+    assertThat(policy.getDescription()).isEqualTo("Errors");
+    assertThat(
+            policy.shouldKeep(
+                Arrays.asList(
+                    span("0000000000000001", 0, 10, StatusData.ok()),
+                    span("0000000000000002", 0, 10, StatusData.error()))))
+        .isTrue();
+    assertThat(
+            policy.shouldKeep(
+                Arrays.asList(
+                    span("0000000000000001", 0, 10, StatusData.ok()),
+                    span("0000000000000002", 0, 10, StatusData.unset()))))
+        .isFalse();
+  }
+
+  @Test
+  void latencyAbove() {
+    TailSamplingPolicy policy = TailSamplingPolicy.latencyAbove(Duration.ofMillis(100));
+    assertThat(policy.getDescription()).isEqualTo("LatencyAbove{100ms}");
+
+    long millis = TimeUnit.MILLISECONDS.toNanos(1);
+    // The latency of the trace is measured from the first start to the last end.
+    List<SpanData> slow =
+        Arrays.asList(
+            span("0000000000000001", 0, 60 * millis, StatusData.unset()),
+            span("0000000000000002", 50 * millis, 150 * millis, StatusData.unset()));
+    assertThat(policy.shouldKeep(slow)).isTrue();
+    List<SpanData> fast =
+        Arrays.asList(
+            span("0000000000000001", 0, 60 * millis, StatusData.unset()),
+            span("0000000000000002", 50 * millis, 100 * millis, StatusData.unset()));
+    assertThat(policy.shouldKeep(fast)).isFalse();
+    assertThat(policy.shouldKeep(Collections.emptyList())).isFalse();
+  }
+
+  @Test
+  void latencyAbove_invalid() {
+    assertThatThrownBy(() -> TailSamplingPolicy.latencyAbove(-1, TimeUnit.SECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("latency must be non-negative");
+    assertThatThrownBy(() -> TailSamplingPolicy.latencyAbove(1, null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("unit");
+    assertThatThrownBy(() -> TailSamplingPolicy.latencyAbove(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("latency");
+  }
+
+  @Test
+  void attributeEquals() {
+    TailSamplingPolicy policy = TailSamplingPolicy.attributeEquals(stringKey("tenant"), "gold");
+    assertThat(policy.getDescription()).isEqualTo("AttributeEquals{tenant=gold}");
+    assertThat(
+            policy.shouldKeep(
+                Arrays.asList(
+                    span("0000000000000001", 0, 10, StatusData.unset()),
+                    span(
+                        "0000000000000002",
+                        0,
+                        10,
+                        StatusData.unset(),
+                        Attributes.of(stringKey("tenant"), "gold")))))
+        .isTrue();
+    assertThat(
+            policy.shouldKeep(
+                Collections.singletonList(
+                    span(
+                        "0000000000000001",
+                        0,
+                        10,
+                        StatusData.unset(),
+                        Attributes.of(stringKey("tenant"), "silver")))))
+        .isFalse();
+  }
+
+  @Test
+  void attributeEquals_invalid() {
+    assertThatThrownBy(() -> TailSamplingPolicy.attributeEquals(null, "gold"))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("key");
+    assertThatThrownBy(() -> TailSamplingPolicy.attributeEquals(stringKey("tenant"), null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("value");
+  }
+
+  @Test
+  void rateLimiting() {
+    TailSamplingPolicy policy = TailSamplingPolicy.rateLimiting(0.001);
+    assertThat(policy.getDescription()).isEqualTo("RateLimiting{0.001}");
+    List<SpanData> trace =
+        Collections.singletonList(span("0000000000000001", 0, 10, StatusData.unset()));
+    // A single trace may be kept right away, the next one in about 1000 seconds.
+    assertThat(policy.shouldKeep(trace)).isTrue();
+    assertThat(policy.shouldKeep(trace)).isFalse();
+
+    TailSamplingPolicy burst = TailSamplingPolicy.rateLimiting(3);
+    assertThat(burst.shouldKeep(trace)).isTrue();
+    assertThat(burst.shouldKeep(trace)).isTrue();
+    assertThat(burst.shouldKeep(trace)).isTrue();
+    assertThat(burst.shouldKeep(trace)).isFalse();
+  }
+
+  @Test
+  void rateLimiting_invalid() {
+    assertThatThrownBy(() -> TailSamplingPolicy.rateLimiting(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("tracesPerSecond must be positive.");
+  }
+}
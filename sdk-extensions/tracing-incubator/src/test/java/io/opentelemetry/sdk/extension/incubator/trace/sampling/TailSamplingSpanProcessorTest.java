@@ -0,0 +1,263 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace.sampling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.config.TraceConfig;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TailSamplingSpanProcessorTest {
+
+  private static final AttributeKey<String> TENANT = AttributeKey.stringKey("tenant");
+
+  private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+  private SdkTracerProvider tracerProvider;
+  private TailSamplingSpanProcessor processor;
+  private Tracer tracer;
+
+  private void setUp(TailSamplingSpanProcessorBuilder builder) {
+    processor = builder.build();
+    tracerProvider =
+        SdkTracerProvider.builder()
+            .setTraceConfig(
+                TraceConfig.getDefault().toBuilder().setSampler(Sampler.alwaysOn()).build())
+            .addSpanProcessor(processor)
+            .build();
+    tracer = tracerProvider.get("test");
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (tracerProvider != null) {
+      tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  void invalidConfig() {
+    assertThatThrownBy(() -> TailSamplingSpanProcessor.builder(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("spanExporter");
+    assertThatThrownBy(() -> TailSamplingSpanProcessor.builder(exporter).build())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("At least one policy must be added.");
+    assertThatThrownBy(() -> TailSamplingSpanProcessor.builder(exporter).addPolicy(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("policy");
+    assertThatThrownBy(
+            () -> TailSamplingSpanProcessor.builder(exporter).setDecisionWait(Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("decisionWait must be positive");
+    assertThatThrownBy(() -> TailSamplingSpanProcessor.builder(exporter).setMaxBufferedSpans(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxBufferedSpans must be positive.");
+    assertThatThrownBy(() -> TailSamplingSpanProcessor.builder(exporter).setMaxSpansPerTrace(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxSpansPerTrace must be positive.");
+  }
+
+  @Test
+  void keepsWholeTraceWhenRootEnds() {
+    setUp(TailSamplingSpanProcessor.builder(exporter).addPolicy(TailSamplingPolicy.errors()));
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    Context context = Context.current().with(root);
+    tracer.spanBuilder("ok").setParent(context).startSpan().end();
+    tracer.spanBuilder("failed").setParent(context).startSpan().setStatus(StatusCode.ERROR).end();
+    // Nothing is exported before the local root span ends.
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+    assertThat(processor.getBufferedSpans()).isEqualTo(2);
+
+    root.end();
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactlyInAnyOrder("ok", "failed", "root");
+    assertThat(processor.getBufferedSpans()).isEqualTo(0);
+    assertThat(processor.getBufferedTraces()).isEqualTo(0);
+  }
+
+  @Test
+  void dropsTraceMatchingNoPolicy() {
+    setUp(TailSamplingSpanProcessor.builder(exporter).addPolicy(TailSamplingPolicy.errors()));
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    tracer.spanBuilder("child").setParent(Context.current().with(root)).startSpan().end();
+    root.end();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+    assertThat(processor.getBufferedSpans()).isEqualTo(0);
+  }
+
+  @Test
+  void anyPolicyKeeps() {
+    setUp(
+        TailSamplingSpanProcessor.builder(exporter)
+            .addPolicy(TailSamplingPolicy.errors())
+            .addPolicy(TailSamplingPolicy.attributeEquals(TENANT, "gold")));
+
+    tracer.spanBuilder("gold").setAttribute(TENANT, "gold").startSpan().end();
+    tracer.spanBuilder("silver").setAttribute(TENANT, "silver").startSpan().end();
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("gold");
+  }
+
+  @Test
+  void lateSpansFollowDecision() {
+    setUp(TailSamplingSpanProcessor.builder(exporter).addPolicy(TailSamplingPolicy.errors()));
+
+    Span kept = tracer.spanBuilder("kept").startSpan();
+    Span keptChild =
+        tracer.spanBuilder("keptChild").setParent(Context.current().with(kept)).startSpan();
+    kept.setStatus(StatusCode.ERROR).end();
+    Span dropped = tracer.spanBuilder("dropped").startSpan();
+    Span droppedChild =
+        tracer.spanBuilder("droppedChild").setParent(Context.current().with(dropped)).startSpan();
+    dropped.end();
+
+    keptChild.end();
+    droppedChild.end();
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("kept", "keptChild");
+    assertThat(processor.getBufferedSpans()).isEqualTo(0);
+  }
+
+  @Test
+  void decidesAfterDecisionWait() {
+    setUp(
+        TailSamplingSpanProcessor.builder(exporter)
+            .addPolicy(TailSamplingPolicy.errors())
+            .setDecisionWait(50, TimeUnit.MILLISECONDS));
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    tracer
+        .spanBuilder("failed")
+        .setParent(Context.current().with(root))
+        .startSpan()
+        .setStatus(StatusCode.ERROR)
+        .end();
+    assertThat(processor.getBufferedSpans()).isEqualTo(1);
+
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(exporter.getFinishedSpanItems())
+                    .extracting(SpanData::getName)
+                    .containsExactly("failed"));
+    assertThat(processor.getBufferedTraces()).isEqualTo(0);
+
+    // The root span follows the decision.
+    root.end();
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("failed", "root");
+  }
+
+  @Test
+  void evictsOldestTraces() {
+    setUp(
+        TailSamplingSpanProcessor.builder(exporter)
+            .addPolicy(TailSamplingPolicy.errors())
+            .setMaxBufferedSpans(2));
+
+    Span first = tracer.spanBuilder("first").startSpan();
+    tracer
+        .spanBuilder("firstChild")
+        .setParent(Context.current().with(first))
+        .startSpan()
+        .setStatus(StatusCode.ERROR)
+        .end();
+    Span second = tracer.spanBuilder("second").startSpan();
+    tracer.spanBuilder("secondChild").setParent(Context.current().with(second)).startSpan().end();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+
+    // The first trace is decided early to make room.
+    Span third = tracer.spanBuilder("third").startSpan();
+    tracer.spanBuilder("thirdChild").setParent(Context.current().with(third)).startSpan().end();
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("firstChild");
+    assertThat(processor.getBufferedSpans()).isEqualTo(2);
+    assertThat(processor.getBufferedTraces()).isEqualTo(2);
+  }
+
+  @Test
+  void decidesFullTrace() {
+    setUp(
+        TailSamplingSpanProcessor.builder(exporter)
+            .addPolicy(TailSamplingPolicy.errors())
+            .setMaxSpansPerTrace(2));
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    Context context = Context.current().with(root);
+    tracer.spanBuilder("failed").setParent(context).startSpan().setStatus(StatusCode.ERROR).end();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+    tracer.spanBuilder("child").setParent(context).startSpan().end();
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("failed", "child");
+  }
+
+  @Test
+  void forceFlush() {
+    setUp(TailSamplingSpanProcessor.builder(exporter).addPolicy(TailSamplingPolicy.errors()));
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    tracer
+        .spanBuilder("failed")
+        .setParent(Context.current().with(root))
+        .startSpan()
+        .setStatus(StatusCode.ERROR)
+        .end();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+
+    assertThat(tracerProvider.forceFlush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("failed");
+    assertThat(processor.getBufferedSpans()).isEqualTo(0);
+  }
+
+  @Test
+  void policyThrows() {
+    setUp(
+        TailSamplingSpanProcessor.builder(exporter)
+            .addPolicy(
+                new TailSamplingPolicy() {
+                  @Override
+                  public boolean shouldKeep(List<SpanData> spans) {
+                    throw new IllegalStateException("policy failed");
+                  }
+
+                  @Override
+                  public String getDescription() {
+                    return "Throwing";
+                  }
+                })
+            .addPolicy(TailSamplingPolicy.attributeEquals(TENANT, "gold")));
+
+    tracer.spanBuilder("gold").setAttribute(TENANT, "gold").startSpan().end();
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("gold");
+  }
+}
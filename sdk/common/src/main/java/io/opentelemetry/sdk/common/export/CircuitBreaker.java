@@ -0,0 +1,292 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.common.export;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.BoundLongCounter;
+import io.opentelemetry.api.metrics.GlobalMetricsProvider;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Stops calling an exporter while its backend is unhealthy, so that exports fail fast instead of
+ * each waiting for a doomed call to time out.
+ *
+ * <p>The breaker starts {@link State#CLOSED}, passing every export through. Once {@code
+ * failureThreshold} consecutive exports failed, or took longer than the export timeout, it opens:
+ * exports are rejected without calling the exporter until the open duration elapsed. It is then
+ * {@link State#HALF_OPEN}, and lets one trial export through at a time. It closes again after
+ * {@code halfOpenTrials} successful trials, and opens again as soon as a trial fails.
+ *
+ * <p>The state is published as the {@code circuitBreakerState} metric, {@code 0} when closed,
+ * {@code 1} when open and {@code 2} when half-open, and rejected exports are counted by {@code
+ * circuitBreakerRejectedExports}, both with a {@code circuitBreaker} label holding the name of the
+ * breaker.
+ *
+ * <p>A breaker guards a single exporter, see {@code CircuitBreakingSpanExporter} and {@code
+ * CircuitBreakingMetricExporter}.
+ */
+@ThreadSafe
+public final class CircuitBreaker {
+
+  private static final Logger logger = Logger.getLogger(CircuitBreaker.class.getName());
+  private static final String CIRCUIT_BREAKER_LABEL = "circuitBreaker";
+
+  // A meter keeps only the first observer registered with a name, so a single observer reports the
+  // state of every breaker. Breakers have no lifecycle, they are dropped once garbage collected.
+  @GuardedBy("liveBreakers")
+  private static final Set<CircuitBreaker> liveBreakers =
+      Collections.newSetFromMap(new WeakHashMap<>());
+
+  private static final AtomicBoolean stateObserverRegistered = new AtomicBoolean();
+
+  /** The state of a {@link CircuitBreaker}. */
+  public enum State {
+    /** Exports are passed through. */
+    CLOSED,
+    /** Exports are rejected. */
+    OPEN,
+    /** One trial export at a time is passed through. */
+    HALF_OPEN,
+  }
+
+  private final String name;
+  private final Labels labels;
+  private final int failureThreshold;
+  private final long openDurationNanos;
+  private final int halfOpenTrials;
+  private final long exportTimeoutNanos;
+  private final Clock clock;
+  private final BoundLongCounter rejectedExports;
+
+  private final Object lock = new Object();
+
+  @GuardedBy("lock")
+  private State state = State.CLOSED;
+
+  // Consecutive failures while closed, successful trials while half-open.
+  @GuardedBy("lock")
+  private int count;
+
+  @GuardedBy("lock")
+  private long openedAtNanos;
+
+  @GuardedBy("lock")
+  private boolean trialInFlight;
+
+  @GuardedBy("lock")
+  private final Set<Call> pendingCalls = Collections.newSetFromMap(new IdentityHashMap<>());
+
+  /**
+   * Returns a new {@link CircuitBreakerBuilder} for a {@link CircuitBreaker} named {@code name}.
+   *
+   * @param name the name of the breaker, used to label its metrics.
+   * @return a new {@link CircuitBreakerBuilder}.
+   */
+  public static CircuitBreakerBuilder builder(String name) {
+    return new CircuitBreakerBuilder(name);
+  }
+
+  CircuitBreaker(
+      String name,
+      int failureThreshold,
+      long openDurationNanos,
+      int halfOpenTrials,
+      long exportTimeoutNanos,
+      Clock clock) {
+    this.name = name;
+    this.failureThreshold = failureThreshold;
+    this.openDurationNanos = openDurationNanos;
+    this.halfOpenTrials = halfOpenTrials;
+    this.exportTimeoutNanos = exportTimeoutNanos;
+    this.clock = clock;
+    this.labels = Labels.of(CIRCUIT_BREAKER_LABEL, name);
+    Meter meter = GlobalMetricsProvider.getMeter("io.opentelemetry.sdk.common");
+    if (stateObserverRegistered.compareAndSet(false, true)) {
+      meter
+          .longValueObserverBuilder("circuitBreakerState")
+          .setDescription("The state of the circuit breaker: 0 closed, 1 open, 2 half-open")
+          .setUnit("1")
+          .setUpdater(
+              result -> {
+                synchronized (liveBreakers) {
+                  for (CircuitBreaker breaker : liveBreakers) {
+                    result.observe(breaker.getState().ordinal(), breaker.labels);
+                  }
+                }
+              })
+          .build();
+    }
+    rejectedExports =
+        meter
+            .longCounterBuilder("circuitBreakerRejectedExports")
+            .setDescription("The number of exports rejected while the circuit breaker is open")
+            .setUnit("1")
+            .build()
+            .bind(labels);
+    synchronized (liveBreakers) {
+      liveBreakers.add(this);
+    }
+  }
+
+  /** Returns the current state of the breaker. */
+  public State getState() {
+    synchronized (lock) {
+      return state;
+    }
+  }
+
+  /**
+   * Calls {@code export} if the breaker lets it through, or {@code whenRejected} otherwise, and
+   * records the outcome of the export.
+   *
+   * @param export starts the export.
+   * @param whenRejected starts what replaces the export while the breaker is open, e.g. returns a
+   *     failed result or exports to a fallback exporter.
+   * @return the result of the export, or of {@code whenRejected}.
+   */
+  public CompletableResultCode execute(
+      Supplier<CompletableResultCode> export, Supplier<CompletableResultCode> whenRejected) {
+    Call call = tryAcquire();
+    if (call == null) {
+      rejectedExports.add(1);
+      return whenRejected.get();
+    }
+    CompletableResultCode result;
+    try {
+      result = export.get();
+    } catch (RuntimeException e) {
+      call.complete(false);
+      throw e;
+    }
+    result.whenComplete(() -> call.complete(result.isSuccess()));
+    return result;
+  }
+
+  @Nullable
+  private Call tryAcquire() {
+    long now = clock.nanoTime();
+    List<Call> timedOut = null;
+    Call call;
+    synchronized (lock) {
+      // Exports that are still running after the timeout count as failures right away, so a
+      // hanging backend opens the breaker without waiting for the calls to give up.
+      if (exportTimeoutNanos > 0) {
+        for (Call pending : pendingCalls) {
+          if (now - pending.startNanos > exportTimeoutNanos) {
+            if (timedOut == null) {
+              timedOut = new ArrayList<>();
+            }
+            timedOut.add(pending);
+          }
+        }
+        if (timedOut != null) {
+          for (Call pending : timedOut) {
+            pendingCalls.remove(pending);
+            onCompleted(pending, false, now);
+          }
+        }
+      }
+      if (state == State.OPEN) {
+        if (now - openedAtNanos < openDurationNanos) {
+          return null;
+        }
+        transition(State.HALF_OPEN);
+        count = 0;
+      }
+      if (state == State.HALF_OPEN) {
+        if (trialInFlight) {
+          return null;
+        }
+        trialInFlight = true;
+        call = new Call(now, true);
+      } else {
+        call = new Call(now, false);
+      }
+      pendingCalls.add(call);
+    }
+    return call;
+  }
+
+  @GuardedBy("lock")
+  private void onCompleted(Call call, boolean success, long now) {
+    if (call.trial) {
+      trialInFlight = false;
+      if (state != State.HALF_OPEN) {
+        return;
+      }
+      if (!success) {
+        open(now);
+      } else if (++count >= halfOpenTrials) {
+        transition(State.CLOSED);
+        count = 0;
+      }
+      return;
+    }
+    if (state != State.CLOSED) {
+      // Exports started before the breaker opened don't affect it anymore.
+      return;
+    }
+    if (success) {
+      count = 0;
+    } else if (++count >= failureThreshold) {
+      open(now);
+    }
+  }
+
+  @GuardedBy("lock")
+  private void open(long now) {
+    transition(State.OPEN);
+    openedAtNanos = now;
+    count = 0;
+  }
+
+  @GuardedBy("lock")
+  private void transition(State newState) {
+    if (state != newState) {
+      logger.log(
+          newState == State.OPEN ? Level.WARNING : Level.INFO,
+          "Circuit breaker " + name + " is now " + newState);
+      state = newState;
+    }
+  }
+
+  private final class Call {
+    private final long startNanos;
+    private final boolean trial;
+
+    private Call(long startNanos, boolean trial) {
+      this.startNanos = startNanos;
+      this.trial = trial;
+    }
+
+    private void complete(boolean success) {
+      long now = clock.nanoTime();
+      synchronized (lock) {
+        if (!pendingCalls.remove(this)) {
+          // Already counted as timed out.
+          return;
+        }
+        boolean timedOut = exportTimeoutNanos > 0 && now - startNanos > exportTimeoutNanos;
+        onCompleted(this, success && !timedOut, now);
+      }
+    }
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.common.export;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.SystemClock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/** Builder class for {@link CircuitBreaker}. */
+public final class CircuitBreakerBuilder {
+
+  // Visible for testing
+  static final int DEFAULT_FAILURE_THRESHOLD = 5;
+  // Visible for testing
+  static final long DEFAULT_OPEN_DURATION_MILLIS = 30_000;
+  // Visible for testing
+  static final int DEFAULT_HALF_OPEN_TRIALS = 1;
+  // Visible for testing
+  static final long DEFAULT_EXPORT_TIMEOUT_MILLIS = 30_000;
+
+  private final String name;
+  private int failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+  private long openDurationNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_OPEN_DURATION_MILLIS);
+  private int halfOpenTrials = DEFAULT_HALF_OPEN_TRIALS;
+  private long exportTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_EXPORT_TIMEOUT_MILLIS);
+  private Clock clock = SystemClock.getInstance();
+
+  CircuitBreakerBuilder(String name) {
+    this.name = requireNonNull(name, "name");
+  }
+
+  /**
+   * Sets the number of consecutive failed exports after which the breaker opens. The default value
+   * is {@value DEFAULT_FAILURE_THRESHOLD}.
+   *
+   * @param failureThreshold the number of consecutive failed exports opening the breaker.
+   * @return this.
+   */
+  public CircuitBreakerBuilder setFailureThreshold(int failureThreshold) {
+    checkArgument(failureThreshold > 0, "failureThreshold must be positive.");
+    this.failureThreshold = failureThreshold;
+    return this;
+  }
+
+  /**
+   * Sets how long the breaker stays open before letting a trial export through. The default value
+   * is {@value DEFAULT_OPEN_DURATION_MILLIS}ms.
+   *
+   * @param duration how long the breaker stays open.
+   * @param unit the unit of {@code duration}.
+   * @return this.
+   */
+  public CircuitBreakerBuilder setOpenDuration(long duration, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(duration >= 0, "duration must be non-negative");
+    this.openDurationNanos = unit.toNanos(duration);
+    return this;
+  }
+
+  /**
+   * Sets how long the breaker stays open before letting a trial export through. The default value
+   * is {@value DEFAULT_OPEN_DURATION_MILLIS}ms.
+   *
+   * @param duration how long the breaker stays open.
+   * @return this.
+   */
+  public CircuitBreakerBuilder setOpenDuration(Duration duration) {
+    requireNonNull(duration, "duration");
+    return setOpenDuration(duration.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Sets the number of successful trial exports after which a half-open breaker closes. The default
+   * value is {@value DEFAULT_HALF_OPEN_TRIALS}.
+   *
+   * @param halfOpenTrials the number of successful trial exports closing the breaker.
+   * @return this.
+   */
+  public CircuitBreakerBuilder setHalfOpenTrials(int halfOpenTrials) {
+    checkArgument(halfOpenTrials > 0, "halfOpenTrials must be positive.");
+    this.halfOpenTrials = halfOpenTrials;
+    return this;
+  }
+
+  /**
+   * Sets the time after which a running export counts as failed, even if it eventually succeeds. It
+   * should not be longer than the time the processor waits for exports to complete. {@code 0}
+   * disables the timeout. The default value is {@value DEFAULT_EXPORT_TIMEOUT_MILLIS}ms.
+   *
+   * @param timeout the time after which a running export counts as failed.
+   * @param unit the unit of {@code timeout}.
+   * @return this.
+   */
+  public CircuitBreakerBuilder setExportTimeout(long timeout, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(timeout >= 0, "timeout must be non-negative");
+    this.exportTimeoutNanos = unit.toNanos(timeout);
+    return this;
+  }
+
+  /**
+   * Sets the time after which a running export counts as failed, even if it eventually succeeds. It
+   * should not be longer than the time the processor waits for exports to complete. {@code 0}
+   * disables the timeout. The default value is {@value DEFAULT_EXPORT_TIMEOUT_MILLIS}ms.
+   *
+   * @param timeout the time after which a running export counts as failed.
+   * @return this.
+   */
+  public CircuitBreakerBuilder setExportTimeout(Duration timeout) {
+    requireNonNull(timeout, "timeout");
+    return setExportTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  // Visible for testing
+  CircuitBreakerBuilder setClock(Clock clock) {
+    this.clock = requireNonNull(clock, "clock");
+    return this;
+  }
+
+  /**
+   * Returns a new {@link CircuitBreaker} with the values of this builder.
+   *
+   * @return a new {@link CircuitBreaker}.
+   */
+  public CircuitBreaker build() {
+    return new CircuitBreaker(
+        name, failureThreshold, openDurationNanos, halfOpenTrials, exportTimeoutNanos, clock);
+  }
+}
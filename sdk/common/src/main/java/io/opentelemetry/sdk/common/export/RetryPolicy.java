@@ -0,0 +1,78 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.common.export;
+
+import com.google.auto.value.AutoValue;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Configures how an exporter retries requests that failed with a transient error.
+ *
+ * <p>The delay before the {@code n}th retry is drawn between half and all of {@code min(maxBackoff,
+ * initialBackoff * backoffMultiplier^(n-1))}, or the delay requested by the server, whichever is
+ * longer. Retries are limited by a budget shared by all the requests of the exporter: each request
+ * adds {@code retryBudgetRatio} of a retry to the budget and each retry takes one, with a reserve
+ * of a few retries for quiet periods. Requests that are waiting to be retried hold at most {@code
+ * maxPendingItems} items in total, any other request fails right away.
+ */
+@AutoValue
+@Immutable
+public abstract class RetryPolicy {
+
+  private static final RetryPolicy DEFAULT = builder().build();
+  private static final RetryPolicy NO_RETRIES = builder().setMaxAttempts(1).build();
+
+  /** Returns the default {@link RetryPolicy}. */
+  public static RetryPolicy getDefault() {
+    return DEFAULT;
+  }
+
+  /** Returns a {@link RetryPolicy} which never retries, the default of exporters. */
+  public static RetryPolicy noRetries() {
+    return NO_RETRIES;
+  }
+
+  /** Returns a new {@link RetryPolicyBuilder} to construct a {@link RetryPolicy}. */
+  public static RetryPolicyBuilder builder() {
+    return new RetryPolicyBuilder();
+  }
+
+  static RetryPolicy create(
+      int maxAttempts,
+      long initialBackoffNanos,
+      long maxBackoffNanos,
+      double backoffMultiplier,
+      double retryBudgetRatio,
+      int maxPendingItems) {
+    return new AutoValue_RetryPolicy(
+        maxAttempts,
+        initialBackoffNanos,
+        maxBackoffNanos,
+        backoffMultiplier,
+        retryBudgetRatio,
+        maxPendingItems);
+  }
+
+  /** Returns the maximum number of attempts of a request, including the first one. */
+  public abstract int getMaxAttempts();
+
+  /** Returns the upper bound of the delay before the first retry, in nanoseconds. */
+  public abstract long getInitialBackoffNanos();
+
+  /** Returns the upper bound of the delay before any retry, in nanoseconds. */
+  public abstract long getMaxBackoffNanos();
+
+  /** Returns the factor by which the upper bound of the delay grows with every retry. */
+  public abstract double getBackoffMultiplier();
+
+  /** Returns the fraction of a retry each request adds to the retry budget. */
+  public abstract double getRetryBudgetRatio();
+
+  /** Returns the maximum number of items held by requests waiting to be retried. */
+  public abstract int getMaxPendingItems();
+
+  RetryPolicy() {}
+}
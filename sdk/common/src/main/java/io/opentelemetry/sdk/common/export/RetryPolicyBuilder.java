@@ -0,0 +1,138 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.common.export;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/** Builder for {@link RetryPolicy}. */
+public final class RetryPolicyBuilder {
+
+  // Visible for testing
+  static final int DEFAULT_MAX_ATTEMPTS = 5;
+  // Visible for testing
+  static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 1000;
+  // Visible for testing
+  static final long DEFAULT_MAX_BACKOFF_MILLIS = 5000;
+  // Visible for testing
+  static final double DEFAULT_BACKOFF_MULTIPLIER = 1.5;
+  // Visible for testing
+  static final double DEFAULT_RETRY_BUDGET_RATIO = 0.2;
+  // Visible for testing
+  static final int DEFAULT_MAX_PENDING_ITEMS = 8192;
+
+  private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+  private long initialBackoffNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_INITIAL_BACKOFF_MILLIS);
+  private long maxBackoffNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_MAX_BACKOFF_MILLIS);
+  private double backoffMultiplier = DEFAULT_BACKOFF_MULTIPLIER;
+  private double retryBudgetRatio = DEFAULT_RETRY_BUDGET_RATIO;
+  private int maxPendingItems = DEFAULT_MAX_PENDING_ITEMS;
+
+  RetryPolicyBuilder() {}
+
+  /**
+   * Sets the maximum number of attempts of a request, including the first one. If unset, defaults
+   * to {@value DEFAULT_MAX_ATTEMPTS}.
+   */
+  public RetryPolicyBuilder setMaxAttempts(int maxAttempts) {
+    checkArgument(maxAttempts > 0, "maxAttempts must be positive.");
+    this.maxAttempts = maxAttempts;
+    return this;
+  }
+
+  /**
+   * Sets the upper bound of the delay before the first retry. If unset, defaults to {@value
+   * DEFAULT_INITIAL_BACKOFF_MILLIS}ms.
+   */
+  public RetryPolicyBuilder setInitialBackoff(long backoff, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(backoff > 0, "backoff must be positive");
+    this.initialBackoffNanos = unit.toNanos(backoff);
+    return this;
+  }
+
+  /**
+   * Sets the upper bound of the delay before the first retry. If unset, defaults to {@value
+   * DEFAULT_INITIAL_BACKOFF_MILLIS}ms.
+   */
+  public RetryPolicyBuilder setInitialBackoff(Duration backoff) {
+    requireNonNull(backoff, "backoff");
+    return setInitialBackoff(backoff.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Sets the upper bound of the delay before any retry, unless the server requests a longer delay.
+   * If unset, defaults to {@value DEFAULT_MAX_BACKOFF_MILLIS}ms.
+   */
+  public RetryPolicyBuilder setMaxBackoff(long backoff, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(backoff > 0, "backoff must be positive");
+    this.maxBackoffNanos = unit.toNanos(backoff);
+    return this;
+  }
+
+  /**
+   * Sets the upper bound of the delay before any retry, unless the server requests a longer delay.
+   * If unset, defaults to {@value DEFAULT_MAX_BACKOFF_MILLIS}ms.
+   */
+  public RetryPolicyBuilder setMaxBackoff(Duration backoff) {
+    requireNonNull(backoff, "backoff");
+    return setMaxBackoff(backoff.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Sets the factor by which the upper bound of the delay grows with every retry. If unset,
+   * defaults to {@value DEFAULT_BACKOFF_MULTIPLIER}.
+   */
+  public RetryPolicyBuilder setBackoffMultiplier(double backoffMultiplier) {
+    checkArgument(backoffMultiplier >= 1, "backoffMultiplier must be at least 1.");
+    this.backoffMultiplier = backoffMultiplier;
+    return this;
+  }
+
+  /**
+   * Sets the fraction of a retry each request adds to the retry budget, which bounds the number of
+   * retries to about that fraction of the requests. If unset, defaults to {@value
+   * DEFAULT_RETRY_BUDGET_RATIO}.
+   */
+  public RetryPolicyBuilder setRetryBudgetRatio(double retryBudgetRatio) {
+    checkArgument(retryBudgetRatio >= 0, "retryBudgetRatio must be non-negative.");
+    this.retryBudgetRatio = retryBudgetRatio;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of items, such as spans or metrics, held by requests waiting to be
+   * retried. Requests that would exceed it fail instead of being retried. If unset, defaults to
+   * {@value DEFAULT_MAX_PENDING_ITEMS}.
+   */
+  public RetryPolicyBuilder setMaxPendingItems(int maxPendingItems) {
+    checkArgument(maxPendingItems >= 0, "maxPendingItems must be non-negative.");
+    this.maxPendingItems = maxPendingItems;
+    return this;
+  }
+
+  /**
+   * Builds and returns a {@link RetryPolicy} with the values of this builder.
+   *
+   * @return a {@link RetryPolicy} with the values of this builder.
+   * @throws IllegalArgumentException if the max backoff is shorter than the initial backoff.
+   */
+  public RetryPolicy build() {
+    checkArgument(
+        maxBackoffNanos >= initialBackoffNanos, "maxBackoff must not be less than initialBackoff.");
+    return RetryPolicy.create(
+        maxAttempts,
+        initialBackoffNanos,
+        maxBackoffNanos,
+        backoffMultiplier,
+        retryBudgetRatio,
+        maxPendingItems);
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.common.export;
+
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.BoundLongValueRecorder;
+import io.opentelemetry.api.metrics.GlobalMetricsProvider;
+import io.opentelemetry.api.metrics.LongValueRecorder;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded pool of threads that runs the background work of several telemetry pipelines, such as
+ * batch processors, metric readers and remote samplers, instead of each of them starting threads of
+ * its own.
+ *
+ * <p>Every task is submitted on behalf of a named pipeline. The scheduler records how long the
+ * tasks of each pipeline run ({@code telemetrySchedulerTaskDuration}) and how late they start
+ * ({@code telemetrySchedulerTaskDelay}), in nanoseconds, with a {@code pipeline} label. A task that
+ * throws is logged and, if periodic, keeps being scheduled.
+ *
+ * <p>A task occupies its thread until it returns, including while it waits, e.g. a batch processor
+ * waiting for an export to complete or time out. While every thread is busy, the tasks of all other
+ * pipelines are delayed, so the number of threads should allow for such waits.
+ *
+ * <p>Pipelines running on a scheduler must be shut down before the scheduler itself.
+ */
+@ThreadSafe
+public final class TelemetryScheduler {
+
+  private static final Logger logger = Logger.getLogger(TelemetryScheduler.class.getName());
+  private static final String PIPELINE_LABEL = "pipeline";
+
+  private final Executor executor;
+  private final LongValueRecorder taskDuration;
+  private final LongValueRecorder taskDelay;
+  private final ConcurrentMap<String, PipelineMetrics> pipelineMetrics = new ConcurrentHashMap<>();
+
+  /**
+   * Returns a new {@link TelemetrySchedulerBuilder} for {@link TelemetryScheduler}.
+   *
+   * @return a new {@link TelemetrySchedulerBuilder} for {@link TelemetryScheduler}.
+   */
+  public static TelemetrySchedulerBuilder builder() {
+    return new TelemetrySchedulerBuilder();
+  }
+
+  TelemetryScheduler(int threadCount, ThreadFactory threadFactory) {
+    executor = new Executor(threadCount, threadFactory);
+    executor.setRemoveOnCancelPolicy(true);
+    executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+    Meter meter = GlobalMetricsProvider.getMeter("io.opentelemetry.sdk.common");
+    taskDuration =
+        meter
+            .longValueRecorderBuilder("telemetrySchedulerTaskDuration")
+            .setDescription("How long the tasks of a pipeline run")
+            .setUnit("ns")
+            .build();
+    taskDelay =
+        meter
+            .longValueRecorderBuilder("telemetrySchedulerTaskDelay")
+            .setDescription("How late the tasks of a pipeline start")
+            .setUnit("ns")
+            .build();
+  }
+
+  /**
+   * Runs {@code task} as soon as a thread is available.
+   *
+   * @param pipeline the name of the pipeline the task belongs to.
+   * @param task the task to run.
+   */
+  public void execute(String pipeline, Runnable task) {
+    schedule(pipeline, task, 0, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Runs {@code task} once after {@code delay}.
+   *
+   * @param pipeline the name of the pipeline the task belongs to.
+   * @param task the task to run.
+   * @param delay the time to wait before running the task.
+   * @param unit the unit of {@code delay}.
+   * @return a {@link ScheduledFuture} that can be used to cancel the task.
+   */
+  public ScheduledFuture<?> schedule(String pipeline, Runnable task, long delay, TimeUnit unit) {
+    long delayNanos = unit.toNanos(delay);
+    TimedTask timedTask = new TimedTask(getMetrics(pipeline), task, 0, false, delayNanos);
+    return executor.schedule(timedTask, delayNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Runs {@code task} every {@code period}, starting after {@code initialDelay}.
+   *
+   * @param pipeline the name of the pipeline the task belongs to.
+   * @param task the task to run.
+   * @param initialDelay the time to wait before running the task the first time.
+   * @param period the time between the starts of consecutive runs.
+   * @param unit the unit of {@code initialDelay} and {@code period}.
+   * @return a {@link ScheduledFuture} that can be used to cancel the task.
+   */
+  public ScheduledFuture<?> scheduleAtFixedRate(
+      String pipeline, Runnable task, long initialDelay, long period, TimeUnit unit) {
+    long initialDelayNanos = unit.toNanos(initialDelay);
+    TimedTask timedTask =
+        new TimedTask(getMetrics(pipeline), task, unit.toNanos(period), true, initialDelayNanos);
+    return executor.scheduleAtFixedRate(
+        timedTask, initialDelayNanos, unit.toNanos(period), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Runs {@code task} repeatedly, waiting {@code delay} after the end of each run before starting
+   * the next one, starting after {@code initialDelay}.
+   *
+   * @param pipeline the name of the pipeline the task belongs to.
+   * @param task the task to run.
+   * @param initialDelay the time to wait before running the task the first time.
+   * @param delay the time between the end of a run and the start of the next one.
+   * @param unit the unit of {@code initialDelay} and {@code delay}.
+   * @return a {@link ScheduledFuture} that can be used to cancel the task.
+   */
+  public ScheduledFuture<?> scheduleWithFixedDelay(
+      String pipeline, Runnable task, long initialDelay, long delay, TimeUnit unit) {
+    long initialDelayNanos = unit.toNanos(initialDelay);
+    TimedTask timedTask =
+        new TimedTask(getMetrics(pipeline), task, unit.toNanos(delay), false, initialDelayNanos);
+    return executor.scheduleWithFixedDelay(
+        timedTask, initialDelayNanos, unit.toNanos(delay), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Stops running tasks. Tasks that are running are allowed to complete, tasks that haven't started
+   * yet and tasks submitted later are discarded.
+   *
+   * @return a {@link CompletableResultCode} which completes when the running tasks have completed.
+   */
+  public CompletableResultCode shutdown() {
+    executor.shutdown();
+    return executor.terminated;
+  }
+
+  /** Returns whether {@link #shutdown()} has been called. */
+  public boolean isShutdown() {
+    return executor.isShutdown();
+  }
+
+  private PipelineMetrics getMetrics(String pipeline) {
+    requireNonNull(pipeline, "pipeline");
+    return pipelineMetrics.computeIfAbsent(
+        pipeline,
+        name -> {
+          Labels labels = Labels.of(PIPELINE_LABEL, name);
+          return new PipelineMetrics(taskDuration.bind(labels), taskDelay.bind(labels));
+        });
+  }
+
+  private static final class Executor extends ScheduledThreadPoolExecutor {
+    private final CompletableResultCode terminated = new CompletableResultCode();
+
+    private Executor(int threadCount, ThreadFactory threadFactory) {
+      super(threadCount, threadFactory);
+    }
+
+    @Override
+    protected void terminated() {
+      terminated.succeed();
+    }
+  }
+
+  private static final class PipelineMetrics {
+    private final BoundLongValueRecorder taskDuration;
+    private final BoundLongValueRecorder taskDelay;
+
+    private PipelineMetrics(BoundLongValueRecorder taskDuration, BoundLongValueRecorder taskDelay) {
+      this.taskDuration = taskDuration;
+      this.taskDelay = taskDelay;
+    }
+  }
+
+  // Records the metrics of a task. Runs of the same periodic task never overlap, so the expected
+  // start time of the next run can be kept in a plain field.
+  private static final class TimedTask implements Runnable {
+    private final PipelineMetrics metrics;
+    private final Runnable task;
+    private final long periodNanos;
+    private final boolean fixedRate;
+    private long expectedStartNanos;
+
+    private TimedTask(
+        PipelineMetrics metrics,
+        Runnable task,
+        long periodNanos,
+        boolean fixedRate,
+        long initialDelayNanos) {
+      this.metrics = metrics;
+      this.task = requireNonNull(task, "task");
+      this.periodNanos = periodNanos;
+      this.fixedRate = fixedRate;
+      this.expectedStartNanos = System.nanoTime() + initialDelayNanos;
+    }
+
+    @Override
+    public void run() {
+      long start = System.nanoTime();
+      metrics.taskDelay.record(Math.max(0, start - expectedStartNanos));
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        logger.log(Level.WARNING, "Telemetry task threw an Exception", e);
+      } finally {
+        long end = System.nanoTime();
+        metrics.taskDuration.record(end - start);
+        expectedStartNanos = fixedRate ? expectedStartNanos + periodNanos : end + periodNanos;
+      }
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.common.export;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/** Builder class for {@link TelemetryScheduler}. */
+public final class TelemetrySchedulerBuilder {
+
+  private static final Logger logger = Logger.getLogger(TelemetrySchedulerBuilder.class.getName());
+  private static final String THREAD_NAME = "TelemetryScheduler";
+
+  // Visible for testing
+  static final int DEFAULT_THREAD_COUNT = 1;
+
+  private int threadCount = DEFAULT_THREAD_COUNT;
+  private boolean useVirtualThreads = false;
+
+  TelemetrySchedulerBuilder() {}
+
+  /**
+   * Sets the number of threads of the scheduler. The default value is {@value
+   * DEFAULT_THREAD_COUNT}.
+   *
+   * @param threadCount the number of threads of the scheduler.
+   * @return this.
+   * @throws IllegalArgumentException if {@code threadCount} is not positive.
+   */
+  public TelemetrySchedulerBuilder setThreadCount(int threadCount) {
+    checkArgument(threadCount > 0, "threadCount must be positive.");
+    this.threadCount = threadCount;
+    return this;
+  }
+
+  // Visible for testing
+  int getThreadCount() {
+    return threadCount;
+  }
+
+  /**
+   * Sets whether the scheduler runs its tasks on virtual threads instead of platform daemon
+   * threads. Virtual threads are used from Java 21, and on Java 19 and 20 when preview features are
+   * enabled. Otherwise the scheduler falls back to platform threads. The default value is {@code
+   * false}.
+   *
+   * @param useVirtualThreads whether to run tasks on virtual threads.
+   * @return this.
+   */
+  public TelemetrySchedulerBuilder setUseVirtualThreads(boolean useVirtualThreads) {
+    this.useVirtualThreads = useVirtualThreads;
+    return this;
+  }
+
+  // Visible for testing
+  boolean getUseVirtualThreads() {
+    return useVirtualThreads;
+  }
+
+  /**
+   * Returns a new {@link TelemetryScheduler} that starts its threads as tasks are submitted.
+   *
+   * @return a new {@link TelemetryScheduler}.
+   */
+  public TelemetryScheduler build() {
+    ThreadFactory threadFactory = null;
+    if (useVirtualThreads) {
+      threadFactory = DaemonThreadFactory.newVirtualThreadFactory(THREAD_NAME);
+      if (threadFactory == null) {
+        logger.log(
+            Level.FINE, "Virtual threads are not available, using platform threads instead.");
+      }
+    }
+    if (threadFactory == null) {
+      threadFactory = new DaemonThreadFactory(THREAD_NAME);
+    }
+    return new TelemetryScheduler(threadCount, threadFactory);
+  }
+}
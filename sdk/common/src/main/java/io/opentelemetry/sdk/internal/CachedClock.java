@@ -0,0 +1,102 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.sdk.common.Clock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link Clock} that returns the time of another clock as read by a background thread at a fixed
+ * resolution, trading precision for much cheaper reads of the current time.
+ *
+ * <p>This is useful on hosts where reading the time is expensive, for example virtual machines
+ * where {@link System#nanoTime()} is not served by the vDSO, and where timestamps with a precision
+ * of the configured resolution are enough. Reads never go backwards, and elapsed times measured
+ * with {@link #nanoTime()} are accurate to the resolution.
+ *
+ * <p>The clock is not owned by the providers it is passed to, since it may be shared by several of
+ * them, and shutting them down leaves it running. Its background thread is a daemon thread which
+ * runs for the lifetime of the process, unless {@link #shutdown()} is called once every provider
+ * using the clock has been shut down.
+ */
+@ThreadSafe
+public final class CachedClock implements Clock {
+
+  private final Clock clock;
+  private final ScheduledExecutorService ticker;
+
+  private volatile long now;
+  private volatile long nanoTime;
+
+  /**
+   * Returns a {@code CachedClock} that reads the {@link SystemClock} every {@code resolution}.
+   *
+   * @param resolution the interval at which the time is updated.
+   * @param unit the unit of the {@code resolution}.
+   * @return a {@code CachedClock}.
+   */
+  public static CachedClock create(long resolution, TimeUnit unit) {
+    return create(SystemClock.getInstance(), resolution, unit);
+  }
+
+  /**
+   * Returns a {@code CachedClock} that reads {@code clock} every {@code resolution}.
+   *
+   * @param clock the {@code Clock} to be used to read the current epoch time and nanoTime.
+   * @param resolution the interval at which the time is updated.
+   * @param unit the unit of the {@code resolution}.
+   * @return a {@code CachedClock}.
+   */
+  public static CachedClock create(Clock clock, long resolution, TimeUnit unit) {
+    requireNonNull(clock, "clock");
+    requireNonNull(unit, "unit");
+    if (resolution <= 0) {
+      throw new IllegalArgumentException("resolution must be positive");
+    }
+    CachedClock cachedClock = new CachedClock(clock);
+    cachedClock.ticker.scheduleAtFixedRate(cachedClock::tick, resolution, resolution, unit);
+    return cachedClock;
+  }
+
+  private CachedClock(Clock clock) {
+    this.clock = clock;
+    this.ticker = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("otel-clock"));
+    this.now = clock.now();
+    this.nanoTime = clock.nanoTime();
+  }
+
+  // Visible for testing
+  void tick() {
+    long nanoTime = clock.nanoTime();
+    if (nanoTime - this.nanoTime > 0) {
+      this.nanoTime = nanoTime;
+    }
+    long now = clock.now();
+    if (now > this.now) {
+      this.now = now;
+    }
+  }
+
+  @Override
+  public long now() {
+    return now;
+  }
+
+  @Override
+  public long nanoTime() {
+    return nanoTime;
+  }
+
+  /** Stops the background thread, after which the time returned by this clock no longer changes. */
+  public void shutdown() {
+    ticker.shutdown();
+  }
+}
@@ -8,6 +8,7 @@ package io.opentelemetry.sdk.internal;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
 
 /**
  * A {@link ThreadFactory} that delegates to {@code Executors.defaultThreadFactory()} and marks all
@@ -21,6 +22,16 @@ public final class DaemonThreadFactory implements ThreadFactory {
     this.namePrefix = namePrefix;
   }
 
+  /**
+   * Returns a {@link ThreadFactory} creating virtual threads, which are always daemon threads,
+   * named with {@code namePrefix}, or {@code null} if the current Java version doesn't support
+   * them.
+   */
+  @Nullable
+  public static ThreadFactory newVirtualThreadFactory(String namePrefix) {
+    return JavaVersionSpecific.get().newVirtualThreadFactory(namePrefix);
+  }
+
   @Override
   public Thread newThread(Runnable runnable) {
     Thread t = Executors.defaultThreadFactory().newThread(runnable);
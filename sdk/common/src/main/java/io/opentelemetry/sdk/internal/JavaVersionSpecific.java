@@ -22,9 +22,11 @@
 
 package io.opentelemetry.sdk.internal;
 
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Contains APIs that are implemented differently based on the version of Java being run. This class
@@ -58,4 +60,13 @@ class JavaVersionSpecific {
   long currentTimeNanos() {
     return TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
   }
+
+  /**
+   * Returns a {@link ThreadFactory} creating virtual threads named with {@code namePrefix}, or
+   * {@code null} if virtual threads are not available.
+   */
+  @Nullable
+  ThreadFactory newVirtualThreadFactory(String namePrefix) {
+    return null;
+  }
 }
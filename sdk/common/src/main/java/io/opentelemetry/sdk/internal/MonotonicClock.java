@@ -6,6 +6,7 @@
 package io.opentelemetry.sdk.internal;
 
 import io.opentelemetry.sdk.common.Clock;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -16,10 +17,16 @@ import javax.annotation.concurrent.Immutable;
  * recorded more often.
  *
  * <p>This clock needs to be re-created periodically in order to re-sync with the kernel clock, and
- * it is not recommended to use only one instance for a very long period of time.
+ * it is not recommended to use only one instance for a very long period of time. {@link
+ * #forCurrentThread(Clock)} returns an instance that is shared by all calls on the same thread and
+ * re-created once per second.
  */
 @Immutable
 public final class MonotonicClock implements Clock {
+  private static final long RESYNC_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private static final ThreadLocal<MonotonicClock> threadClock = new ThreadLocal<>();
+
   private final Clock clock;
   private final long epochNanos;
   private final long nanoTime;
@@ -40,6 +47,25 @@ public final class MonotonicClock implements Clock {
     return new MonotonicClock(clock, clock.now(), clock.nanoTime());
   }
 
+  /**
+   * Returns a {@code MonotonicClock} for the current thread. The same instance is returned for the
+   * same {@code clock} until it was created more than a second ago, which avoids reading the epoch
+   * time and allocating a new clock for every call.
+   *
+   * @param clock the {@code Clock} to be used to read the current epoch time and nanoTime.
+   * @return a {@code MonotonicClock}.
+   */
+  public static MonotonicClock forCurrentThread(Clock clock) {
+    MonotonicClock monotonicClock = threadClock.get();
+    if (monotonicClock == null
+        || monotonicClock.clock != clock
+        || clock.nanoTime() - monotonicClock.nanoTime > RESYNC_INTERVAL_NANOS) {
+      monotonicClock = create(clock);
+      threadClock.set(monotonicClock);
+    }
+    return monotonicClock;
+  }
+
   /**
    * Returns the current epoch timestamp in nanos calculated using {@link System#nanoTime()} since
    * the reference time read in the constructor.
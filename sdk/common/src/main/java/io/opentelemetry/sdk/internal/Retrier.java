@@ -0,0 +1,226 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.RetryPolicy;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Retries the requests of an exporter according to a {@link RetryPolicy}.
+ *
+ * <p>The exporter starts each attempt of a request and reports its {@link Outcome}, deciding itself
+ * which failures are transient, so this class doesn't depend on any transport. Retries are delayed
+ * on a single daemon thread, created when first needed.
+ */
+public final class Retrier {
+
+  // Retries the budget may hold, so a quiet exporter can still retry a few requests.
+  private static final double MAX_BUDGET = 10;
+
+  /** Starts an attempt of a request. */
+  public interface Attempt {
+    /** Starts the attempt, which must eventually complete exactly one method of {@code outcome}. */
+    void start(Outcome outcome);
+  }
+
+  /** The outcome of an {@link Attempt}. */
+  public interface Outcome {
+    /** The attempt succeeded. */
+    void succeed();
+
+    /** The attempt failed with an error that must not be retried. */
+    void fail();
+
+    /**
+     * The attempt failed with a transient error, and the server asked not to retry before {@code
+     * minDelayNanos}, which is {@code 0} if it didn't say.
+     */
+    void retry(long minDelayNanos);
+  }
+
+  private final RetryPolicy policy;
+  private final AtomicLong pendingItems = new AtomicLong();
+  private final Object lock = new Object();
+
+  @GuardedBy("lock")
+  private double budget = MAX_BUDGET;
+
+  @GuardedBy("lock")
+  private final Set<Execution> waiting = Collections.newSetFromMap(new IdentityHashMap<>());
+
+  @GuardedBy("lock")
+  @Nullable
+  private ScheduledExecutorService executor;
+
+  @GuardedBy("lock")
+  private boolean isShutdown;
+
+  public Retrier(RetryPolicy policy) {
+    this.policy = policy;
+  }
+
+  /** Returns the number of items held by requests waiting to be retried. */
+  public long getPendingItems() {
+    return pendingItems.get();
+  }
+
+  /**
+   * Executes a request of {@code items} items, retrying {@code attempt} as allowed by the policy.
+   * The returned result succeeds once an attempt succeeds, and fails once an attempt fails and
+   * can't be retried.
+   */
+  public CompletableResultCode execute(int items, Attempt attempt) {
+    synchronized (lock) {
+      budget = Math.min(MAX_BUDGET, budget + policy.getRetryBudgetRatio());
+    }
+    Execution execution = new Execution(items, attempt);
+    execution.run();
+    return execution.result;
+  }
+
+  /** Stops retrying, and fails the requests waiting to be retried. */
+  public void shutdown() {
+    Execution[] toFail;
+    ScheduledExecutorService executor;
+    synchronized (lock) {
+      isShutdown = true;
+      toFail = waiting.toArray(new Execution[0]);
+      waiting.clear();
+      executor = this.executor;
+    }
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+    for (Execution execution : toFail) {
+      execution.release();
+      execution.result.fail();
+    }
+  }
+
+  // Visible for testing
+  long backoffNanos(int retry) {
+    double bound =
+        Math.min(
+            policy.getMaxBackoffNanos(),
+            policy.getInitialBackoffNanos() * Math.pow(policy.getBackoffMultiplier(), retry - 1));
+    long half = (long) bound / 2;
+    return half + ThreadLocalRandom.current().nextLong(half + 1);
+  }
+
+  private boolean tryAcquireRetry() {
+    synchronized (lock) {
+      if (isShutdown || budget < 1) {
+        return false;
+      }
+      budget -= 1;
+      return true;
+    }
+  }
+
+  private boolean tryHold(int items) {
+    long max = policy.getMaxPendingItems();
+    while (true) {
+      long current = pendingItems.get();
+      if (current + items > max) {
+        return false;
+      }
+      if (pendingItems.compareAndSet(current, current + items)) {
+        return true;
+      }
+    }
+  }
+
+  @GuardedBy("lock")
+  private ScheduledExecutorService getExecutor() {
+    if (executor == null) {
+      ScheduledThreadPoolExecutor executor =
+          new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory("Retrier"));
+      executor.setRemoveOnCancelPolicy(true);
+      this.executor = executor;
+    }
+    return executor;
+  }
+
+  private final class Execution implements Outcome, Runnable {
+    private final int items;
+    private final Attempt attempt;
+    private final CompletableResultCode result = new CompletableResultCode();
+    private final AtomicBoolean held = new AtomicBoolean();
+    private int attempts;
+
+    private Execution(int items, Attempt attempt) {
+      this.items = items;
+      this.attempt = attempt;
+    }
+
+    @Override
+    public void run() {
+      synchronized (lock) {
+        waiting.remove(this);
+      }
+      attempts++;
+      try {
+        attempt.start(this);
+      } catch (RuntimeException e) {
+        fail();
+      }
+    }
+
+    @Override
+    public void succeed() {
+      release();
+      result.succeed();
+    }
+
+    @Override
+    public void fail() {
+      release();
+      result.fail();
+    }
+
+    @Override
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public void retry(long minDelayNanos) {
+      if (attempts >= policy.getMaxAttempts() || !hold() || !tryAcquireRetry()) {
+        fail();
+        return;
+      }
+      long delayNanos = Math.max(minDelayNanos, backoffNanos(attempts));
+      synchronized (lock) {
+        if (isShutdown) {
+          // Shut down since the retry was acquired.
+          release();
+          result.fail();
+          return;
+        }
+        waiting.add(this);
+        getExecutor().schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    private boolean hold() {
+      // Held once for all the retries of the request.
+      return held.get() || (tryHold(items) && held.compareAndSet(false, true));
+    }
+
+    private void release() {
+      if (held.compareAndSet(true, false)) {
+        pendingItems.addAndGet(-items);
+      }
+    }
+  }
+}
@@ -24,7 +24,9 @@ package io.opentelemetry.sdk.internal;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 /** Implementation of {@link JavaVersionSpecific} using Java 9 APIs. */
 class Java9VersionSpecific extends JavaVersionSpecific {
@@ -39,4 +41,23 @@ class Java9VersionSpecific extends JavaVersionSpecific {
     final Instant now = Clock.systemUTC().instant();
     return TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
   }
+
+  // Virtual threads are looked up reflectively so that this compiles against Java 9. They are
+  // available without preview features from Java 21, on Java 19 and 20 Thread.ofVirtual() throws
+  // unless preview features are enabled.
+  @Override
+  @Nullable
+  ThreadFactory newVirtualThreadFactory(String namePrefix) {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      builder =
+          builderClass
+              .getMethod("name", String.class, long.class)
+              .invoke(builder, namePrefix + "-", 1L);
+      return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null;
+    }
+  }
 }
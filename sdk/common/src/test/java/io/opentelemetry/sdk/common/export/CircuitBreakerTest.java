@@ -0,0 +1,177 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.common.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.TestClock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private final TestClock clock = TestClock.create();
+  private final AtomicInteger exports = new AtomicInteger();
+  private final AtomicInteger rejections = new AtomicInteger();
+  private final CircuitBreaker circuitBreaker =
+      CircuitBreaker.builder("test")
+          .setFailureThreshold(3)
+          .setOpenDuration(Duration.ofSeconds(10))
+          .setHalfOpenTrials(2)
+          .setExportTimeout(Duration.ofSeconds(1))
+          .setClock(clock)
+          .build();
+
+  @Test
+  void invalidConfig() {
+    assertThatThrownBy(() -> CircuitBreaker.builder(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("name");
+    assertThatThrownBy(() -> CircuitBreaker.builder("test").setFailureThreshold(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("failureThreshold must be positive.");
+    assertThatThrownBy(() -> CircuitBreaker.builder("test").setHalfOpenTrials(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("halfOpenTrials must be positive.");
+    assertThatThrownBy(() -> CircuitBreaker.builder("test").setOpenDuration(Duration.ofSeconds(-1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("duration must be non-negative");
+    assertThatThrownBy(() -> CircuitBreaker.builder("test").setExportTimeout(1, null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("unit");
+  }
+
+  @Test
+  void opensAfterConsecutiveFailures() {
+    export(false);
+    export(false);
+    export(true);
+    export(false);
+    export(false);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+    export(false);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThat(exports.get()).isEqualTo(6);
+
+    assertThat(export(true).isSuccess()).isFalse();
+    assertThat(exports.get()).isEqualTo(6);
+    assertThat(rejections.get()).isEqualTo(1);
+  }
+
+  @Test
+  void halfOpen_closesAfterTrials() {
+    open();
+    clock.advanceMillis(10_000);
+
+    // One trial at a time.
+    CompletableResultCode trial = new CompletableResultCode();
+    circuitBreaker.execute(() -> trial, this::reject);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    export(true);
+    assertThat(rejections.get()).isEqualTo(1);
+
+    trial.succeed();
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    export(true);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  void halfOpen_reopensOnFailure() {
+    open();
+    clock.advanceMillis(10_000);
+    export(true);
+    export(false);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+    clock.advanceMillis(9_999);
+    export(true);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    clock.advanceMillis(1);
+    export(true);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+  }
+
+  @Test
+  void slowExportsCountAsFailures() {
+    for (int i = 0; i < 3; i++) {
+      CompletableResultCode result = new CompletableResultCode();
+      circuitBreaker.execute(() -> result, this::reject);
+      clock.advanceMillis(1_001);
+      result.succeed();
+    }
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+
+  @Test
+  void hangingExportsCountAsFailures() {
+    for (int i = 0; i < 3; i++) {
+      circuitBreaker.execute(CompletableResultCode::new, this::reject);
+      clock.advanceMillis(1_001);
+    }
+    // Noticed when the next export starts.
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    assertThat(export(true).isSuccess()).isFalse();
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+
+  @Test
+  void exceptionCountsAsFailure() {
+    for (int i = 0; i < 3; i++) {
+      assertThatThrownBy(
+              () ->
+                  circuitBreaker.execute(
+                      () -> {
+                        throw new IllegalStateException("fail");
+                      },
+                      this::reject))
+          .isInstanceOf(IllegalStateException.class);
+    }
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+
+  @Test
+  void noTimeout() {
+    CircuitBreaker noTimeout =
+        CircuitBreaker.builder("test")
+            .setFailureThreshold(1)
+            .setExportTimeout(0, TimeUnit.SECONDS)
+            .setClock(clock)
+            .build();
+    CompletableResultCode result = new CompletableResultCode();
+    noTimeout.execute(() -> result, this::reject);
+    clock.advanceMillis(TimeUnit.HOURS.toMillis(1));
+    result.succeed();
+    noTimeout.execute(CompletableResultCode::ofSuccess, this::reject);
+    assertThat(noTimeout.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  private void open() {
+    for (int i = 0; i < 3; i++) {
+      export(false);
+    }
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+
+  private CompletableResultCode export(boolean success) {
+    return circuitBreaker.execute(
+        () -> {
+          exports.incrementAndGet();
+          return success ? CompletableResultCode.ofSuccess() : CompletableResultCode.ofFailure();
+        },
+        this::reject);
+  }
+
+  private CompletableResultCode reject() {
+    rejections.incrementAndGet();
+    return CompletableResultCode.ofFailure();
+  }
+}
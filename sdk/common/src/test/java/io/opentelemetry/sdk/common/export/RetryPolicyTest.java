@@ -0,0 +1,86 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.common.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RetryPolicyTest {
+
+  @Test
+  void defaults() {
+    RetryPolicy policy = RetryPolicy.getDefault();
+    assertThat(policy.getMaxAttempts()).isEqualTo(RetryPolicyBuilder.DEFAULT_MAX_ATTEMPTS);
+    assertThat(policy.getInitialBackoffNanos())
+        .isEqualTo(
+            TimeUnit.MILLISECONDS.toNanos(RetryPolicyBuilder.DEFAULT_INITIAL_BACKOFF_MILLIS));
+    assertThat(policy.getMaxBackoffNanos())
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(RetryPolicyBuilder.DEFAULT_MAX_BACKOFF_MILLIS));
+    assertThat(policy.getBackoffMultiplier())
+        .isEqualTo(RetryPolicyBuilder.DEFAULT_BACKOFF_MULTIPLIER);
+    assertThat(policy.getRetryBudgetRatio())
+        .isEqualTo(RetryPolicyBuilder.DEFAULT_RETRY_BUDGET_RATIO);
+    assertThat(policy.getMaxPendingItems()).isEqualTo(RetryPolicyBuilder.DEFAULT_MAX_PENDING_ITEMS);
+    assertThat(RetryPolicy.noRetries().getMaxAttempts()).isEqualTo(1);
+  }
+
+  @Test
+  void build() {
+    RetryPolicy policy =
+        RetryPolicy.builder()
+            .setMaxAttempts(3)
+            .setInitialBackoff(Duration.ofMillis(10))
+            .setMaxBackoff(1, TimeUnit.SECONDS)
+            .setBackoffMultiplier(2)
+            .setRetryBudgetRatio(0.5)
+            .setMaxPendingItems(100)
+            .build();
+    assertThat(policy.getMaxAttempts()).isEqualTo(3);
+    assertThat(policy.getInitialBackoffNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+    assertThat(policy.getMaxBackoffNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    assertThat(policy.getBackoffMultiplier()).isEqualTo(2);
+    assertThat(policy.getRetryBudgetRatio()).isEqualTo(0.5);
+    assertThat(policy.getMaxPendingItems()).isEqualTo(100);
+  }
+
+  @Test
+  @SuppressWarnings("PreferJavaTimeOverload")
+  void invalidConfig() {
+    assertThatThrownBy(() -> RetryPolicy.builder().setMaxAttempts(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxAttempts must be positive.");
+    assertThatThrownBy(() -> RetryPolicy.builder().setInitialBackoff(0, TimeUnit.MILLISECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("backoff must be positive");
+    assertThatThrownBy(() -> RetryPolicy.builder().setInitialBackoff(1, null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("unit");
+    assertThatThrownBy(() -> RetryPolicy.builder().setMaxBackoff(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("backoff");
+    assertThatThrownBy(() -> RetryPolicy.builder().setBackoffMultiplier(0.5))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("backoffMultiplier must be at least 1.");
+    assertThatThrownBy(() -> RetryPolicy.builder().setRetryBudgetRatio(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("retryBudgetRatio must be non-negative.");
+    assertThatThrownBy(() -> RetryPolicy.builder().setMaxPendingItems(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxPendingItems must be non-negative.");
+    assertThatThrownBy(
+            () ->
+                RetryPolicy.builder()
+                    .setInitialBackoff(Duration.ofSeconds(10))
+                    .setMaxBackoff(Duration.ofSeconds(1))
+                    .build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxBackoff must not be less than initialBackoff.");
+  }
+}
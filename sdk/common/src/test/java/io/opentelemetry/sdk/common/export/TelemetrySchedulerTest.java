@@ -0,0 +1,112 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.common.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TelemetrySchedulerTest {
+
+  private TelemetryScheduler scheduler;
+
+  @AfterEach
+  void tearDown() {
+    if (scheduler != null) {
+      scheduler.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  void builderDefaults() {
+    TelemetrySchedulerBuilder builder = TelemetryScheduler.builder();
+    assertThat(builder.getThreadCount()).isEqualTo(TelemetrySchedulerBuilder.DEFAULT_THREAD_COUNT);
+    assertThat(builder.getUseVirtualThreads()).isFalse();
+  }
+
+  @Test
+  void invalidConfig() {
+    assertThatThrownBy(() -> TelemetryScheduler.builder().setThreadCount(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("threadCount must be positive.");
+  }
+
+  @Test
+  void execute() throws InterruptedException {
+    scheduler = TelemetryScheduler.builder().build();
+    CountDownLatch ran = new CountDownLatch(1);
+    scheduler.execute("test", ran::countDown);
+    assertThat(ran.await(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void schedule() throws InterruptedException {
+    scheduler = TelemetryScheduler.builder().setThreadCount(2).build();
+    CountDownLatch ran = new CountDownLatch(1);
+    long start = System.nanoTime();
+    scheduler.schedule("test", ran::countDown, 50, TimeUnit.MILLISECONDS);
+    assertThat(ran.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+  }
+
+  @Test
+  void periodicTaskSurvivesException() throws InterruptedException {
+    scheduler = TelemetryScheduler.builder().build();
+    CountDownLatch ran = new CountDownLatch(3);
+    ScheduledFuture<?> future =
+        scheduler.scheduleWithFixedDelay(
+            "test",
+            () -> {
+              ran.countDown();
+              throw new IllegalStateException("fail");
+            },
+            0,
+            1,
+            TimeUnit.MILLISECONDS);
+    assertThat(ran.await(10, TimeUnit.SECONDS)).isTrue();
+    future.cancel(false);
+  }
+
+  @Test
+  void scheduleAtFixedRate() throws InterruptedException {
+    scheduler = TelemetryScheduler.builder().build();
+    CountDownLatch ran = new CountDownLatch(3);
+    ScheduledFuture<?> future =
+        scheduler.scheduleAtFixedRate("test", ran::countDown, 0, 1, TimeUnit.MILLISECONDS);
+    assertThat(ran.await(10, TimeUnit.SECONDS)).isTrue();
+    future.cancel(false);
+  }
+
+  @Test
+  void shutdown() {
+    scheduler = TelemetryScheduler.builder().build();
+    AtomicInteger runs = new AtomicInteger();
+    scheduler.schedule("test", runs::incrementAndGet, 1, TimeUnit.HOURS);
+    assertThat(scheduler.isShutdown()).isFalse();
+
+    assertThat(scheduler.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(scheduler.isShutdown()).isTrue();
+
+    // Tasks submitted after shutdown are discarded.
+    scheduler.execute("test", runs::incrementAndGet);
+    assertThat(runs.get()).isEqualTo(0);
+  }
+
+  @Test
+  void virtualThreads() throws InterruptedException {
+    // Falls back to platform threads where virtual threads are not available.
+    scheduler = TelemetryScheduler.builder().setUseVirtualThreads(true).build();
+    CountDownLatch ran = new CountDownLatch(1);
+    scheduler.execute("test", ran::countDown);
+    assertThat(ran.await(10, TimeUnit.SECONDS)).isTrue();
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link CachedClock}. */
+class CachedClockTest {
+  private static final long EPOCH_NANOS = 1234_000_005_678L;
+  private final TestClock testClock = TestClock.create(EPOCH_NANOS);
+
+  @Test
+  void tick() {
+    CachedClock cachedClock = CachedClock.create(testClock, 1, TimeUnit.HOURS);
+    try {
+      assertThat(cachedClock.now()).isEqualTo(EPOCH_NANOS);
+      assertThat(cachedClock.nanoTime()).isEqualTo(testClock.nanoTime());
+
+      testClock.advanceNanos(1000);
+      assertThat(cachedClock.now()).isEqualTo(EPOCH_NANOS);
+      assertThat(cachedClock.nanoTime()).isEqualTo(EPOCH_NANOS);
+
+      cachedClock.tick();
+      assertThat(cachedClock.now()).isEqualTo(EPOCH_NANOS + 1000);
+      assertThat(cachedClock.nanoTime()).isEqualTo(EPOCH_NANOS + 1000);
+    } finally {
+      cachedClock.shutdown();
+    }
+  }
+
+  @Test
+  void tick_neverGoesBackwards() {
+    CachedClock cachedClock = CachedClock.create(testClock, 1, TimeUnit.HOURS);
+    try {
+      testClock.advanceNanos(-1000);
+      cachedClock.tick();
+      assertThat(cachedClock.now()).isEqualTo(EPOCH_NANOS);
+      assertThat(cachedClock.nanoTime()).isEqualTo(EPOCH_NANOS);
+    } finally {
+      cachedClock.shutdown();
+    }
+  }
+
+  @Test
+  void updatedInBackground() {
+    CachedClock cachedClock = CachedClock.create(testClock, 1, TimeUnit.MILLISECONDS);
+    try {
+      testClock.advanceMillis(1);
+      await().untilAsserted(() -> assertThat(cachedClock.now()).isEqualTo(testClock.now()));
+    } finally {
+      cachedClock.shutdown();
+    }
+  }
+
+  @Test
+  void invalidResolution() {
+    assertThatThrownBy(() -> CachedClock.create(testClock, 0, TimeUnit.MILLISECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("resolution must be positive");
+  }
+}
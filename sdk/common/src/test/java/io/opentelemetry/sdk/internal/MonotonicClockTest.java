@@ -48,4 +48,20 @@ class MonotonicClockTest {
     testClock.advanceNanos(-14_000_004_678L);
     assertThat(monotonicClock.now()).isEqualTo(1220_000_000_000L);
   }
+
+  @Test
+  void forCurrentThread() {
+    MonotonicClock monotonicClock = MonotonicClock.forCurrentThread(testClock);
+    assertThat(monotonicClock.now()).isEqualTo(testClock.now());
+    testClock.advanceMillis(999);
+    assertThat(MonotonicClock.forCurrentThread(testClock)).isSameAs(monotonicClock);
+    assertThat(MonotonicClock.forCurrentThread(TestClock.create())).isNotSameAs(monotonicClock);
+  }
+
+  @Test
+  void forCurrentThread_Resync() {
+    MonotonicClock monotonicClock = MonotonicClock.forCurrentThread(testClock);
+    testClock.advanceMillis(1001);
+    assertThat(MonotonicClock.forCurrentThread(testClock)).isNotSameAs(monotonicClock);
+  }
 }
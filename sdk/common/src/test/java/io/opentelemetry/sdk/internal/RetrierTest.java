@@ -0,0 +1,190 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.RetryPolicy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RetrierTest {
+
+  private static final RetryPolicy FAST =
+      RetryPolicy.builder()
+          .setInitialBackoff(Duration.ofMillis(1))
+          .setMaxBackoff(Duration.ofMillis(10))
+          .build();
+
+  private Retrier retrier = new Retrier(FAST);
+
+  @AfterEach
+  void tearDown() {
+    retrier.shutdown();
+  }
+
+  @Test
+  void succeedsWithoutRetry() {
+    AtomicInteger attempts = new AtomicInteger();
+    CompletableResultCode result =
+        retrier.execute(
+            1,
+            outcome -> {
+              attempts.incrementAndGet();
+              outcome.succeed();
+            });
+    assertThat(result.isSuccess()).isTrue();
+    assertThat(attempts.get()).isEqualTo(1);
+  }
+
+  @Test
+  void retriesTransientFailures() {
+    AtomicInteger attempts = new AtomicInteger();
+    CompletableResultCode result =
+        retrier.execute(
+            10,
+            outcome -> {
+              if (attempts.incrementAndGet() < 3) {
+                outcome.retry(0);
+              } else {
+                outcome.succeed();
+              }
+            });
+    assertThat(result.join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(attempts.get()).isEqualTo(3);
+    assertThat(retrier.getPendingItems()).isZero();
+  }
+
+  @Test
+  void doesNotRetryPermanentFailures() {
+    AtomicInteger attempts = new AtomicInteger();
+    CompletableResultCode result =
+        retrier.execute(
+            1,
+            outcome -> {
+              attempts.incrementAndGet();
+              outcome.fail();
+            });
+    assertThat(result.isDone()).isTrue();
+    assertThat(result.isSuccess()).isFalse();
+    assertThat(attempts.get()).isEqualTo(1);
+  }
+
+  @Test
+  void failsAfterMaxAttempts() {
+    AtomicInteger attempts = new AtomicInteger();
+    CompletableResultCode result =
+        retrier.execute(
+            1,
+            outcome -> {
+              attempts.incrementAndGet();
+              outcome.retry(0);
+            });
+    assertThat(result.join(10, TimeUnit.SECONDS).isSuccess()).isFalse();
+    assertThat(attempts.get()).isEqualTo(FAST.getMaxAttempts());
+    assertThat(retrier.getPendingItems()).isZero();
+  }
+
+  @Test
+  void failsOnException() {
+    CompletableResultCode result =
+        retrier.execute(
+            1,
+            outcome -> {
+              throw new IllegalStateException("fail");
+            });
+    assertThat(result.isDone()).isTrue();
+    assertThat(result.isSuccess()).isFalse();
+  }
+
+  @Test
+  void honorsServerDelay() {
+    long start = System.nanoTime();
+    AtomicInteger attempts = new AtomicInteger();
+    CompletableResultCode result =
+        retrier.execute(
+            1,
+            outcome -> {
+              if (attempts.incrementAndGet() == 1) {
+                outcome.retry(TimeUnit.MILLISECONDS.toNanos(100));
+              } else {
+                outcome.succeed();
+              }
+            });
+    assertThat(result.join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(System.nanoTime() - start)
+        .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+  }
+
+  @Test
+  void backoffWithJitter() {
+    retrier =
+        new Retrier(
+            RetryPolicy.builder()
+                .setInitialBackoff(Duration.ofMillis(100))
+                .setMaxBackoff(Duration.ofMillis(300))
+                .setBackoffMultiplier(2)
+                .build());
+    for (int i = 0; i < 100; i++) {
+      assertThat(retrier.backoffNanos(1))
+          .isBetween(TimeUnit.MILLISECONDS.toNanos(50), TimeUnit.MILLISECONDS.toNanos(100));
+      assertThat(retrier.backoffNanos(2))
+          .isBetween(TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(200));
+      // Capped to the max backoff.
+      assertThat(retrier.backoffNanos(5))
+          .isBetween(TimeUnit.MILLISECONDS.toNanos(150), TimeUnit.MILLISECONDS.toNanos(300));
+    }
+  }
+
+  @Test
+  void retryBudget() {
+    retrier =
+        new Retrier(
+            RetryPolicy.builder()
+                .setMaxAttempts(2)
+                .setInitialBackoff(Duration.ofHours(1))
+                .setMaxBackoff(Duration.ofHours(1))
+                .setRetryBudgetRatio(0)
+                .build());
+    List<CompletableResultCode> results = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      results.add(retrier.execute(1, outcome -> outcome.retry(0)));
+    }
+    // The initial reserve of retries is spent, the other requests fail right away.
+    assertThat(results.stream().filter(CompletableResultCode::isDone)).hasSize(10);
+    assertThat(retrier.getPendingItems()).isEqualTo(10);
+  }
+
+  @Test
+  void maxPendingItems() {
+    retrier =
+        new Retrier(
+            RetryPolicy.builder()
+                .setInitialBackoff(Duration.ofHours(1))
+                .setMaxBackoff(Duration.ofHours(1))
+                .setMaxPendingItems(10)
+                .build());
+    CompletableResultCode first = retrier.execute(6, outcome -> outcome.retry(0));
+    CompletableResultCode second = retrier.execute(6, outcome -> outcome.retry(0));
+    assertThat(first.isDone()).isFalse();
+    assertThat(second.isDone()).isTrue();
+    assertThat(second.isSuccess()).isFalse();
+    assertThat(retrier.getPendingItems()).isEqualTo(6);
+
+    // Shutting down fails the requests waiting to be retried.
+    retrier.shutdown();
+    assertThat(first.isDone()).isTrue();
+    assertThat(first.isSuccess()).isFalse();
+    assertThat(retrier.getPendingItems()).isZero();
+    assertThat(retrier.execute(1, outcome -> outcome.retry(0)).isSuccess()).isFalse();
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.export;
+
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.CircuitBreaker;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import java.util.Arrays;
+import java.util.Collection;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link MetricExporter} which stops calling its delegate while a {@link CircuitBreaker} is open.
+ * Exports rejected by the breaker fail right away, or are exported to a fallback exporter, e.g. one
+ * writing metrics to disk, if one is given.
+ *
+ * <p>Wrapping the exporter of an {@link IntervalMetricReader} keeps it from starting a doomed
+ * export every interval while the backend is down.
+ */
+public final class CircuitBreakingMetricExporter implements MetricExporter {
+
+  private final MetricExporter delegate;
+  private final CircuitBreaker circuitBreaker;
+  @Nullable private final MetricExporter fallback;
+
+  /**
+   * Returns a {@link MetricExporter} exporting to {@code delegate} while {@code circuitBreaker} is
+   * not open, and failing otherwise.
+   */
+  public static CircuitBreakingMetricExporter create(
+      MetricExporter delegate, CircuitBreaker circuitBreaker) {
+    return new CircuitBreakingMetricExporter(
+        requireNonNull(delegate, "delegate"),
+        requireNonNull(circuitBreaker, "circuitBreaker"),
+        null);
+  }
+
+  /**
+   * Returns a {@link MetricExporter} exporting to {@code delegate} while {@code circuitBreaker} is
+   * not open, and to {@code fallback} otherwise.
+   */
+  public static CircuitBreakingMetricExporter create(
+      MetricExporter delegate, CircuitBreaker circuitBreaker, MetricExporter fallback) {
+    return new CircuitBreakingMetricExporter(
+        requireNonNull(delegate, "delegate"),
+        requireNonNull(circuitBreaker, "circuitBreaker"),
+        requireNonNull(fallback, "fallback"));
+  }
+
+  private CircuitBreakingMetricExporter(
+      MetricExporter delegate, CircuitBreaker circuitBreaker, @Nullable MetricExporter fallback) {
+    this.delegate = delegate;
+    this.circuitBreaker = circuitBreaker;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public CompletableResultCode export(Collection<MetricData> metrics) {
+    return circuitBreaker.execute(
+        () -> delegate.export(metrics),
+        () -> fallback != null ? fallback.export(metrics) : CompletableResultCode.ofFailure());
+  }
+
+  @Override
+  public CompletableResultCode flush() {
+    if (fallback == null) {
+      return delegate.flush();
+    }
+    return CompletableResultCode.ofAll(Arrays.asList(delegate.flush(), fallback.flush()));
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    if (fallback == null) {
+      return delegate.shutdown();
+    }
+    return CompletableResultCode.ofAll(Arrays.asList(delegate.shutdown(), fallback.shutdown()));
+  }
+
+  // Visible for testing
+  CircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+}
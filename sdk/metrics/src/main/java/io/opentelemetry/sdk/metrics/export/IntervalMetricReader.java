@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.metrics.export;
 
 import com.google.auto.value.AutoValue;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.TelemetryScheduler;
 import io.opentelemetry.sdk.internal.DaemonThreadFactory;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import java.util.ArrayList;
@@ -15,10 +16,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -29,11 +32,26 @@ import javax.annotation.concurrent.Immutable;
 public final class IntervalMetricReader {
   private static final Logger logger = Logger.getLogger(IntervalMetricReader.class.getName());
 
+  private static final String PIPELINE_NAME = IntervalMetricReader.class.getSimpleName();
+
   private final Exporter exporter;
-  private final ScheduledExecutorService scheduler;
+  // Null when running on a TelemetryScheduler.
+  @Nullable private final ScheduledExecutorService scheduler;
+  @Nullable private final ScheduledFuture<?> scheduledExport;
 
   /** Stops the scheduled task and calls export one more time. */
   public void shutdown() {
+    if (scheduler == null) {
+      if (scheduledExport != null) {
+        scheduledExport.cancel(false);
+      }
+      try {
+        exporter.run();
+      } finally {
+        exporter.shutdown();
+      }
+      return;
+    }
     scheduler.shutdown();
     try {
       scheduler.awaitTermination(5, TimeUnit.SECONDS);
@@ -60,13 +78,25 @@ public final class IntervalMetricReader {
   @SuppressWarnings("FutureReturnValueIgnored")
   IntervalMetricReader(InternalState internalState) {
     this.exporter = new Exporter(internalState);
-    this.scheduler =
-        Executors.newScheduledThreadPool(1, new DaemonThreadFactory("IntervalMetricReader"));
-    this.scheduler.scheduleAtFixedRate(
-        exporter,
-        internalState.getExportIntervalMillis(),
-        internalState.getExportIntervalMillis(),
-        TimeUnit.MILLISECONDS);
+    TelemetryScheduler telemetryScheduler = internalState.getScheduler();
+    if (telemetryScheduler != null) {
+      this.scheduler = null;
+      this.scheduledExport =
+          telemetryScheduler.scheduleAtFixedRate(
+              PIPELINE_NAME,
+              exporter,
+              internalState.getExportIntervalMillis(),
+              internalState.getExportIntervalMillis(),
+              TimeUnit.MILLISECONDS);
+      return;
+    }
+    this.scheduler = Executors.newScheduledThreadPool(1, new DaemonThreadFactory(PIPELINE_NAME));
+    this.scheduledExport =
+        this.scheduler.scheduleAtFixedRate(
+            exporter,
+            internalState.getExportIntervalMillis(),
+            internalState.getExportIntervalMillis(),
+            TimeUnit.MILLISECONDS);
   }
 
   private static final class Exporter implements Runnable {
@@ -120,6 +150,9 @@ public final class IntervalMetricReader {
 
     abstract Collection<MetricProducer> getMetricProducers();
 
+    @Nullable
+    abstract TelemetryScheduler getScheduler();
+
     static Builder builder() {
       return new AutoValue_IntervalMetricReader_InternalState.Builder()
           .setExportIntervalMillis(DEFAULT_INTERVAL_MILLIS);
@@ -134,6 +167,8 @@ public final class IntervalMetricReader {
 
       abstract Builder setMetricProducers(Collection<MetricProducer> metricProducers);
 
+      abstract Builder setScheduler(TelemetryScheduler scheduler);
+
       abstract InternalState build();
     }
   }
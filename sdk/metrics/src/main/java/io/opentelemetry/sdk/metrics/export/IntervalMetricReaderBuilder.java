@@ -6,7 +6,9 @@
 package io.opentelemetry.sdk.metrics.export;
 
 import io.opentelemetry.api.internal.Utils;
+import io.opentelemetry.sdk.common.export.TelemetryScheduler;
 import java.util.Collection;
+import java.util.Objects;
 
 /** Builder for {@link IntervalMetricReader}. */
 public final class IntervalMetricReaderBuilder {
@@ -51,6 +53,18 @@ public final class IntervalMetricReaderBuilder {
     return this;
   }
 
+  /**
+   * Sets the {@link TelemetryScheduler} that runs the periodic exports, instead of a thread started
+   * by the reader. The scheduler must be shut down after the reader.
+   *
+   * @param scheduler the {@link TelemetryScheduler} running the exports.
+   * @return this.
+   */
+  public IntervalMetricReaderBuilder setScheduler(TelemetryScheduler scheduler) {
+    optionsBuilder.setScheduler(Objects.requireNonNull(scheduler, "scheduler"));
+    return this;
+  }
+
   /**
    * Builds a new {@link IntervalMetricReader} with current settings.
    *
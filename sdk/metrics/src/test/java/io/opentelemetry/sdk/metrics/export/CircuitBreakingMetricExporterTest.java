@@ -0,0 +1,49 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.CircuitBreaker;
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakingMetricExporterTest {
+
+  @Mock private MetricExporter delegate;
+  @Mock private MetricExporter fallback;
+
+  @Test
+  void exportsToFallbackWhileOpen() {
+    CircuitBreaker circuitBreaker =
+        CircuitBreaker.builder("test")
+            .setFailureThreshold(1)
+            .setOpenDuration(Duration.ofHours(1))
+            .build();
+    MetricExporter exporter =
+        CircuitBreakingMetricExporter.create(delegate, circuitBreaker, fallback);
+    when(delegate.export(anyCollection())).thenReturn(CompletableResultCode.ofFailure());
+    when(fallback.export(anyCollection())).thenReturn(CompletableResultCode.ofSuccess());
+
+    assertThat(exporter.export(Collections.emptyList()).isSuccess()).isFalse();
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThat(exporter.export(Collections.emptyList()).isSuccess()).isTrue();
+    assertThat(exporter.export(Collections.emptyList()).isSuccess()).isTrue();
+
+    verify(delegate).export(anyCollection());
+    verify(fallback, times(2)).export(anyCollection());
+  }
+}
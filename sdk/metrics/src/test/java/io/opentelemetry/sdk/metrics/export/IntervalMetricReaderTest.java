@@ -11,6 +11,7 @@ import static org.mockito.Mockito.when;
 import io.opentelemetry.api.common.Labels;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.opentelemetry.sdk.common.export.TelemetryScheduler;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.data.LongPointData;
 import io.opentelemetry.sdk.metrics.data.LongSumData;
@@ -119,6 +120,29 @@ class IntervalMetricReaderTest {
     assertThat(waitingMetricExporter.hasShutdown.get()).isTrue();
   }
 
+  @Test
+  void scheduler() throws Exception {
+    TelemetryScheduler scheduler = TelemetryScheduler.builder().build();
+    WaitingMetricExporter waitingMetricExporter = new WaitingMetricExporter();
+    IntervalMetricReader intervalMetricReader =
+        IntervalMetricReader.builder()
+            .setExportIntervalMillis(100)
+            .setMetricExporter(waitingMetricExporter)
+            .setMetricProducers(Collections.singletonList(metricProducer))
+            .setScheduler(scheduler)
+            .build();
+
+    try {
+      assertThat(waitingMetricExporter.waitForNumberOfExports(2))
+          .containsExactly(
+              Collections.singletonList(METRIC_DATA), Collections.singletonList(METRIC_DATA));
+    } finally {
+      intervalMetricReader.shutdown();
+      scheduler.shutdown().join(10, TimeUnit.SECONDS);
+    }
+    assertThat(waitingMetricExporter.hasShutdown.get()).isTrue();
+  }
+
   private static class WaitingMetricExporter implements MetricExporter {
 
     private final AtomicBoolean hasShutdown = new AtomicBoolean(false);
@@ -6,6 +6,7 @@
 package io.opentelemetry.sdk.trace;
 
 import com.google.common.io.CharStreams;
+import io.opentelemetry.sdk.trace.config.TraceConfig;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.io.PrintWriter;
@@ -69,6 +70,18 @@ public class PrintThrowableBenchmark {
     return sw.toString();
   }
 
+  /** Measures performance of the SDK renderer, which caches repeated stack traces. */
+  @Benchmark
+  public String stackTraceRenderer() {
+    return StackTraceRenderer.render(THROWABLE, TraceConfig.UNLIMITED_STACK_TRACE_DEPTH);
+  }
+
+  /** Measures performance of the SDK renderer without its cache, keeping 10 frames. */
+  @Benchmark
+  public String stackTraceRendererTruncated() {
+    return StackTraceRenderer.renderUncached(THROWABLE, 10);
+  }
+
   /** Measures performance of a {@link PrintStream}. */
   @Benchmark
   public String printStream() throws Exception {
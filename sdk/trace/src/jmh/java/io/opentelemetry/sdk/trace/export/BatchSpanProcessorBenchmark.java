@@ -69,6 +69,9 @@ public class BatchSpanProcessorBenchmark {
   @Param({"1000", "2000", "5000"})
   private int spanCount;
 
+  @Param({"BLOCKING", "YIELDING"})
+  private WaitStrategy waitStrategy;
+
   private List<Span> spans;
 
   private BatchSpanProcessor processor;
@@ -76,7 +79,7 @@ public class BatchSpanProcessorBenchmark {
   @Setup(Level.Trial)
   public final void setup() {
     SpanExporter exporter = new DelayingSpanExporter(delayMs);
-    processor = BatchSpanProcessor.builder(exporter).build();
+    processor = BatchSpanProcessor.builder(exporter).setWaitStrategy(waitStrategy).build();
 
     ImmutableList.Builder<Span> spans = ImmutableList.builderWithExpectedSize(spanCount);
     Tracer tracer = SdkTracerProvider.builder().build().get("benchmarkTracer");
@@ -91,17 +94,54 @@ public class BatchSpanProcessorBenchmark {
     processor.shutdown().join(10, TimeUnit.SECONDS);
   }
 
+  private void doExport() {
+    for (Span span : spans) {
+      processor.onEnd((ReadableSpan) span);
+    }
+    processor.forceFlush().join(10, TimeUnit.MINUTES);
+  }
+
   /** Export spans through {@link BatchSpanProcessor}. */
   @Benchmark
   @Fork(1)
-  @Threads(5)
+  @Threads(1)
   @Warmup(iterations = 5, time = 1)
   @Measurement(iterations = 10, time = 1)
   @OutputTimeUnit(TimeUnit.SECONDS)
-  public void export() {
-    for (Span span : spans) {
-      processor.onEnd((ReadableSpan) span);
-    }
-    processor.forceFlush().join(10, TimeUnit.MINUTES);
+  public void export_01Thread() {
+    doExport();
+  }
+
+  /** Export spans through {@link BatchSpanProcessor}. */
+  @Benchmark
+  @Fork(1)
+  @Threads(4)
+  @Warmup(iterations = 5, time = 1)
+  @Measurement(iterations = 10, time = 1)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public void export_04Threads() {
+    doExport();
+  }
+
+  /** Export spans through {@link BatchSpanProcessor}. */
+  @Benchmark
+  @Fork(1)
+  @Threads(16)
+  @Warmup(iterations = 5, time = 1)
+  @Measurement(iterations = 10, time = 1)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public void export_16Threads() {
+    doExport();
+  }
+
+  /** Export spans through {@link BatchSpanProcessor}. */
+  @Benchmark
+  @Fork(1)
+  @Threads(64)
+  @Warmup(iterations = 5, time = 1)
+  @Measurement(iterations = 10, time = 1)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public void export_64Threads() {
+    doExport();
   }
 }
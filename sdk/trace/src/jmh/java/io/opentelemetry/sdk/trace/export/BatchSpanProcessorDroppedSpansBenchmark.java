@@ -23,12 +23,14 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
 
 public class BatchSpanProcessorDroppedSpansBenchmark {
 
@@ -53,6 +55,10 @@ public class BatchSpanProcessorDroppedSpansBenchmark {
   @State(Scope.Benchmark)
   public static class BenchmarkState {
     private final MetricProducer metricProducer = ((SdkMeterProvider) GlobalMetricsProvider.get());
+
+    @Param({"BLOCKING", "YIELDING"})
+    private WaitStrategy waitStrategy;
+
     private BatchSpanProcessor processor;
     private Tracer tracer;
     private Collection<MetricData> allMetrics;
@@ -60,7 +66,7 @@ public class BatchSpanProcessorDroppedSpansBenchmark {
     @Setup(Level.Trial)
     public final void setup() {
       SpanExporter exporter = new DelayingSpanExporter();
-      processor = BatchSpanProcessor.builder(exporter).build();
+      processor = BatchSpanProcessor.builder(exporter).setWaitStrategy(waitStrategy).build();
 
       tracer = SdkTracerProvider.builder().build().get("benchmarkTracer");
     }
@@ -80,10 +86,12 @@ public class BatchSpanProcessorDroppedSpansBenchmark {
   @AuxCounters(AuxCounters.Type.EVENTS)
   public static class ThreadState {
     private Collection<MetricData> allMetrics;
+    private int threadCount;
 
     @TearDown(Level.Iteration)
-    public final void recordMetrics(BenchmarkState benchmarkState) {
+    public final void recordMetrics(BenchmarkState benchmarkState, ThreadParams threadParams) {
       allMetrics = benchmarkState.allMetrics;
+      threadCount = threadParams.getThreadCount();
     }
 
     /** Burn, checkstyle, burn. */
@@ -96,7 +104,7 @@ public class BatchSpanProcessorDroppedSpansBenchmark {
       } else {
         // Due to peculiarities of JMH reporting we have to divide this by the number of the
         // concurrent threads running the actual benchmark.
-        return (double) dropped / total / 5;
+        return (double) dropped / total / threadCount;
       }
     }
 
@@ -131,11 +139,50 @@ public class BatchSpanProcessorDroppedSpansBenchmark {
   /** Export spans through {@link BatchSpanProcessor}. */
   @Benchmark
   @Fork(1)
-  @Threads(5)
+  @Threads(1)
+  @Warmup(iterations = 5, time = 1)
+  @Measurement(iterations = 5, time = 20)
+  @BenchmarkMode(Mode.Throughput)
+  public void export_01Thread(
+      BenchmarkState benchmarkState, @SuppressWarnings("unused") ThreadState threadState) {
+    benchmarkState.processor.onEnd(
+        (ReadableSpan) benchmarkState.tracer.spanBuilder("span").startSpan());
+  }
+
+  /** Export spans through {@link BatchSpanProcessor}. */
+  @Benchmark
+  @Fork(1)
+  @Threads(4)
+  @Warmup(iterations = 5, time = 1)
+  @Measurement(iterations = 5, time = 20)
+  @BenchmarkMode(Mode.Throughput)
+  public void export_04Threads(
+      BenchmarkState benchmarkState, @SuppressWarnings("unused") ThreadState threadState) {
+    benchmarkState.processor.onEnd(
+        (ReadableSpan) benchmarkState.tracer.spanBuilder("span").startSpan());
+  }
+
+  /** Export spans through {@link BatchSpanProcessor}. */
+  @Benchmark
+  @Fork(1)
+  @Threads(16)
+  @Warmup(iterations = 5, time = 1)
+  @Measurement(iterations = 5, time = 20)
+  @BenchmarkMode(Mode.Throughput)
+  public void export_16Threads(
+      BenchmarkState benchmarkState, @SuppressWarnings("unused") ThreadState threadState) {
+    benchmarkState.processor.onEnd(
+        (ReadableSpan) benchmarkState.tracer.spanBuilder("span").startSpan());
+  }
+
+  /** Export spans through {@link BatchSpanProcessor}. */
+  @Benchmark
+  @Fork(1)
+  @Threads(64)
   @Warmup(iterations = 5, time = 1)
   @Measurement(iterations = 5, time = 20)
   @BenchmarkMode(Mode.Throughput)
-  public void export(
+  public void export_64Threads(
       BenchmarkState benchmarkState, @SuppressWarnings("unused") ThreadState threadState) {
     benchmarkState.processor.onEnd(
         (ReadableSpan) benchmarkState.tracer.spanBuilder("span").startSpan());
@@ -25,6 +25,7 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
 @State(Scope.Benchmark)
@@ -48,9 +49,31 @@ public class MultiSpanExporterBenchmark {
     }
   }
 
+  // Stands for a backend that takes a while to accept each export, e.g. a slow Zipkin endpoint.
+  private static class SlowSpanExporter extends NoopSpanExporter {
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+      try {
+        Thread.sleep(1);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+
   @Param({"1", "3"})
   private int exporterCount;
 
+  // Whether the last exporter is slow.
+  @Param({"false", "true"})
+  private boolean withSlowExporter;
+
+  // Whether each exporter has a queue of its own.
+  @Param({"false", "true"})
+  private boolean isolated;
+
   private SpanExporter exporter;
 
   @Param({"1000"})
@@ -60,9 +83,12 @@ public class MultiSpanExporterBenchmark {
 
   @Setup(Level.Trial)
   public final void setup() {
-    SpanExporter[] exporter = new SpanExporter[exporterCount];
-    Arrays.fill(exporter, new NoopSpanExporter());
-    this.exporter = SpanExporter.composite(Arrays.asList(exporter));
+    MultiSpanExporterBuilder builder = SpanExporter.compositeBuilder().setIsolated(isolated);
+    for (int i = 0; i < exporterCount; i++) {
+      boolean slow = withSlowExporter && i == exporterCount - 1;
+      builder.addSpanExporter(slow ? new SlowSpanExporter() : new NoopSpanExporter());
+    }
+    this.exporter = builder.build();
 
     TestSpanData[] spans = new TestSpanData[spanCount];
     for (int i = 0; i < spans.length; i++) {
@@ -81,12 +107,18 @@ public class MultiSpanExporterBenchmark {
     this.spans = Arrays.asList(spans);
   }
 
+  @TearDown(Level.Trial)
+  public final void tearDown() {
+    exporter.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
   @Benchmark
   @Fork(1)
   @Warmup(iterations = 5, time = 1)
   @Measurement(iterations = 10, time = 1)
   @OutputTimeUnit(TimeUnit.MILLISECONDS)
   public CompletableResultCode export() {
-    return exporter.export(spans);
+    // Waits like the BatchSpanProcessor does, the isolated exporters only wait for their queues.
+    return exporter.export(spans).join(10, TimeUnit.SECONDS);
   }
 }
@@ -8,41 +8,111 @@ package io.opentelemetry.sdk.trace;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
 
 /**
  * A map with a fixed capacity that drops attributes when the map gets full.
  *
+ * <p>Keys and values are stored next to each other in a single array, in insertion order, so no
+ * per-entry objects are allocated. Once the map holds more than a handful of entries, keys are
+ * looked up through an open-addressing index into that array instead of a linear scan. After {@link
+ * #freeze()} the map ignores any further changes and {@link #immutableCopy()} returns the map
+ * itself.
+ *
  * <p>Note: this doesn't implement the Map interface, but behaves very similarly to one.
  */
 @SuppressWarnings({"rawtypes", "unchecked"})
 final class AttributesMap implements Attributes {
-  private final Map<AttributeKey<?>, Object> data;
+  // Number of entries the data array is first sized for, unless the capacity is smaller.
+  private static final int INITIAL_ENTRIES = 8;
+  // Maps with more entries than this look up keys through the index.
+  private static final int MAX_UNINDEXED_ENTRIES = 8;
 
   private final long capacity;
+  // Keys at even positions and their values at the following odd positions.
+  private Object[] data;
+  private int entries;
+  // Open-addressing table with linear probing holding entry number + 1, or 0 for an empty slot.
+  @Nullable private int[] index;
   private int totalAddedValues = 0;
-
-  private AttributesMap(long capacity, Map<AttributeKey<?>, Object> data) {
+  private boolean frozen;
+
+  private AttributesMap(
+      long capacity,
+      Object[] data,
+      int entries,
+      @Nullable int[] index,
+      int totalAddedValues,
+      boolean frozen) {
     this.capacity = capacity;
     this.data = data;
+    this.entries = entries;
+    this.index = index;
+    this.totalAddedValues = totalAddedValues;
+    this.frozen = frozen;
   }
 
   AttributesMap(long capacity) {
-    this(capacity, new LinkedHashMap<>());
+    this(capacity, INITIAL_ENTRIES);
+  }
+
+  /** Creates a map with room for {@code expectedEntries} before the data array has to grow. */
+  AttributesMap(long capacity, int expectedEntries) {
+    this(capacity, new Object[2 * (int) Math.min(capacity, expectedEntries)], 0, null, 0, false);
   }
 
   public <T> void put(AttributeKey<T> key, T value) {
-    if (key == null || key.getKey() == null || value == null) {
+    if (key == null || key.getKey() == null || value == null || frozen) {
+      return;
+    }
+    totalAddedValues++;
+    int entry = indexOf(key);
+    if (entry >= 0) {
+      data[2 * entry + 1] = value;
+      return;
+    }
+    append(key, value);
+  }
+
+  /**
+   * Adds an attribute without checking whether the key is already present. Callers must guarantee
+   * that it is not, for example because the keys come from a {@link SpanTemplate}.
+   */
+  void putNew(AttributeKey<?> key, Object value) {
+    if (frozen) {
       return;
     }
     totalAddedValues++;
-    if (data.size() >= capacity && !data.containsKey(key)) {
+    append(key, value);
+  }
+
+  private void append(AttributeKey<?> key, Object value) {
+    if (entries >= capacity) {
       return;
     }
-    data.put(key, value);
+    if (2 * entries == data.length) {
+      data =
+          Arrays.copyOf(
+              data, 2 * (int) Math.min(capacity, Math.max(2L * entries, INITIAL_ENTRIES)));
+    }
+    data[2 * entries] = key;
+    data[2 * entries + 1] = value;
+    entries++;
+    if (index != null && 2 * entries <= index.length) {
+      addToIndex(index, key, entries - 1);
+    } else if (entries > MAX_UNINDEXED_ENTRIES) {
+      rebuildIndex();
+    }
+  }
+
+  /** Makes this map immutable, any later {@link #put(AttributeKey, Object)} is ignored. */
+  void freeze() {
+    frozen = true;
   }
 
   int getTotalAddedValues() {
@@ -51,33 +121,38 @@ final class AttributesMap implements Attributes {
 
   @SuppressWarnings("unchecked")
   @Override
+  @Nullable
   public <T> T get(AttributeKey<T> key) {
-    return (T) data.get(key);
+    if (key == null) {
+      return null;
+    }
+    int entry = indexOf(key);
+    return entry < 0 ? null : (T) data[2 * entry + 1];
   }
 
   @Override
   public int size() {
-    return data.size();
+    return entries;
   }
 
   @Override
   public boolean isEmpty() {
-    return data.isEmpty();
+    return entries == 0;
   }
 
   @SuppressWarnings({"rawtypes", "unchecked"})
   @Override
   public void forEach(BiConsumer<AttributeKey<?>, Object> consumer) {
-    for (Map.Entry<AttributeKey<?>, Object> entry : data.entrySet()) {
-      AttributeKey key = entry.getKey();
-      Object value = entry.getValue();
-      consumer.accept(key, value);
+    for (int i = 0; i < 2 * entries; i += 2) {
+      consumer.accept((AttributeKey) data[i], data[i + 1]);
     }
   }
 
   @Override
   public Map<AttributeKey<?>, Object> asMap() {
-    return Collections.unmodifiableMap(data);
+    Map<AttributeKey<?>, Object> map = new LinkedHashMap<>();
+    forEach(map::put);
+    return Collections.unmodifiableMap(map);
   }
 
   @Override
@@ -87,18 +162,74 @@ final class AttributesMap implements Attributes {
 
   @Override
   public String toString() {
-    return "AttributesMap{"
-        + "data="
-        + data
-        + ", capacity="
-        + capacity
-        + ", totalAddedValues="
-        + totalAddedValues
-        + '}';
+    StringBuilder sb = new StringBuilder("AttributesMap{data={");
+    for (int i = 0; i < 2 * entries; i += 2) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      sb.append(data[i]).append('=').append(data[i + 1]);
+    }
+    return sb.append("}, capacity=")
+        .append(capacity)
+        .append(", totalAddedValues=")
+        .append(totalAddedValues)
+        .append('}')
+        .toString();
   }
 
   Attributes immutableCopy() {
-    Map<AttributeKey<?>, Object> dataCopy = new LinkedHashMap<>(data);
-    return new AttributesMap(capacity, Collections.unmodifiableMap(dataCopy));
+    if (frozen) {
+      return this;
+    }
+    return new AttributesMap(
+        capacity,
+        Arrays.copyOf(data, 2 * entries),
+        entries,
+        index == null ? null : index.clone(),
+        totalAddedValues,
+        /* frozen= */ true);
+  }
+
+  private int indexOf(AttributeKey<?> key) {
+    int[] index = this.index;
+    if (index == null) {
+      for (int i = 0; i < entries; i++) {
+        if (key.equals(data[2 * i])) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    int mask = index.length - 1;
+    for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+      int entry = index[slot] - 1;
+      if (entry < 0 || key.equals(data[2 * entry])) {
+        return entry;
+      }
+    }
+  }
+
+  // Sizes the index to at least four slots per entry so that probe sequences stay short while the
+  // map keeps growing, and indexes all the current entries.
+  private void rebuildIndex() {
+    int[] index = new int[Integer.highestOneBit(entries * 4 - 1) << 1];
+    for (int i = 0; i < entries; i++) {
+      addToIndex(index, (AttributeKey<?>) data[2 * i], i);
+    }
+    this.index = index;
+  }
+
+  private static void addToIndex(int[] index, AttributeKey<?> key, int entry) {
+    int mask = index.length - 1;
+    int slot = hash(key) & mask;
+    while (index[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    index[slot] = entry + 1;
+  }
+
+  private static int hash(AttributeKey<?> key) {
+    int h = key.hashCode();
+    return h ^ (h >>> 16);
   }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import javax.annotation.Nullable;
+
+/**
+ * The {@link EventData} recorded by {@link RecordEventsReadableSpan#recordException(Throwable)}.
+ *
+ * <p>The attributes are built when the exception is recorded, so later changes to the {@link
+ * Throwable}, like added suppressed exceptions, are not exported. Repeatedly recording the same
+ * exception only formats its stack trace once, see {@link StackTraceRenderer}.
+ */
+final class ExceptionEventData implements EventData {
+
+  private final long epochNanos;
+  private final Attributes attributes;
+  private final int totalAttributeCount;
+
+  ExceptionEventData(
+      long epochNanos,
+      Throwable exception,
+      @Nullable Attributes additionalAttributes,
+      int maxNumberOfAttributes,
+      int maxStackTraceDepth) {
+    this.epochNanos = epochNanos;
+    AttributesBuilder builder = Attributes.builder();
+    builder.put(SemanticAttributes.EXCEPTION_TYPE, exception.getClass().getCanonicalName());
+    if (exception.getMessage() != null) {
+      builder.put(SemanticAttributes.EXCEPTION_MESSAGE, exception.getMessage());
+    }
+    builder.put(
+        SemanticAttributes.EXCEPTION_STACKTRACE,
+        StackTraceRenderer.render(exception, maxStackTraceDepth));
+    if (additionalAttributes != null) {
+      builder.putAll(additionalAttributes);
+    }
+    Attributes allAttributes = builder.build();
+    this.totalAttributeCount = allAttributes.size();
+    this.attributes =
+        RecordEventsReadableSpan.copyAndLimitAttributes(allAttributes, maxNumberOfAttributes);
+  }
+
+  @Override
+  public String getName() {
+    return SemanticAttributes.EXCEPTION_EVENT_NAME;
+  }
+
+  @Override
+  public Attributes getAttributes() {
+    return attributes;
+  }
+
+  @Override
+  public long getEpochNanos() {
+    return epochNanos;
+  }
+
+  @Override
+  public int getTotalAttributeCount() {
+    return totalAttributeCount;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof EventData)) {
+      return false;
+    }
+    EventData that = (EventData) o;
+    return getName().equals(that.getName())
+        && attributes.equals(that.getAttributes())
+        && epochNanos == that.getEpochNanos()
+        && totalAttributeCount == that.getTotalAttributeCount();
+  }
+
+  // Matches the hash code of the default EventData implementation.
+  @Override
+  public int hashCode() {
+    int h = 1;
+    h *= 1000003;
+    h ^= getName().hashCode();
+    h *= 1000003;
+    h ^= attributes.hashCode();
+    h *= 1000003;
+    h ^= (int) ((epochNanos >>> 32) ^ epochNanos);
+    h *= 1000003;
+    h ^= totalAttributeCount;
+    return h;
+  }
+
+  @Override
+  public String toString() {
+    return "ExceptionEventData{"
+        + "name="
+        + getName()
+        + ", attributes="
+        + attributes
+        + ", epochNanos="
+        + epochNanos
+        + ", totalAttributeCount="
+        + totalAttributeCount
+        + "}";
+  }
+}
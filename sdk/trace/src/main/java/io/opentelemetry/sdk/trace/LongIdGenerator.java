@@ -0,0 +1,55 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.api.trace.TraceId;
+
+/**
+ * An {@link IdGenerator} that produces identifiers as primitive {@code long} values. When the
+ * configured generator implements this interface, the {@link SdkTracer} creates {@link
+ * SpanContext}s directly from the generated values and never encodes them to hex unless someone
+ * asks for the {@code String} representation.
+ *
+ * <p>A trace identifier is requested as two halves, always high then low on the same thread. The
+ * two halves together must form a valid {@link TraceId}, i.e. they must not both be {@code 0}.
+ */
+public interface LongIdGenerator extends IdGenerator {
+
+  /**
+   * Generates a new valid {@code SpanId}.
+   *
+   * @return a new valid {@code SpanId}, never {@code 0}.
+   */
+  long generateSpanIdAsLong();
+
+  /**
+   * Generates the higher 8 bytes of a new {@code TraceId}.
+   *
+   * @return the higher 8 bytes of a new {@code TraceId}.
+   */
+  long generateTraceIdHighBytesAsLong();
+
+  /**
+   * Generates the lower 8 bytes of a new {@code TraceId}.
+   *
+   * @return the lower 8 bytes of a new {@code TraceId}.
+   */
+  long generateTraceIdLowBytesAsLong();
+
+  @Override
+  default String generateSpanId() {
+    return SpanId.fromLong(generateSpanIdAsLong());
+  }
+
+  @Override
+  default String generateTraceId() {
+    long idHi = generateTraceIdHighBytesAsLong();
+    long idLo = generateTraceIdLowBytesAsLong();
+    return TraceId.fromLongs(idHi, idLo);
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.TraceState;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import javax.annotation.Nullable;
+
+/**
+ * The {@link Span} returned for spans that the sampler dropped. All operations are no-op except
+ * context propagation.
+ *
+ * <p>Unlike {@link Span#wrap(SpanContext)} this does not generate a span id or create the {@link
+ * SpanContext} until {@link #getSpanContext()} is first called, which never happens for most
+ * dropped spans that have no children and are not propagated.
+ */
+final class NonRecordingSpan implements Span {
+
+  private static final AtomicReferenceFieldUpdater<NonRecordingSpan, SpanContext>
+      spanContextUpdater =
+          AtomicReferenceFieldUpdater.newUpdater(
+              NonRecordingSpan.class, SpanContext.class, "spanContext");
+
+  private final long traceIdHigh;
+  private final long traceIdLow;
+  private final byte traceFlags;
+  private final TraceState traceState;
+  private final LongIdGenerator idGenerator;
+
+  @Nullable private volatile SpanContext spanContext;
+
+  NonRecordingSpan(
+      long traceIdHigh,
+      long traceIdLow,
+      byte traceFlags,
+      TraceState traceState,
+      LongIdGenerator idGenerator) {
+    this.traceIdHigh = traceIdHigh;
+    this.traceIdLow = traceIdLow;
+    this.traceFlags = traceFlags;
+    this.traceState = traceState;
+    this.idGenerator = idGenerator;
+  }
+
+  @Override
+  public Span setAttribute(String key, String value) {
+    return this;
+  }
+
+  @Override
+  public Span setAttribute(String key, long value) {
+    return this;
+  }
+
+  @Override
+  public Span setAttribute(String key, double value) {
+    return this;
+  }
+
+  @Override
+  public Span setAttribute(String key, boolean value) {
+    return this;
+  }
+
+  @Override
+  public <T> Span setAttribute(AttributeKey<T> key, T value) {
+    return this;
+  }
+
+  @Override
+  public Span addEvent(String name) {
+    return this;
+  }
+
+  @Override
+  public Span addEvent(String name, long timestamp, TimeUnit unit) {
+    return this;
+  }
+
+  @Override
+  public Span addEvent(String name, Attributes attributes) {
+    return this;
+  }
+
+  @Override
+  public Span addEvent(String name, Attributes attributes, long timestamp, TimeUnit unit) {
+    return this;
+  }
+
+  @Override
+  public Span setStatus(StatusCode statusCode) {
+    return this;
+  }
+
+  @Override
+  public Span setStatus(StatusCode statusCode, String description) {
+    return this;
+  }
+
+  @Override
+  public Span recordException(Throwable exception) {
+    return this;
+  }
+
+  @Override
+  public Span recordException(Throwable exception, Attributes additionalAttributes) {
+    return this;
+  }
+
+  @Override
+  public Span updateName(String name) {
+    return this;
+  }
+
+  @Override
+  public void end() {}
+
+  @Override
+  public void end(long timestamp, TimeUnit unit) {}
+
+  @Override
+  public SpanContext getSpanContext() {
+    SpanContext spanContext = this.spanContext;
+    if (spanContext == null) {
+      // The span id must not change once it has been observed, so only one generated id wins.
+      spanContextUpdater.compareAndSet(
+          this,
+          null,
+          SpanContext.create(
+              traceIdHigh, traceIdLow, idGenerator.generateSpanIdAsLong(), traceFlags, traceState));
+      spanContext = this.spanContext;
+    }
+    return spanContext;
+  }
+
+  @Override
+  public boolean isRecording() {
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return "NonRecordingSpan{spanContext=" + getSpanContext() + "}";
+  }
+}
@@ -9,6 +9,7 @@ import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
 import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
 
 /** The extend Span interface used by the SDK. */
 public interface ReadableSpan {
@@ -69,4 +70,14 @@ public interface ReadableSpan {
    * @return the kind of the span.
    */
   Span.Kind getKind();
+
+  /**
+   * Returns the status of the {@code Span}. The default implementation converts the span to {@link
+   * SpanData}, spans created by the SDK return it directly.
+   *
+   * @return the status of the {@code Span}.
+   */
+  default StatusData getStatus() {
+    return toSpanData().getStatus();
+  }
 }
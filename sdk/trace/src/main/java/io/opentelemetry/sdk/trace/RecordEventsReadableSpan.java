@@ -20,14 +20,12 @@ import io.opentelemetry.sdk.trace.data.EventData;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.data.StatusData;
-import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
-import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.Nonnull;
@@ -41,6 +39,12 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
 
   private static final Logger logger = Logger.getLogger(RecordEventsReadableSpan.class.getName());
 
+  private static final int OWNER_IDLE = 0;
+  private static final int OWNER_BUSY = 1;
+  private static final int OWNER_REVOKED = 2;
+  private static final AtomicIntegerFieldUpdater<RecordEventsReadableSpan> ownerStateUpdater =
+      AtomicIntegerFieldUpdater.newUpdater(RecordEventsReadableSpan.class, "ownerState");
+
   // The config used when constructing this Span.
   private final TraceConfig traceConfig;
   // Contains the identifiers associated with this Span.
@@ -66,29 +70,30 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
   private final long startEpochNanos;
   // Lock used to internally guard the mutable state of this instance
   private final Object lock = new Object();
-
-  @GuardedBy("lock")
+  // The thread that may access the mutable state below without holding the lock, see
+  // SpanConcurrencyMode.SINGLE_WRITER, as long as the owner state isn't revoked.
+  @Nullable private final Thread owner;
+  // The owner CASes this from idle to busy for each unlocked access and sets it back to idle with a
+  // release store. Any other thread, or the end of the span, revokes it once it is idle, which
+  // makes the unlocked writes of the owner visible. From then on, the lock guards all the state.
+  private volatile int ownerState;
+
+  // The fields below are guarded by the lock unless accessed by the owner thread.
   private String name;
   // Set of recorded attributes. DO NOT CALL any other method that changes the ordering of events.
-  @GuardedBy("lock")
-  @Nullable
-  private AttributesMap attributes;
+  @Nullable private AttributesMap attributes;
   // List of recorded events.
-  @GuardedBy("lock")
   private final List<EventData> events;
   // Number of events recorded.
-  @GuardedBy("lock")
   private int totalRecordedEvents = 0;
   // The status of the span.
-  @GuardedBy("lock")
-  @Nullable
-  private StatusData status = StatusData.unset();
+  @Nullable private StatusData status = StatusData.unset();
   // The end time of the span.
-  @GuardedBy("lock")
   private long endEpochNanos;
   // True if the span is ended.
-  @GuardedBy("lock")
   private boolean hasEnded;
+  // The snapshot returned by toSpanData() once the span has ended.
+  @Nullable private volatile SpanData endedSpanData;
 
   private RecordEventsReadableSpan(
       SpanContext context,
@@ -103,7 +108,8 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
       @Nullable AttributesMap attributes,
       List<LinkData> links,
       int totalRecordedLinks,
-      long startEpochNanos) {
+      long startEpochNanos,
+      @Nullable Thread owner) {
     this.context = context;
     this.instrumentationLibraryInfo = instrumentationLibraryInfo;
     this.parentSpanContext = parentSpanContext;
@@ -119,6 +125,8 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
     this.attributes = attributes;
     this.events = new ArrayList<>();
     this.traceConfig = traceConfig;
+    this.owner = owner;
+    this.ownerState = owner != null ? OWNER_IDLE : OWNER_REVOKED;
   }
 
   /**
@@ -135,6 +143,7 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
    * @param resource the resource associated with this span.
    * @param attributes the attributes set during span creation.
    * @param links the links set during span creation, may be truncated. The list MUST be immutable.
+   * @param spanConcurrencyMode how the mutable state of the span is guarded.
    * @return a new and started span.
    */
   static RecordEventsReadableSpan startSpan(
@@ -151,7 +160,8 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
       AttributesMap attributes,
       List<LinkData> links,
       int totalRecordedLinks,
-      long startEpochNanos) {
+      long startEpochNanos,
+      SpanConcurrencyMode spanConcurrencyMode) {
     RecordEventsReadableSpan span =
         new RecordEventsReadableSpan(
             context,
@@ -166,7 +176,10 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
             attributes,
             links,
             totalRecordedLinks,
-            startEpochNanos == 0 ? clock.now() : startEpochNanos);
+            startEpochNanos == 0 ? clock.now() : startEpochNanos,
+            spanConcurrencyMode == SpanConcurrencyMode.SINGLE_WRITER
+                ? Thread.currentThread()
+                : null);
     // Call onStart here instead of calling in the constructor to make sure the span is completely
     // initialized.
     spanProcessor.onStart(parentContext, span);
@@ -175,24 +188,51 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
 
   @Override
   public SpanData toSpanData() {
+    SpanData endedSpanData = this.endedSpanData;
+    if (endedSpanData != null) {
+      return endedSpanData;
+    }
+    // Switches a span that is read by a thread other than its owner over to locking, the owner
+    // reads it under the lock as well.
+    if (enterOwner()) {
+      exitOwner();
+    }
     // Copy within synchronized context
     synchronized (lock) {
-      return SpanWrapper.create(
-          this,
-          links,
-          getImmutableTimedEvents(),
-          getImmutableAttributes(),
-          (attributes == null) ? 0 : attributes.getTotalAddedValues(),
-          totalRecordedEvents,
-          getSpanDataStatus(),
-          name,
-          endEpochNanos,
-          hasEnded);
+      if (hasEnded) {
+        // The span can no longer change, so the snapshot shares its storage and is reused.
+        endedSpanData = createSpanData();
+        this.endedSpanData = endedSpanData;
+        return endedSpanData;
+      }
+      return createSpanData();
     }
   }
 
+  @GuardedBy("lock")
+  private SpanData createSpanData() {
+    return SpanWrapper.create(
+        this,
+        links,
+        getImmutableTimedEvents(),
+        getImmutableAttributes(),
+        (attributes == null) ? 0 : attributes.getTotalAddedValues(),
+        totalRecordedEvents,
+        getSpanDataStatus(),
+        name,
+        endEpochNanos,
+        hasEnded);
+  }
+
   @Override
   public boolean hasEnded() {
+    if (enterOwner()) {
+      try {
+        return hasEnded;
+      } finally {
+        exitOwner();
+      }
+    }
     synchronized (lock) {
       return hasEnded;
     }
@@ -210,6 +250,13 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
    */
   @Override
   public String getName() {
+    if (enterOwner()) {
+      try {
+        return name;
+      } finally {
+        exitOwner();
+      }
+    }
     synchronized (lock) {
       return name;
     }
@@ -235,6 +282,11 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
    */
   @Override
   public long getLatencyNanos() {
+    if (enterOwner()) {
+      exitOwner();
+      // Ownership is revoked when the span ends.
+      return clock.now() - startEpochNanos;
+    }
     synchronized (lock) {
       return (hasEnded ? endEpochNanos : clock.now()) - startEpochNanos;
     }
@@ -254,22 +306,34 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
     if (key == null || key.getKey() == null || key.getKey().length() == 0 || value == null) {
       return this;
     }
-    synchronized (lock) {
-      if (hasEnded) {
-        logger.log(Level.FINE, "Calling setAttribute() on an ended Span.");
-        return this;
-      }
-      if (attributes == null) {
-        attributes = new AttributesMap(traceConfig.getMaxNumberOfAttributes());
+    if (enterOwner()) {
+      try {
+        setAttributeInternal(key, value);
+      } finally {
+        exitOwner();
       }
+      return this;
+    }
+    synchronized (lock) {
+      setAttributeInternal(key, value);
+    }
+    return this;
+  }
 
-      if (traceConfig.shouldTruncateStringAttributeValues()) {
-        value = StringUtils.truncateToSize(key, value, traceConfig.getMaxLengthOfAttributeValues());
-      }
+  private <T> void setAttributeInternal(AttributeKey<T> key, T value) {
+    if (hasEnded) {
+      logger.log(Level.FINE, "Calling setAttribute() on an ended Span.");
+      return;
+    }
+    if (attributes == null) {
+      attributes = new AttributesMap(traceConfig.getMaxNumberOfAttributes());
+    }
 
-      attributes.put(key, value);
+    if (traceConfig.shouldTruncateStringAttributeValues()) {
+      value = StringUtils.truncateToSize(key, value, traceConfig.getMaxLengthOfAttributeValues());
     }
-    return this;
+
+    attributes.put(key, value);
   }
 
   @Override
@@ -339,16 +403,28 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
   }
 
   private void addTimedEvent(EventData timedEvent) {
-    synchronized (lock) {
-      if (hasEnded) {
-        logger.log(Level.FINE, "Calling addEvent() on an ended Span.");
-        return;
-      }
-      if (events.size() < traceConfig.getMaxNumberOfEvents()) {
-        events.add(timedEvent);
+    if (enterOwner()) {
+      try {
+        addTimedEventInternal(timedEvent);
+      } finally {
+        exitOwner();
       }
-      totalRecordedEvents++;
+      return;
     }
+    synchronized (lock) {
+      addTimedEventInternal(timedEvent);
+    }
+  }
+
+  private void addTimedEventInternal(EventData timedEvent) {
+    if (hasEnded) {
+      logger.log(Level.FINE, "Calling addEvent() on an ended Span.");
+      return;
+    }
+    if (events.size() < traceConfig.getMaxNumberOfEvents()) {
+      events.add(timedEvent);
+    }
+    totalRecordedEvents++;
   }
 
   @Override
@@ -356,16 +432,28 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
     if (statusCode == null) {
       return this;
     }
-    synchronized (lock) {
-      if (hasEnded) {
-        logger.log(Level.FINE, "Calling setStatus() on an ended Span.");
-        return this;
+    if (enterOwner()) {
+      try {
+        setStatusInternal(statusCode, description);
+      } finally {
+        exitOwner();
       }
-      this.status = StatusData.create(statusCode, description);
+      return this;
+    }
+    synchronized (lock) {
+      setStatusInternal(statusCode, description);
     }
     return this;
   }
 
+  private void setStatusInternal(StatusCode statusCode, @Nullable String description) {
+    if (hasEnded) {
+      logger.log(Level.FINE, "Calling setStatus() on an ended Span.");
+      return;
+    }
+    this.status = StatusData.create(statusCode, description);
+  }
+
   @Override
   public ReadWriteSpan recordException(Throwable exception) {
     recordException(exception, null);
@@ -377,26 +465,13 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
     if (exception == null) {
       return this;
     }
-    long timestampNanos = clock.now();
-
-    AttributesBuilder attributes = Attributes.builder();
-    attributes.put(SemanticAttributes.EXCEPTION_TYPE, exception.getClass().getCanonicalName());
-    if (exception.getMessage() != null) {
-      attributes.put(SemanticAttributes.EXCEPTION_MESSAGE, exception.getMessage());
-    }
-    StringWriter writer = new StringWriter();
-    exception.printStackTrace(new PrintWriter(writer));
-    attributes.put(SemanticAttributes.EXCEPTION_STACKTRACE, writer.toString());
-
-    if (additionalAttributes != null) {
-      attributes.putAll(additionalAttributes);
-    }
-
-    addEvent(
-        SemanticAttributes.EXCEPTION_EVENT_NAME,
-        attributes.build(),
-        timestampNanos,
-        TimeUnit.NANOSECONDS);
+    addTimedEvent(
+        new ExceptionEventData(
+            clock.now(),
+            exception,
+            additionalAttributes,
+            traceConfig.getMaxNumberOfAttributesPerEvent(),
+            traceConfig.getMaxExceptionStackTraceDepth()));
     return this;
   }
 
@@ -405,16 +480,28 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
     if (name == null) {
       return this;
     }
-    synchronized (lock) {
-      if (hasEnded) {
-        logger.log(Level.FINE, "Calling updateName() on an ended Span.");
-        return this;
+    if (enterOwner()) {
+      try {
+        updateNameInternal(name);
+      } finally {
+        exitOwner();
       }
-      this.name = name;
+      return this;
+    }
+    synchronized (lock) {
+      updateNameInternal(name);
     }
     return this;
   }
 
+  private void updateNameInternal(String name) {
+    if (hasEnded) {
+      logger.log(Level.FINE, "Calling updateName() on an ended Span.");
+      return;
+    }
+    this.name = name;
+  }
+
   @Override
   public void end() {
     endInternal(clock.now());
@@ -429,24 +516,73 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
   }
 
   private void endInternal(long endEpochNanos) {
-    synchronized (lock) {
-      if (hasEnded) {
-        logger.log(Level.FINE, "Calling end() on an ended Span.");
-        return;
+    if (enterOwner()) {
+      try {
+        markEnded(endEpochNanos);
+      } finally {
+        // From now on, the state recorded without the lock is read under the lock.
+        ownerStateUpdater.lazySet(this, OWNER_REVOKED);
+      }
+    } else {
+      synchronized (lock) {
+        if (hasEnded) {
+          logger.log(Level.FINE, "Calling end() on an ended Span.");
+          return;
+        }
+        markEnded(endEpochNanos);
       }
-      this.endEpochNanos = endEpochNanos;
-      hasEnded = true;
     }
     spanProcessor.onEnd(this);
   }
 
+  private void markEnded(long endEpochNanos) {
+    this.endEpochNanos = endEpochNanos;
+    hasEnded = true;
+    if (attributes != null) {
+      attributes.freeze();
+    }
+  }
+
   @Override
   public boolean isRecording() {
+    if (enterOwner()) {
+      exitOwner();
+      // Ownership is revoked when the span ends.
+      return true;
+    }
     synchronized (lock) {
       return !hasEnded;
     }
   }
 
+  /**
+   * Returns {@code true} if the current thread may access the mutable state of this span without
+   * holding the lock, in which case {@link #exitOwner()} must be called once it is done. The first
+   * access from any other thread permanently switches the span to locking, after waiting for an
+   * unlocked access of the owner that may be in progress.
+   */
+  private boolean enterOwner() {
+    if (owner == Thread.currentThread()) {
+      // Fails once revoked.
+      return ownerStateUpdater.compareAndSet(this, OWNER_IDLE, OWNER_BUSY);
+    }
+    while (true) {
+      int state = ownerState;
+      if (state == OWNER_REVOKED) {
+        return false;
+      }
+      if (state == OWNER_IDLE && ownerStateUpdater.compareAndSet(this, OWNER_IDLE, OWNER_REVOKED)) {
+        return false;
+      }
+      // Wait for the unlocked access of the owner in progress.
+      Thread.yield();
+    }
+  }
+
+  private void exitOwner() {
+    ownerStateUpdater.lazySet(this, OWNER_IDLE);
+  }
+
   @GuardedBy("lock")
   private StatusData getSpanDataStatus() {
     synchronized (lock) {
@@ -467,6 +603,18 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
     return kind;
   }
 
+  @Override
+  public StatusData getStatus() {
+    if (enterOwner()) {
+      try {
+        return status;
+      } finally {
+        exitOwner();
+      }
+    }
+    return getSpanDataStatus();
+  }
+
   long getStartEpochNanos() {
     return startEpochNanos;
   }
@@ -480,6 +628,11 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
     if (events.isEmpty()) {
       return Collections.emptyList();
     }
+    // if the span has ended, then the events can no longer change,
+    // so we can return them directly and save copying all the data.
+    if (hasEnded) {
+      return Collections.unmodifiableList(events);
+    }
 
     return Collections.unmodifiableList(new ArrayList<>(events));
   }
@@ -489,12 +642,8 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
     if (attributes == null || attributes.isEmpty()) {
       return Attributes.empty();
     }
-    // if the span has ended, then the attributes are unmodifiable,
-    // so we can return them directly and save copying all the data.
-    if (hasEnded) {
-      return attributes;
-    }
-    // otherwise, make a copy of the data into an immutable container.
+    // if the span has ended, then the attributes are frozen and are returned without copying,
+    // otherwise this makes a copy of the data into an immutable container.
     return attributes.immutableCopy();
   }
 
@@ -505,6 +654,10 @@ final class RecordEventsReadableSpan implements ReadWriteSpan {
     String status;
     long totalRecordedEvents;
     long endEpochNanos;
+    // Switches a span that is read by a thread other than its owner over to locking.
+    if (enterOwner()) {
+      exitOwner();
+    }
     synchronized (lock) {
       name = this.name;
       attributes = String.valueOf(this.attributes);
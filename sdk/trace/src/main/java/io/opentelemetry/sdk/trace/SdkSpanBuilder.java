@@ -26,6 +26,7 @@ import io.opentelemetry.sdk.internal.MonotonicClock;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.config.TraceConfig;
 import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
 import io.opentelemetry.sdk.trace.samplers.SamplingResult;
 import java.util.ArrayList;
@@ -45,6 +46,7 @@ final class SdkSpanBuilder implements SpanBuilder {
   private final Resource resource;
   private final IdGenerator idsGenerator;
   private final Clock clock;
+  private final SpanConcurrencyMode spanConcurrencyMode;
 
   @Nullable private Context parent;
   private Kind spanKind = Kind.INTERNAL;
@@ -61,7 +63,8 @@ final class SdkSpanBuilder implements SpanBuilder {
       TraceConfig traceConfig,
       Resource resource,
       IdGenerator idsGenerator,
-      Clock clock) {
+      Clock clock,
+      SpanConcurrencyMode spanConcurrencyMode) {
     this.spanName = spanName;
     this.instrumentationLibraryInfo = instrumentationLibraryInfo;
     this.spanProcessor = spanProcessor;
@@ -69,6 +72,7 @@ final class SdkSpanBuilder implements SpanBuilder {
     this.resource = resource;
     this.idsGenerator = idsGenerator;
     this.clock = clock;
+    this.spanConcurrencyMode = spanConcurrencyMode;
   }
 
   @Override
@@ -114,7 +118,7 @@ final class SdkSpanBuilder implements SpanBuilder {
     Objects.requireNonNull(link, "link");
     totalNumberOfLinksAdded++;
     if (links == null) {
-      links = new ArrayList<>(traceConfig.getMaxNumberOfLinks());
+      links = new ArrayList<>();
     }
 
     // don't bother doing anything with any links beyond the max.
@@ -163,6 +167,19 @@ final class SdkSpanBuilder implements SpanBuilder {
     return this;
   }
 
+  /**
+   * Replaces the attributes set so far with the ones of a {@link SpanTemplate}, which are sized and
+   * truncated according to {@link #getTraceConfig()}.
+   */
+  SdkSpanBuilder setTemplateAttributes(AttributesMap attributes) {
+    this.attributes = attributes;
+    return this;
+  }
+
+  TraceConfig getTraceConfig() {
+    return traceConfig;
+  }
+
   @Override
   public SpanBuilder setStartTimestamp(long startTimestamp, TimeUnit unit) {
     Utils.checkArgument(startTimestamp >= 0, "Negative startTimestamp");
@@ -177,14 +194,31 @@ final class SdkSpanBuilder implements SpanBuilder {
         isRootSpan ? Context.root() : parent == null ? Context.current() : parent;
     final Span parentSpan = Span.fromContext(parentContext);
     final SpanContext parentSpanContext = parentSpan.getSpanContext();
-    String traceId;
-    String spanId = idsGenerator.generateSpanId();
-    if (!parentSpanContext.isValid()) {
-      // New root span.
-      traceId = idsGenerator.generateTraceId();
+    String traceId = null;
+    long traceIdHigh = 0;
+    long traceIdLow = 0;
+    String spanId = null;
+    LongIdGenerator longIdGenerator = null;
+    if (idsGenerator instanceof LongIdGenerator) {
+      longIdGenerator = (LongIdGenerator) idsGenerator;
+      if (!parentSpanContext.isValid()) {
+        // New root span.
+        traceIdHigh = longIdGenerator.generateTraceIdHighBytesAsLong();
+        traceIdLow = longIdGenerator.generateTraceIdLowBytesAsLong();
+      } else {
+        // New child span.
+        traceIdHigh = parentSpanContext.getTraceIdHighBytesAsLong();
+        traceIdLow = parentSpanContext.getTraceIdLowBytesAsLong();
+      }
     } else {
-      // New child span.
-      traceId = parentSpanContext.getTraceIdAsHexString();
+      spanId = idsGenerator.generateSpanId();
+      if (!parentSpanContext.isValid()) {
+        // New root span.
+        traceId = idsGenerator.generateTraceId();
+      } else {
+        // New child span.
+        traceId = parentSpanContext.getTraceIdAsHexString();
+      }
     }
     List<LinkData> immutableLinks =
         links == null ? Collections.emptyList() : Collections.unmodifiableList(links);
@@ -192,21 +226,44 @@ final class SdkSpanBuilder implements SpanBuilder {
     // startSpan is called. If that happens all the links will be added in a new list.
     links = null;
     Attributes immutableAttributes = attributes == null ? Attributes.empty() : attributes;
+    Sampler sampler = traceConfig.getSampler();
     SamplingResult samplingResult =
-        traceConfig
-            .getSampler()
-            .shouldSample(
+        longIdGenerator != null
+            ? sampler.shouldSample(
+                parentContext,
+                traceIdHigh,
+                traceIdLow,
+                spanName,
+                spanKind,
+                immutableAttributes,
+                immutableLinks)
+            : sampler.shouldSample(
                 parentContext, traceId, spanName, spanKind, immutableAttributes, immutableLinks);
     SamplingDecision samplingDecision = samplingResult.getDecision();
 
+    // Samplers that don't change the trace state return the parent's instance.
     TraceState samplingResultTraceState =
         samplingResult.getUpdatedTraceState(parentSpanContext.getTraceState());
-    SpanContext spanContext =
-        createSpanContext(traceId, spanId, samplingResultTraceState, isSampled(samplingDecision));
+    byte traceFlags =
+        isSampled(samplingDecision) ? TraceFlags.getSampled() : TraceFlags.getDefault();
 
     if (!isRecording(samplingDecision)) {
-      return Span.wrap(spanContext);
+      if (longIdGenerator != null) {
+        // The span id is only generated if the context of the dropped span is ever read.
+        return new NonRecordingSpan(
+            traceIdHigh, traceIdLow, traceFlags, samplingResultTraceState, longIdGenerator);
+      }
+      return Span.wrap(SpanContext.create(traceId, spanId, traceFlags, samplingResultTraceState));
     }
+    SpanContext spanContext =
+        longIdGenerator != null
+            ? SpanContext.create(
+                traceIdHigh,
+                traceIdLow,
+                longIdGenerator.generateSpanIdAsLong(),
+                traceFlags,
+                samplingResultTraceState)
+            : SpanContext.create(traceId, spanId, traceFlags, samplingResultTraceState);
     Attributes samplingAttributes = samplingResult.getAttributes();
     if (!samplingAttributes.isEmpty()) {
       if (attributes == null) {
@@ -234,13 +291,8 @@ final class SdkSpanBuilder implements SpanBuilder {
         recordedAttributes,
         immutableLinks,
         totalNumberOfLinksAdded,
-        startEpochNanos);
-  }
-
-  private static SpanContext createSpanContext(
-      String traceId, String spanId, TraceState traceState, boolean isSampled) {
-    byte traceFlags = isSampled ? TraceFlags.getSampled() : TraceFlags.getDefault();
-    return SpanContext.create(traceId, spanId, traceFlags, traceState);
+        startEpochNanos,
+        spanConcurrencyMode);
   }
 
   private static Clock getClock(Span parent, Clock clock) {
@@ -248,7 +300,7 @@ final class SdkSpanBuilder implements SpanBuilder {
       RecordEventsReadableSpan parentRecordEventsSpan = (RecordEventsReadableSpan) parent;
       return parentRecordEventsSpan.getClock();
     } else {
-      return MonotonicClock.create(clock);
+      return MonotonicClock.forCurrentThread(clock);
     }
   }
 
@@ -0,0 +1,204 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.AttributeType;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.config.TraceConfig;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/** {@link SdkSpanTemplate} is the implementation of {@link SpanTemplate}. */
+final class SdkSpanTemplate implements SpanTemplate {
+
+  private static final Logger logger = Logger.getLogger(SdkSpanTemplate.class.getName());
+
+  private final Tracer tracer;
+  // The tracer if it was created by the SDK, whose span builders skip validating the name again.
+  @Nullable private final SdkTracer sdkTracer;
+  private final String spanName;
+  private final Span.Kind spanKind;
+  private final AttributeKey<?>[] attributeKeys;
+  private final AttributeType[] types;
+  // Whether values of each key are strings that may have to be truncated.
+  private final boolean[] truncatable;
+  // The limits of the last trace config spans were started with, which rarely changes.
+  @Nullable private volatile Limits limits;
+
+  SdkSpanTemplate(
+      Tracer tracer, String spanName, Span.Kind spanKind, AttributeKey<?>[] attributeKeys) {
+    this.tracer = tracer;
+    this.sdkTracer = tracer instanceof SdkTracer ? (SdkTracer) tracer : null;
+    this.spanName = sdkTracer != null ? SdkTracer.validSpanName(spanName) : spanName;
+    this.spanKind = spanKind;
+    this.attributeKeys = attributeKeys;
+    this.types = new AttributeType[attributeKeys.length];
+    this.truncatable = new boolean[attributeKeys.length];
+    for (int i = 0; i < attributeKeys.length; i++) {
+      AttributeType type = attributeKeys[i].getType();
+      types[i] = type;
+      truncatable[i] = type == AttributeType.STRING || type == AttributeType.STRING_ARRAY;
+    }
+  }
+
+  @Override
+  public Span startSpan(Object... attributeValues) {
+    return start(spanBuilder(), attributeValues);
+  }
+
+  @Override
+  public Span startSpan(Context parent, Object... attributeValues) {
+    return start(spanBuilder().setParent(parent), attributeValues);
+  }
+
+  private SpanBuilder spanBuilder() {
+    return sdkTracer != null ? sdkTracer.newSpanBuilder(spanName) : tracer.spanBuilder(spanName);
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private Span start(SpanBuilder spanBuilder, Object[] attributeValues) {
+    spanBuilder.setSpanKind(spanKind);
+    int length = Math.min(attributeKeys.length, attributeValues.length);
+    if (!(spanBuilder instanceof SdkSpanBuilder)) {
+      for (int i = 0; i < length; i++) {
+        Object value = checkValue(i, attributeValues[i]);
+        if (value != null) {
+          spanBuilder.setAttribute((AttributeKey) attributeKeys[i], value);
+        }
+      }
+      return spanBuilder.startSpan();
+    }
+
+    SdkSpanBuilder sdkSpanBuilder = (SdkSpanBuilder) spanBuilder;
+    Limits limits = getLimits(sdkSpanBuilder.getTraceConfig());
+    AttributesMap attributes = new AttributesMap(limits.maxAttributes, attributeKeys.length);
+    for (int i = 0; i < length; i++) {
+      Object value = checkValue(i, attributeValues[i]);
+      if (value == null) {
+        continue;
+      }
+      if (limits.truncate && truncatable[i]) {
+        value =
+            StringUtils.truncateToSize((AttributeKey) attributeKeys[i], value, limits.maxLength);
+      }
+      attributes.putNew(attributeKeys[i], value);
+    }
+    return sdkSpanBuilder.setTemplateAttributes(attributes).startSpan();
+  }
+
+  private Limits getLimits(TraceConfig traceConfig) {
+    Limits limits = this.limits;
+    if (limits == null || limits.traceConfig != traceConfig) {
+      limits = new Limits(traceConfig);
+      this.limits = limits;
+    }
+    return limits;
+  }
+
+  /**
+   * Returns the value to record for the key at {@code index}, widening numbers to the type of the
+   * key, or {@code null} for a {@code null} value or one that can't be converted to the type of the
+   * key.
+   */
+  @Nullable
+  private Object checkValue(int index, @Nullable Object value) {
+    if (value == null) {
+      return null;
+    }
+    switch (types[index]) {
+      case STRING:
+        if (value instanceof String) {
+          return value;
+        }
+        break;
+      case BOOLEAN:
+        if (value instanceof Boolean) {
+          return value;
+        }
+        break;
+      case LONG:
+        if (value instanceof Long) {
+          return value;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+          return ((Number) value).longValue();
+        }
+        break;
+      case DOUBLE:
+        if (value instanceof Double) {
+          return value;
+        }
+        if (value instanceof Number) {
+          return ((Number) value).doubleValue();
+        }
+        break;
+      case STRING_ARRAY:
+        if (isListOf(value, String.class)) {
+          return value;
+        }
+        break;
+      case BOOLEAN_ARRAY:
+        if (isListOf(value, Boolean.class)) {
+          return value;
+        }
+        break;
+      case LONG_ARRAY:
+        if (isListOf(value, Long.class)) {
+          return value;
+        }
+        break;
+      case DOUBLE_ARRAY:
+        if (isListOf(value, Double.class)) {
+          return value;
+        }
+        break;
+    }
+    if (logger.isLoggable(Level.FINE)) {
+      logger.log(
+          Level.FINE,
+          "Ignoring invalid value for attribute key "
+              + attributeKeys[index].getKey()
+              + " of type "
+              + types[index]
+              + ": "
+              + value.getClass().getName());
+    }
+    return null;
+  }
+
+  // Null elements are allowed, as in the lists passed to Span.setAttribute.
+  private static boolean isListOf(Object value, Class<?> elementType) {
+    if (!(value instanceof List)) {
+      return false;
+    }
+    for (Object element : (List<?>) value) {
+      if (element != null && !elementType.isInstance(element)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static final class Limits {
+    private final TraceConfig traceConfig;
+    private final boolean truncate;
+    private final int maxLength;
+    private final int maxAttributes;
+
+    private Limits(TraceConfig traceConfig) {
+      this.traceConfig = traceConfig;
+      this.truncate = traceConfig.shouldTruncateStringAttributeValues();
+      this.maxLength = traceConfig.getMaxLengthOfAttributeValues();
+      this.maxAttributes = traceConfig.getMaxNumberOfAttributes();
+    }
+  }
+}
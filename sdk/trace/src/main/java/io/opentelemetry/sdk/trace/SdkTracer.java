@@ -8,6 +8,7 @@ package io.opentelemetry.sdk.trace;
 import io.opentelemetry.api.trace.SpanBuilder;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import javax.annotation.Nullable;
 
 /** {@link SdkTracer} is SDK implementation of {@link Tracer}. */
 final class SdkTracer implements Tracer {
@@ -23,9 +24,18 @@ final class SdkTracer implements Tracer {
 
   @Override
   public SpanBuilder spanBuilder(String spanName) {
+    return newSpanBuilder(validSpanName(spanName));
+  }
+
+  static String validSpanName(@Nullable String spanName) {
     if (spanName == null || spanName.trim().isEmpty()) {
-      spanName = FALLBACK_SPAN_NAME;
+      return FALLBACK_SPAN_NAME;
     }
+    return spanName;
+  }
+
+  /** Returns a new {@link SpanBuilder} for a span name which was already validated. */
+  SpanBuilder newSpanBuilder(String spanName) {
     if (sharedState.isStopped()) {
       return Tracer.getDefault().spanBuilder(spanName);
     }
@@ -36,7 +46,8 @@ final class SdkTracer implements Tracer {
         sharedState.getActiveTraceConfig(),
         sharedState.getResource(),
         sharedState.getIdGenerator(),
-        sharedState.getClock());
+        sharedState.getClock(),
+        sharedState.getSpanConcurrencyMode());
   }
 
   /**
@@ -49,9 +49,16 @@ public final class SdkTracerProvider implements TracerProvider, SdkTracerManagem
       IdGenerator idsGenerator,
       Resource resource,
       Supplier<TraceConfig> traceConfigSupplier,
+      SpanConcurrencyMode spanConcurrencyMode,
       List<SpanProcessor> spanProcessors) {
     this.sharedState =
-        new TracerSharedState(clock, idsGenerator, resource, traceConfigSupplier, spanProcessors);
+        new TracerSharedState(
+            clock,
+            idsGenerator,
+            resource,
+            traceConfigSupplier,
+            spanConcurrencyMode,
+            spanProcessors);
     this.tracerSdkComponentRegistry =
         new ComponentRegistry<>(
             instrumentationLibraryInfo -> new SdkTracer(sharedState, instrumentationLibraryInfo));
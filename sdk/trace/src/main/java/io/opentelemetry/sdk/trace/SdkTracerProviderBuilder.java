@@ -23,6 +23,7 @@ public final class SdkTracerProviderBuilder {
   private IdGenerator idsGenerator = IdGenerator.random();
   private Resource resource = Resource.getDefault();
   private Supplier<TraceConfig> traceConfigSupplier = TraceConfig::getDefault;
+  private SpanConcurrencyMode spanConcurrencyMode = SpanConcurrencyMode.LOCKING;
 
   /**
    * Assign a {@link Clock}.
@@ -84,6 +85,19 @@ public final class SdkTracerProviderBuilder {
     return this;
   }
 
+  /**
+   * Assign the {@link SpanConcurrencyMode} used by the spans that are recorded by Tracers. Defaults
+   * to {@link SpanConcurrencyMode#LOCKING}.
+   *
+   * @param spanConcurrencyMode how recording spans guard their mutable state.
+   * @return this
+   */
+  public SdkTracerProviderBuilder setSpanConcurrencyMode(SpanConcurrencyMode spanConcurrencyMode) {
+    requireNonNull(spanConcurrencyMode, "spanConcurrencyMode");
+    this.spanConcurrencyMode = spanConcurrencyMode;
+    return this;
+  }
+
   /**
    * Add a SpanProcessor to the span pipeline that will be built.
    *
@@ -101,7 +115,7 @@ public final class SdkTracerProviderBuilder {
    */
   public SdkTracerProvider build() {
     return new SdkTracerProvider(
-        clock, idsGenerator, resource, traceConfigSupplier, spanProcessors);
+        clock, idsGenerator, resource, traceConfigSupplier, spanConcurrencyMode, spanProcessors);
   }
 
   SdkTracerProviderBuilder() {}
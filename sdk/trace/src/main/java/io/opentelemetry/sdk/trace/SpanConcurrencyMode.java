@@ -0,0 +1,33 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+/**
+ * Controls how the SDK guards the mutable state of recording spans against concurrent access.
+ *
+ * @see SdkTracerProviderBuilder#setSpanConcurrencyMode(SpanConcurrencyMode)
+ */
+public enum SpanConcurrencyMode {
+  /**
+   * Every mutation and read of a recording span acquires the span's monitor. Spans may be freely
+   * used from multiple threads at the same time. This is the default.
+   */
+  LOCKING,
+
+  /**
+   * The thread that starts a span owns it and mutates it without acquiring any monitor until the
+   * span is ended. Ending the span safely publishes its state to the {@link SpanProcessor}s and to
+   * any other thread. If a thread other than the owner uses the span before it is ended, it waits
+   * for any access of the owner in progress, and the span falls back to {@link #LOCKING} for the
+   * rest of its lifetime.
+   *
+   * <p>The owner still starts each of its accesses with a compare-and-set and ends it with an
+   * ordered write, which is what lets another thread take the span over safely at any time. This
+   * mode pays off for spans that stay on the thread that started them. Spans that are regularly
+   * used from other threads while they run, for example read by zPages, end up paying for both.
+   */
+  SINGLE_WRITER
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A prepared shape for spans that are started over and over with the same name, kind and attribute
+ * keys. The attribute values are passed positionally, in the order the keys were added to the
+ * {@link SpanTemplateBuilder}, which saves creating attribute keys and looking them up again for
+ * every span.
+ *
+ * <pre>{@code
+ * SpanTemplate template =
+ *     SpanTemplate.builder(tracer, "GET /users")
+ *         .setSpanKind(Span.Kind.SERVER)
+ *         .addAttributeKey(SemanticAttributes.HTTP_METHOD)
+ *         .addAttributeKey(SemanticAttributes.HTTP_STATUS_CODE)
+ *         .build();
+ *
+ * Span span = template.startSpan("GET", 200L);
+ * }</pre>
+ *
+ * <p>Each value must have the type of its {@link AttributeKey}, for example a {@link Long} for a
+ * {@link io.opentelemetry.api.common.AttributeType#LONG} key or a {@link java.util.List} for array
+ * keys, whose elements must have the type of the array. {@link Integer}, {@link Short} and {@link
+ * Byte} values are widened for {@code LONG} keys, and any {@link Number} for {@code DOUBLE} keys.
+ * Values of other types are logged and ignored, as are {@code null} values and values without a
+ * key.
+ *
+ * <p>Templates work with any {@link Tracer}, but only skip the per-span key handling for tracers
+ * created by the {@link SdkTracerProvider}.
+ */
+@ThreadSafe
+public interface SpanTemplate {
+
+  /**
+   * Returns a new {@link SpanTemplateBuilder} for spans with the given name created by the {@code
+   * tracer}.
+   */
+  static SpanTemplateBuilder builder(Tracer tracer, String spanName) {
+    return new SpanTemplateBuilder(tracer, spanName);
+  }
+
+  /**
+   * Starts a new span, with {@link Context#current()} as its parent and the given values for the
+   * attribute keys of this template.
+   */
+  Span startSpan(Object... attributeValues);
+
+  /**
+   * Starts a new span with the given parent and the given values for the attribute keys of this
+   * template.
+   */
+  Span startSpan(Context parent, Object... attributeValues);
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Builder of {@link SpanTemplate}. */
+public final class SpanTemplateBuilder {
+  private final Tracer tracer;
+  private final String spanName;
+  private final List<AttributeKey<?>> attributeKeys = new ArrayList<>();
+  private Span.Kind spanKind = Span.Kind.INTERNAL;
+
+  SpanTemplateBuilder(Tracer tracer, String spanName) {
+    this.tracer = requireNonNull(tracer, "tracer");
+    this.spanName = requireNonNull(spanName, "spanName");
+  }
+
+  /**
+   * Sets the {@link Span.Kind} of the spans started from the template. Defaults to {@link
+   * Span.Kind#INTERNAL}.
+   *
+   * @return this
+   */
+  public SpanTemplateBuilder setSpanKind(Span.Kind spanKind) {
+    this.spanKind = requireNonNull(spanKind, "spanKind");
+    return this;
+  }
+
+  /**
+   * Adds the key of the next positional attribute value of {@link
+   * SpanTemplate#startSpan(Object...)}.
+   *
+   * @return this
+   * @throws IllegalArgumentException if the key was already added, which would shift the values of
+   *     the keys added after it.
+   */
+  public SpanTemplateBuilder addAttributeKey(AttributeKey<?> attributeKey) {
+    requireNonNull(attributeKey, "attributeKey");
+    checkArgument(
+        !attributeKeys.contains(attributeKey), "Duplicate attribute key: " + attributeKey.getKey());
+    attributeKeys.add(attributeKey);
+    return this;
+  }
+
+  /**
+   * Returns a new {@link SpanTemplate} with the configuration of this builder.
+   *
+   * @return a new {@link SpanTemplate}.
+   */
+  public SpanTemplate build() {
+    return new SdkSpanTemplate(
+        tracer, spanName, spanKind, attributeKeys.toArray(new AttributeKey<?>[0]));
+  }
+}
@@ -80,6 +80,11 @@ abstract class SpanWrapper implements SpanData {
         hasEnded);
   }
 
+  @Override
+  public SpanContext getSpanContext() {
+    return delegate().getSpanContext();
+  }
+
   @Override
   public String getTraceId() {
     return delegate().getSpanContext().getTraceIdAsHexString();
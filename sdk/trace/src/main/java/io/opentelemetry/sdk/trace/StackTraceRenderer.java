@@ -0,0 +1,221 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.sdk.trace.config.TraceConfig;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nullable;
+
+/**
+ * Renders the stack trace of a {@link Throwable} in the format of {@link
+ * Throwable#printStackTrace()}, optionally limited to a number of frames per throwable. Frames
+ * beyond the limit are replaced by a "... n frames truncated" line.
+ *
+ * <p>Rendered stack traces are kept in a small, fixed-size cache keyed by the description and the
+ * stack frames of every throwable in the cause chain, so that the same exception thrown repeatedly
+ * from the same place is only formatted once.
+ */
+final class StackTraceRenderer {
+
+  // Must be a power of two.
+  private static final int CACHE_SIZE = 256;
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  private static final AtomicReferenceArray<CacheEntry> cache =
+      new AtomicReferenceArray<>(CACHE_SIZE);
+
+  /**
+   * Returns the stack trace of the {@code throwable}.
+   *
+   * @param throwable the throwable to render.
+   * @param maxDepth the max number of frames rendered for each throwable, or {@link
+   *     TraceConfig#UNLIMITED_STACK_TRACE_DEPTH}.
+   */
+  static String render(Throwable throwable, int maxDepth) {
+    Fingerprint fingerprint = Fingerprint.of(throwable, maxDepth);
+    if (fingerprint == null) {
+      return renderUncached(throwable, maxDepth);
+    }
+    int slot = fingerprint.hashCode() & (CACHE_SIZE - 1);
+    CacheEntry entry = cache.get(slot);
+    if (entry != null && entry.fingerprint.equals(fingerprint)) {
+      return entry.stackTrace;
+    }
+    String stackTrace = renderUncached(throwable, maxDepth);
+    cache.set(slot, new CacheEntry(fingerprint, stackTrace));
+    return stackTrace;
+  }
+
+  static String renderUncached(Throwable throwable, int maxDepth) {
+    if (maxDepth == TraceConfig.UNLIMITED_STACK_TRACE_DEPTH) {
+      StringWriter writer = new StringWriter();
+      throwable.printStackTrace(new PrintWriter(writer));
+      return writer.toString();
+    }
+    StringBuilder sb = new StringBuilder();
+    Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    seen.add(throwable);
+    sb.append(throwable).append(LINE_SEPARATOR);
+    StackTraceElement[] trace = throwable.getStackTrace();
+    appendFrames(sb, trace, trace.length, "", maxDepth);
+    for (Throwable suppressed : throwable.getSuppressed()) {
+      appendEnclosed(sb, suppressed, trace, "Suppressed: ", "\t", maxDepth, seen);
+    }
+    Throwable cause = throwable.getCause();
+    if (cause != null) {
+      appendEnclosed(sb, cause, trace, "Caused by: ", "", maxDepth, seen);
+    }
+    return sb.toString();
+  }
+
+  private static void appendEnclosed(
+      StringBuilder sb,
+      Throwable throwable,
+      StackTraceElement[] enclosingTrace,
+      String caption,
+      String prefix,
+      int maxDepth,
+      Set<Throwable> seen) {
+    if (!seen.add(throwable)) {
+      sb.append(prefix)
+          .append(caption)
+          .append("[CIRCULAR REFERENCE: ")
+          .append(throwable)
+          .append(']')
+          .append(LINE_SEPARATOR);
+      return;
+    }
+    StackTraceElement[] trace = throwable.getStackTrace();
+    // Frames shared with the enclosing trace are omitted.
+    int m = trace.length - 1;
+    int n = enclosingTrace.length - 1;
+    while (m >= 0 && n >= 0 && trace[m].equals(enclosingTrace[n])) {
+      m--;
+      n--;
+    }
+    sb.append(prefix).append(caption).append(throwable).append(LINE_SEPARATOR);
+    appendFrames(sb, trace, m + 1, prefix, maxDepth);
+    for (Throwable suppressed : throwable.getSuppressed()) {
+      appendEnclosed(sb, suppressed, trace, "Suppressed: ", prefix + "\t", maxDepth, seen);
+    }
+    Throwable cause = throwable.getCause();
+    if (cause != null) {
+      appendEnclosed(sb, cause, trace, "Caused by: ", prefix, maxDepth, seen);
+    }
+  }
+
+  // Frames beyond maxDepth and frames shared with the enclosing trace are counted separately, the
+  // latter with the "... n more" line of Throwable.printStackTrace.
+  private static void appendFrames(
+      StringBuilder sb, StackTraceElement[] trace, int uniqueFrames, String prefix, int maxDepth) {
+    int frames = Math.min(uniqueFrames, maxDepth);
+    for (int i = 0; i < frames; i++) {
+      sb.append(prefix).append("\tat ").append(trace[i]).append(LINE_SEPARATOR);
+    }
+    int truncated = uniqueFrames - frames;
+    if (truncated != 0) {
+      sb.append(prefix)
+          .append("\t... ")
+          .append(truncated)
+          .append(" frames truncated")
+          .append(LINE_SEPARATOR);
+    }
+    int shared = trace.length - uniqueFrames;
+    if (shared != 0) {
+      sb.append(prefix).append("\t... ").append(shared).append(" more").append(LINE_SEPARATOR);
+    }
+  }
+
+  private StackTraceRenderer() {}
+
+  private static final class CacheEntry {
+    private final Fingerprint fingerprint;
+    private final String stackTrace;
+
+    private CacheEntry(Fingerprint fingerprint, String stackTrace) {
+      this.fingerprint = fingerprint;
+      this.stackTrace = stackTrace;
+    }
+  }
+
+  // Identifies a rendered stack trace by the description and stack frames of each throwable in the
+  // cause chain. It does not hold on to the throwables themselves.
+  private static final class Fingerprint {
+    // Longer cause chains, which includes circular ones, are not cached.
+    private static final int MAX_CHAIN_LENGTH = 16;
+
+    private final int maxDepth;
+    private final List<String> descriptions;
+    private final List<StackTraceElement[]> traces;
+    private final int hashCode;
+
+    /**
+     * Returns the {@link Fingerprint} of the {@code throwable}, or {@code null} if its stack trace
+     * should not be cached because it has suppressed throwables or a very long cause chain.
+     */
+    @Nullable
+    static Fingerprint of(Throwable throwable, int maxDepth) {
+      List<String> descriptions = new ArrayList<>(2);
+      List<StackTraceElement[]> traces = new ArrayList<>(2);
+      int hashCode = maxDepth;
+      for (Throwable t = throwable; t != null; t = t.getCause()) {
+        if (descriptions.size() == MAX_CHAIN_LENGTH || t.getSuppressed().length != 0) {
+          return null;
+        }
+        String description = t.toString();
+        StackTraceElement[] trace = t.getStackTrace();
+        descriptions.add(description);
+        traces.add(trace);
+        hashCode = 31 * (31 * hashCode + description.hashCode()) + Arrays.hashCode(trace);
+      }
+      return new Fingerprint(maxDepth, descriptions, traces, hashCode);
+    }
+
+    private Fingerprint(
+        int maxDepth, List<String> descriptions, List<StackTraceElement[]> traces, int hashCode) {
+      this.maxDepth = maxDepth;
+      this.descriptions = descriptions;
+      this.traces = traces;
+      this.hashCode = hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == this) {
+        return true;
+      }
+      if (!(o instanceof Fingerprint)) {
+        return false;
+      }
+      Fingerprint that = (Fingerprint) o;
+      if (hashCode != that.hashCode
+          || maxDepth != that.maxDepth
+          || !descriptions.equals(that.descriptions)
+          || traces.size() != that.traces.size()) {
+        return false;
+      }
+      for (int i = 0; i < traces.size(); i++) {
+        if (!Arrays.equals(traces.get(i), that.traces.get(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
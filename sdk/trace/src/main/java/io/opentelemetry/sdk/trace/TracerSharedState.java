@@ -22,6 +22,7 @@ final class TracerSharedState {
   private final Resource resource;
 
   private final Supplier<TraceConfig> traceConfigSupplier;
+  private final SpanConcurrencyMode spanConcurrencyMode;
   private final SpanProcessor activeSpanProcessor;
 
   @GuardedBy("lock")
@@ -33,11 +34,13 @@ final class TracerSharedState {
       IdGenerator idGenerator,
       Resource resource,
       Supplier<TraceConfig> traceConfigSupplier,
+      SpanConcurrencyMode spanConcurrencyMode,
       List<SpanProcessor> spanProcessors) {
     this.clock = clock;
     this.idGenerator = idGenerator;
     this.resource = resource;
     this.traceConfigSupplier = traceConfigSupplier;
+    this.spanConcurrencyMode = spanConcurrencyMode;
     activeSpanProcessor = SpanProcessor.composite(spanProcessors);
   }
 
@@ -62,6 +65,15 @@ final class TracerSharedState {
     return traceConfigSupplier.get();
   }
 
+  /**
+   * Returns the {@code SpanConcurrencyMode} used by recording spans.
+   *
+   * @return the {@code SpanConcurrencyMode} used by recording spans.
+   */
+  SpanConcurrencyMode getSpanConcurrencyMode() {
+    return spanConcurrencyMode;
+  }
+
   /**
    * Returns the active {@code SpanProcessor}.
    *
@@ -71,6 +71,13 @@ public abstract class TraceConfig {
    */
   public static final int UNLIMITED_ATTRIBUTE_LENGTH = -1;
 
+  /**
+   * Value for the exception stack trace depth which indicates stack traces should not be truncated.
+   *
+   * @see TraceConfigBuilder#setMaxExceptionStackTraceDepth(int)
+   */
+  public static final int UNLIMITED_STACK_TRACE_DEPTH = -1;
+
   // These values are the default values for all the global parameters.
   // TODO: decide which default sampler to use
 
@@ -97,7 +104,8 @@ public abstract class TraceConfig {
       int maxNumLinks,
       int maxNumAttributesPerEvent,
       int maxNumAttributesPerLink,
-      int maxAttributeLength) {
+      int maxAttributeLength,
+      int maxExceptionStackTraceDepth) {
     return new AutoValue_TraceConfig(
         sampler,
         maxNumAttributes,
@@ -105,7 +113,8 @@ public abstract class TraceConfig {
         maxNumLinks,
         maxNumAttributesPerEvent,
         maxNumAttributesPerLink,
-        maxAttributeLength);
+        maxAttributeLength,
+        maxExceptionStackTraceDepth);
   }
 
   /**
@@ -162,6 +171,15 @@ public abstract class TraceConfig {
     return getMaxLengthOfAttributeValues() != UNLIMITED_ATTRIBUTE_LENGTH;
   }
 
+  /**
+   * Returns the global default max number of stack frames recorded for each throwable in the {@code
+   * exception.stacktrace} attribute of exception events, or {@link #UNLIMITED_STACK_TRACE_DEPTH} to
+   * record all of them.
+   *
+   * @return the global default max number of stack frames recorded per throwable.
+   */
+  public abstract int getMaxExceptionStackTraceDepth();
+
   /**
    * Returns a {@link TraceConfigBuilder} initialized to the same property values as the current
    * instance.
@@ -177,6 +195,7 @@ public abstract class TraceConfig {
         .setMaxNumberOfLinks(getMaxNumberOfLinks())
         .setMaxNumberOfAttributesPerEvent(getMaxNumberOfAttributesPerEvent())
         .setMaxNumberOfAttributesPerLink(getMaxNumberOfAttributesPerLink())
-        .setMaxLengthOfAttributeValues(getMaxLengthOfAttributeValues());
+        .setMaxLengthOfAttributeValues(getMaxLengthOfAttributeValues())
+        .setMaxExceptionStackTraceDepth(getMaxExceptionStackTraceDepth());
   }
 }
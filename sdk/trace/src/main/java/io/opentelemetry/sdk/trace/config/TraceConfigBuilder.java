@@ -20,6 +20,8 @@ public final class TraceConfigBuilder {
   private static final int DEFAULT_SPAN_MAX_NUM_ATTRIBUTES_PER_EVENT = 32;
   private static final int DEFAULT_SPAN_MAX_NUM_ATTRIBUTES_PER_LINK = 32;
   private static final int DEFAULT_MAX_ATTRIBUTE_LENGTH = TraceConfig.UNLIMITED_ATTRIBUTE_LENGTH;
+  private static final int DEFAULT_MAX_EXCEPTION_STACK_TRACE_DEPTH =
+      TraceConfig.UNLIMITED_STACK_TRACE_DEPTH;
 
   private Sampler sampler = DEFAULT_SAMPLER;
   private int maxNumAttributes = DEFAULT_SPAN_MAX_NUM_ATTRIBUTES;
@@ -28,6 +30,7 @@ public final class TraceConfigBuilder {
   private int maxNumAttributesPerEvent = DEFAULT_SPAN_MAX_NUM_ATTRIBUTES_PER_EVENT;
   private int maxNumAttributesPerLink = DEFAULT_SPAN_MAX_NUM_ATTRIBUTES_PER_LINK;
   private int maxAttributeLength = DEFAULT_MAX_ATTRIBUTE_LENGTH;
+  private int maxExceptionStackTraceDepth = DEFAULT_MAX_EXCEPTION_STACK_TRACE_DEPTH;
 
   TraceConfigBuilder() {}
 
@@ -148,6 +151,25 @@ public final class TraceConfigBuilder {
     return this;
   }
 
+  /**
+   * Sets the global default max number of stack frames recorded for each throwable, including
+   * causes and suppressed throwables, in the {@code exception.stacktrace} attribute of exception
+   * events. Omitted frames are summarized as {@code ... n more}.
+   *
+   * @param maxExceptionStackTraceDepth the global default max number of stack frames recorded per
+   *     throwable. It must be positive (or {@link TraceConfig#UNLIMITED_STACK_TRACE_DEPTH})
+   *     otherwise {@link #build()} will throw an exception.
+   * @return this.
+   */
+  public TraceConfigBuilder setMaxExceptionStackTraceDepth(int maxExceptionStackTraceDepth) {
+    Utils.checkArgument(
+        maxExceptionStackTraceDepth == -1 || maxExceptionStackTraceDepth > 0,
+        "maxExceptionStackTraceDepth must be -1 to "
+            + "disable stack trace truncation, or positive to enable stack trace truncation");
+    this.maxExceptionStackTraceDepth = maxExceptionStackTraceDepth;
+    return this;
+  }
+
   /**
    * Builds and returns a {@code TraceConfig} with the desired values.
    *
@@ -162,6 +184,7 @@ public final class TraceConfigBuilder {
         maxNumLinks,
         maxNumAttributesPerEvent,
         maxNumAttributesPerLink,
-        maxAttributeLength);
+        maxAttributeLength,
+        maxExceptionStackTraceDepth);
   }
 }
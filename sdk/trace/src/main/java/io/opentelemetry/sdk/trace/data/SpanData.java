@@ -8,6 +8,7 @@ package io.opentelemetry.sdk.trace.data;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span.Kind;
 import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
 import io.opentelemetry.sdk.resources.Resource;
@@ -36,6 +37,21 @@ public interface SpanData {
    */
   String getSpanId();
 
+  /**
+   * Returns the {@link SpanContext} of this span. Exporters that need the identifiers as bytes or
+   * {@code long} values should use this instead of {@link #getTraceId()} and {@link #getSpanId()}
+   * to avoid a hex round-trip.
+   *
+   * @return the {@link SpanContext} of this span.
+   */
+  default SpanContext getSpanContext() {
+    return SpanContext.create(
+        getTraceId(),
+        getSpanId(),
+        isSampled() ? TraceFlags.getSampled() : TraceFlags.getDefault(),
+        getTraceState());
+  }
+
   /** Whether the 'sampled' option set on this span. */
   boolean isSampled();
 
@@ -0,0 +1,133 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Chooses the export batch size and schedule delay of a {@link BatchSpanProcessor} so that spans
+ * are exported within a target latency of being ended.
+ *
+ * <p>The worker reports every batch it exports, from which the arrival rate of spans is averaged,
+ * and every export that completes, from which the export round trip and its cost per span are
+ * averaged. While exports take less than the target, the schedule delay is set to what remains of
+ * the target after the round trip, and the batch size to the number of spans expected to arrive
+ * within that delay. Once the round trip alone takes longer than the target, spans are exported as
+ * often as allowed and the batch size is set to the number of spans that can be exported within the
+ * target at the average cost per span. As the cost per span includes the fixed overhead of an
+ * export, this converges to the batch size whose round trip is the target.
+ *
+ * <p>Until exports complete, the batch size is the maximum and the schedule delay the target. Both
+ * values are adapted once per completed export, and stay within the configured bounds.
+ */
+final class AdaptiveBatching {
+
+  // Weight of the latest sample in the moving averages.
+  private static final double SMOOTHING = 0.2;
+
+  private final long targetLatencyNanos;
+  private final int minBatchSize;
+  private final int maxBatchSize;
+  private final long minScheduleDelayNanos;
+  private final long maxScheduleDelayNanos;
+
+  // Negative until the first export completes.
+  @GuardedBy("this")
+  private double averageRoundTripNanos = -1;
+
+  // Negative until the first export completes.
+  @GuardedBy("this")
+  private double averageNanosPerSpan = -1;
+
+  // Spans per nanosecond, negative until two batches have been exported.
+  @GuardedBy("this")
+  private double averageArrivalRate = -1;
+
+  @GuardedBy("this")
+  private long lastBatchNanos;
+
+  @GuardedBy("this")
+  private boolean hasLastBatch;
+
+  // Written under the lock, read without it by the worker and for metrics.
+  private volatile int batchSize;
+  private volatile long scheduleDelayNanos;
+
+  AdaptiveBatching(
+      long targetLatencyNanos,
+      int minBatchSize,
+      int maxBatchSize,
+      long minScheduleDelayNanos,
+      long maxScheduleDelayNanos) {
+    this.targetLatencyNanos = targetLatencyNanos;
+    this.maxBatchSize = maxBatchSize;
+    this.minBatchSize = Math.min(minBatchSize, maxBatchSize);
+    this.maxScheduleDelayNanos = maxScheduleDelayNanos;
+    this.minScheduleDelayNanos = Math.min(minScheduleDelayNanos, maxScheduleDelayNanos);
+    this.batchSize = maxBatchSize;
+    this.scheduleDelayNanos =
+        Math.max(this.minScheduleDelayNanos, Math.min(maxScheduleDelayNanos, targetLatencyNanos));
+  }
+
+  /** Returns the number of spans at which the worker exports a batch. */
+  int getBatchSize() {
+    return batchSize;
+  }
+
+  /** Returns the time after the last export at which the worker exports a partial batch. */
+  long getScheduleDelayNanos() {
+    return scheduleDelayNanos;
+  }
+
+  long getMinScheduleDelayNanos() {
+    return minScheduleDelayNanos;
+  }
+
+  /** Records that the worker is exporting a batch of {@code spans}. */
+  synchronized void onBatch(int spans, long nowNanos) {
+    if (hasLastBatch) {
+      double rate = spans / (double) Math.max(1, nowNanos - lastBatchNanos);
+      averageArrivalRate =
+          averageArrivalRate < 0
+              ? rate
+              : averageArrivalRate + SMOOTHING * (rate - averageArrivalRate);
+    }
+    lastBatchNanos = nowNanos;
+    hasLastBatch = true;
+  }
+
+  /**
+   * Records that the export of a batch of {@code spans} completed after {@code roundTripNanos},
+   * successful or not, and adapts to it.
+   */
+  synchronized void onExportCompleted(int spans, long roundTripNanos) {
+    double nanosPerSpan = roundTripNanos / (double) Math.max(1, spans);
+    if (averageRoundTripNanos < 0) {
+      averageRoundTripNanos = roundTripNanos;
+      averageNanosPerSpan = nanosPerSpan;
+    } else {
+      averageRoundTripNanos += SMOOTHING * (roundTripNanos - averageRoundTripNanos);
+      averageNanosPerSpan += SMOOTHING * (nanosPerSpan - averageNanosPerSpan);
+    }
+    adapt();
+  }
+
+  @GuardedBy("this")
+  private void adapt() {
+    double roundTripNanos = averageRoundTripNanos;
+    long delay;
+    double size;
+    if (roundTripNanos >= targetLatencyNanos) {
+      delay = minScheduleDelayNanos;
+      size = targetLatencyNanos / Math.max(1, averageNanosPerSpan);
+    } else {
+      delay = targetLatencyNanos - (long) roundTripNanos;
+      size = averageArrivalRate < 0 ? batchSize : Math.round(averageArrivalRate * delay);
+    }
+    scheduleDelayNanos = Math.max(minScheduleDelayNanos, Math.min(maxScheduleDelayNanos, delay));
+    batchSize = (int) Math.max(minBatchSize, Math.min(maxBatchSize, size));
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link SpanQueue} where every span is added to a single {@link MpscArrayQueue}.
+ *
+ * <p>If created as evictable, producers may remove the oldest span with {@link #evictOldest()}.
+ * Consumers then take a lock so that the queue still only has one consumer at a time, which is only
+ * contended while the queue is full.
+ */
+final class ArraySpanQueue implements SpanQueue {
+
+  private final MpscArrayQueue<ReadableSpan> queue;
+  @Nullable private final Object consumerLock;
+
+  ArraySpanQueue(int capacity) {
+    this(capacity, /* evictable= */ false);
+  }
+
+  ArraySpanQueue(int capacity, boolean evictable) {
+    this.queue = new MpscArrayQueue<>(capacity);
+    this.consumerLock = evictable ? new Object() : null;
+  }
+
+  @Override
+  public boolean offer(ReadableSpan span) {
+    return queue.offer(span);
+  }
+
+  @Override
+  public int drain(Consumer<ReadableSpan> consumer, int limit) {
+    if (consumerLock == null) {
+      return queue.drain(consumer, limit);
+    }
+    synchronized (consumerLock) {
+      return queue.drain(consumer, limit);
+    }
+  }
+
+  @Override
+  @Nullable
+  public ReadableSpan evictOldest() {
+    if (consumerLock == null) {
+      // Not created as evictable, the worker is the only consumer.
+      return null;
+    }
+    synchronized (consumerLock) {
+      return queue.poll();
+    }
+  }
+
+  @Override
+  public int size() {
+    return queue.size();
+  }
+}
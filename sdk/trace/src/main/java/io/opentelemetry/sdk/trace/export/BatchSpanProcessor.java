@@ -12,38 +12,77 @@ import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.TelemetryScheduler;
 import io.opentelemetry.sdk.internal.DaemonThreadFactory;
 import io.opentelemetry.sdk.trace.ReadWriteSpan;
 import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Iterator;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Implementation of the {@link SpanProcessor} that batches spans exported by the SDK then pushes
  * them to the exporter pipeline.
  *
- * <p>All spans reported by the SDK implementation are first added to a synchronized queue (with a
+ * <p>All spans reported by the SDK implementation are first added to a lock-free queue (with a
  * {@code maxQueueSize} maximum size, if queue is full spans are dropped). Spans are exported either
  * when there are {@code maxExportBatchSize} pending spans or {@code scheduleDelayNanos} has passed
- * since the last export finished.
+ * since the last export finished. How the worker thread waits for spans in between is controlled by
+ * the {@link WaitStrategy}.
  *
- * <p>This batch {@link SpanProcessor} can cause high contention in a very high traffic service.
- * TODO: Add a link to the SpanProcessor that uses Disruptor as alternative with low contention.
+ * <p>With a {@code perThreadBufferSize}, each thread that ends spans first adds them to a buffer of
+ * its own, which is handed to the queue as a whole once it is full. This avoids any contention
+ * between threads ending spans, at the cost of spans waiting in partially filled buffers until the
+ * schedule delay has passed or a flush is requested.
+ *
+ * <p>Up to {@code maxConcurrentExports} batches are exported at the same time. The worker thread
+ * keeps batching spans while exports are in flight and only waits for an export to complete, or to
+ * time out, when that many exports are already in flight.
+ *
+ * <p>With a {@link TelemetryScheduler}, the processor doesn't start a worker thread of its own.
+ * Instead, batches are exported by tasks on the scheduler, which run when there are enough spans
+ * for a batch, every {@code scheduleDelayNanos} and on flush. The {@link WaitStrategy} doesn't
+ * apply then. A task still blocks its scheduler thread, for up to the exporter timeout, when it
+ * waits for an export to complete because {@code maxConcurrentExports} exports are in flight or
+ * because it is flushing.
+ *
+ * <p>With a target export latency, the batch size and schedule delay adapt to the export round
+ * trips and the rate at which spans arrive, within the configured bounds, so that spans are
+ * exported within the target of being ended. The chosen values are published as the {@code
+ * exportBatchSize} and {@code scheduleDelay} metrics.
+ *
+ * <p>The fill ratio of the queue, the average export latency and the number of dropped spans are
+ * available through {@link ExportPressure}, e.g. to sample less when the processor can't keep up.
  */
-public final class BatchSpanProcessor implements SpanProcessor {
+public final class BatchSpanProcessor implements SpanProcessor, ExportPressure {
 
   private static final String WORKER_THREAD_NAME =
       BatchSpanProcessor.class.getSimpleName() + "_WorkerThread";
   private static final String SPAN_PROCESSOR_TYPE_LABEL = "spanProcessorType";
+  private static final String OVERFLOW_POLICY_LABEL = "overflowPolicy";
   private static final String SPAN_PROCESSOR_TYPE_VALUE = BatchSpanProcessor.class.getSimpleName();
+  // The shortest interval at which a scheduler runs the worker to export spans.
+  private static final long MIN_SCHEDULED_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  // While blocked by the block overflow policy, how often a producer retries adding its span.
+  private static final long BLOCKED_RETRY_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+  // With the drop oldest overflow policy, how many times a producer tries to make room for its span
+  // before dropping it instead, as other producers may take the room first.
+  private static final int MAX_EVICTION_ATTEMPTS = 8;
+  // Weight of the latest export in the average export latency.
+  private static final long EXPORT_LATENCY_SMOOTHING_DIVISOR = 5;
 
   private final Worker worker;
   private final boolean sampled;
@@ -66,19 +105,48 @@ public final class BatchSpanProcessor implements SpanProcessor {
       long scheduleDelayNanos,
       int maxQueueSize,
       int maxExportBatchSize,
-      long exporterTimeoutNanos) {
+      long exporterTimeoutNanos,
+      int maxConcurrentExports,
+      int perThreadBufferSize,
+      OverflowPolicy overflowPolicy,
+      WaitStrategy waitStrategy,
+      @Nullable TelemetryScheduler scheduler,
+      @Nullable AdaptiveBatching adaptiveBatching) {
     this.worker =
         new Worker(
             spanExporter,
             scheduleDelayNanos,
             maxExportBatchSize,
             exporterTimeoutNanos,
-            new ArrayBlockingQueue<>(maxQueueSize));
-    Thread workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(worker);
-    workerThread.start();
+            maxConcurrentExports,
+            maxQueueSize,
+            createQueue(maxQueueSize, perThreadBufferSize, overflowPolicy),
+            overflowPolicy,
+            waitStrategy,
+            scheduler,
+            adaptiveBatching);
+    if (scheduler != null) {
+      worker.startOn(scheduler);
+    } else {
+      Thread workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(worker);
+      workerThread.start();
+    }
     this.sampled = sampled;
   }
 
+  private static SpanQueue createQueue(
+      int maxQueueSize, int perThreadBufferSize, OverflowPolicy overflowPolicy) {
+    boolean evictable = overflowPolicy.getType() == OverflowPolicy.Type.DROP_OLDEST;
+    SpanQueue queue =
+        perThreadBufferSize > 0
+            ? new StripedSpanQueue(maxQueueSize, perThreadBufferSize)
+            : new ArraySpanQueue(maxQueueSize, evictable);
+    if (overflowPolicy.getType() == OverflowPolicy.Type.PRIORITY) {
+      queue = new PrioritySpanQueue(queue, maxQueueSize, overflowPolicy);
+    }
+    return queue;
+  }
+
   @Override
   public void onStart(Context parentContext, ReadWriteSpan span) {}
 
@@ -113,38 +181,94 @@ public final class BatchSpanProcessor implements SpanProcessor {
     return worker.forceFlush();
   }
 
+  @Override
+  public double getQueueFillRatio() {
+    return Math.min(1.0, worker.queue.size() / (double) worker.maxQueueSize);
+  }
+
+  @Override
+  public long getExportLatencyNanos() {
+    return Math.max(0, worker.averageExportNanos.get());
+  }
+
+  @Override
+  public long getDroppedSpans() {
+    return worker.droppedCount.sum();
+  }
+
   // Worker is a thread that batches multiple spans and calls the registered SpanExporter to export
   // the data.
   private static final class Worker implements Runnable {
 
     private final BoundLongCounter droppedSpans;
+    // Priority spans dropped by the priority overflow policy.
+    private final BoundLongCounter droppedPrioritySpans;
     private final BoundLongCounter exportedSpans;
+    // All dropped spans, readable unlike the counters.
+    private final LongAdder droppedCount = new LongAdder();
+    // Smoothed duration of completed or timed out exports, negative until the first one.
+    private final AtomicLong averageExportNanos = new AtomicLong(-1);
 
     private static final Logger logger = Logger.getLogger(Worker.class.getName());
     private final SpanExporter spanExporter;
     private final long scheduleDelayNanos;
     private final int maxExportBatchSize;
     private final long exporterTimeoutNanos;
+    private final int maxConcurrentExports;
+    private final int maxQueueSize;
+    private final OverflowPolicy overflowPolicy;
+    private final WaitStrategy waitStrategy;
+    // Adapts the batch size and schedule delay, which are fixed if null.
+    @Nullable private final AdaptiveBatching adaptiveBatching;
 
     private long nextExportTime;
 
-    private final BlockingQueue<ReadableSpan> queue;
+    private final SpanQueue queue;
+    // The number of queued spans at which producers wake up the parked worker thread, or
+    // Integer.MAX_VALUE if the worker is not parked or has already been woken up.
+    private final AtomicInteger spansToWakeUp = new AtomicInteger(Integer.MAX_VALUE);
+    // The thread running the worker. With a scheduler, the thread running a task of the worker.
+    @Nullable private volatile Thread workerThread;
+
+    @Nullable private final TelemetryScheduler scheduler;
+    // The number of times a task of the worker was requested to run since the task last checked.
+    // A task is submitted to the scheduler when this goes up from zero.
+    private final AtomicInteger runRequests = new AtomicInteger();
+    // Set by the scheduler every scheduleDelayNanos.
+    private volatile boolean exportDue;
+    @Nullable private volatile ScheduledFuture<?> exportTimer;
 
     private final AtomicReference<CompletableResultCode> flushRequested = new AtomicReference<>();
     private volatile boolean continueWork = true;
-    private final ArrayList<SpanData> batch;
+    private ArrayList<SpanData> batch;
+    // Exports in the order they were started, only accessed by the worker thread.
+    private final ArrayDeque<PendingExport> pendingExports = new ArrayDeque<>();
+    // Batch buffers of completed exports that can be reused.
+    private final ArrayDeque<ArrayList<SpanData>> freeBatches = new ArrayDeque<>();
 
     private Worker(
         SpanExporter spanExporter,
         long scheduleDelayNanos,
         int maxExportBatchSize,
         long exporterTimeoutNanos,
-        BlockingQueue<ReadableSpan> queue) {
+        int maxConcurrentExports,
+        int maxQueueSize,
+        SpanQueue queue,
+        OverflowPolicy overflowPolicy,
+        WaitStrategy waitStrategy,
+        @Nullable TelemetryScheduler scheduler,
+        @Nullable AdaptiveBatching adaptiveBatching) {
       this.spanExporter = spanExporter;
       this.scheduleDelayNanos = scheduleDelayNanos;
       this.maxExportBatchSize = maxExportBatchSize;
       this.exporterTimeoutNanos = exporterTimeoutNanos;
+      this.maxConcurrentExports = maxConcurrentExports;
+      this.maxQueueSize = maxQueueSize;
       this.queue = queue;
+      this.overflowPolicy = overflowPolicy;
+      this.waitStrategy = waitStrategy;
+      this.scheduler = scheduler;
+      this.adaptiveBatching = adaptiveBatching;
       Meter meter = GlobalMetricsProvider.getMeter("io.opentelemetry.sdk.trace");
       meter
           .longValueObserverBuilder("queueSize")
@@ -156,6 +280,28 @@ public final class BatchSpanProcessor implements SpanProcessor {
                       queue.size(),
                       Labels.of(SPAN_PROCESSOR_TYPE_LABEL, SPAN_PROCESSOR_TYPE_VALUE)))
           .build();
+      if (adaptiveBatching != null) {
+        meter
+            .longValueObserverBuilder("exportBatchSize")
+            .setDescription("The number of spans at which a batch is exported")
+            .setUnit("1")
+            .setUpdater(
+                result ->
+                    result.observe(
+                        adaptiveBatching.getBatchSize(),
+                        Labels.of(SPAN_PROCESSOR_TYPE_LABEL, SPAN_PROCESSOR_TYPE_VALUE)))
+            .build();
+        meter
+            .longValueObserverBuilder("scheduleDelay")
+            .setDescription("The time after the last export at which a partial batch is exported")
+            .setUnit("ns")
+            .setUpdater(
+                result ->
+                    result.observe(
+                        adaptiveBatching.getScheduleDelayNanos(),
+                        Labels.of(SPAN_PROCESSOR_TYPE_LABEL, SPAN_PROCESSOR_TYPE_VALUE)))
+            .build();
+      }
       LongCounter processedSpansCounter =
           meter
               .longCounterBuilder("processedSpans")
@@ -164,9 +310,27 @@ public final class BatchSpanProcessor implements SpanProcessor {
                   "The number of spans processed by the BatchSpanProcessor. "
                       + "[dropped=true if they were dropped due to high throughput]")
               .build();
+      String overflowPolicyLabel = overflowPolicy.getType().getLabelValue();
       droppedSpans =
           processedSpansCounter.bind(
-              Labels.of(SPAN_PROCESSOR_TYPE_LABEL, SPAN_PROCESSOR_TYPE_VALUE, "dropped", "true"));
+              Labels.of(
+                  SPAN_PROCESSOR_TYPE_LABEL,
+                  SPAN_PROCESSOR_TYPE_VALUE,
+                  "dropped",
+                  "true",
+                  OVERFLOW_POLICY_LABEL,
+                  overflowPolicyLabel));
+      droppedPrioritySpans =
+          processedSpansCounter.bind(
+              Labels.of(
+                  SPAN_PROCESSOR_TYPE_LABEL,
+                  SPAN_PROCESSOR_TYPE_VALUE,
+                  "dropped",
+                  "true",
+                  OVERFLOW_POLICY_LABEL,
+                  overflowPolicyLabel,
+                  "priority",
+                  "true"));
       exportedSpans =
           processedSpansCounter.bind(
               Labels.of(SPAN_PROCESSOR_TYPE_LABEL, SPAN_PROCESSOR_TYPE_VALUE, "dropped", "false"));
@@ -175,13 +339,68 @@ public final class BatchSpanProcessor implements SpanProcessor {
     }
 
     private void addSpan(ReadableSpan span) {
-      if (!queue.offer(span)) {
-        droppedSpans.add(1);
+      if (!queue.offer(span) && !handleOverflow(span)) {
+        return;
+      }
+      int spansToWakeUp = this.spansToWakeUp.get();
+      if (queue.size() >= spansToWakeUp
+          && this.spansToWakeUp.compareAndSet(spansToWakeUp, Integer.MAX_VALUE)) {
+        wakeUp();
       }
     }
 
+    // Applies the overflow policy to a span that didn't fit in the queue, returns whether the span
+    // was queued after all.
+    private boolean handleOverflow(ReadableSpan span) {
+      switch (overflowPolicy.getType()) {
+        case DROP_NEWEST:
+          break;
+        case DROP_OLDEST:
+          for (int i = 0; i < MAX_EVICTION_ATTEMPTS; i++) {
+            if (queue.evictOldest() != null) {
+              droppedSpans.add(1);
+              droppedCount.increment();
+            } else {
+              // The oldest span is still being published by its producer.
+              Thread.yield();
+            }
+            if (queue.offer(span)) {
+              return true;
+            }
+          }
+          break;
+        case BLOCK:
+          if (Thread.currentThread() == workerThread) {
+            break;
+          }
+          long deadline = System.nanoTime() + overflowPolicy.getBlockTimeoutNanos();
+          while (System.nanoTime() - deadline < 0 && !Thread.currentThread().isInterrupted()) {
+            // Make sure the worker is draining the queue.
+            wakeUp();
+            LockSupport.parkNanos(
+                this, Math.min(BLOCKED_RETRY_NANOS, deadline - System.nanoTime()));
+            if (queue.offer(span)) {
+              return true;
+            }
+          }
+          break;
+        case PRIORITY:
+          // The queue has already tried to add priority spans to its reserve.
+          if (overflowPolicy.isPriority(span)) {
+            droppedPrioritySpans.add(1);
+            droppedCount.increment();
+            return false;
+          }
+          break;
+      }
+      droppedSpans.add(1);
+      droppedCount.increment();
+      return false;
+    }
+
     @Override
     public void run() {
+      workerThread = Thread.currentThread();
       updateNextExportTime();
 
       while (continueWork) {
@@ -189,41 +408,176 @@ public final class BatchSpanProcessor implements SpanProcessor {
           flush();
         }
 
-        try {
-          ReadableSpan lastElement = queue.poll(100, TimeUnit.MILLISECONDS);
-          if (lastElement != null) {
-            batch.add(lastElement.toSpanData());
+        retireExports();
+        int exportBatchSize = exportBatchSize();
+        queue.drain(this::addToBatch, exportBatchSize - batch.size());
+
+        if (batch.size() >= exportBatchSize || System.nanoTime() >= nextExportTime) {
+          if (batch.size() < exportBatchSize) {
+            queue.harvest();
+            queue.drain(this::addToBatch, exportBatchSize - batch.size());
           }
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
+          exportCurrentBatch();
+          updateNextExportTime();
+        } else if (!waitForSpans()) {
           return;
         }
+      }
+    }
 
-        if (batch.size() >= maxExportBatchSize || System.nanoTime() >= nextExportTime) {
+    // Returns false if the worker thread was interrupted.
+    private boolean waitForSpans() {
+      switch (waitStrategy) {
+        case BLOCKING:
+          int spansNeeded = exportBatchSize() - batch.size();
+          spansToWakeUp.set(spansNeeded);
+          // Re-check after publishing the threshold, spans added before it was visible to the
+          // producers won't wake us up.
+          if (queue.size() < spansNeeded && flushRequested.get() == null) {
+            long wakeUpTime = nextExportTime;
+            PendingExport oldestExport = pendingExports.peek();
+            if (oldestExport != null && oldestExport.deadline - wakeUpTime < 0) {
+              // Wake up in time to fail the export if it doesn't complete before its deadline.
+              wakeUpTime = oldestExport.deadline;
+            }
+            LockSupport.parkNanos(this, wakeUpTime - System.nanoTime());
+          }
+          spansToWakeUp.set(Integer.MAX_VALUE);
+          break;
+        case YIELDING:
+          Thread.yield();
+          break;
+        case BUSY_SPIN:
+          break;
+      }
+      return !Thread.currentThread().isInterrupted();
+    }
+
+    private void startOn(TelemetryScheduler scheduler) {
+      updateNextExportTime();
+      spansToWakeUp.set(exportBatchSize());
+      // With adaptive batching, the timer checks for partial batches to export as often as the
+      // shortest schedule delay allows.
+      long delay =
+          Math.max(
+              adaptiveBatching != null
+                  ? adaptiveBatching.getMinScheduleDelayNanos()
+                  : scheduleDelayNanos,
+              MIN_SCHEDULED_DELAY_NANOS);
+      exportTimer =
+          scheduler.scheduleWithFixedDelay(
+              SPAN_PROCESSOR_TYPE_VALUE,
+              () -> {
+                if (adaptiveBatching == null) {
+                  exportDue = true;
+                }
+                requestRun();
+              },
+              delay,
+              delay,
+              TimeUnit.NANOSECONDS);
+    }
+
+    private void requestRun() {
+      TelemetryScheduler scheduler = this.scheduler;
+      if (scheduler != null && runRequests.getAndIncrement() == 0 && !scheduler.isShutdown()) {
+        scheduler.execute(SPAN_PROCESSOR_TYPE_VALUE, this::runScheduled);
+      }
+    }
+
+    // Runs on the scheduler until no run was requested while it was running. Only one task runs at
+    // a time, so the worker state is still only accessed by one thread at a time.
+    private void runScheduled() {
+      workerThread = Thread.currentThread();
+      int requests = runRequests.get();
+      while (continueWork) {
+        if (flushRequested.get() != null) {
+          flush();
+        }
+
+        retireExports();
+        while (true) {
+          queue.drain(this::addToBatch, exportBatchSize() - batch.size());
+          if (batch.size() < exportBatchSize()) {
+            break;
+          }
           exportCurrentBatch();
           updateNextExportTime();
         }
+        if (exportDue || System.nanoTime() - nextExportTime >= 0) {
+          exportDue = false;
+          queue.harvest();
+          queue.drain(this::addToBatch, exportBatchSize() - batch.size());
+          exportCurrentBatch();
+          updateNextExportTime();
+        }
+
+        int spansNeeded = exportBatchSize() - batch.size();
+        spansToWakeUp.set(spansNeeded);
+        requests = runRequests.addAndGet(-requests);
+        if (requests == 0) {
+          workerThread = null;
+          // Spans added before the threshold was visible to the producers won't request a run.
+          if (queue.size() >= spansNeeded || flushRequested.get() != null) {
+            requestRun();
+          }
+          return;
+        }
+      }
+      workerThread = null;
+    }
+
+    private void wakeUp() {
+      if (scheduler != null) {
+        requestRun();
+        return;
+      }
+      Thread workerThread = this.workerThread;
+      if (workerThread != null) {
+        LockSupport.unpark(workerThread);
       }
     }
 
+    private void addToBatch(ReadableSpan span) {
+      batch.add(span.toSpanData());
+    }
+
     private void flush() {
+      queue.harvest();
       int spansToFlush = queue.size();
       while (spansToFlush > 0) {
-        ReadableSpan span = queue.poll();
-        assert span != null;
-        batch.add(span.toSpanData());
-        spansToFlush--;
-        if (batch.size() >= maxExportBatchSize) {
+        if (batch.size() >= exportBatchSize()) {
           exportCurrentBatch();
         }
+        int drained = queue.drain(this::addToBatch, exportBatchSize() - batch.size());
+        if (drained == 0) {
+          // A producer claimed a slot but hasn't published its span yet.
+          Thread.yield();
+          continue;
+        }
+        spansToFlush -= drained;
       }
       exportCurrentBatch();
-      flushRequested.get().succeed();
-      flushRequested.set(null);
+      while (!pendingExports.isEmpty()) {
+        awaitOldestExport();
+      }
+      // Cleared before completing, so that a flush requested from now on is a new one.
+      CompletableResultCode flushResult = flushRequested.getAndSet(null);
+      if (flushResult != null) {
+        flushResult.succeed();
+      }
     }
 
     private void updateNextExportTime() {
-      nextExportTime = System.nanoTime() + scheduleDelayNanos;
+      nextExportTime =
+          System.nanoTime()
+              + (adaptiveBatching != null
+                  ? adaptiveBatching.getScheduleDelayNanos()
+                  : scheduleDelayNanos);
+    }
+
+    private int exportBatchSize() {
+      return adaptiveBatching != null ? adaptiveBatching.getBatchSize() : maxExportBatchSize;
     }
 
     private CompletableResultCode shutdown() {
@@ -233,6 +587,10 @@ public final class BatchSpanProcessor implements SpanProcessor {
       flushResult.whenComplete(
           () -> {
             continueWork = false;
+            ScheduledFuture<?> exportTimer = this.exportTimer;
+            if (exportTimer != null) {
+              exportTimer.cancel(false);
+            }
             final CompletableResultCode shutdownResult = spanExporter.shutdown();
             shutdownResult.whenComplete(
                 () -> {
@@ -249,28 +607,102 @@ public final class BatchSpanProcessor implements SpanProcessor {
 
     private CompletableResultCode forceFlush() {
       CompletableResultCode flushResult = new CompletableResultCode();
-      this.flushRequested.compareAndSet(null, flushResult);
-      return this.flushRequested.get();
+      while (true) {
+        if (flushRequested.compareAndSet(null, flushResult)) {
+          wakeUp();
+          return flushResult;
+        }
+        // Join the flush in progress, unless the worker completed it in the meantime.
+        CompletableResultCode current = flushRequested.get();
+        if (current != null) {
+          return current;
+        }
+      }
     }
 
     private void exportCurrentBatch() {
       if (batch.isEmpty()) {
         return;
       }
+      retireExports();
+      while (pendingExports.size() >= maxConcurrentExports) {
+        awaitOldestExport();
+      }
 
+      ArrayList<SpanData> exportBatch = batch;
+      ArrayList<SpanData> freeBatch = freeBatches.poll();
+      batch = freeBatch != null ? freeBatch : new ArrayList<>(maxExportBatchSize);
+      final long startNanos = System.nanoTime();
+      if (adaptiveBatching != null) {
+        adaptiveBatching.onBatch(exportBatch.size(), startNanos);
+      }
       try {
-        final CompletableResultCode result = spanExporter.export(batch);
-        result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
-        if (result.isSuccess()) {
-          exportedSpans.add(batch.size());
-        } else {
-          logger.log(Level.FINE, "Exporter failed");
-        }
+        final CompletableResultCode result = spanExporter.export(exportBatch);
+        final int exportedCount = exportBatch.size();
+        result.whenComplete(
+            () -> {
+              long exportNanos = System.nanoTime() - startNanos;
+              if (adaptiveBatching != null) {
+                adaptiveBatching.onExportCompleted(exportedCount, exportNanos);
+              }
+              averageExportNanos.updateAndGet(
+                  average ->
+                      average < 0
+                          ? exportNanos
+                          : average + (exportNanos - average) / EXPORT_LATENCY_SMOOTHING_DIVISOR);
+              if (result.isSuccess()) {
+                exportedSpans.add(exportedCount);
+              } else {
+                logger.log(Level.FINE, "Exporter failed");
+              }
+            });
+        pendingExports.add(
+            new PendingExport(result, exportBatch, System.nanoTime() + exporterTimeoutNanos));
       } catch (Exception e) {
         logger.log(Level.WARNING, "Exporter threw an Exception", e);
-      } finally {
-        batch.clear();
+        recycle(exportBatch);
+      }
+    }
+
+    // Frees the batches of completed exports and fails the exports that have timed out.
+    private void retireExports() {
+      long now = System.nanoTime();
+      Iterator<PendingExport> iterator = pendingExports.iterator();
+      while (iterator.hasNext()) {
+        PendingExport pendingExport = iterator.next();
+        if (!pendingExport.result.isDone() && now - pendingExport.deadline >= 0) {
+          pendingExport.result.fail();
+        }
+        if (pendingExport.result.isDone()) {
+          iterator.remove();
+          recycle(pendingExport.batch);
+        }
       }
     }
+
+    private void awaitOldestExport() {
+      PendingExport pendingExport = pendingExports.remove();
+      // Fails the result if it doesn't complete before the deadline.
+      pendingExport.result.join(
+          Math.max(0, pendingExport.deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      recycle(pendingExport.batch);
+    }
+
+    private void recycle(ArrayList<SpanData> batch) {
+      batch.clear();
+      freeBatches.push(batch);
+    }
+  }
+
+  private static final class PendingExport {
+    private final CompletableResultCode result;
+    private final ArrayList<SpanData> batch;
+    private final long deadline;
+
+    private PendingExport(CompletableResultCode result, ArrayList<SpanData> batch, long deadline) {
+      this.result = result;
+      this.batch = batch;
+      this.deadline = deadline;
+    }
   }
 }
@@ -8,8 +8,10 @@ package io.opentelemetry.sdk.trace.export;
 import static io.opentelemetry.api.internal.Utils.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import io.opentelemetry.sdk.common.export.TelemetryScheduler;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 /** Builder class for {@link BatchSpanProcessor}. */
 public final class BatchSpanProcessorBuilder {
@@ -24,6 +26,12 @@ public final class BatchSpanProcessorBuilder {
   static final int DEFAULT_EXPORT_TIMEOUT_MILLIS = 30_000;
   // Visible for testing
   static final boolean DEFAULT_EXPORT_ONLY_SAMPLED = true;
+  // Visible for testing
+  static final int DEFAULT_MAX_CONCURRENT_EXPORTS = 1;
+  // Visible for testing
+  static final int DEFAULT_MIN_EXPORT_BATCH_SIZE = 32;
+  // Visible for testing
+  static final long DEFAULT_MIN_SCHEDULE_DELAY_MILLIS = 100;
 
   private final SpanExporter spanExporter;
   private long scheduleDelayNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SCHEDULE_DELAY_MILLIS);
@@ -31,6 +39,15 @@ public final class BatchSpanProcessorBuilder {
   private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
   private long exporterTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_EXPORT_TIMEOUT_MILLIS);
   private boolean exportOnlySampled = DEFAULT_EXPORT_ONLY_SAMPLED;
+  private int maxConcurrentExports = DEFAULT_MAX_CONCURRENT_EXPORTS;
+  private int perThreadBufferSize = 0;
+  private OverflowPolicy overflowPolicy = OverflowPolicy.dropNewest();
+  private WaitStrategy waitStrategy = WaitStrategy.BLOCKING;
+  @Nullable private TelemetryScheduler scheduler;
+  private long targetExportLatencyNanos = 0;
+  private int minExportBatchSize = DEFAULT_MIN_EXPORT_BATCH_SIZE;
+  private long minScheduleDelayNanos =
+      TimeUnit.MILLISECONDS.toNanos(DEFAULT_MIN_SCHEDULE_DELAY_MILLIS);
 
   BatchSpanProcessorBuilder(SpanExporter spanExporter) {
     this.spanExporter = requireNonNull(spanExporter, "spanExporter");
@@ -156,20 +173,245 @@ public final class BatchSpanProcessorBuilder {
     return maxExportBatchSize;
   }
 
+  /**
+   * Sets the maximum number of exports that may be in flight at the same time. Each export has its
+   * own batch, so while an exporter with a long round trip is sending a batch, the next batches can
+   * already be exported instead of piling up in the queue. Values greater than {@code 1} require a
+   * {@link SpanExporter} whose {@link SpanExporter#export} can be called concurrently.
+   *
+   * <p>Default value is {@code 1}.
+   *
+   * @param maxConcurrentExports the maximum number of exports in flight.
+   * @return this.
+   * @see BatchSpanProcessorBuilder#DEFAULT_MAX_CONCURRENT_EXPORTS
+   */
+  public BatchSpanProcessorBuilder setMaxConcurrentExports(int maxConcurrentExports) {
+    checkArgument(maxConcurrentExports > 0, "maxConcurrentExports must be positive.");
+    this.maxConcurrentExports = maxConcurrentExports;
+    return this;
+  }
+
+  // Visible for testing
+  int getMaxConcurrentExports() {
+    return maxConcurrentExports;
+  }
+
+  /**
+   * Sets the number of spans each thread buffers before handing them to the queue all at once, or
+   * {@code 0} to add every span to the queue directly.
+   *
+   * <p>Per-thread buffers remove the contention between threads ending spans at the same time,
+   * which helps services with many request threads. Spans in a buffer that is not full yet are only
+   * exported once the schedule delay has passed or on {@link BatchSpanProcessor#forceFlush()}, and
+   * each thread may hold up to this many spans in addition to {@code maxQueueSize}.
+   *
+   * <p>Default value is {@code 0}.
+   *
+   * @param perThreadBufferSize the number of spans buffered by each thread.
+   * @return this.
+   */
+  public BatchSpanProcessorBuilder setPerThreadBufferSize(int perThreadBufferSize) {
+    checkArgument(perThreadBufferSize >= 0, "perThreadBufferSize must be non-negative.");
+    this.perThreadBufferSize = perThreadBufferSize;
+    return this;
+  }
+
+  // Visible for testing
+  int getPerThreadBufferSize() {
+    return perThreadBufferSize;
+  }
+
+  /**
+   * Sets the {@link OverflowPolicy} that decides what happens to ended spans when the queue is
+   * full.
+   *
+   * <p>Default value is {@link OverflowPolicy#dropNewest()}.
+   *
+   * @param overflowPolicy the {@code OverflowPolicy} of the queue.
+   * @return this.
+   */
+  public BatchSpanProcessorBuilder setOverflowPolicy(OverflowPolicy overflowPolicy) {
+    this.overflowPolicy = requireNonNull(overflowPolicy, "overflowPolicy");
+    return this;
+  }
+
+  // Visible for testing
+  OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  /**
+   * Sets the {@link WaitStrategy} the worker thread uses while it waits for spans to export.
+   *
+   * <p>Default value is {@link WaitStrategy#BLOCKING}.
+   *
+   * @param waitStrategy the {@code WaitStrategy} of the worker thread.
+   * @return this.
+   */
+  public BatchSpanProcessorBuilder setWaitStrategy(WaitStrategy waitStrategy) {
+    this.waitStrategy = requireNonNull(waitStrategy, "waitStrategy");
+    return this;
+  }
+
+  // Visible for testing
+  WaitStrategy getWaitStrategy() {
+    return waitStrategy;
+  }
+
+  /**
+   * Sets the {@link TelemetryScheduler} that runs the export of batches, instead of a worker thread
+   * started by the processor. The scheduler must be shut down after the processor.
+   *
+   * <p>Waiting for an in-flight export, when {@code maxConcurrentExports} are in flight or when
+   * flushing, blocks a thread of the scheduler for up to the exporter timeout, so a scheduler
+   * shared by several pipelines may need more than one thread.
+   *
+   * <p>By default, the processor starts a worker thread of its own.
+   *
+   * @param scheduler the {@code TelemetryScheduler} exporting batches.
+   * @return this.
+   */
+  public BatchSpanProcessorBuilder setScheduler(TelemetryScheduler scheduler) {
+    this.scheduler = requireNonNull(scheduler, "scheduler");
+    return this;
+  }
+
+  // Visible for testing
+  @Nullable
+  TelemetryScheduler getScheduler() {
+    return scheduler;
+  }
+
+  /**
+   * Sets the latency within which ended spans should be exported, or {@code 0} to use a fixed batch
+   * size and schedule delay.
+   *
+   * <p>With a target, the processor adapts the batch size and the schedule delay to the observed
+   * export round trips and the rate at which spans arrive. While exports are fast, spans wait in
+   * the queue for what remains of the target after the round trip, so that quiet periods are
+   * exported in few, large batches. When exports get slower than the target, batches are exported
+   * as often as allowed and get smaller. The batch size stays between {@link
+   * #setMinExportBatchSize(int)} and {@link #setMaxExportBatchSize(int)}, and the schedule delay
+   * between {@link #setMinScheduleDelay(long, TimeUnit)} and {@link #setScheduleDelay(long,
+   * TimeUnit)}.
+   *
+   * <p>Default value is {@code 0}.
+   *
+   * @param latency the target latency from the end of a span to the completion of its export.
+   * @param unit the unit of {@code latency}.
+   * @return this.
+   */
+  public BatchSpanProcessorBuilder setTargetExportLatency(long latency, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(latency >= 0, "latency must be non-negative");
+    targetExportLatencyNanos = unit.toNanos(latency);
+    return this;
+  }
+
+  /**
+   * Sets the latency within which ended spans should be exported, or {@link Duration#ZERO} to use a
+   * fixed batch size and schedule delay.
+   *
+   * @param latency the target latency from the end of a span to the completion of its export.
+   * @return this.
+   * @see #setTargetExportLatency(long, TimeUnit)
+   */
+  public BatchSpanProcessorBuilder setTargetExportLatency(Duration latency) {
+    requireNonNull(latency, "latency");
+    return setTargetExportLatency(latency.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  // Visible for testing
+  long getTargetExportLatencyNanos() {
+    return targetExportLatencyNanos;
+  }
+
+  /**
+   * Sets the smallest batch size chosen with a {@linkplain #setTargetExportLatency(long, TimeUnit)
+   * target export latency}. Values greater than the max export batch size are capped to it.
+   *
+   * <p>Default value is {@code 32}.
+   *
+   * @param minExportBatchSize the smallest adaptive batch size.
+   * @return this.
+   * @see BatchSpanProcessorBuilder#DEFAULT_MIN_EXPORT_BATCH_SIZE
+   */
+  public BatchSpanProcessorBuilder setMinExportBatchSize(int minExportBatchSize) {
+    checkArgument(minExportBatchSize > 0, "minExportBatchSize must be positive.");
+    this.minExportBatchSize = minExportBatchSize;
+    return this;
+  }
+
+  // Visible for testing
+  int getMinExportBatchSize() {
+    return minExportBatchSize;
+  }
+
+  /**
+   * Sets the shortest schedule delay chosen with a {@linkplain #setTargetExportLatency(long,
+   * TimeUnit) target export latency}. Values greater than the schedule delay are capped to it. If
+   * unset, defaults to {@value DEFAULT_MIN_SCHEDULE_DELAY_MILLIS}ms.
+   *
+   * @param delay the shortest adaptive schedule delay.
+   * @param unit the unit of {@code delay}.
+   * @return this.
+   */
+  public BatchSpanProcessorBuilder setMinScheduleDelay(long delay, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(delay >= 0, "delay must be non-negative");
+    minScheduleDelayNanos = unit.toNanos(delay);
+    return this;
+  }
+
+  /**
+   * Sets the shortest schedule delay chosen with a {@linkplain #setTargetExportLatency(Duration)
+   * target export latency}. If unset, defaults to {@value DEFAULT_MIN_SCHEDULE_DELAY_MILLIS}ms.
+   *
+   * @param delay the shortest adaptive schedule delay.
+   * @return this.
+   */
+  public BatchSpanProcessorBuilder setMinScheduleDelay(Duration delay) {
+    requireNonNull(delay, "delay");
+    return setMinScheduleDelay(delay.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  // Visible for testing
+  long getMinScheduleDelayNanos() {
+    return minScheduleDelayNanos;
+  }
+
   /**
    * Returns a new {@link BatchSpanProcessor} that batches, then converts spans to proto and
    * forwards them to the given {@code spanExporter}.
    *
    * @return a new {@link BatchSpanProcessor}.
    * @throws NullPointerException if the {@code spanExporter} is {@code null}.
+   * @throws IllegalArgumentException if {@link OverflowPolicy#dropOldest()} is combined with
+   *     per-thread buffers.
    */
   public BatchSpanProcessor build() {
+    checkArgument(
+        perThreadBufferSize == 0 || overflowPolicy.getType() != OverflowPolicy.Type.DROP_OLDEST,
+        "dropOldest overflow policy is not supported with per-thread buffers.");
     return new BatchSpanProcessor(
         spanExporter,
         exportOnlySampled,
         scheduleDelayNanos,
         maxQueueSize,
         maxExportBatchSize,
-        exporterTimeoutNanos);
+        exporterTimeoutNanos,
+        maxConcurrentExports,
+        perThreadBufferSize,
+        overflowPolicy,
+        waitStrategy,
+        scheduler,
+        targetExportLatencyNanos > 0
+            ? new AdaptiveBatching(
+                targetExportLatencyNanos,
+                minExportBatchSize,
+                maxExportBatchSize,
+                minScheduleDelayNanos,
+                scheduleDelayNanos)
+            : null);
   }
 }
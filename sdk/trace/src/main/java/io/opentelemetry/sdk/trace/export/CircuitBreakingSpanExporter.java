@@ -0,0 +1,89 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.CircuitBreaker;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.Arrays;
+import java.util.Collection;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link SpanExporter} which stops calling its delegate while a {@link CircuitBreaker} is open.
+ * Exports rejected by the breaker fail right away, or are exported to a fallback exporter, e.g. one
+ * writing spans to disk, if one is given.
+ *
+ * <p>Wrapping the exporter of a {@link BatchSpanProcessor} keeps its worker from waiting for the
+ * export timeout of every batch while the backend is down.
+ */
+public final class CircuitBreakingSpanExporter implements SpanExporter {
+
+  private final SpanExporter delegate;
+  private final CircuitBreaker circuitBreaker;
+  @Nullable private final SpanExporter fallback;
+
+  /**
+   * Returns a {@link SpanExporter} exporting to {@code delegate} while {@code circuitBreaker} is
+   * not open, and failing otherwise.
+   */
+  public static CircuitBreakingSpanExporter create(
+      SpanExporter delegate, CircuitBreaker circuitBreaker) {
+    return new CircuitBreakingSpanExporter(
+        requireNonNull(delegate, "delegate"),
+        requireNonNull(circuitBreaker, "circuitBreaker"),
+        null);
+  }
+
+  /**
+   * Returns a {@link SpanExporter} exporting to {@code delegate} while {@code circuitBreaker} is
+   * not open, and to {@code fallback} otherwise.
+   */
+  public static CircuitBreakingSpanExporter create(
+      SpanExporter delegate, CircuitBreaker circuitBreaker, SpanExporter fallback) {
+    return new CircuitBreakingSpanExporter(
+        requireNonNull(delegate, "delegate"),
+        requireNonNull(circuitBreaker, "circuitBreaker"),
+        requireNonNull(fallback, "fallback"));
+  }
+
+  private CircuitBreakingSpanExporter(
+      SpanExporter delegate, CircuitBreaker circuitBreaker, @Nullable SpanExporter fallback) {
+    this.delegate = delegate;
+    this.circuitBreaker = circuitBreaker;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public CompletableResultCode export(Collection<SpanData> spans) {
+    return circuitBreaker.execute(
+        () -> delegate.export(spans),
+        () -> fallback != null ? fallback.export(spans) : CompletableResultCode.ofFailure());
+  }
+
+  @Override
+  public CompletableResultCode flush() {
+    if (fallback == null) {
+      return delegate.flush();
+    }
+    return CompletableResultCode.ofAll(Arrays.asList(delegate.flush(), fallback.flush()));
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    if (fallback == null) {
+      return delegate.shutdown();
+    }
+    return CompletableResultCode.ofAll(Arrays.asList(delegate.shutdown(), fallback.shutdown()));
+  }
+
+  // Visible for testing
+  CircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Signals of how well a span export pipeline keeps up with the spans it is given, such as the ones
+ * of a {@link BatchSpanProcessor}. All methods are cheap enough to be called on every sampling
+ * decision, but are typically polled periodically.
+ */
+@ThreadSafe
+public interface ExportPressure {
+
+  /**
+   * Returns the number of queued spans relative to the capacity of the queue, between 0 and 1.
+   *
+   * @return the fill ratio of the queue.
+   */
+  double getQueueFillRatio();
+
+  /**
+   * Returns the average time exports took to complete or time out, in nanoseconds, or 0 before the
+   * first export completed. Recent exports weigh more in the average.
+   *
+   * @return the average export latency in nanoseconds.
+   */
+  long getExportLatencyNanos();
+
+  /**
+   * Returns the number of spans dropped since the pipeline was created, e.g. because its queue was
+   * full.
+   *
+   * @return the number of dropped spans.
+   */
+  long getDroppedSpans();
+}
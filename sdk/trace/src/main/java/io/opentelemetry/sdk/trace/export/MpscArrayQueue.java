@@ -0,0 +1,160 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+/**
+ * A bounded, lock-free queue for many producer threads and a single consumer thread, backed by a
+ * ring buffer.
+ *
+ * <p>Producers claim a slot by incrementing the producer index with a CAS and then publish the
+ * element into it, so {@link #offer(Object)} never blocks and producers only contend on a single
+ * counter. Only one thread at a time may call {@link #poll()} or {@link #drain(Consumer, int)}.
+ */
+final class MpscArrayQueue<E> {
+
+  private final int capacity;
+  private final int mask;
+  private final AtomicReferenceArray<E> buffer;
+  // Separate objects, padded on both sides so that neither index shares a cache line with the other
+  // or with whatever else is allocated next to it. The JVM doesn't guarantee field layout, so this
+  // only makes false sharing unlikely, not impossible.
+  private final PaddedAtomicLong producerIndex = new PaddedAtomicLong();
+  private final PaddedAtomicLong consumerIndex = new PaddedAtomicLong();
+
+  MpscArrayQueue(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    this.capacity = capacity;
+    int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.mask = length - 1;
+    this.buffer = new AtomicReferenceArray<>(length);
+  }
+
+  /** Adds the {@code element} if the queue is not full, returns whether it was added. */
+  boolean offer(E element) {
+    long index;
+    do {
+      index = producerIndex.get();
+      if (index - consumerIndex.get() >= capacity) {
+        return false;
+      }
+    } while (!producerIndex.compareAndSet(index, index + 1));
+    // The consumer has cleared this slot before advancing past it, so it is free.
+    buffer.lazySet(offset(index), element);
+    return true;
+  }
+
+  /**
+   * Removes and returns the oldest element, or {@code null} if the queue is empty or the oldest
+   * element is not yet visible because its producer is still publishing it.
+   */
+  @Nullable
+  E poll() {
+    long index = consumerIndex.get();
+    int offset = offset(index);
+    E element = buffer.get(offset);
+    if (element == null) {
+      return null;
+    }
+    buffer.lazySet(offset, null);
+    consumerIndex.lazySet(index + 1);
+    return element;
+  }
+
+  /**
+   * Removes up to {@code limit} elements, oldest first, and passes them to the {@code consumer}.
+   * Returns the number of removed elements.
+   */
+  int drain(Consumer<? super E> consumer, int limit) {
+    long index = consumerIndex.get();
+    int drained = 0;
+    while (drained < limit) {
+      int offset = offset(index);
+      E element = buffer.get(offset);
+      if (element == null) {
+        break;
+      }
+      buffer.lazySet(offset, null);
+      index++;
+      // Publishing the index per element frees up capacity for producers as early as possible.
+      consumerIndex.lazySet(index);
+      consumer.accept(element);
+      drained++;
+    }
+    return drained;
+  }
+
+  /** Returns the number of elements in the queue, which may be stale by the time it is used. */
+  int size() {
+    // Read the consumer index first so that the result is never negative.
+    long consumer = consumerIndex.get();
+    long size = producerIndex.get() - consumer;
+    return (int) Math.min(Math.max(size, 0), capacity);
+  }
+
+  boolean isEmpty() {
+    return size() == 0;
+  }
+
+  int capacity() {
+    return capacity;
+  }
+
+  private int offset(long index) {
+    return (int) index & mask;
+  }
+
+  // HotSpot lays out the fields of a superclass before those of its subclasses, so the value ends
+  // up between the 56 bytes of padding declared by LhsPadding and the 56 declared by
+  // PaddedAtomicLong.
+  @SuppressWarnings("unused")
+  private abstract static class LhsPadding {
+    private long p01;
+    private long p02;
+    private long p03;
+    private long p04;
+    private long p05;
+    private long p06;
+    private long p07;
+  }
+
+  private abstract static class PaddedValue extends LhsPadding {
+    // Not private, so that the field updater can access it on Java 8.
+    volatile long value;
+  }
+
+  @SuppressWarnings("unused")
+  private static final class PaddedAtomicLong extends PaddedValue {
+    private static final AtomicLongFieldUpdater<PaddedValue> valueUpdater =
+        AtomicLongFieldUpdater.newUpdater(PaddedValue.class, "value");
+
+    private long p11;
+    private long p12;
+    private long p13;
+    private long p14;
+    private long p15;
+    private long p16;
+    private long p17;
+
+    long get() {
+      return value;
+    }
+
+    boolean compareAndSet(long expect, long update) {
+      return valueUpdater.compareAndSet(this, expect, update);
+    }
+
+    void lazySet(long newValue) {
+      valueUpdater.lazySet(this, newValue);
+    }
+  }
+}
@@ -9,7 +9,9 @@ import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -35,6 +37,32 @@ final class MultiSpanExporter implements SpanExporter {
     return new MultiSpanExporter(spanExporters.toArray(new SpanExporter[0]));
   }
 
+  /**
+   * Constructs and returns an instance of this class handing spans to a queue and worker thread of
+   * each exporter, so that exports complete without waiting for any of the exporters.
+   *
+   * @param spanExporters the exporters spans should be sent to
+   * @param maxQueueSize the maximum number of spans queued for each exporter
+   * @param exporterTimeoutNanos the maximum time to wait for each export of an exporter
+   * @return the aggregate span exporter
+   */
+  static SpanExporter createIsolated(
+      List<SpanExporter> spanExporters, int maxQueueSize, long exporterTimeoutNanos) {
+    SpanExporter[] queued = new SpanExporter[spanExporters.size()];
+    Set<String> names = new HashSet<>();
+    for (int i = 0; i < queued.length; i++) {
+      SpanExporter spanExporter = spanExporters.get(i);
+      String name = spanExporter.getClass().getSimpleName();
+      if (!names.add(name)) {
+        // Several exporters of the same type are told apart by their position.
+        name = name + "_" + i;
+        names.add(name);
+      }
+      queued[i] = new QueuedSpanExporter(spanExporter, name, maxQueueSize, exporterTimeoutNanos);
+    }
+    return new MultiSpanExporter(queued);
+  }
+
   @Override
   public CompletableResultCode export(Collection<SpanData> spans) {
     List<CompletableResultCode> results = new ArrayList<>(spanExporters.length);
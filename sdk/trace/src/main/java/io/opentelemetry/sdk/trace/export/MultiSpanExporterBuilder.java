@@ -0,0 +1,116 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Builder class for a {@link SpanExporter} exporting to several {@link SpanExporter}s. */
+public final class MultiSpanExporterBuilder {
+
+  // Visible for testing
+  static final int DEFAULT_MAX_QUEUE_SIZE = 2048;
+  // Visible for testing
+  static final long DEFAULT_EXPORT_TIMEOUT_MILLIS = 30_000;
+
+  private final List<SpanExporter> spanExporters = new ArrayList<>();
+  private boolean isolated = false;
+  private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+  private long exporterTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_EXPORT_TIMEOUT_MILLIS);
+
+  MultiSpanExporterBuilder() {}
+
+  /**
+   * Adds a {@link SpanExporter} spans are exported to.
+   *
+   * @param spanExporter the exporter spans are exported to.
+   * @return this.
+   */
+  public MultiSpanExporterBuilder addSpanExporter(SpanExporter spanExporter) {
+    spanExporters.add(requireNonNull(spanExporter, "spanExporter"));
+    return this;
+  }
+
+  /**
+   * Sets whether each exporter gets a bounded queue and worker thread of its own, so that a slow
+   * exporter can't delay the others. An export then succeeds as soon as every exporter queued the
+   * spans, and fails if the queue of any exporter was full, in which case the spans are dropped for
+   * that exporter only. The spans dropped, exported and failed by each exporter are counted by the
+   * {@code multiSpanExporterSpans} metric.
+   *
+   * <p>By default, exports are handed to every exporter in turn and complete once all of them
+   * completed.
+   *
+   * @param isolated whether each exporter gets a queue of its own.
+   * @return this.
+   */
+  public MultiSpanExporterBuilder setIsolated(boolean isolated) {
+    this.isolated = isolated;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of spans queued for each exporter in isolated mode. The default value
+   * is {@value DEFAULT_MAX_QUEUE_SIZE}.
+   *
+   * @param maxQueueSize the maximum number of spans queued for each exporter.
+   * @return this.
+   * @see #setIsolated(boolean)
+   */
+  public MultiSpanExporterBuilder setMaxQueueSize(int maxQueueSize) {
+    checkArgument(maxQueueSize > 0, "maxQueueSize must be positive.");
+    this.maxQueueSize = maxQueueSize;
+    return this;
+  }
+
+  /**
+   * Sets the maximum time the worker of an exporter waits for an export to complete in isolated
+   * mode, before it exports the next batch. The default value is {@value
+   * DEFAULT_EXPORT_TIMEOUT_MILLIS}ms.
+   *
+   * @param timeout the maximum time to wait for an export.
+   * @param unit the unit of {@code timeout}.
+   * @return this.
+   * @see #setIsolated(boolean)
+   */
+  public MultiSpanExporterBuilder setExporterTimeout(long timeout, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(timeout >= 0, "timeout must be non-negative");
+    this.exporterTimeoutNanos = unit.toNanos(timeout);
+    return this;
+  }
+
+  /**
+   * Sets the maximum time the worker of an exporter waits for an export to complete in isolated
+   * mode, before it exports the next batch. The default value is {@value
+   * DEFAULT_EXPORT_TIMEOUT_MILLIS}ms.
+   *
+   * @param timeout the maximum time to wait for an export.
+   * @return this.
+   * @see #setIsolated(boolean)
+   */
+  public MultiSpanExporterBuilder setExporterTimeout(Duration timeout) {
+    requireNonNull(timeout, "timeout");
+    return setExporterTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Returns a new {@link SpanExporter} exporting to the added exporters.
+   *
+   * @return a new {@link SpanExporter}.
+   */
+  public SpanExporter build() {
+    if (!isolated) {
+      return SpanExporter.composite(spanExporters);
+    }
+    return MultiSpanExporter.createIsolated(spanExporters, maxQueueSize, exporterTimeoutNanos);
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.auto.value.AutoValue;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Decides what a {@link BatchSpanProcessor} does with an ended span when its queue is full.
+ *
+ * <p>Spans lost to the policy are counted by the {@code processedSpans} metric with the labels
+ * {@code dropped=true} and {@code overflowPolicy} set to the policy, {@link #priority} additionally
+ * counts lost priority spans with {@code priority=true}.
+ *
+ * @see BatchSpanProcessorBuilder#setOverflowPolicy(OverflowPolicy)
+ */
+@AutoValue
+@Immutable
+public abstract class OverflowPolicy {
+
+  private static final OverflowPolicy DROP_NEWEST =
+      create(Type.DROP_NEWEST, 0, Collections.emptyList());
+  private static final OverflowPolicy DROP_OLDEST =
+      create(Type.DROP_OLDEST, 0, Collections.emptyList());
+
+  /**
+   * Returns a policy that drops the span being ended, keeping the spans that are already queued.
+   * This is the default.
+   */
+  public static OverflowPolicy dropNewest() {
+    return DROP_NEWEST;
+  }
+
+  /**
+   * Returns a policy that evicts the oldest queued span to make room for the span being ended, so
+   * that the most recent spans are exported. If other threads keep taking the room first, the span
+   * being ended is dropped after a few attempts instead. It cannot be combined with {@link
+   * BatchSpanProcessorBuilder#setPerThreadBufferSize(int)}.
+   */
+  public static OverflowPolicy dropOldest() {
+    return DROP_OLDEST;
+  }
+
+  /**
+   * Returns a policy that blocks the thread ending the span until there is room in the queue, for
+   * at most {@code timeout}. The span is dropped if the queue is still full after the timeout.
+   * Spans ended by the worker thread itself, for example by an instrumented exporter, are never
+   * blocked.
+   */
+  public static OverflowPolicy block(long timeout, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(timeout >= 0, "timeout must be non-negative");
+    return create(Type.BLOCK, unit.toNanos(timeout), Collections.emptyList());
+  }
+
+  /**
+   * Returns a policy that blocks the thread ending the span until there is room in the queue, for
+   * at most {@code timeout}.
+   *
+   * @see #block(long, TimeUnit)
+   */
+  public static OverflowPolicy block(Duration timeout) {
+    requireNonNull(timeout, "timeout");
+    return block(timeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Returns a policy that drops the span being ended, unless it is a priority span: a span with
+   * {@link StatusCode#ERROR} or with any of the {@code priorityAttributeKeys}. Priority spans that
+   * don't fit in the queue are added to a reserve queue of the same capacity, which is exported
+   * first, so they are only dropped if the reserve is full as well.
+   */
+  public static OverflowPolicy priority(AttributeKey<?>... priorityAttributeKeys) {
+    requireNonNull(priorityAttributeKeys, "priorityAttributeKeys");
+    for (AttributeKey<?> key : priorityAttributeKeys) {
+      requireNonNull(key, "priorityAttributeKey");
+    }
+    return create(
+        Type.PRIORITY,
+        0,
+        Collections.unmodifiableList(Arrays.asList(priorityAttributeKeys.clone())));
+  }
+
+  private static OverflowPolicy create(
+      Type type, long blockTimeoutNanos, List<AttributeKey<?>> priorityAttributeKeys) {
+    return new AutoValue_OverflowPolicy(type, blockTimeoutNanos, priorityAttributeKeys);
+  }
+
+  OverflowPolicy() {}
+
+  abstract Type getType();
+
+  abstract long getBlockTimeoutNanos();
+
+  abstract List<AttributeKey<?>> getPriorityAttributeKeys();
+
+  /** Returns whether the {@link #priority} policy keeps the {@code span}. */
+  boolean isPriority(ReadableSpan span) {
+    // Ended spans cache their SpanData, so the worker reuses this instance when exporting.
+    SpanData spanData = span.toSpanData();
+    if (spanData.getStatus().getStatusCode() == StatusCode.ERROR) {
+      return true;
+    }
+    for (AttributeKey<?> key : getPriorityAttributeKeys()) {
+      if (spanData.getAttributes().get(key) != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  enum Type {
+    DROP_NEWEST("dropNewest"),
+    DROP_OLDEST("dropOldest"),
+    BLOCK("block"),
+    PRIORITY("priority");
+
+    private final String labelValue;
+
+    Type(String labelValue) {
+      this.labelValue = labelValue;
+    }
+
+    String getLabelValue() {
+      return labelValue;
+    }
+  }
+}
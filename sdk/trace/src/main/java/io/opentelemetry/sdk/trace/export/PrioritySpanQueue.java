@@ -0,0 +1,58 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link SpanQueue} for the {@link OverflowPolicy#priority} policy. Priority spans that don't fit
+ * in the main queue are added to a reserve queue, which is drained first.
+ */
+final class PrioritySpanQueue implements SpanQueue {
+
+  private final SpanQueue queue;
+  private final MpscArrayQueue<ReadableSpan> reserve;
+  private final OverflowPolicy overflowPolicy;
+
+  PrioritySpanQueue(SpanQueue queue, int reserveCapacity, OverflowPolicy overflowPolicy) {
+    this.queue = queue;
+    this.reserve = new MpscArrayQueue<>(reserveCapacity);
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  @Override
+  public boolean offer(ReadableSpan span) {
+    return queue.offer(span) || (overflowPolicy.isPriority(span) && reserve.offer(span));
+  }
+
+  @Override
+  public int drain(Consumer<ReadableSpan> consumer, int limit) {
+    int drained = reserve.drain(consumer, limit);
+    if (drained < limit) {
+      drained += queue.drain(consumer, limit - drained);
+    }
+    return drained;
+  }
+
+  @Override
+  public void harvest() {
+    queue.harvest();
+  }
+
+  @Override
+  @Nullable
+  public ReadableSpan evictOldest() {
+    // The priority policy never evicts spans.
+    return null;
+  }
+
+  @Override
+  public int size() {
+    return reserve.size() + queue.size();
+  }
+}
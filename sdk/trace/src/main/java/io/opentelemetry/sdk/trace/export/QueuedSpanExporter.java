@@ -0,0 +1,218 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.BoundLongCounter;
+import io.opentelemetry.api.metrics.GlobalMetricsProvider;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * A {@link SpanExporter} handing batches to a worker thread of its own, which exports them to the
+ * delegate one at a time. Batches that would take the queue over its maximum number of spans are
+ * dropped. Batches are copied when queued, as callers such as {@link BatchSpanProcessor} reuse them
+ * once the export returns. Used by {@link MultiSpanExporter} in isolated mode, so that each
+ * exporter is only slowed down by itself.
+ */
+final class QueuedSpanExporter implements SpanExporter {
+
+  private static final Logger logger = Logger.getLogger(QueuedSpanExporter.class.getName());
+  private static final String WORKER_THREAD_NAME =
+      QueuedSpanExporter.class.getSimpleName() + "_WorkerThread";
+  private static final String EXPORTER_LABEL = "exporter";
+  private static final String RESULT_LABEL = "result";
+
+  // Instruments are registered once per name, so a single observer reports the queues of all
+  // exporters that haven't been shut down.
+  private static final Set<QueuedSpanExporter> liveExporters =
+      Collections.newSetFromMap(new ConcurrentHashMap<>());
+  private static final AtomicBoolean queueSizeObserverRegistered = new AtomicBoolean();
+
+  private final SpanExporter delegate;
+  private final int maxQueueSize;
+  private final long exporterTimeoutNanos;
+  // Batches, flushes and the shutdown, in the order they were requested.
+  private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+  private final AtomicInteger queuedSpans = new AtomicInteger();
+  private final Labels queueLabels;
+  private final BoundLongCounter droppedSpans;
+  private final BoundLongCounter exportedSpans;
+  private final BoundLongCounter failedSpans;
+  private final Thread workerThread;
+  // Held while checking for shutdown and queueing a task, so that no task is queued after the
+  // shutdown.
+  private final Object lock = new Object();
+
+  @GuardedBy("lock")
+  private boolean isShutdown = false;
+
+  QueuedSpanExporter(
+      SpanExporter delegate, String name, int maxQueueSize, long exporterTimeoutNanos) {
+    this.delegate = delegate;
+    this.maxQueueSize = maxQueueSize;
+    this.exporterTimeoutNanos = exporterTimeoutNanos;
+    this.queueLabels = Labels.of(EXPORTER_LABEL, name);
+    Meter meter = GlobalMetricsProvider.getMeter("io.opentelemetry.sdk.trace");
+    if (queueSizeObserverRegistered.compareAndSet(false, true)) {
+      meter
+          .longValueObserverBuilder("multiSpanExporterQueueSize")
+          .setDescription("The number of spans queued for an exporter")
+          .setUnit("1")
+          .setUpdater(
+              result -> {
+                for (QueuedSpanExporter exporter : liveExporters) {
+                  result.observe(exporter.queuedSpans.get(), exporter.queueLabels);
+                }
+              })
+          .build();
+    }
+    LongCounter spans =
+        meter
+            .longCounterBuilder("multiSpanExporterSpans")
+            .setDescription(
+                "The number of spans handed to an exporter. "
+                    + "[result=dropped if its queue was full, failed if the export failed]")
+            .setUnit("1")
+            .build();
+    droppedSpans = spans.bind(Labels.of(EXPORTER_LABEL, name, RESULT_LABEL, "dropped"));
+    exportedSpans = spans.bind(Labels.of(EXPORTER_LABEL, name, RESULT_LABEL, "exported"));
+    failedSpans = spans.bind(Labels.of(EXPORTER_LABEL, name, RESULT_LABEL, "failed"));
+    workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(this::run);
+    workerThread.start();
+    liveExporters.add(this);
+  }
+
+  @Override
+  public CompletableResultCode export(Collection<SpanData> spans) {
+    // The caller may reuse the collection once this returns.
+    List<SpanData> batch = new ArrayList<>(spans);
+    synchronized (lock) {
+      if (!isShutdown && reserve(batch.size())) {
+        tasks.add(() -> exportBatch(batch));
+        return CompletableResultCode.ofSuccess();
+      }
+    }
+    droppedSpans.add(batch.size());
+    return CompletableResultCode.ofFailure();
+  }
+
+  private boolean reserve(int size) {
+    while (true) {
+      int queued = queuedSpans.get();
+      // A batch larger than the queue is still accepted into an empty queue.
+      if (queued > 0 && queued + size > maxQueueSize) {
+        return false;
+      }
+      if (queuedSpans.compareAndSet(queued, queued + size)) {
+        return true;
+      }
+    }
+  }
+
+  private void exportBatch(Collection<SpanData> spans) {
+    try {
+      CompletableResultCode result = delegate.export(spans);
+      result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
+      if (result.isSuccess()) {
+        exportedSpans.add(spans.size());
+      } else {
+        if (!result.isDone()) {
+          logger.log(Level.FINE, "Exporter timed out");
+        }
+        failedSpans.add(spans.size());
+      }
+    } catch (RuntimeException e) {
+      logger.log(Level.WARNING, "Exception thrown by the export.", e);
+      failedSpans.add(spans.size());
+    } finally {
+      queuedSpans.addAndGet(-spans.size());
+    }
+  }
+
+  /** Completes once the batches queued so far are exported and the delegate is flushed. */
+  @Override
+  public CompletableResultCode flush() {
+    CompletableResultCode result = new CompletableResultCode();
+    synchronized (lock) {
+      if (isShutdown) {
+        return CompletableResultCode.ofSuccess();
+      }
+      tasks.add(() -> propagate(delegate.flush(), result));
+    }
+    return result;
+  }
+
+  /** Exports the batches queued so far, then shuts the delegate down. */
+  @Override
+  public CompletableResultCode shutdown() {
+    CompletableResultCode result = new CompletableResultCode();
+    synchronized (lock) {
+      if (isShutdown) {
+        return CompletableResultCode.ofSuccess();
+      }
+      isShutdown = true;
+      // The last task, nothing is queued after it.
+      tasks.add(
+          () -> {
+            propagate(delegate.shutdown(), result);
+            liveExporters.remove(this);
+            workerThread.interrupt();
+          });
+    }
+    return result;
+  }
+
+  private void run() {
+    while (!Thread.currentThread().isInterrupted()) {
+      Runnable task;
+      try {
+        task = tasks.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        logger.log(Level.WARNING, "Exception thrown by the exporter.", e);
+      }
+    }
+  }
+
+  private static void propagate(CompletableResultCode source, CompletableResultCode target) {
+    source.whenComplete(
+        () -> {
+          if (source.isSuccess()) {
+            target.succeed();
+          } else {
+            target.fail();
+          }
+        });
+  }
+
+  // Visible for testing
+  int getQueuedSpans() {
+    return queuedSpans.get();
+  }
+}
@@ -56,6 +56,14 @@ public interface SpanExporter extends Closeable {
     return MultiSpanExporter.create(exportersList);
   }
 
+  /**
+   * Returns a new {@link MultiSpanExporterBuilder} for a {@link SpanExporter} exporting to several
+   * exporters, optionally through a queue of their own so that they can't slow each other down.
+   */
+  static MultiSpanExporterBuilder compositeBuilder() {
+    return new MultiSpanExporterBuilder();
+  }
+
   /**
    * Called to export sampled {@code Span}s. Note that export operations can be performed
    * simultaneously depending on the type of span processor being used. However, the {@link
@@ -0,0 +1,44 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+/**
+ * The bounded queue between the threads that end spans, which call {@link #offer(ReadableSpan)},
+ * and the worker thread of a {@link BatchSpanProcessor}, which is the only thread calling the other
+ * methods except {@link #size()}.
+ */
+interface SpanQueue {
+
+  /** Adds the {@code span} to the queue, returns {@code false} if it was dropped. */
+  boolean offer(ReadableSpan span);
+
+  /**
+   * Removes up to {@code limit} spans and passes them to the {@code consumer}. Returns the number
+   * of removed spans.
+   */
+  int drain(Consumer<ReadableSpan> consumer, int limit);
+
+  /**
+   * Makes the spans that producer threads have buffered but not yet handed off available to {@link
+   * #drain(Consumer, int)}.
+   */
+  default void harvest() {}
+
+  /**
+   * Removes the oldest span to make room for a new one, or returns {@code null} if there is none,
+   * it is not available yet or the queue doesn't support eviction. May be called by producer
+   * threads, only queues created for {@link OverflowPolicy#dropOldest()} support it.
+   */
+  @Nullable
+  ReadableSpan evictOldest();
+
+  /** Returns the approximate number of spans that can be drained. */
+  int size();
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * A {@link SpanQueue} where each producer thread adds spans to a small buffer of its own, so that
+ * threads ending spans don't write to any shared memory until their buffer is full.
+ *
+ * <p>Full buffers are handed off to the worker through a {@link MpscArrayQueue} holding up to
+ * {@code maxQueueSize} spans. If that queue is full, spans are dropped. Spans in buffers that are
+ * not full yet are only seen by the worker after {@link #harvest()}, which the worker calls when
+ * the schedule delay has passed or a flush was requested. Up to {@code bufferSize} spans per
+ * producer thread can be held in these buffers in addition to {@code maxQueueSize}.
+ */
+final class StripedSpanQueue implements SpanQueue {
+
+  private final int bufferSize;
+  private final MpscArrayQueue<ReadableSpan[]> fullBuffers;
+  private final ThreadLocal<Stripe> stripe = ThreadLocal.withInitial(this::newStripe);
+  private final ConcurrentLinkedQueue<Stripe> stripes = new ConcurrentLinkedQueue<>();
+
+  // Only accessed by the worker thread.
+  private final ArrayDeque<ReadableSpan[]> harvested = new ArrayDeque<>();
+  @Nullable private ReadableSpan[] draining;
+  private int drainingIndex;
+  private int spansHeldByWorker;
+  // Published copy of spansHeldByWorker for size(), which may be called by any thread.
+  private volatile int publishedSpansHeldByWorker;
+
+  StripedSpanQueue(int maxQueueSize, int bufferSize) {
+    this.bufferSize = bufferSize;
+    this.fullBuffers = new MpscArrayQueue<>(Math.max(1, maxQueueSize / bufferSize));
+  }
+
+  @Override
+  public boolean offer(ReadableSpan span) {
+    return stripe.get().add(span, fullBuffers);
+  }
+
+  @Override
+  public void harvest() {
+    int harvestedSpans = 0;
+    Iterator<Stripe> iterator = stripes.iterator();
+    while (iterator.hasNext()) {
+      Stripe stripe = iterator.next();
+      // Checked before taking the spans, so no span is added after a dead thread was harvested.
+      Thread owner = stripe.owner.get();
+      boolean ownerDead = owner == null || !owner.isAlive();
+      ReadableSpan[] spans = stripe.take();
+      if (spans != null) {
+        harvested.add(spans);
+        harvestedSpans += spans.length;
+      }
+      if (ownerDead) {
+        iterator.remove();
+      }
+    }
+    spansHeldByWorker += harvestedSpans;
+    publishedSpansHeldByWorker = spansHeldByWorker;
+  }
+
+  @Override
+  public int drain(Consumer<ReadableSpan> consumer, int limit) {
+    int drained = 0;
+    while (drained < limit) {
+      ReadableSpan[] draining = this.draining;
+      if (draining == null) {
+        draining = harvested.poll();
+        if (draining == null) {
+          draining = fullBuffers.poll();
+          if (draining == null) {
+            break;
+          }
+          spansHeldByWorker += draining.length;
+        }
+        this.draining = draining;
+        drainingIndex = 0;
+      }
+      while (drained < limit && drainingIndex < draining.length) {
+        ReadableSpan span = draining[drainingIndex];
+        draining[drainingIndex++] = null;
+        consumer.accept(span);
+        drained++;
+      }
+      if (drainingIndex == draining.length) {
+        this.draining = null;
+      }
+    }
+    spansHeldByWorker -= drained;
+    publishedSpansHeldByWorker = spansHeldByWorker;
+    return drained;
+  }
+
+  @Override
+  @Nullable
+  public ReadableSpan evictOldest() {
+    // Per-thread buffers can't be combined with the drop oldest policy.
+    return null;
+  }
+
+  @Override
+  public int size() {
+    return fullBuffers.size() * bufferSize + publishedSpansHeldByWorker;
+  }
+
+  private Stripe newStripe() {
+    Stripe stripe = new Stripe(Thread.currentThread(), bufferSize);
+    stripes.add(stripe);
+    return stripe;
+  }
+
+  private static final class Stripe {
+    // Weak so that the buffers of threads that have terminated don't keep them reachable.
+    private final WeakReference<Thread> owner;
+
+    @GuardedBy("this")
+    private ReadableSpan[] spans;
+
+    @GuardedBy("this")
+    private int count;
+
+    private Stripe(Thread owner, int bufferSize) {
+      this.owner = new WeakReference<>(owner);
+      this.spans = new ReadableSpan[bufferSize];
+    }
+
+    private synchronized boolean add(
+        ReadableSpan span, MpscArrayQueue<ReadableSpan[]> fullBuffers) {
+      if (count == spans.length && !handOff(fullBuffers)) {
+        return false;
+      }
+      spans[count++] = span;
+      if (count == spans.length) {
+        // If the worker is behind, the next add tries again.
+        handOff(fullBuffers);
+      }
+      return true;
+    }
+
+    @GuardedBy("this")
+    private boolean handOff(MpscArrayQueue<ReadableSpan[]> fullBuffers) {
+      if (!fullBuffers.offer(spans)) {
+        return false;
+      }
+      spans = new ReadableSpan[spans.length];
+      count = 0;
+      return true;
+    }
+
+    // Returns the spans in this buffer, or null if it is empty.
+    @Nullable
+    private synchronized ReadableSpan[] take() {
+      if (count == 0) {
+        return null;
+      }
+      ReadableSpan[] taken = Arrays.copyOf(spans, count);
+      Arrays.fill(spans, 0, count, null);
+      count = 0;
+      return taken;
+    }
+  }
+}
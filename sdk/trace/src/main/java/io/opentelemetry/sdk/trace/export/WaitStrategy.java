@@ -0,0 +1,34 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+/**
+ * Controls how the worker thread of a {@link BatchSpanProcessor} waits for spans when there are not
+ * enough queued spans for a full batch and the schedule delay has not passed yet.
+ *
+ * @see BatchSpanProcessorBuilder#setWaitStrategy(WaitStrategy)
+ */
+public enum WaitStrategy {
+  /**
+   * The worker thread parks until a batch worth of spans is queued, a flush is requested or the
+   * schedule delay passes. Only the span that completes a batch wakes up the worker. This is the
+   * default and uses no CPU while waiting.
+   */
+  BLOCKING,
+
+  /**
+   * The worker thread repeatedly checks the queue and yields to other threads in between. Spans are
+   * picked up with lower latency than {@link #BLOCKING} and producers never have to wake up the
+   * worker, at the cost of CPU time when other threads are runnable.
+   */
+  YIELDING,
+
+  /**
+   * The worker thread repeatedly checks the queue without yielding. This has the lowest latency but
+   * permanently occupies a CPU core, so it should only be used with a dedicated core.
+   */
+  BUSY_SPIN
+}
@@ -28,6 +28,18 @@ enum AlwaysOffSampler implements Sampler {
     return ImmutableSamplingResult.EMPTY_NOT_SAMPLED_OR_RECORDED_SAMPLING_RESULT;
   }
 
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      long traceIdHigh,
+      long traceIdLow,
+      String name,
+      Kind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    return ImmutableSamplingResult.EMPTY_NOT_SAMPLED_OR_RECORDED_SAMPLING_RESULT;
+  }
+
   @Override
   public String getDescription() {
     return "AlwaysOffSampler";
@@ -28,6 +28,18 @@ enum AlwaysOnSampler implements Sampler {
     return ImmutableSamplingResult.EMPTY_RECORDED_AND_SAMPLED_SAMPLING_RESULT;
   }
 
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      long traceIdHigh,
+      long traceIdLow,
+      String name,
+      Kind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    return ImmutableSamplingResult.EMPTY_RECORDED_AND_SAMPLED_SAMPLING_RESULT;
+  }
+
   @Override
   public String getDescription() {
     return "AlwaysOnSampler";
@@ -56,24 +56,34 @@ final class ParentBasedSampler implements Sampler {
       Kind spanKind,
       Attributes attributes,
       List<LinkData> parentLinks) {
+    return getSampler(parentContext)
+        .shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+  }
+
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      long traceIdHigh,
+      long traceIdLow,
+      String name,
+      Kind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    return getSampler(parentContext)
+        .shouldSample(
+            parentContext, traceIdHigh, traceIdLow, name, spanKind, attributes, parentLinks);
+  }
+
+  private Sampler getSampler(Context parentContext) {
     SpanContext parentSpanContext = Span.fromContext(parentContext).getSpanContext();
     if (!parentSpanContext.isValid()) {
-      return this.root.shouldSample(
-          parentContext, traceId, name, spanKind, attributes, parentLinks);
+      return this.root;
     }
 
     if (parentSpanContext.isRemote()) {
-      return parentSpanContext.isSampled()
-          ? this.remoteParentSampled.shouldSample(
-              parentContext, traceId, name, spanKind, attributes, parentLinks)
-          : this.remoteParentNotSampled.shouldSample(
-              parentContext, traceId, name, spanKind, attributes, parentLinks);
+      return parentSpanContext.isSampled() ? this.remoteParentSampled : this.remoteParentNotSampled;
     }
-    return parentSpanContext.isSampled()
-        ? this.localParentSampled.shouldSample(
-            parentContext, traceId, name, spanKind, attributes, parentLinks)
-        : this.localParentNotSampled.shouldSample(
-            parentContext, traceId, name, spanKind, attributes, parentLinks);
+    return parentSpanContext.isSampled() ? this.localParentSampled : this.localParentNotSampled;
   }
 
   @Override
@@ -100,6 +100,42 @@ public interface Sampler {
       Attributes attributes,
       List<LinkData> parentLinks);
 
+  /**
+   * Called during {@link Span} creation to make a sampling samplingResult when the trace id is
+   * available as {@code long} values, for example because it was generated by a {@link
+   * io.opentelemetry.sdk.trace.LongIdGenerator}.
+   *
+   * <p>The default implementation encodes the trace id to hex and calls {@link
+   * #shouldSample(Context, String, String, Kind, Attributes, List)}. Samplers that only need the
+   * trace id for its random part should override this method to avoid the encoding.
+   *
+   * @param parentContext the parent span's {@link SpanContext}. This can be {@code
+   *     SpanContext.INVALID} if this is a root span.
+   * @param traceIdHigh the high bytes of the trace id for the new {@code Span}.
+   * @param traceIdLow the low bytes of the trace id for the new {@code Span}.
+   * @param name the name of the new {@code Span}.
+   * @param spanKind the {@link Kind} of the {@code Span}.
+   * @param attributes {@link Attributes} associated with the span.
+   * @param parentLinks the parentLinks associated with the new {@code Span}.
+   * @return sampling samplingResult whether span should be sampled or not.
+   */
+  default SamplingResult shouldSample(
+      Context parentContext,
+      long traceIdHigh,
+      long traceIdLow,
+      String name,
+      Kind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    return shouldSample(
+        parentContext,
+        TraceId.fromLongs(traceIdHigh, traceIdLow),
+        name,
+        spanKind,
+        attributes,
+        parentLinks);
+  }
+
   /**
    * Returns the description of this {@code Sampler}. This may be displayed on debug pages or in the
    * logs.
@@ -66,6 +66,23 @@ abstract class TraceIdRatioBasedSampler implements Sampler {
       Kind spanKind,
       Attributes attributes,
       List<LinkData> parentLinks) {
+    return getSamplingResult(TraceId.getTraceIdRandomPart(traceId));
+  }
+
+  @Override
+  public final SamplingResult shouldSample(
+      Context parentContext,
+      long traceIdHigh,
+      long traceIdLow,
+      String name,
+      Kind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    // The low bytes are the random part of the trace id.
+    return getSamplingResult(traceIdLow);
+  }
+
+  private SamplingResult getSamplingResult(long traceIdRandomPart) {
     // Always sample if we are within probability range. This is true even for child spans (that
     // may have had a different sampling samplingResult made) to allow for different sampling
     // policies,
@@ -74,7 +91,7 @@ abstract class TraceIdRatioBasedSampler implements Sampler {
     // while allowing for a (very) small chance of *not* sampling if the id == Long.MAX_VALUE.
     // This is considered a reasonable tradeoff for the simplicity/performance requirements (this
     // code is executed in-line for every Span creation).
-    return Math.abs(TraceId.getTraceIdRandomPart(traceId)) < getIdUpperBound()
+    return Math.abs(traceIdRandomPart) < getIdUpperBound()
         ? getPositiveSamplingResult()
         : getNegativeSamplingResult();
   }
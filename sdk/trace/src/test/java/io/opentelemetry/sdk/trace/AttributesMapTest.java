@@ -6,11 +6,13 @@
 package io.opentelemetry.sdk.trace;
 
 import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiConsumer;
@@ -43,6 +45,81 @@ class AttributesMapTest {
         .containsExactly(entry(longKey("one"), 1L), entry(longKey("two"), 2L));
   }
 
+  @Test
+  void dropsNewKeysWhenFull() {
+    AttributesMap attributesMap = new AttributesMap(2);
+    attributesMap.put(longKey("one"), 1L);
+    attributesMap.put(longKey("two"), 2L);
+    attributesMap.put(longKey("three"), 3L);
+    attributesMap.put(longKey("one"), 11L);
+
+    assertThat(attributesMap.size()).isEqualTo(2);
+    assertThat(attributesMap.getTotalAddedValues()).isEqualTo(4);
+    assertThat(attributesMap.get(longKey("one"))).isEqualTo(11L);
+    assertThat(attributesMap.get(longKey("three"))).isNull();
+    assertThat(attributesMap.toString())
+        .isEqualTo("AttributesMap{data={one=11, two=2}, capacity=2, totalAddedValues=4}");
+  }
+
+  @Test
+  void manyAttributes() {
+    AttributesMap attributesMap = new AttributesMap(100);
+    for (long i = 0; i < 150; i++) {
+      attributesMap.put(longKey("key" + i), i);
+    }
+    // Same name with a different type is a different key.
+    attributesMap.put(stringKey("key0"), "zero");
+    attributesMap.put(longKey("key42"), -42L);
+
+    assertThat(attributesMap.size()).isEqualTo(100);
+    assertThat(attributesMap.getTotalAddedValues()).isEqualTo(152);
+    for (long i = 0; i < 100; i++) {
+      assertThat(attributesMap.get(longKey("key" + i))).isEqualTo(i == 42 ? -42L : i);
+    }
+    assertThat(attributesMap.get(longKey("key100"))).isNull();
+    assertThat(attributesMap.get(stringKey("key0"))).isNull();
+
+    List<String> keys = new ArrayList<>();
+    attributesMap.forEach((key, value) -> keys.add(key.getKey()));
+    assertThat(keys).hasSize(100).startsWith("key0", "key1", "key2").endsWith("key99");
+  }
+
+  @Test
+  void immutableCopy() {
+    AttributesMap attributesMap = new AttributesMap(10);
+    attributesMap.put(longKey("one"), 1L);
+
+    Attributes copy = attributesMap.immutableCopy();
+    attributesMap.put(longKey("two"), 2L);
+    assertThat(copy.size()).isEqualTo(1);
+    assertThat(copy.get(longKey("two"))).isNull();
+    assertThat(attributesMap.size()).isEqualTo(2);
+  }
+
+  @Test
+  void putNew() {
+    AttributesMap attributesMap = new AttributesMap(2, 0);
+    attributesMap.putNew(longKey("one"), 1L);
+    attributesMap.putNew(longKey("two"), 2L);
+    attributesMap.putNew(longKey("three"), 3L);
+
+    assertThat(attributesMap.size()).isEqualTo(2);
+    assertThat(attributesMap.getTotalAddedValues()).isEqualTo(3);
+    assertThat(attributesMap.get(longKey("two"))).isEqualTo(2L);
+  }
+
+  @Test
+  void freeze() {
+    AttributesMap attributesMap = new AttributesMap(10);
+    attributesMap.put(longKey("one"), 1L);
+    attributesMap.freeze();
+    attributesMap.put(longKey("two"), 2L);
+
+    assertThat(attributesMap.size()).isEqualTo(1);
+    assertThat(attributesMap.getTotalAddedValues()).isEqualTo(1);
+    assertThat(attributesMap.immutableCopy()).isSameAs(attributesMap);
+  }
+
   private void assertOrdering(
       Attributes attributes, List<String> expectedKeyOrder, List<Long> expectedValueOrder) {
     attributes.forEach(
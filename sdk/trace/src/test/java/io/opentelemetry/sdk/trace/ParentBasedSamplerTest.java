@@ -76,6 +76,63 @@ class ParentBasedSamplerTest {
         .isEqualTo(SamplingDecision.DROP);
   }
 
+  @Test
+  void longTraceIds() {
+    Sampler sampler = Sampler.parentBased(Sampler.traceIdRatioBased(0.0001));
+    long traceIdHigh = sampledSpanContext.getTraceIdHighBytesAsLong();
+    // Follows the parent regardless of the trace id.
+    assertThat(
+            sampler
+                .shouldSample(
+                    sampledParentContext,
+                    traceIdHigh,
+                    Long.MAX_VALUE,
+                    SPAN_NAME,
+                    SPAN_KIND,
+                    Attributes.empty(),
+                    Collections.emptyList())
+                .getDecision())
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(
+            sampler
+                .shouldSample(
+                    notSampledRemoteParentContext,
+                    traceIdHigh,
+                    0L,
+                    SPAN_NAME,
+                    SPAN_KIND,
+                    Attributes.empty(),
+                    Collections.emptyList())
+                .getDecision())
+        .isEqualTo(SamplingDecision.DROP);
+
+    // Root spans are sampled by the trace id.
+    assertThat(
+            sampler
+                .shouldSample(
+                    invalidParentContext,
+                    traceIdHigh,
+                    0L,
+                    SPAN_NAME,
+                    SPAN_KIND,
+                    Attributes.empty(),
+                    Collections.emptyList())
+                .getDecision())
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(
+            sampler
+                .shouldSample(
+                    invalidParentContext,
+                    traceIdHigh,
+                    Long.MAX_VALUE,
+                    SPAN_NAME,
+                    SPAN_KIND,
+                    Attributes.empty(),
+                    Collections.emptyList())
+                .getDecision())
+        .isEqualTo(SamplingDecision.DROP);
+  }
+
   @Test
   void alwaysOff() {
     // Sampled parent.
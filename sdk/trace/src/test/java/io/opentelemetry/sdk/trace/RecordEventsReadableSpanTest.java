@@ -43,6 +43,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -177,6 +178,23 @@ class RecordEventsReadableSpanTest {
         /*hasEnded=*/ true);
   }
 
+  @Test
+  void toSpanData_EndedSpanIsReused() {
+    RecordEventsReadableSpan span = createTestSpan(Kind.INTERNAL);
+    spanDoWork(span, null, null);
+    SpanData activeSpanData = span.toSpanData();
+    assertThat(span.toSpanData()).isNotSameAs(activeSpanData);
+    span.end();
+
+    SpanData spanData = span.toSpanData();
+    assertThat(spanData).isNotSameAs(activeSpanData);
+    assertThat(spanData.hasEnded()).isTrue();
+    assertThat(span.toSpanData()).isSameAs(spanData);
+    assertThatThrownBy(
+            () -> spanData.getEvents().add(EventData.create(1000, "test", Attributes.empty())))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
   @Test
   void toSpanData_immutableLinks() {
     RecordEventsReadableSpan span = createTestSpan(Kind.INTERNAL);
@@ -268,6 +286,19 @@ class RecordEventsReadableSpanTest {
         .isEqualTo(StatusData.create(StatusCode.ERROR, "CANCELLED"));
   }
 
+  @Test
+  void getStatus() {
+    RecordEventsReadableSpan span = createTestSpan(Kind.CONSUMER);
+    try {
+      assertThat(span.getStatus()).isEqualTo(StatusData.unset());
+      span.setStatus(StatusCode.ERROR, "CANCELLED");
+      assertThat(span.getStatus()).isEqualTo(StatusData.create(StatusCode.ERROR, "CANCELLED"));
+    } finally {
+      span.end();
+    }
+    assertThat(span.getStatus()).isEqualTo(StatusData.create(StatusCode.ERROR, "CANCELLED"));
+  }
+
   @Test
   void getSpanKind() {
     RecordEventsReadableSpan span = createTestSpan(Kind.SERVER);
@@ -723,6 +754,45 @@ class RecordEventsReadableSpanTest {
                 .build());
   }
 
+  @Test
+  void recordException_laterChangesNotExported() {
+    IllegalStateException exception = new IllegalStateException("there was an exception");
+    String stackTrace = StackTraceRenderer.renderUncached(exception, -1);
+    RecordEventsReadableSpan span = createTestRootSpan();
+
+    span.recordException(exception);
+    exception.addSuppressed(new IllegalArgumentException("suppressed"));
+    exception.initCause(new RuntimeException("cause"));
+    span.end();
+
+    EventData event = span.toSpanData().getEvents().get(0);
+    assertThat(event.getTotalAttributeCount()).isEqualTo(3);
+    assertThat(event.getAttributes().get(SemanticAttributes.EXCEPTION_STACKTRACE))
+        .isEqualTo(stackTrace);
+  }
+
+  @Test
+  void recordException_maxStackTraceDepth() {
+    IllegalStateException exception = new IllegalStateException("there was an exception");
+    RecordEventsReadableSpan span =
+        createTestSpan(TraceConfig.builder().setMaxExceptionStackTraceDepth(1).build());
+
+    span.recordException(exception);
+
+    String stackTrace =
+        span.toSpanData()
+            .getEvents()
+            .get(0)
+            .getAttributes()
+            .get(SemanticAttributes.EXCEPTION_STACKTRACE);
+    String[] lines = stackTrace.split(System.lineSeparator());
+    assertThat(lines).hasSize(3);
+    assertThat(lines[0]).isEqualTo("java.lang.IllegalStateException: there was an exception");
+    assertThat(lines[1]).isEqualTo("\tat " + exception.getStackTrace()[0]);
+    assertThat(lines[2])
+        .isEqualTo("\t... " + (exception.getStackTrace().length - 1) + " frames truncated");
+  }
+
   @Test
   void badArgsIgnored() {
     RecordEventsReadableSpan span = createTestRootSpan();
@@ -750,6 +820,116 @@ class RecordEventsReadableSpanTest {
     assertThat(data.getName()).isEqualTo(SPAN_NAME);
   }
 
+  @Test
+  void singleWriter_publishesOnEnd() throws Exception {
+    RecordEventsReadableSpan span = createTestSpan(SpanConcurrencyMode.SINGLE_WRITER);
+    assertThat(span.isRecording()).isTrue();
+    spanDoWork(span, StatusCode.ERROR, "CANCELLED");
+    assertThat(span.getName()).isEqualTo(SPAN_NEW_NAME);
+    assertThat(span.getLatencyNanos()).isEqualTo(2 * NANOS_PER_SECOND);
+    span.end();
+    assertThat(span.isRecording()).isFalse();
+    Mockito.verify(spanProcessor, Mockito.times(1)).onEnd(span);
+
+    ExecutorService es = Executors.newSingleThreadExecutor();
+    try {
+      SpanData spanData = es.submit(span::toSpanData).get();
+      verifySpanData(
+          spanData,
+          expectedAttributes,
+          Collections.singletonList(
+              EventData.create(
+                  START_EPOCH_NANOS + NANOS_PER_SECOND, "event2", Attributes.empty(), 0)),
+          Collections.singletonList(link),
+          SPAN_NEW_NAME,
+          START_EPOCH_NANOS,
+          START_EPOCH_NANOS + 2 * NANOS_PER_SECOND,
+          StatusData.create(StatusCode.ERROR, "CANCELLED"),
+          /* hasEnded= */ true);
+    } finally {
+      es.shutdown();
+    }
+  }
+
+  @Test
+  void singleWriter_handedOffToOtherThread() throws Exception {
+    RecordEventsReadableSpan span = createTestSpan(SpanConcurrencyMode.SINGLE_WRITER);
+    span.setAttribute("owner", "main");
+    ExecutorService es = Executors.newSingleThreadExecutor();
+    try {
+      es.submit(
+              () -> {
+                span.setAttribute("other", "executor");
+                span.end();
+              })
+          .get();
+    } finally {
+      es.shutdown();
+    }
+    // Ignored, the span was ended by the other thread.
+    span.setAttribute("late", "main");
+    assertThat(span.hasEnded()).isTrue();
+    assertThat(span.toSpanData().getAttributes().asMap())
+        .isEqualTo(
+            Attributes.of(stringKey("owner"), "main", stringKey("other"), "executor").asMap());
+    Mockito.verify(spanProcessor, Mockito.times(1)).onEnd(span);
+  }
+
+  @Test
+  void singleWriter_concurrentModificationAfterHandOff()
+      throws ExecutionException, InterruptedException {
+    final RecordEventsReadableSpan span = createTestSpan(SpanConcurrencyMode.SINGLE_WRITER);
+    ExecutorService es = Executors.newSingleThreadExecutor();
+    Future<?> modifierFuture =
+        es.submit(
+            () -> {
+              for (int i = 0; i < 5096 * 5; ++i) {
+                span.setAttribute("hey" + i, "");
+              }
+            });
+    try {
+      for (int i = 0; i < 5096 * 5; ++i) {
+        span.toSpanData();
+      }
+    } catch (Throwable t) {
+      modifierFuture.cancel(true);
+      throw t;
+    } finally {
+      es.shutdown();
+    }
+    modifierFuture.get();
+  }
+
+  @Test
+  void singleWriter_readByOtherThreadWhileOwnerWrites() throws Exception {
+    RecordEventsReadableSpan span = createTestSpan(SpanConcurrencyMode.SINGLE_WRITER);
+    ExecutorService es = Executors.newSingleThreadExecutor();
+    try {
+      CountDownLatch started = new CountDownLatch(1);
+      Future<?> readerFuture =
+          es.submit(
+              () -> {
+                started.countDown();
+                while (!span.hasEnded()) {
+                  span.toSpanData();
+                }
+              });
+      started.await();
+      for (int i = 0; i < 500; i++) {
+        span.addEvent("event" + i);
+        span.setAttribute("key" + i, i);
+      }
+      span.end();
+      readerFuture.get();
+    } finally {
+      es.shutdown();
+    }
+    SpanData spanData = span.toSpanData();
+    assertThat(spanData.getTotalRecordedEvents()).isEqualTo(500);
+    assertThat(spanData.getEvents()).hasSize(500);
+    assertThat(spanData.getAttributes().size()).isEqualTo(500);
+  }
+
   private RecordEventsReadableSpan createTestSpanWithAttributes(
       Map<AttributeKey, Object> attributes) {
     AttributesMap attributesMap =
@@ -782,12 +962,33 @@ class RecordEventsReadableSpanTest {
         Kind.INTERNAL, config, parentSpanId, null, Collections.singletonList(link));
   }
 
+  private RecordEventsReadableSpan createTestSpan(SpanConcurrencyMode spanConcurrencyMode) {
+    return createTestSpan(
+        Kind.INTERNAL,
+        TraceConfig.getDefault(),
+        parentSpanId,
+        null,
+        Collections.singletonList(link),
+        spanConcurrencyMode);
+  }
+
   private RecordEventsReadableSpan createTestSpan(
       Kind kind,
       TraceConfig config,
       @Nullable String parentSpanId,
       @Nullable AttributesMap attributes,
       List<LinkData> links) {
+    return createTestSpan(
+        kind, config, parentSpanId, attributes, links, SpanConcurrencyMode.LOCKING);
+  }
+
+  private RecordEventsReadableSpan createTestSpan(
+      Kind kind,
+      TraceConfig config,
+      @Nullable String parentSpanId,
+      @Nullable AttributesMap attributes,
+      List<LinkData> links,
+      SpanConcurrencyMode spanConcurrencyMode) {
 
     RecordEventsReadableSpan span =
         RecordEventsReadableSpan.startSpan(
@@ -807,7 +1008,8 @@ class RecordEventsReadableSpanTest {
             attributes,
             links,
             1,
-            0);
+            0,
+            spanConcurrencyMode);
     Mockito.verify(spanProcessor, Mockito.times(1)).onStart(Context.root(), span);
     return span;
   }
@@ -895,7 +1097,8 @@ class RecordEventsReadableSpanTest {
             attributesWithCapacity,
             Collections.singletonList(link1),
             1,
-            0);
+            0,
+            SpanConcurrencyMode.LOCKING);
     long startEpochNanos = clock.now();
     clock.advanceMillis(4);
     long firstEventEpochNanos = clock.now();
@@ -498,6 +498,46 @@ class SdkSpanBuilderTest {
     }
   }
 
+  @Test
+  void sampler_droppedChildSpan() {
+    TraceState traceState = TraceState.builder().set("key", "value").build();
+    SpanContext parentContext =
+        SpanContext.createFromRemoteParent(
+            TraceId.fromLongs(1000, 1000),
+            SpanId.fromLong(3000),
+            TraceFlags.getDefault(),
+            traceState);
+    LongIdGenerator idGenerator = Mockito.spy(LongIdGenerator.class);
+    Mockito.when(idGenerator.generateSpanIdAsLong()).thenReturn(42L, 43L);
+    SdkTracerProvider tracerProvider =
+        SdkTracerProvider.builder()
+            .setIdGenerator(idGenerator)
+            .addSpanProcessor(mockedSpanProcessor)
+            .build();
+
+    Span span =
+        tracerProvider
+            .get("test")
+            .spanBuilder(SPAN_NAME)
+            .setParent(Context.root().with(Span.wrap(parentContext)))
+            .startSpan();
+    assertThat(span.isRecording()).isFalse();
+    span.setAttribute("key", "value");
+    span.end();
+    Mockito.verifyNoInteractions(mockedSpanProcessor);
+    Mockito.verify(idGenerator, Mockito.never()).generateSpanIdAsLong();
+
+    SpanContext spanContext = span.getSpanContext();
+    assertThat(span.getSpanContext()).isSameAs(spanContext);
+    assertThat(spanContext.getTraceIdAsHexString())
+        .isEqualTo(parentContext.getTraceIdAsHexString());
+    assertThat(spanContext.getSpanIdAsLong()).isEqualTo(42L);
+    assertThat(spanContext.isSampled()).isFalse();
+    assertThat(spanContext.isRemote()).isFalse();
+    assertThat(spanContext.getTraceState()).isSameAs(traceState);
+    Mockito.verify(idGenerator, Mockito.times(1)).generateSpanIdAsLong();
+  }
+
   @Test
   void sampler_decisionAttributes() {
     final String samplerAttributeName = "sampler-attribute";
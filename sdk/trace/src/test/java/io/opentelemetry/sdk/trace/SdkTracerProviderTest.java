@@ -115,6 +115,34 @@ class SdkTracerProviderTest {
         .hasMessage("idGenerator");
   }
 
+  @Test
+  void builder_NullSpanConcurrencyMode() {
+    assertThatThrownBy(() -> SdkTracerProvider.builder().setSpanConcurrencyMode(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("spanConcurrencyMode");
+  }
+
+  @Test
+  void builder_spanConcurrencyMode() {
+    assertThat(tracerFactory)
+        .extracting("sharedState")
+        .hasFieldOrPropertyWithValue("spanConcurrencyMode", SpanConcurrencyMode.LOCKING);
+    SdkTracerProvider tracerProvider =
+        SdkTracerProvider.builder()
+            .setSpanConcurrencyMode(SpanConcurrencyMode.SINGLE_WRITER)
+            .addSpanProcessor(spanProcessor)
+            .build();
+    assertThat(tracerProvider)
+        .extracting("sharedState")
+        .hasFieldOrPropertyWithValue("spanConcurrencyMode", SpanConcurrencyMode.SINGLE_WRITER);
+
+    Span span = tracerProvider.get("test").spanBuilder("span").startSpan();
+    span.setAttribute("key", "value");
+    span.end();
+    Mockito.verify(spanProcessor).onEnd((ReadableSpan) span);
+    assertThat(((ReadableSpan) span).toSpanData().getAttributes().size()).isEqualTo(1);
+  }
+
   @Test
   void defaultGet() {
     assertThat(tracerFactory.get("test")).isInstanceOf(SdkTracer.class);
@@ -0,0 +1,187 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import static io.opentelemetry.api.common.AttributeKey.booleanKey;
+import static io.opentelemetry.api.common.AttributeKey.doubleKey;
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringArrayKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.config.TraceConfig;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class SpanTemplateTest {
+
+  private final Tracer tracer =
+      SdkTracerProvider.builder()
+          .setTraceConfig(
+              TraceConfig.builder()
+                  .setMaxNumberOfAttributes(3)
+                  .setMaxLengthOfAttributeValues(4)
+                  .build())
+          .build()
+          .get("test");
+
+  @Test
+  void startSpan() {
+    SpanTemplate template =
+        SpanTemplate.builder(tracer, "span")
+            .setSpanKind(Span.Kind.SERVER)
+            .addAttributeKey(stringKey("method"))
+            .addAttributeKey(longKey("status"))
+            .build();
+
+    Span span = template.startSpan("GET", 200L);
+    span.setAttribute("added", true);
+    span.end();
+
+    SpanData spanData = ((ReadableSpan) span).toSpanData();
+    assertThat(spanData.getName()).isEqualTo("span");
+    assertThat(spanData.getKind()).isEqualTo(Span.Kind.SERVER);
+    assertThat(spanData.getAttributes().asMap())
+        .isEqualTo(
+            Attributes.builder()
+                .put("method", "GET")
+                .put("status", 200L)
+                .put("added", true)
+                .build()
+                .asMap());
+  }
+
+  @Test
+  void startSpan_limitsAndTruncates() {
+    SpanTemplate template =
+        SpanTemplate.builder(tracer, "span")
+            .addAttributeKey(stringKey("one"))
+            .addAttributeKey(stringArrayKey("two"))
+            .addAttributeKey(longKey("three"))
+            .addAttributeKey(booleanKey("four"))
+            .build();
+
+    Span span = template.startSpan("truncated", Arrays.asList("abcdef", "a"), 3L, true);
+
+    SpanData spanData = ((ReadableSpan) span).toSpanData();
+    assertThat(spanData.getAttributes().size()).isEqualTo(3);
+    assertThat(spanData.getTotalAttributeCount()).isEqualTo(4);
+    assertThat(spanData.getAttributes().get(stringKey("one"))).isEqualTo("trun");
+    assertThat(spanData.getAttributes().get(stringArrayKey("two"))).containsExactly("abcd", "a");
+    assertThat(spanData.getAttributes().get(longKey("three"))).isEqualTo(3L);
+  }
+
+  @Test
+  void startSpan_ignoresNullAndExtraValues() {
+    SpanTemplate template =
+        SpanTemplate.builder(tracer, "span")
+            .addAttributeKey(stringKey("one"))
+            .addAttributeKey(longKey("two"))
+            .build();
+
+    SpanData spanData =
+        ((ReadableSpan) template.startSpan((Object) null, null, "extra")).toSpanData();
+    assertThat(spanData.getAttributes().isEmpty()).isTrue();
+
+    spanData = ((ReadableSpan) template.startSpan("only one")).toSpanData();
+    assertThat(spanData.getAttributes().asMap())
+        .isEqualTo(Attributes.of(stringKey("one"), "only").asMap());
+  }
+
+  @Test
+  void startSpan_widensNumbers() {
+    SpanTemplate template =
+        SpanTemplate.builder(tracer, "span")
+            .addAttributeKey(longKey("long"))
+            .addAttributeKey(doubleKey("double"))
+            .build();
+
+    SpanData spanData = ((ReadableSpan) template.startSpan(200, 1.5f)).toSpanData();
+    assertThat(spanData.getAttributes().asMap())
+        .isEqualTo(Attributes.of(longKey("long"), 200L, doubleKey("double"), 1.5).asMap());
+  }
+
+  @Test
+  void startSpan_ignoresWrongTypes() {
+    SpanTemplate template =
+        SpanTemplate.builder(tracer, "span")
+            .addAttributeKey(stringKey("one"))
+            .addAttributeKey(longKey("two"))
+            .addAttributeKey(stringArrayKey("three"))
+            .build();
+
+    SpanData spanData =
+        ((ReadableSpan) template.startSpan("value", "wrong type", Arrays.asList("a", 1L)))
+            .toSpanData();
+    assertThat(spanData.getAttributes().asMap())
+        .isEqualTo(Attributes.of(stringKey("one"), "valu").asMap());
+
+    spanData = ((ReadableSpan) template.startSpan(1, 1.5, Arrays.asList("a", null))).toSpanData();
+    assertThat(spanData.getAttributes().asMap())
+        .isEqualTo(Attributes.of(stringArrayKey("three"), Arrays.asList("a", null)).asMap());
+  }
+
+  @Test
+  void startSpan_withParent() {
+    Span parent = tracer.spanBuilder("parent").startSpan();
+    SpanTemplate template = SpanTemplate.builder(tracer, "span").build();
+
+    Span span = template.startSpan(Context.root().with(parent));
+
+    assertThat(((ReadableSpan) span).toSpanData().getParentSpanId())
+        .isEqualTo(parent.getSpanContext().getSpanIdAsHexString());
+  }
+
+  @Test
+  void startSpan_otherTracer() {
+    SpanTemplate template =
+        SpanTemplate.builder(Tracer.getDefault(), "span").addAttributeKey(stringKey("one")).build();
+
+    Span span = template.startSpan("value");
+
+    assertThat(span.isRecording()).isFalse();
+  }
+
+  @Test
+  void builder_nulls() {
+    assertThatThrownBy(() -> SpanTemplate.builder(null, "span"))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("tracer");
+    assertThatThrownBy(() -> SpanTemplate.builder(tracer, null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("spanName");
+    assertThatThrownBy(() -> SpanTemplate.builder(tracer, "span").setSpanKind(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("spanKind");
+    assertThatThrownBy(() -> SpanTemplate.builder(tracer, "span").addAttributeKey(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("attributeKey");
+  }
+
+  @Test
+  void builder_duplicateKey() {
+    SpanTemplateBuilder builder =
+        SpanTemplate.builder(tracer, "span")
+            .addAttributeKey(stringKey("one"))
+            .addAttributeKey(longKey("two"));
+    assertThatThrownBy(() -> builder.addAttributeKey(stringKey("one")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Duplicate attribute key: one");
+  }
+
+  @Test
+  void startSpan_invalidSpanName() {
+    SpanTemplate template = SpanTemplate.builder(tracer, " ").build();
+    assertThat(((ReadableSpan) template.startSpan()).getName())
+        .isEqualTo(SdkTracer.FALLBACK_SPAN_NAME);
+  }
+}
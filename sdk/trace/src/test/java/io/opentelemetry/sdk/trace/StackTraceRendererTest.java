@@ -0,0 +1,90 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.sdk.trace.config.TraceConfig;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StackTraceRendererTest {
+
+  @Test
+  void unlimited_matchesPrintStackTrace() {
+    Exception exception = new IllegalStateException("outer", new RuntimeException("inner"));
+    exception.addSuppressed(new IllegalArgumentException("suppressed"));
+
+    assertThat(StackTraceRenderer.render(exception, TraceConfig.UNLIMITED_STACK_TRACE_DEPTH))
+        .isEqualTo(printStackTrace(exception));
+  }
+
+  @Test
+  void truncated_matchesPrintStackTraceWhenDeepEnough() {
+    Exception exception = new IllegalStateException("outer", new RuntimeException("inner"));
+    exception.addSuppressed(new IllegalArgumentException("suppressed"));
+
+    assertThat(StackTraceRenderer.renderUncached(exception, 10_000))
+        .isEqualTo(printStackTrace(exception));
+  }
+
+  @Test
+  void truncated_countsSharedFramesSeparately() {
+    RuntimeException cause = newCause();
+    Exception exception = new IllegalStateException("outer", cause);
+
+    String ls = System.lineSeparator();
+    assertThat(StackTraceRenderer.render(exception, 1))
+        .isEqualTo(
+            "java.lang.IllegalStateException: outer"
+                + ls
+                + "\tat "
+                + exception.getStackTrace()[0]
+                + ls
+                + "\t... "
+                + (exception.getStackTrace().length - 1)
+                + " frames truncated"
+                + ls
+                + "Caused by: java.lang.RuntimeException: inner"
+                + ls
+                + "\tat "
+                + cause.getStackTrace()[0]
+                + ls
+                + "\t... 1 frames truncated"
+                + ls
+                + "\t... "
+                + (cause.getStackTrace().length - 2)
+                + " more"
+                + ls);
+  }
+
+  @Test
+  void identicalExceptionsAreRenderedOnce() {
+    List<Exception> exceptions = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      exceptions.add(new IllegalStateException("same", new RuntimeException("cause")));
+    }
+
+    String first = StackTraceRenderer.render(exceptions.get(0), 5);
+    assertThat(StackTraceRenderer.render(exceptions.get(1), 5)).isSameAs(first);
+    assertThat(StackTraceRenderer.render(exceptions.get(1), 6)).isNotSameAs(first);
+    assertThat(StackTraceRenderer.render(new IllegalStateException("different"), 5))
+        .isNotEqualTo(first);
+  }
+
+  private static RuntimeException newCause() {
+    return new RuntimeException("inner");
+  }
+
+  private static String printStackTrace(Throwable throwable) {
+    StringWriter writer = new StringWriter();
+    throwable.printStackTrace(new PrintWriter(writer));
+    return writer.toString();
+  }
+}
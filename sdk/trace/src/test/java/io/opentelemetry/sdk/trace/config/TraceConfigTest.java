@@ -22,6 +22,8 @@ class TraceConfigTest {
     assertThat(TraceConfig.getDefault().getMaxNumberOfLinks()).isEqualTo(1000);
     assertThat(TraceConfig.getDefault().getMaxNumberOfAttributesPerEvent()).isEqualTo(32);
     assertThat(TraceConfig.getDefault().getMaxNumberOfAttributesPerLink()).isEqualTo(32);
+    assertThat(TraceConfig.getDefault().getMaxExceptionStackTraceDepth())
+        .isEqualTo(TraceConfig.UNLIMITED_STACK_TRACE_DEPTH);
   }
 
   @Test
@@ -60,6 +62,12 @@ class TraceConfigTest {
         .isInstanceOf(IllegalArgumentException.class);
   }
 
+  @Test
+  void updateTraceConfig_NonPositiveMaxExceptionStackTraceDepth() {
+    assertThatThrownBy(() -> TraceConfig.builder().setMaxExceptionStackTraceDepth(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   void updateTraceConfig_InvalidTraceIdRatioBased() {
     assertThatThrownBy(() -> TraceConfig.builder().setTraceIdRatioBased(2))
@@ -96,6 +104,7 @@ class TraceConfigTest {
             .setMaxNumberOfLinks(11)
             .setMaxNumberOfAttributesPerEvent(1)
             .setMaxNumberOfAttributesPerLink(2)
+            .setMaxExceptionStackTraceDepth(3)
             .build();
     assertThat(traceConfig.getSampler()).isEqualTo(Sampler.alwaysOff());
     assertThat(traceConfig.getMaxNumberOfAttributes()).isEqualTo(8);
@@ -103,6 +112,7 @@ class TraceConfigTest {
     assertThat(traceConfig.getMaxNumberOfLinks()).isEqualTo(11);
     assertThat(traceConfig.getMaxNumberOfAttributesPerEvent()).isEqualTo(1);
     assertThat(traceConfig.getMaxNumberOfAttributesPerLink()).isEqualTo(2);
+    assertThat(traceConfig.getMaxExceptionStackTraceDepth()).isEqualTo(3);
 
     // Preserves values
     TraceConfig traceConfigDupe = traceConfig.toBuilder().build();
@@ -0,0 +1,118 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveBatchingTest {
+
+  private static final long TARGET_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final long MIN_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long MAX_DELAY_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+  private final AdaptiveBatching adaptiveBatching =
+      new AdaptiveBatching(TARGET_NANOS, 10, 1000, MIN_DELAY_NANOS, MAX_DELAY_NANOS);
+
+  @Test
+  void initialValues() {
+    assertThat(adaptiveBatching.getBatchSize()).isEqualTo(1000);
+    assertThat(adaptiveBatching.getScheduleDelayNanos()).isEqualTo(TARGET_NANOS);
+
+    // Nothing is adapted before an export completed.
+    adaptiveBatching.onBatch(100, 0);
+    adaptiveBatching.onBatch(100, TimeUnit.MILLISECONDS.toNanos(100));
+    assertThat(adaptiveBatching.getBatchSize()).isEqualTo(1000);
+    assertThat(adaptiveBatching.getScheduleDelayNanos()).isEqualTo(TARGET_NANOS);
+  }
+
+  @Test
+  void adaptsWhenExportCompletes() {
+    adaptiveBatching.onBatch(100, 0);
+    adaptiveBatching.onBatch(100, TimeUnit.MILLISECONDS.toNanos(100));
+    adaptiveBatching.onExportCompleted(100, TimeUnit.MILLISECONDS.toNanos(500));
+    assertThat(adaptiveBatching.getScheduleDelayNanos())
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    assertThat(adaptiveBatching.getBatchSize()).isEqualTo(500);
+
+    // Batches alone don't change the chosen values.
+    adaptiveBatching.onBatch(100, TimeUnit.MILLISECONDS.toNanos(110));
+    adaptiveBatching.onBatch(100, TimeUnit.MILLISECONDS.toNanos(120));
+    assertThat(adaptiveBatching.getScheduleDelayNanos())
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    assertThat(adaptiveBatching.getBatchSize()).isEqualTo(500);
+  }
+
+  @Test
+  void fastExports() {
+    // 1 span per millisecond.
+    adaptiveBatching.onBatch(100, 0);
+    adaptiveBatching.onBatch(100, TimeUnit.MILLISECONDS.toNanos(100));
+    adaptiveBatching.onExportCompleted(100, TimeUnit.MILLISECONDS.toNanos(200));
+
+    // What remains of the target after the round trip, and the spans arriving in that time.
+    assertThat(adaptiveBatching.getScheduleDelayNanos())
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(800));
+    assertThat(adaptiveBatching.getBatchSize()).isEqualTo(800);
+  }
+
+  @Test
+  void fastExports_bounded() {
+    // 1 span per microsecond.
+    adaptiveBatching.onBatch(100, 0);
+    adaptiveBatching.onBatch(100, TimeUnit.MICROSECONDS.toNanos(100));
+    adaptiveBatching.onExportCompleted(100, TimeUnit.MILLISECONDS.toNanos(200));
+    assertThat(adaptiveBatching.getBatchSize()).isEqualTo(1000);
+
+    // 1 span per second.
+    AdaptiveBatching quiet =
+        new AdaptiveBatching(TARGET_NANOS, 10, 1000, MIN_DELAY_NANOS, MAX_DELAY_NANOS);
+    quiet.onBatch(1, 0);
+    quiet.onBatch(1, TimeUnit.SECONDS.toNanos(1));
+    quiet.onExportCompleted(1, TimeUnit.MILLISECONDS.toNanos(200));
+    assertThat(quiet.getBatchSize()).isEqualTo(10);
+  }
+
+  @Test
+  void slowExports() {
+    adaptiveBatching.onBatch(1000, 0);
+    adaptiveBatching.onExportCompleted(1000, TimeUnit.SECONDS.toNanos(2));
+
+    // Exported as often as allowed, with as many spans as export within the target at 2ms each.
+    assertThat(adaptiveBatching.getScheduleDelayNanos()).isEqualTo(MIN_DELAY_NANOS);
+    assertThat(adaptiveBatching.getBatchSize()).isEqualTo(500);
+
+    // A steady round trip keeps the batch size.
+    for (int i = 0; i < 100; i++) {
+      adaptiveBatching.onBatch(1000, TimeUnit.SECONDS.toNanos(2 + 2 * i));
+      adaptiveBatching.onExportCompleted(1000, TimeUnit.SECONDS.toNanos(2));
+    }
+    assertThat(adaptiveBatching.getBatchSize()).isEqualTo(500);
+  }
+
+  @Test
+  void slowExports_convergesToTarget() {
+    // Each export takes 500ms plus 1ms per span, so batches of 500 spans take the target.
+    for (int i = 0; i < 100; i++) {
+      int batchSize = adaptiveBatching.getBatchSize();
+      adaptiveBatching.onBatch(batchSize, TimeUnit.SECONDS.toNanos(i));
+      adaptiveBatching.onExportCompleted(batchSize, TimeUnit.MILLISECONDS.toNanos(500 + batchSize));
+    }
+    assertThat(adaptiveBatching.getBatchSize()).isBetween(495, 505);
+  }
+
+  @Test
+  void boundsCappedToMaximum() {
+    AdaptiveBatching capped = new AdaptiveBatching(TARGET_NANOS, 100, 10, MAX_DELAY_NANOS, 100);
+    capped.onBatch(1000, 0);
+    capped.onExportCompleted(1000, TimeUnit.SECONDS.toNanos(2));
+    capped.onBatch(1000, TimeUnit.SECONDS.toNanos(1));
+    assertThat(capped.getBatchSize()).isEqualTo(10);
+    assertThat(capped.getScheduleDelayNanos()).isEqualTo(100);
+  }
+}
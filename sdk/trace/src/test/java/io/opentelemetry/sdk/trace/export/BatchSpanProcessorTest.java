@@ -14,9 +14,11 @@ import static org.mockito.Mockito.when;
 
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.TelemetryScheduler;
 import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import io.opentelemetry.sdk.trace.config.TraceConfig;
@@ -29,7 +31,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -48,6 +54,7 @@ class BatchSpanProcessorTest {
   private static final long MAX_SCHEDULE_DELAY_MILLIS = 500;
   private SdkTracerProvider sdkTracerProvider;
   private final BlockingSpanExporter blockingSpanExporter = new BlockingSpanExporter();
+  private final List<SpanData> queuedSpans = new ArrayList<>();
 
   @AfterEach
   void cleanup() {
@@ -79,6 +86,18 @@ class BatchSpanProcessorTest {
             TimeUnit.MILLISECONDS.toNanos(BatchSpanProcessorBuilder.DEFAULT_EXPORT_TIMEOUT_MILLIS));
     assertThat(config.getExportOnlySampled())
         .isEqualTo(BatchSpanProcessorBuilder.DEFAULT_EXPORT_ONLY_SAMPLED);
+    assertThat(config.getWaitStrategy()).isEqualTo(WaitStrategy.BLOCKING);
+    assertThat(config.getMaxConcurrentExports())
+        .isEqualTo(BatchSpanProcessorBuilder.DEFAULT_MAX_CONCURRENT_EXPORTS);
+    assertThat(config.getPerThreadBufferSize()).isEqualTo(0);
+    assertThat(config.getOverflowPolicy()).isEqualTo(OverflowPolicy.dropNewest());
+    assertThat(config.getTargetExportLatencyNanos()).isEqualTo(0);
+    assertThat(config.getMinExportBatchSize())
+        .isEqualTo(BatchSpanProcessorBuilder.DEFAULT_MIN_EXPORT_BATCH_SIZE);
+    assertThat(config.getMinScheduleDelayNanos())
+        .isEqualTo(
+            TimeUnit.MILLISECONDS.toNanos(
+                BatchSpanProcessorBuilder.DEFAULT_MIN_SCHEDULE_DELAY_MILLIS));
   }
 
   @Test
@@ -105,6 +124,46 @@ class BatchSpanProcessorTest {
     assertThatThrownBy(() -> BatchSpanProcessor.builder(exporter).setExporterTimeout(null))
         .isInstanceOf(NullPointerException.class)
         .hasMessage("timeout");
+    assertThatThrownBy(() -> BatchSpanProcessor.builder(exporter).setMaxConcurrentExports(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxConcurrentExports must be positive.");
+    assertThatThrownBy(() -> BatchSpanProcessor.builder(exporter).setPerThreadBufferSize(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("perThreadBufferSize must be non-negative.");
+    assertThatThrownBy(() -> BatchSpanProcessor.builder(exporter).setWaitStrategy(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("waitStrategy");
+    assertThatThrownBy(() -> BatchSpanProcessor.builder(exporter).setOverflowPolicy(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("overflowPolicy");
+    assertThatThrownBy(
+            () ->
+                BatchSpanProcessor.builder(exporter)
+                    .setTargetExportLatency(-1, TimeUnit.MILLISECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("latency must be non-negative");
+    assertThatThrownBy(() -> BatchSpanProcessor.builder(exporter).setTargetExportLatency(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("latency");
+    assertThatThrownBy(() -> BatchSpanProcessor.builder(exporter).setMinExportBatchSize(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("minExportBatchSize must be positive.");
+    assertThatThrownBy(
+            () ->
+                BatchSpanProcessor.builder(exporter).setMinScheduleDelay(-1, TimeUnit.MILLISECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("delay must be non-negative");
+    assertThatThrownBy(() -> BatchSpanProcessor.builder(exporter).setScheduler(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("scheduler");
+    assertThatThrownBy(
+            () ->
+                BatchSpanProcessor.builder(exporter)
+                    .setPerThreadBufferSize(2)
+                    .setOverflowPolicy(OverflowPolicy.dropOldest())
+                    .build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("dropOldest overflow policy is not supported with per-thread buffers.");
   }
 
   @Test
@@ -134,6 +193,56 @@ class BatchSpanProcessorTest {
     assertThat(exported).containsExactly(span1.toSpanData(), span2.toSpanData());
   }
 
+  @Test
+  void exportSpansToIsolatedExporter() throws InterruptedException {
+    CountDownLatch exportsReleased = new CountDownLatch(1);
+    List<SpanData> exported = new CopyOnWriteArrayList<>();
+    SpanExporter slowExporter =
+        new SpanExporter() {
+          @Override
+          public CompletableResultCode export(Collection<SpanData> spans) {
+            try {
+              exportsReleased.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            exported.addAll(spans);
+            return CompletableResultCode.ofSuccess();
+          }
+
+          @Override
+          public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+          }
+
+          @Override
+          public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+          }
+        };
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(
+                SpanExporter.compositeBuilder()
+                    .addSpanExporter(slowExporter)
+                    .setIsolated(true)
+                    .build())
+            .setMaxExportBatchSize(2)
+            .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    List<SpanData> spans = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      spans.add(createEndedSpan(SPAN_NAME_1).toSpanData());
+    }
+    // The isolated exporter completes at once, so the processor has reused all its batches by the
+    // time the delegate exports them.
+    assertThat(batchSpanProcessor.forceFlush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    exportsReleased.countDown();
+
+    await().untilAsserted(() -> assertThat(exported).containsExactlyElementsOf(spans));
+  }
+
   @Test
   void exportMoreSpansThanTheBufferSize() {
     CompletableSpanExporter spanExporter = new CompletableSpanExporter();
@@ -197,6 +306,352 @@ class BatchSpanProcessorTest {
     assertThat(exported.size()).isEqualTo(2);
   }
 
+  @Test
+  void forceFlush_concurrent() throws Exception {
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(new WaitingSpanExporter(0, CompletableResultCode.ofSuccess()))
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    // Flushes requested while the worker completes another one are joined or started anew.
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < 500; i++) {
+                    createEndedSpan(SPAN_NAME_1);
+                    CompletableResultCode result = batchSpanProcessor.forceFlush();
+                    assertThat(result).isNotNull();
+                    assertThat(result.join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void exportFullBatches_blocking() {
+    exportFullBatches(WaitStrategy.BLOCKING);
+  }
+
+  @Test
+  void exportFullBatches_yielding() {
+    exportFullBatches(WaitStrategy.YIELDING);
+  }
+
+  @Test
+  void exportFullBatches_busySpin() {
+    exportFullBatches(WaitStrategy.BUSY_SPIN);
+  }
+
+  private void exportFullBatches(WaitStrategy waitStrategy) {
+    WaitingSpanExporter waitingSpanExporter =
+        new WaitingSpanExporter(4, CompletableResultCode.ofSuccess());
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(waitingSpanExporter)
+            .setMaxExportBatchSize(2)
+            // Full batches are exported without waiting for the delay.
+            .setScheduleDelay(1, TimeUnit.HOURS)
+            .setWaitStrategy(waitStrategy)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    List<SpanData> spans = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      spans.add(createEndedSpan(SPAN_NAME_1).toSpanData());
+    }
+    assertThat(waitingSpanExporter.waitForExport()).containsExactlyElementsOf(spans);
+
+    waitingSpanExporter.reset();
+    ReadableSpan span = createEndedSpan(SPAN_NAME_2);
+    batchSpanProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+    assertThat(waitingSpanExporter.getExported()).containsExactly(span.toSpanData());
+  }
+
+  @Test
+  void scheduler() {
+    TelemetryScheduler scheduler = TelemetryScheduler.builder().build();
+    try {
+      WaitingSpanExporter waitingSpanExporter =
+          new WaitingSpanExporter(4, CompletableResultCode.ofSuccess());
+      BatchSpanProcessor batchSpanProcessor =
+          BatchSpanProcessor.builder(waitingSpanExporter)
+              .setMaxExportBatchSize(2)
+              .setScheduleDelay(1, TimeUnit.HOURS)
+              .setScheduler(scheduler)
+              .build();
+      sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+      // Full batches are exported by tasks run on the scheduler.
+      List<SpanData> spans = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        spans.add(createEndedSpan(SPAN_NAME_1).toSpanData());
+      }
+      assertThat(waitingSpanExporter.waitForExport()).containsExactlyElementsOf(spans);
+
+      waitingSpanExporter.reset();
+      ReadableSpan span = createEndedSpan(SPAN_NAME_2);
+      batchSpanProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+      assertThat(waitingSpanExporter.getExported()).containsExactly(span.toSpanData());
+
+      assertThat(batchSpanProcessor.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+      assertThat(waitingSpanExporter.shutDownCalled.get()).isTrue();
+    } finally {
+      scheduler.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  void scheduler_exportsAfterDelay() {
+    TelemetryScheduler scheduler = TelemetryScheduler.builder().build();
+    try {
+      WaitingSpanExporter waitingSpanExporter =
+          new WaitingSpanExporter(1, CompletableResultCode.ofSuccess());
+      BatchSpanProcessor batchSpanProcessor =
+          BatchSpanProcessor.builder(waitingSpanExporter)
+              .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+              .setScheduler(scheduler)
+              .build();
+      sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+      ReadableSpan span = createEndedSpan(SPAN_NAME_1);
+      assertThat(waitingSpanExporter.waitForExport()).containsExactly(span.toSpanData());
+    } finally {
+      sdkTracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+      scheduler.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  void adaptiveBatching() {
+    WaitingSpanExporter waitingSpanExporter =
+        new WaitingSpanExporter(1, CompletableResultCode.ofSuccess());
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(waitingSpanExporter)
+            .setMaxExportBatchSize(2)
+            .setScheduleDelay(1, TimeUnit.HOURS)
+            .setTargetExportLatency(100, TimeUnit.MILLISECONDS)
+            .setMinExportBatchSize(1)
+            .setMinScheduleDelay(10, TimeUnit.MILLISECONDS)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    // Starts out with the max batch size.
+    List<SpanData> spans = new ArrayList<>();
+    spans.add(createEndedSpan(SPAN_NAME_1).toSpanData());
+    spans.add(createEndedSpan(SPAN_NAME_1).toSpanData());
+    assertThat(waitingSpanExporter.waitForExport()).containsExactlyElementsOf(spans);
+
+    // Partial batches are exported within the target latency instead of the schedule delay.
+    waitingSpanExporter.reset();
+    long start = System.nanoTime();
+    ReadableSpan span = createEndedSpan(SPAN_NAME_2);
+    assertThat(waitingSpanExporter.waitForExport()).containsExactly(span.toSpanData());
+    assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+  }
+
+  @Test
+  void perThreadBuffers() throws InterruptedException {
+    WaitingSpanExporter waitingSpanExporter =
+        new WaitingSpanExporter(4, CompletableResultCode.ofSuccess());
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(waitingSpanExporter)
+            .setPerThreadBufferSize(2)
+            .setMaxExportBatchSize(4)
+            .setScheduleDelay(1, TimeUnit.HOURS)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    // Two full buffers from different threads make a full batch.
+    List<SpanData> spans = new CopyOnWriteArrayList<>();
+    Thread thread =
+        new Thread(
+            () -> {
+              spans.add(createEndedSpan(SPAN_NAME_1).toSpanData());
+              spans.add(createEndedSpan(SPAN_NAME_1).toSpanData());
+            });
+    thread.start();
+    thread.join();
+    spans.add(createEndedSpan(SPAN_NAME_2).toSpanData());
+    spans.add(createEndedSpan(SPAN_NAME_2).toSpanData());
+    assertThat(waitingSpanExporter.waitForExport()).containsExactlyInAnyOrderElementsOf(spans);
+
+    // Spans in partially filled buffers are exported on flush.
+    ReadableSpan span = createEndedSpan(SPAN_NAME_1);
+    batchSpanProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+    assertThat(waitingSpanExporter.getExported()).containsExactly(span.toSpanData());
+  }
+
+  @Test
+  void concurrentExports() {
+    List<CompletableResultCode> results = new CopyOnWriteArrayList<>();
+    SpanExporter spanExporter = mock(SpanExporter.class);
+    when(spanExporter.export(ArgumentMatchers.anyCollection()))
+        .then(
+            invocation -> {
+              CompletableResultCode result = new CompletableResultCode();
+              results.add(result);
+              return result;
+            });
+    when(spanExporter.shutdown()).thenReturn(CompletableResultCode.ofSuccess());
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(spanExporter)
+            .setMaxExportBatchSize(1)
+            .setMaxConcurrentExports(2)
+            .setScheduleDelay(1, TimeUnit.HOURS)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    createEndedSpan(SPAN_NAME_1);
+    createEndedSpan(SPAN_NAME_1);
+    createEndedSpan(SPAN_NAME_1);
+    // Two exports are in flight, the third waits for one of them to complete.
+    await().untilAsserted(() -> assertThat(results).hasSize(2));
+    results.get(0).succeed();
+    await().untilAsserted(() -> assertThat(results).hasSize(3));
+
+    // A flush completes once all the exports in flight have completed.
+    CompletableResultCode flushResult = batchSpanProcessor.forceFlush();
+    assertThat(flushResult.isDone()).isFalse();
+    results.get(1).succeed();
+    results.get(2).succeed();
+    assertThat(flushResult.join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+  }
+
+  @Test
+  void overflow_dropNewest() {
+    WaitingSpanExporter waitingSpanExporter =
+        startBlockedWithFullQueue(OverflowPolicy.dropNewest());
+    List<SpanData> spansToExport = new ArrayList<>(queuedSpans);
+    createEndedSpan("dropped");
+
+    blockingSpanExporter.unblock();
+    assertThat(waitingSpanExporter.waitForExport()).containsExactlyElementsOf(spansToExport);
+  }
+
+  @Test
+  void overflow_dropOldest() {
+    WaitingSpanExporter waitingSpanExporter =
+        startBlockedWithFullQueue(OverflowPolicy.dropOldest());
+    List<SpanData> spansToExport = new ArrayList<>(queuedSpans);
+    spansToExport.remove(1);
+    spansToExport.add(createEndedSpan("newest").toSpanData());
+
+    blockingSpanExporter.unblock();
+    assertThat(waitingSpanExporter.waitForExport()).containsExactlyElementsOf(spansToExport);
+  }
+
+  @Test
+  void overflow_block() throws InterruptedException {
+    WaitingSpanExporter waitingSpanExporter =
+        startBlockedWithFullQueue(OverflowPolicy.block(10, TimeUnit.SECONDS), 4);
+    List<SpanData> spansToExport = new CopyOnWriteArrayList<>(queuedSpans);
+    Thread thread = new Thread(() -> spansToExport.add(createEndedSpan("blocked").toSpanData()));
+    thread.start();
+    await()
+        .untilAsserted(() -> assertThat(thread.getState()).isEqualTo(Thread.State.TIMED_WAITING));
+
+    blockingSpanExporter.unblock();
+    thread.join();
+    assertThat(waitingSpanExporter.waitForExport()).containsExactlyElementsOf(spansToExport);
+  }
+
+  @Test
+  void overflow_blockTimesOut() {
+    WaitingSpanExporter waitingSpanExporter =
+        startBlockedWithFullQueue(OverflowPolicy.block(10, TimeUnit.MILLISECONDS));
+    List<SpanData> spansToExport = new ArrayList<>(queuedSpans);
+    createEndedSpan("dropped");
+
+    blockingSpanExporter.unblock();
+    assertThat(waitingSpanExporter.waitForExport()).containsExactlyElementsOf(spansToExport);
+  }
+
+  @Test
+  void overflow_priority() {
+    WaitingSpanExporter waitingSpanExporter =
+        startBlockedWithFullQueue(OverflowPolicy.priority(), 4);
+    List<SpanData> spansToExport = new ArrayList<>(queuedSpans);
+    createEndedSpan("dropped");
+    Span span = sdkTracerProvider.get(getClass().getName()).spanBuilder("error").startSpan();
+    span.setStatus(StatusCode.ERROR);
+    span.end();
+
+    blockingSpanExporter.unblock();
+    List<SpanData> exported = waitingSpanExporter.waitForExport();
+    assertThat(exported).containsAll(spansToExport);
+    assertThat(exported).contains(((ReadableSpan) span).toSpanData());
+  }
+
+  @Test
+  void exportPressure() {
+    WaitingSpanExporter waitingSpanExporter =
+        new WaitingSpanExporter(3, CompletableResultCode.ofSuccess());
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(
+                SpanExporter.composite(Arrays.asList(blockingSpanExporter, waitingSpanExporter)))
+            .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+            .setMaxQueueSize(2)
+            .setMaxExportBatchSize(1)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+    assertThat(batchSpanProcessor.getQueueFillRatio()).isEqualTo(0.0);
+    assertThat(batchSpanProcessor.getExportLatencyNanos()).isEqualTo(0);
+    assertThat(batchSpanProcessor.getDroppedSpans()).isEqualTo(0);
+
+    createEndedSpan("blocking_span");
+    blockingSpanExporter.waitUntilIsBlocked();
+    createEndedSpan("span_1");
+    assertThat(batchSpanProcessor.getQueueFillRatio()).isEqualTo(0.5);
+    createEndedSpan("span_2");
+    createEndedSpan("dropped");
+    assertThat(batchSpanProcessor.getQueueFillRatio()).isEqualTo(1.0);
+    assertThat(batchSpanProcessor.getDroppedSpans()).isEqualTo(1);
+
+    blockingSpanExporter.unblock();
+    waitingSpanExporter.waitForExport();
+    await()
+        .untilAsserted(() -> assertThat(batchSpanProcessor.getExportLatencyNanos()).isPositive());
+  }
+
+  // Starts a processor with a queue of two spans whose worker is blocked exporting a first span,
+  // and fills the queue. The first span and the queued spans are in queuedSpans.
+  private WaitingSpanExporter startBlockedWithFullQueue(OverflowPolicy overflowPolicy) {
+    return startBlockedWithFullQueue(overflowPolicy, 3);
+  }
+
+  private WaitingSpanExporter startBlockedWithFullQueue(
+      OverflowPolicy overflowPolicy, int numberToWaitFor) {
+    WaitingSpanExporter waitingSpanExporter =
+        new WaitingSpanExporter(numberToWaitFor, CompletableResultCode.ofSuccess());
+    sdkTracerProvider =
+        SdkTracerProvider.builder()
+            .addSpanProcessor(
+                BatchSpanProcessor.builder(
+                        SpanExporter.composite(
+                            Arrays.asList(blockingSpanExporter, waitingSpanExporter)))
+                    .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .setMaxQueueSize(2)
+                    .setMaxExportBatchSize(1)
+                    .setOverflowPolicy(overflowPolicy)
+                    .build())
+            .build();
+    queuedSpans.add(createEndedSpan("blocking_span").toSpanData());
+    blockingSpanExporter.waitUntilIsBlocked();
+    queuedSpans.add(createEndedSpan("span_1").toSpanData());
+    queuedSpans.add(createEndedSpan("span_2").toSpanData());
+    return waitingSpanExporter;
+  }
+
   @Test
   void exportSpansToMultipleServices() {
     WaitingSpanExporter waitingSpanExporter =
@@ -295,6 +750,7 @@ class BatchSpanProcessorTest {
     doThrow(new IllegalArgumentException("No export for you."))
         .when(mockSpanExporter)
         .export(ArgumentMatchers.anyList());
+    when(mockSpanExporter.shutdown()).thenReturn(CompletableResultCode.ofSuccess());
     sdkTracerProvider =
         SdkTracerProvider.builder()
             .addSpanProcessor(
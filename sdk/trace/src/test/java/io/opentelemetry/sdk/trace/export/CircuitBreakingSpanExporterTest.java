@@ -0,0 +1,74 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.CircuitBreaker;
+import io.opentelemetry.sdk.trace.TestUtils;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakingSpanExporterTest {
+  private static final List<SpanData> SPAN_LIST =
+      Collections.singletonList(TestUtils.makeBasicSpan());
+
+  @Mock private SpanExporter delegate;
+  @Mock private SpanExporter fallback;
+
+  private final CircuitBreaker circuitBreaker =
+      CircuitBreaker.builder("test")
+          .setFailureThreshold(2)
+          .setOpenDuration(Duration.ofHours(1))
+          .build();
+
+  @Test
+  void failsFastWhileOpen() {
+    SpanExporter exporter = CircuitBreakingSpanExporter.create(delegate, circuitBreaker);
+    when(delegate.export(same(SPAN_LIST))).thenReturn(CompletableResultCode.ofFailure());
+
+    assertThat(exporter.export(SPAN_LIST).isSuccess()).isFalse();
+    assertThat(exporter.export(SPAN_LIST).isSuccess()).isFalse();
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+    CompletableResultCode rejected = exporter.export(SPAN_LIST);
+    assertThat(rejected.isDone()).isTrue();
+    assertThat(rejected.isSuccess()).isFalse();
+    verify(delegate, times(2)).export(same(SPAN_LIST));
+  }
+
+  @Test
+  void exportsToFallbackWhileOpen() {
+    SpanExporter exporter = CircuitBreakingSpanExporter.create(delegate, circuitBreaker, fallback);
+    when(delegate.export(same(SPAN_LIST))).thenReturn(CompletableResultCode.ofFailure());
+    exporter.export(SPAN_LIST);
+    exporter.export(SPAN_LIST);
+    verifyNoInteractions(fallback);
+
+    when(fallback.export(same(SPAN_LIST))).thenReturn(CompletableResultCode.ofSuccess());
+    assertThat(exporter.export(SPAN_LIST).isSuccess()).isTrue();
+    verify(fallback).export(same(SPAN_LIST));
+    verify(delegate, times(2)).export(same(SPAN_LIST));
+
+    when(delegate.shutdown()).thenReturn(CompletableResultCode.ofSuccess());
+    when(fallback.shutdown()).thenReturn(CompletableResultCode.ofSuccess());
+    assertThat(exporter.shutdown().isSuccess()).isTrue();
+    verify(fallback).shutdown();
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class MpscArrayQueueTest {
+
+  @Test
+  void offerAndPoll() {
+    MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(3);
+    assertThat(queue.capacity()).isEqualTo(3);
+    assertThat(queue.isEmpty()).isTrue();
+    assertThat(queue.poll()).isNull();
+
+    assertThat(queue.offer(1)).isTrue();
+    assertThat(queue.offer(2)).isTrue();
+    assertThat(queue.offer(3)).isTrue();
+    // Full even though the ring buffer is larger than the capacity.
+    assertThat(queue.offer(4)).isFalse();
+    assertThat(queue.size()).isEqualTo(3);
+
+    assertThat(queue.poll()).isEqualTo(1);
+    assertThat(queue.offer(5)).isTrue();
+    assertThat(queue.poll()).isEqualTo(2);
+    assertThat(queue.poll()).isEqualTo(3);
+    assertThat(queue.poll()).isEqualTo(5);
+    assertThat(queue.poll()).isNull();
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  void drain() {
+    MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(8);
+    for (int i = 0; i < 5; i++) {
+      queue.offer(i);
+    }
+    List<Integer> drained = new ArrayList<>();
+    assertThat(queue.drain(drained::add, 3)).isEqualTo(3);
+    assertThat(drained).containsExactly(0, 1, 2);
+    assertThat(queue.size()).isEqualTo(2);
+
+    assertThat(queue.drain(drained::add, 10)).isEqualTo(2);
+    assertThat(drained).containsExactly(0, 1, 2, 3, 4);
+    assertThat(queue.drain(drained::add, 10)).isEqualTo(0);
+  }
+
+  @Test
+  void invalidCapacity() {
+    assertThatThrownBy(() -> new MpscArrayQueue<>(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("capacity must be positive");
+  }
+
+  @Test
+  @Timeout(10)
+  void concurrentProducers() throws InterruptedException {
+    int producers = 4;
+    int perProducer = 10_000;
+    MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(64);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int p = 0; p < producers; p++) {
+      int producer = p;
+      Thread thread =
+          new Thread(
+              () -> {
+                try {
+                  start.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                  while (!queue.offer(producer * perProducer + i)) {
+                    Thread.yield();
+                  }
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+
+    int[] lastSeen = new int[producers];
+    Arrays.fill(lastSeen, -1);
+    int received = 0;
+    while (received < producers * perProducer) {
+      Integer value = queue.poll();
+      if (value == null) {
+        Thread.yield();
+        continue;
+      }
+      int producer = value / perProducer;
+      // Elements of each producer arrive in order and exactly once.
+      assertThat(value % perProducer).isEqualTo(lastSeen[producer] + 1);
+      lastSeen[producer] = value % perProducer;
+      received++;
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertThat(queue.isEmpty()).isTrue();
+  }
+}
@@ -6,15 +6,22 @@
 package io.opentelemetry.sdk.trace.export;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.trace.TestUtils;
 import io.opentelemetry.sdk.trace.data.SpanData;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
@@ -130,4 +137,100 @@ class MultiSpanExporterTest {
     Mockito.verify(spanExporter1).shutdown();
     Mockito.verify(spanExporter2).shutdown();
   }
+
+  @Test
+  void isolated_slowExporterDoesNotBlockOthers() {
+    SpanExporter multiSpanExporter =
+        SpanExporter.compositeBuilder()
+            .addSpanExporter(spanExporter1)
+            .addSpanExporter(spanExporter2)
+            .setIsolated(true)
+            .setMaxQueueSize(2)
+            .setExporterTimeout(Duration.ofHours(1))
+            .build();
+
+    // The first exporter never completes its exports.
+    CompletableResultCode hanging = new CompletableResultCode();
+    when(spanExporter1.export(eq(SPAN_LIST))).thenReturn(hanging);
+    when(spanExporter2.export(eq(SPAN_LIST))).thenReturn(CompletableResultCode.ofSuccess());
+
+    assertThat(multiSpanExporter.export(SPAN_LIST).isSuccess()).isTrue();
+    assertThat(multiSpanExporter.export(SPAN_LIST).isSuccess()).isTrue();
+    await().untilAsserted(() -> verify(spanExporter2, times(2)).export(eq(SPAN_LIST)));
+    // The queue of the first exporter is full, the spans are dropped for it only.
+    assertThat(multiSpanExporter.export(SPAN_LIST).isSuccess()).isFalse();
+    await().untilAsserted(() -> verify(spanExporter2, times(3)).export(eq(SPAN_LIST)));
+    verify(spanExporter1).export(eq(SPAN_LIST));
+
+    // Completing the hanging export lets the queued batch through.
+    hanging.succeed();
+    await().untilAsserted(() -> verify(spanExporter1, times(2)).export(eq(SPAN_LIST)));
+
+    when(spanExporter1.flush()).thenReturn(CompletableResultCode.ofSuccess());
+    when(spanExporter2.flush()).thenReturn(CompletableResultCode.ofSuccess());
+    assertThat(multiSpanExporter.flush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+    when(spanExporter1.shutdown()).thenReturn(CompletableResultCode.ofSuccess());
+    when(spanExporter2.shutdown()).thenReturn(CompletableResultCode.ofSuccess());
+    assertThat(multiSpanExporter.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(multiSpanExporter.export(SPAN_LIST).isSuccess()).isFalse();
+  }
+
+  @Test
+  void isolated_timeout() {
+    SpanExporter multiSpanExporter =
+        SpanExporter.compositeBuilder()
+            .addSpanExporter(spanExporter1)
+            .setIsolated(true)
+            .setExporterTimeout(Duration.ofMillis(10))
+            .build();
+    when(spanExporter1.export(eq(SPAN_LIST))).thenReturn(new CompletableResultCode());
+
+    // The worker moves on to the next batch once the export timed out.
+    multiSpanExporter.export(SPAN_LIST);
+    multiSpanExporter.export(SPAN_LIST);
+    await().untilAsserted(() -> verify(spanExporter1, times(2)).export(eq(SPAN_LIST)));
+
+    when(spanExporter1.shutdown()).thenReturn(CompletableResultCode.ofSuccess());
+    assertThat(multiSpanExporter.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+  }
+
+  @Test
+  void isolated_exportRacingShutdown() throws InterruptedException {
+    when(spanExporter1.export(ArgumentMatchers.any()))
+        .thenReturn(CompletableResultCode.ofSuccess());
+    when(spanExporter1.shutdown()).thenReturn(CompletableResultCode.ofSuccess());
+    QueuedSpanExporter queuedSpanExporter =
+        new QueuedSpanExporter(spanExporter1, "racing", 1_000_000, TimeUnit.SECONDS.toNanos(10));
+    assertThat(queuedSpanExporter.export(SPAN_LIST).isSuccess()).isTrue();
+
+    Thread exporting =
+        new Thread(
+            () -> {
+              for (int i = 0; i < 10_000; i++) {
+                queuedSpanExporter.export(SPAN_LIST);
+              }
+            });
+    exporting.start();
+    assertThat(queuedSpanExporter.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    exporting.join();
+
+    // Every batch accepted before the shutdown was exported, none was accepted after it.
+    assertThat(queuedSpanExporter.getQueuedSpans()).isZero();
+    assertThat(queuedSpanExporter.export(SPAN_LIST).isSuccess()).isFalse();
+  }
+
+  @Test
+  void isolated_invalidConfig() {
+    assertThatThrownBy(() -> SpanExporter.compositeBuilder().setMaxQueueSize(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxQueueSize must be positive.");
+    assertThatThrownBy(
+            () -> SpanExporter.compositeBuilder().setExporterTimeout(-1, TimeUnit.MILLISECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("timeout must be non-negative");
+    assertThatThrownBy(() -> SpanExporter.compositeBuilder().addSpanExporter(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("spanExporter");
+  }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import static io.opentelemetry.api.common.AttributeKey.booleanKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class OverflowPolicyTest {
+
+  private final Tracer tracer = SdkTracerProvider.builder().build().get("test");
+
+  @Test
+  void factories() {
+    assertThat(OverflowPolicy.dropNewest().getType()).isEqualTo(OverflowPolicy.Type.DROP_NEWEST);
+    assertThat(OverflowPolicy.dropOldest().getType()).isEqualTo(OverflowPolicy.Type.DROP_OLDEST);
+    assertThat(OverflowPolicy.block(Duration.ofMillis(5)))
+        .isEqualTo(OverflowPolicy.block(5, TimeUnit.MILLISECONDS));
+    assertThat(OverflowPolicy.block(5, TimeUnit.MILLISECONDS).getBlockTimeoutNanos())
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+    assertThat(OverflowPolicy.priority(stringKey("tenant")).getPriorityAttributeKeys())
+        .containsExactly(stringKey("tenant"));
+  }
+
+  @Test
+  void invalidBlockTimeout() {
+    assertThatThrownBy(() -> OverflowPolicy.block(-1, TimeUnit.MILLISECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("timeout must be non-negative");
+    assertThatThrownBy(() -> OverflowPolicy.block(1, null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("unit");
+  }
+
+  @Test
+  void isPriority() {
+    OverflowPolicy policy = OverflowPolicy.priority(booleanKey("important"));
+
+    assertThat(policy.isPriority(endSpan(tracer.spanBuilder("span").startSpan()))).isFalse();
+    assertThat(
+            policy.isPriority(
+                endSpan(tracer.spanBuilder("span").startSpan().setStatus(StatusCode.ERROR))))
+        .isTrue();
+    assertThat(
+            policy.isPriority(
+                endSpan(
+                    tracer
+                        .spanBuilder("span")
+                        .setAttribute(booleanKey("important"), true)
+                        .startSpan())))
+        .isTrue();
+  }
+
+  private static ReadableSpan endSpan(Span span) {
+    span.end();
+    return (ReadableSpan) span;
+  }
+}
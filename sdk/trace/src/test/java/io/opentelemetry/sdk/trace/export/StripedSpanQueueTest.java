@@ -0,0 +1,98 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StripedSpanQueueTest {
+
+  private final List<ReadableSpan> drained = new ArrayList<>();
+
+  @Test
+  void fullBuffersAreHandedOff() {
+    StripedSpanQueue queue = new StripedSpanQueue(4, 2);
+    ReadableSpan span1 = mock(ReadableSpan.class);
+    ReadableSpan span2 = mock(ReadableSpan.class);
+    ReadableSpan span3 = mock(ReadableSpan.class);
+
+    assertThat(queue.offer(span1)).isTrue();
+    // Not visible until the buffer is full.
+    assertThat(queue.size()).isEqualTo(0);
+    assertThat(queue.drain(drained::add, 10)).isEqualTo(0);
+
+    assertThat(queue.offer(span2)).isTrue();
+    assertThat(queue.offer(span3)).isTrue();
+    assertThat(queue.size()).isEqualTo(2);
+    assertThat(queue.drain(drained::add, 10)).isEqualTo(2);
+    assertThat(drained).containsExactly(span1, span2);
+
+    queue.harvest();
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(queue.drain(drained::add, 10)).isEqualTo(1);
+    assertThat(drained).containsExactly(span1, span2, span3);
+    assertThat(queue.size()).isEqualTo(0);
+  }
+
+  @Test
+  void drainRespectsLimit() {
+    StripedSpanQueue queue = new StripedSpanQueue(8, 4);
+    for (int i = 0; i < 4; i++) {
+      queue.offer(mock(ReadableSpan.class));
+    }
+    assertThat(queue.drain(drained::add, 3)).isEqualTo(3);
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(queue.drain(drained::add, 3)).isEqualTo(1);
+    assertThat(drained).hasSize(4);
+  }
+
+  @Test
+  void notEvictable() {
+    StripedSpanQueue queue = new StripedSpanQueue(2, 1);
+    assertThat(queue.offer(mock(ReadableSpan.class))).isTrue();
+    assertThat(queue.evictOldest()).isNull();
+    assertThat(queue.size()).isEqualTo(1);
+  }
+
+  @Test
+  void dropsWhenQueueIsFull() {
+    StripedSpanQueue queue = new StripedSpanQueue(2, 2);
+    assertThat(queue.offer(mock(ReadableSpan.class))).isTrue();
+    assertThat(queue.offer(mock(ReadableSpan.class))).isTrue();
+    // The handed off buffer fills the queue.
+    assertThat(queue.offer(mock(ReadableSpan.class))).isTrue();
+    assertThat(queue.offer(mock(ReadableSpan.class))).isTrue();
+    // Both the queue and this thread's buffer are full.
+    assertThat(queue.offer(mock(ReadableSpan.class))).isFalse();
+
+    assertThat(queue.drain(drained::add, 10)).isEqualTo(2);
+    // Hands off the full buffer before adding.
+    assertThat(queue.offer(mock(ReadableSpan.class))).isTrue();
+    queue.harvest();
+    assertThat(queue.drain(drained::add, 10)).isEqualTo(3);
+  }
+
+  @Test
+  void harvestsOtherThreads() throws InterruptedException {
+    StripedSpanQueue queue = new StripedSpanQueue(8, 4);
+    ReadableSpan span = mock(ReadableSpan.class);
+    Thread thread = new Thread(() -> queue.offer(span));
+    thread.start();
+    thread.join();
+
+    queue.harvest();
+    assertThat(queue.drain(drained::add, 10)).isEqualTo(1);
+    assertThat(drained).containsExactly(span);
+    // The buffer of the terminated thread has been removed.
+    queue.harvest();
+    assertThat(queue.size()).isEqualTo(0);
+  }
+}
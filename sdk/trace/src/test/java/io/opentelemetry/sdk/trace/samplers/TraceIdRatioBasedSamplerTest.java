@@ -209,6 +209,65 @@ class TraceIdRatioBasedSamplerTest {
     assertThat(samplingResult2.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
   }
 
+  @Test
+  void sampleBasedOnTraceIdLongs() {
+    final Sampler defaultProbability = Sampler.traceIdRatioBased(0.0001);
+    // Same trace ids as above, passed as longs instead of hex.
+    SamplingResult samplingResult1 =
+        defaultProbability.shouldSample(
+            invalidParentContext,
+            0L,
+            0x8FFFFFFFFFFFFFFFL,
+            SPAN_NAME,
+            SPAN_KIND,
+            Attributes.empty(),
+            Collections.emptyList());
+    assertThat(samplingResult1.getDecision()).isEqualTo(SamplingDecision.DROP);
+    SamplingResult samplingResult2 =
+        defaultProbability.shouldSample(
+            invalidParentContext,
+            0x0000FFFFFFFFFFFFL,
+            0L,
+            SPAN_NAME,
+            SPAN_KIND,
+            Attributes.empty(),
+            Collections.emptyList());
+    assertThat(samplingResult2.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+  }
+
+  @Test
+  void defaultLongOverloadDelegatesToHex() {
+    String[] sampledTraceId = new String[1];
+    Sampler sampler =
+        new Sampler() {
+          @Override
+          public SamplingResult shouldSample(
+              Context parentContext,
+              String traceId,
+              String name,
+              Span.Kind spanKind,
+              Attributes attributes,
+              List<LinkData> parentLinks) {
+            sampledTraceId[0] = traceId;
+            return SamplingResult.create(SamplingDecision.DROP);
+          }
+
+          @Override
+          public String getDescription() {
+            return "test";
+          }
+        };
+    sampler.shouldSample(
+        invalidParentContext,
+        1L,
+        2L,
+        SPAN_NAME,
+        SPAN_KIND,
+        Attributes.empty(),
+        Collections.emptyList());
+    assertThat(sampledTraceId[0]).isEqualTo(TraceId.fromLongs(1L, 2L));
+  }
+
   // Applies the given sampler to NUM_SAMPLE_TRIES random traceId.
   private static void assertSamplerSamplesWithProbability(
       Sampler sampler, Context parent, List<LinkData> parentLinks, double probability) {